@@ -356,13 +356,13 @@ public class M3ToJavaGenerator
                         "\n" +
                         "    private static final SetIterable<String> KEYS = Sets.immutable.with(" + properties.collect(CoreInstance::getName, Lists.mutable.empty()).sortThis().makeString("\"", "\",\"", "\"") + ");\n" +
                         "\n" +
-                        "    private _State state;\n" +
+                        "    private volatile _State state;\n" +
                         "\n" +
                         createClassConstructors(className) +
                         "\n" +
                         "    public void commit(ModelRepositoryTransaction transaction)\n" +
                         "    {\n" +
-                        "        this.state = (_State)transaction.getState(this);\n" +
+                        "        this.state = (_State)transaction.commitState(this, this.state);\n" +
                         "    }\n" +
                         "\n" +
                         "\n" +
@@ -414,15 +414,7 @@ public class M3ToJavaGenerator
                         "    private _State getState()\n" +
                         "    {\n" +
                         "        ModelRepositoryTransaction transaction = this.getRepository().getTransaction();\n" +
-                        "        if ((transaction != null) && transaction.isOpen())\n" +
-                        "        {\n" +
-                        "            _State transactionState = (_State)transaction.getState(this);\n" +
-                        "            if (transactionState != null)\n" +
-                        "            {\n" +
-                        "                return transactionState;\n" +
-                        "            }\n" +
-                        "        }\n" +
-                        "        return this.state;\n" +
+                        "        return ((transaction != null) && transaction.isOpen()) ? (_State)transaction.getState(this, this.state) : this.state;\n" +
                         "    }\n" +
                         "\n" +
                         "    @Override\n" +
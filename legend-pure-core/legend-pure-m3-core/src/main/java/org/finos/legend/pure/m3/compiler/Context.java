@@ -23,10 +23,14 @@ import org.eclipse.collections.api.map.ConcurrentMutableMap;
 import org.eclipse.collections.api.map.ImmutableMap;
 import org.eclipse.collections.api.map.MapIterable;
 import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.api.multimap.list.ImmutableListMultimap;
 import org.eclipse.collections.api.set.ImmutableSet;
 import org.eclipse.collections.api.set.MutableSet;
 import org.eclipse.collections.api.set.SetIterable;
+import org.eclipse.collections.api.tuple.Pair;
 import org.eclipse.collections.impl.map.mutable.ConcurrentHashMap;
+import org.eclipse.collections.impl.set.mutable.SetAdapter;
+import org.eclipse.collections.impl.tuple.Tuples;
 import org.eclipse.collections.impl.utility.Iterate;
 import org.finos.legend.pure.m3.compiler.visibility.AccessLevel;
 import org.finos.legend.pure.m3.navigation.M3Paths;
@@ -34,26 +38,103 @@ import org.finos.legend.pure.m3.navigation.M3Properties;
 import org.finos.legend.pure.m3.navigation.M3PropertyPaths;
 import org.finos.legend.pure.m3.navigation.PackageableElement.PackageableElement;
 import org.finos.legend.pure.m3.navigation.PrimitiveUtilities;
+import org.finos.legend.pure.m3.navigation.function.FunctionOverloadIndex;
+import org.finos.legend.pure.m3.navigation.generictype.GenericTypeKey;
+import org.finos.legend.pure.m3.tools.ElementNameIndex;
 import org.finos.legend.pure.m4.coreinstance.CoreInstance;
 import org.finos.legend.pure.m4.tools.ConcurrentHashSet;
 
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.function.BooleanSupplier;
 import java.util.function.Supplier;
 
 public class Context
 {
+    private static final int MAX_GENERIC_TYPE_COMPATIBILITIES = 65536;
+
     private final ConcurrentMutableMap<String, CoreInstance> coreInstanceByPath = ConcurrentHashMap.newMap();
     private final ConcurrentMutableMap<CoreInstance, CoreInstance> functionTypes = ConcurrentHashMap.newMap();
     private final ConcurrentMutableMap<CoreInstance, ImmutableMap<String, CoreInstance>> classPropertiesByName = ConcurrentHashMap.newMap();
+    private final ConcurrentMutableMap<CoreInstance, ImmutableListMultimap<String, CoreInstance>> classQualifiedPropertiesByName = ConcurrentHashMap.newMap();
     private final ConcurrentMutableMap<CoreInstance, ImmutableList<CoreInstance>> generalizations = ConcurrentHashMap.newMap();
     private final ConcurrentMutableMap<CoreInstance, AccessLevel> accessLevels = ConcurrentHashMap.newMap();
     private final ConcurrentMutableMap<CoreInstance, ImmutableList<String>> propertyPaths = ConcurrentHashMap.newMap();
     private final ConcurrentMutableMap<CoreInstance, MutableSet<CoreInstance>> instancesByClassifier = ConcurrentHashMap.newMap();
     private final ConcurrentMutableMap<String, MutableSet<CoreInstance>> functionsByName = ConcurrentHashMap.newMap();
     private final ConcurrentMutableMap<CoreInstance, ImmutableSet<CoreInstance>> typeGeneralizationSets = ConcurrentHashMap.newMap();
+    private final ConcurrentMutableMap<String, FunctionOverloadIndex> functionOverloadIndexes = ConcurrentHashMap.newMap();
+    private final ConcurrentMutableMap<Pair<GenericTypeKey, GenericTypeKey>, Boolean> covariantCompatibilities = ConcurrentHashMap.newMap();
+    private final ConcurrentMutableMap<Pair<GenericTypeKey, GenericTypeKey>, Boolean> contravariantCompatibilities = ConcurrentHashMap.newMap();
+
+    private final ElementNameIndex elementNameIndex;
 
     private CoreInstance anyType;
     private CoreInstance nilType;
 
+    private final Context base;
+    private volatile boolean frozen = false;
+
+    public Context()
+    {
+        this.base = null;
+        this.elementNameIndex = new ElementNameIndex();
+    }
+
+    /**
+     * Create a context layered over a frozen base context. Lookups of elements, instances, and functions fall
+     * through to the base, while registrations and updates only ever affect this context. Cached derived information
+     * (generalizations, properties, etc.) is not shared with the base, since it may depend on elements which are only
+     * in this context.
+     *
+     * @param base frozen base context
+     */
+    public Context(Context base)
+    {
+        if (!base.isFrozen())
+        {
+            throw new IllegalArgumentException("Base context must be frozen");
+        }
+        this.base = base;
+        this.elementNameIndex = new ElementNameIndex(base.elementNameIndex);
+    }
+
+    /**
+     * Get the base context this context is layered over, or null if there is none.
+     *
+     * @return base context or null
+     */
+    public Context getBase()
+    {
+        return this.base;
+    }
+
+    /**
+     * Freeze the context. After this, no instances or functions may be registered, updated, or removed, but it may
+     * be used as the base for other contexts.
+     */
+    public void freeze()
+    {
+        this.frozen = true;
+    }
+
+    public boolean isFrozen()
+    {
+        return this.frozen;
+    }
+
+    /**
+     * Get the index of packageable elements by name. This is maintained as instances are registered with and removed
+     * from the context, but is only complete if all elements are registered (see
+     * {@link ElementNameIndex#isComplete()}).
+     *
+     * @return element name index
+     */
+    public ElementNameIndex getElementNameIndex()
+    {
+        return this.elementNameIndex;
+    }
+
     /**
      * Get the access level for a packageable element.  If it is not currently
      * stored in the context, then compute it
@@ -96,6 +177,21 @@ public class Context
         return classifier.isPersistent() ? this.classPropertiesByName.getIfAbsentPutWithKey(classifier, generator) : generator.valueOf(classifier);
     }
 
+    /**
+     * Get the qualified properties of a class, including those inherited
+     * from generalizations, grouped by name.  If this is not stored in the
+     * context, then calculate it by evaluating generator on classifier,
+     * store it, and return it.  This is an atomic operation.
+     *
+     * @param classifier class
+     * @param generator  function to compute qualified properties by name
+     * @return qualified properties by name
+     */
+    public ImmutableListMultimap<String, CoreInstance> getIfAbsentPutQualifiedPropertiesByName(CoreInstance classifier, Function<? super CoreInstance, ? extends ImmutableListMultimap<String, CoreInstance>> generator)
+    {
+        return classifier.isPersistent() ? this.classQualifiedPropertiesByName.getIfAbsentPutWithKey(classifier, generator) : generator.valueOf(classifier);
+    }
+
     /**
      * Get the path for a property.  If this is not stored in the
      * context, then calculate it by evaluating generator on property,
@@ -122,6 +218,11 @@ public class Context
     public CoreInstance getIfAbsentPutElementByPath(String path, Supplier<? extends CoreInstance> factory)
     {
         CoreInstance instance = this.coreInstanceByPath.get(path);
+        if ((instance == null) && (this.base != null))
+        {
+            // only read from the base, so that elements from this context are never cached there
+            instance = this.base.coreInstanceByPath.get(path);
+        }
         if (instance == null)
         {
             CoreInstance newInstance = factory.get();
@@ -147,11 +248,57 @@ public class Context
         return function.isPersistent() ? this.functionTypes.getIfAbsentPutWithKey(function, generator) : generator.valueOf(function);
     }
 
+    /**
+     * Get the overload index for a function name.  If this is not stored
+     * in the context, then build it by evaluating generator on the name,
+     * store it, and return it.  The index is discarded whenever functions
+     * with the name are registered, updated, or removed.
+     *
+     * @param functionName function name
+     * @param generator    function to build the overload index
+     * @return overload index
+     */
+    public FunctionOverloadIndex getIfAbsentPutFunctionOverloadIndex(String functionName, Function<? super String, ? extends FunctionOverloadIndex> generator)
+    {
+        return this.functionOverloadIndexes.getIfAbsentPutWithKey(functionName, generator);
+    }
+
     public ImmutableSet<CoreInstance> getIfAbsentPutTypeGeneralizationSet(CoreInstance type, Function<CoreInstance, ? extends ImmutableSet<CoreInstance>> generator)
     {
         return type.isPersistent() ? this.typeGeneralizationSets.getIfAbsentPutWithKey(type, generator) : generator.valueOf(type);
     }
 
+    /**
+     * Get whether one generic type is compatible with another.  If this is
+     * not stored in the context, then compute it, store it, and return it.
+     * This is not an atomic operation, as the computation may itself look
+     * up the compatibility of other generic types.  The number of stored
+     * results is bounded, and they are discarded whenever the generalization
+     * hierarchy changes or instances are removed.
+     *
+     * @param genericType      generic type key
+     * @param otherGenericType other generic type key
+     * @param covariant        whether the check is covariant or contravariant
+     * @param generator        computes the compatibility if not present
+     * @return whether genericType is compatible with otherGenericType
+     */
+    public boolean getIfAbsentPutGenericTypeCompatibility(GenericTypeKey genericType, GenericTypeKey otherGenericType, boolean covariant, BooleanSupplier generator)
+    {
+        ConcurrentMutableMap<Pair<GenericTypeKey, GenericTypeKey>, Boolean> compatibilities = covariant ? this.covariantCompatibilities : this.contravariantCompatibilities;
+        Pair<GenericTypeKey, GenericTypeKey> key = Tuples.pair(genericType, otherGenericType);
+        Boolean compatible = compatibilities.get(key);
+        if (compatible == null)
+        {
+            compatible = generator.getAsBoolean();
+            if (compatibilities.size() >= MAX_GENERIC_TYPE_COMPATIBILITIES)
+            {
+                compatibilities.clear();
+            }
+            compatibilities.put(key, compatible);
+        }
+        return compatible;
+    }
+
     /**
      * Register the given instance by its classifier.  Throws an
      * exception if the classifier is null.
@@ -160,12 +307,14 @@ public class Context
      */
     public void registerInstanceByClassifier(CoreInstance instance)
     {
+        checkNotFrozen();
         CoreInstance classifier = instance.getClassifier();
         if (classifier == null)
         {
             throw new IllegalArgumentException("Null classifier for " + instance);
         }
         this.instancesByClassifier.getIfAbsentPut(classifier, ConcurrentHashSet::newSet).add(instance);
+        this.elementNameIndex.add(instance);
     }
 
     /**
@@ -189,7 +338,7 @@ public class Context
     public SetIterable<CoreInstance> getClassifierInstances(CoreInstance classifier)
     {
         MutableSet<CoreInstance> instances = this.instancesByClassifier.get(classifier);
-        return (instances == null) ? Sets.immutable.empty() : instances.asUnmodifiable();
+        return layer((this.base == null) ? null : this.base.getClassifierInstances(classifier), instances);
     }
 
     /**
@@ -199,15 +348,15 @@ public class Context
      */
     public SetIterable<CoreInstance> getAllInstances()
     {
-        MutableSet<CoreInstance> allInstances = Sets.mutable.empty();
+        MutableSet<CoreInstance> allInstances = (this.base == null) ? Sets.mutable.empty() : Sets.mutable.withAll(this.base.getAllInstances());
         this.instancesByClassifier.valuesView().forEach(allInstances::addAll);
         return allInstances;
     }
 
     public MapIterable<String, Integer> countInstancesByClassifier()
     {
-        MutableMap<String, Integer> result = Maps.mutable.ofInitialCapacity(this.instancesByClassifier.size());
-        this.instancesByClassifier.forEachKeyValue((classifier, instances) -> result.put(PackageableElement.getUserPathForPackageableElement(classifier), instances.size()));
+        MutableMap<String, Integer> result = (this.base == null) ? Maps.mutable.ofInitialCapacity(this.instancesByClassifier.size()) : Maps.mutable.withMapIterable(this.base.countInstancesByClassifier());
+        this.instancesByClassifier.forEachKeyValue((classifier, instances) -> result.merge(PackageableElement.getUserPathForPackageableElement(classifier), instances.size(), Integer::sum));
         return result;
     }
 
@@ -229,14 +378,18 @@ public class Context
 
     public void registerFunctionByName(String functionName, CoreInstance function)
     {
+        checkNotFrozen();
         this.functionsByName.getIfAbsentPut(functionName, ConcurrentHashSet::newSet).add(function);
+        this.functionOverloadIndexes.remove(functionName);
     }
 
     public void registerFunctionsByName(String functionName, Iterable<? extends CoreInstance> functions)
     {
+        checkNotFrozen();
         if (Iterate.notEmpty(functions))
         {
             this.functionsByName.getIfAbsentPut(functionName, ConcurrentHashSet::newSet).addAllIterable(functions);
+            this.functionOverloadIndexes.remove(functionName);
         }
     }
 
@@ -261,7 +414,7 @@ public class Context
     public SetIterable<CoreInstance> getFunctionsForName(String functionName)
     {
         MutableSet<CoreInstance> functions = this.functionsByName.get(functionName);
-        return (functions == null) ? Sets.immutable.empty() : functions.asUnmodifiable();
+        return layer((this.base == null) ? null : this.base.getFunctionsForName(functionName), functions);
     }
 
     /**
@@ -272,7 +425,14 @@ public class Context
      */
     public RichIterable<String> getAllFunctionNames()
     {
-        return this.functionsByName.keysView();
+        return (this.base == null) ?
+               this.functionsByName.keysView() :
+               this.base.getAllFunctionNames().asLazy().concatenate(this.functionsByName.keysView().reject(this.base::hasFunctionName));
+    }
+
+    private boolean hasFunctionName(String functionName)
+    {
+        return this.functionsByName.containsKey(functionName) || ((this.base != null) && this.base.hasFunctionName(functionName));
     }
 
     public CoreInstance getIfAbsentPutAny(Supplier<? extends CoreInstance> factory)
@@ -300,6 +460,7 @@ public class Context
      */
     public void remove(CoreInstance coreInstance)
     {
+        checkNotFrozen();
         CoreInstance funcName = coreInstance.getValueForMetaPropertyToOne(M3Properties.functionName);
         if (funcName != null)
         {
@@ -314,6 +475,10 @@ public class Context
         {
             instances.remove(coreInstance);
         }
+        this.elementNameIndex.remove(coreInstance);
+        // Overload indexes and generic type compatibilities refer to types, which may be among the removed instances
+        this.functionOverloadIndexes.clear();
+        clearGenericTypeCompatibilities();
         this.update(coreInstance);
     }
 
@@ -325,16 +490,25 @@ public class Context
      */
     public void update(CoreInstance coreInstance)
     {
+        checkNotFrozen();
         this.coreInstanceByPath.remove(PackageableElement.getUserPathForPackageableElement(coreInstance));
         this.functionTypes.remove(coreInstance);
         this.accessLevels.remove(coreInstance);
+        this.elementNameIndex.update(coreInstance);
+        CoreInstance funcName = coreInstance.getValueForMetaPropertyToOne(M3Properties.functionName);
+        if (funcName != null)
+        {
+            this.functionOverloadIndexes.remove(funcName.getName());
+        }
         // If there is a change to the generalization hierarchy, then we have to invalidate everything depending on the hierarchy.
-        if (this.generalizations.containsKey(coreInstance))
+        if (this.generalizations.containsKey(coreInstance) || this.typeGeneralizationSets.containsKey(coreInstance))
         {
             this.classPropertiesByName.clear();
+            this.classQualifiedPropertiesByName.clear();
             this.generalizations.clear();
             this.propertyPaths.clear();
             this.typeGeneralizationSets.clear();
+            clearGenericTypeCompatibilities();
         }
         if (this.anyType == coreInstance)
         {
@@ -351,19 +525,50 @@ public class Context
      */
     public void clear()
     {
+        checkNotFrozen();
         this.coreInstanceByPath.clear();
         this.functionTypes.clear();
         this.classPropertiesByName.clear();
+        this.classQualifiedPropertiesByName.clear();
         this.functionsByName.clear();
         this.generalizations.clear();
         this.accessLevels.clear();
         this.propertyPaths.clear();
         this.instancesByClassifier.clear();
+        this.elementNameIndex.clear();
         this.typeGeneralizationSets.clear();
+        this.functionOverloadIndexes.clear();
+        clearGenericTypeCompatibilities();
         this.anyType = null;
         this.nilType = null;
     }
 
+    private void clearGenericTypeCompatibilities()
+    {
+        this.covariantCompatibilities.clear();
+        this.contravariantCompatibilities.clear();
+    }
+
+    private void checkNotFrozen()
+    {
+        if (this.frozen)
+        {
+            throw new IllegalStateException("Context is frozen");
+        }
+    }
+
+    /**
+     * Get an unmodifiable view of the instances from the base layered with those from this context, without copying.
+     */
+    private static SetIterable<CoreInstance> layer(SetIterable<CoreInstance> baseInstances, MutableSet<CoreInstance> instances)
+    {
+        if ((baseInstances == null) || baseInstances.isEmpty())
+        {
+            return (instances == null) ? Sets.immutable.empty() : instances.asUnmodifiable();
+        }
+        return ((instances == null) || instances.isEmpty()) ? baseInstances : SetAdapter.adapt(new LayeredSet(baseInstances, instances)).asUnmodifiable();
+    }
+
     private static String getFunctionName(CoreInstance function)
     {
         CoreInstance functionName = function.getValueForMetaPropertyToOne(M3Properties.functionName);
@@ -388,4 +593,38 @@ public class Context
 
         return PrimitiveUtilities.getStringValue(functionName);
     }
+
+    /**
+     * A read-only view of the union of the instances of a base context and of a context layered over it. Instances
+     * are normally only registered in one of them, but any in both are only counted once.
+     */
+    private static class LayeredSet extends AbstractSet<CoreInstance>
+    {
+        private final SetIterable<CoreInstance> baseInstances;
+        private final SetIterable<CoreInstance> instances;
+
+        private LayeredSet(SetIterable<CoreInstance> baseInstances, SetIterable<CoreInstance> instances)
+        {
+            this.baseInstances = baseInstances;
+            this.instances = instances;
+        }
+
+        @Override
+        public boolean contains(Object o)
+        {
+            return this.instances.contains(o) || this.baseInstances.contains(o);
+        }
+
+        @Override
+        public int size()
+        {
+            return this.baseInstances.size() + this.instances.count(i -> !this.baseInstances.contains(i));
+        }
+
+        @Override
+        public Iterator<CoreInstance> iterator()
+        {
+            return this.baseInstances.asLazy().concatenate(this.instances.asLazy().reject(this.baseInstances::contains)).iterator();
+        }
+    }
 }
@@ -22,9 +22,24 @@ import org.finos.legend.pure.m3.navigation.importstub.ImportStub;
 import org.finos.legend.pure.m4.coreinstance.CoreInstance;
 import org.finos.legend.pure.m4.exception.PureCompilationException;
 
+import java.util.function.BiConsumer;
+
 public class SpecializationProcessor
 {
     public static void process(Type instance, ProcessorSupport processorSupport)
+    {
+        forEachGeneral(instance, processorSupport, SpecializationProcessor::addSpecialization);
+    }
+
+    /**
+     * Apply the consumer to each non-top general type of the given type, together with the generalization linking
+     * them. The generalization should be in the specializations of the general type.
+     *
+     * @param instance         type
+     * @param processorSupport processor support
+     * @param consumer         consumer of general type and generalization
+     */
+    public static void forEachGeneral(Type instance, ProcessorSupport processorSupport, BiConsumer<? super Type, ? super Generalization> consumer)
     {
         RichIterable<? extends Generalization> generalizations = instance._generalizations();
         if (generalizations.notEmpty())
@@ -39,13 +54,18 @@ public class SpecializationProcessor
                 }
                 if (general != topType)
                 {
-                    RichIterable<? extends Generalization> specializations = general._specializations();
-                    if (!specializations.contains(generalization))
-                    {
-                        general._specializationsAdd(generalization);
-                    }
+                    consumer.accept(general, generalization);
                 }
             }
         }
     }
+
+    public static void addSpecialization(Type general, Generalization generalization)
+    {
+        RichIterable<? extends Generalization> specializations = general._specializations();
+        if (!specializations.contains(generalization))
+        {
+            general._specializationsAdd(generalization);
+        }
+    }
 }
@@ -31,9 +31,11 @@ import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.valuespecificat
 import org.finos.legend.pure.m3.navigation.M3Paths;
 import org.finos.legend.pure.m3.navigation.PackageableElement.PackageableElement;
 import org.finos.legend.pure.m3.navigation.ProcessorSupport;
+import org.finos.legend.pure.m3.navigation.function.FunctionOverloadIndex;
 import org.finos.legend.pure.m3.navigation._package._Package;
 import org.finos.legend.pure.m3.navigation.imports.Imports;
 import org.finos.legend.pure.m3.tools.ListHelper;
+import org.finos.legend.pure.m4.coreinstance.CoreInstance;
 import org.finos.legend.pure.m4.coreinstance.SourceInformation;
 import org.finos.legend.pure.m4.exception.PureCompilationException;
 
@@ -48,7 +50,7 @@ public class FunctionExpressionMatcher
         String functionToFindName = splitFunctionPath.get(lastIndex);
         ListIterable<String> functionPkg = (lastIndex == 0) ? Lists.immutable.with() : splitFunctionPath.take(lastIndex);
 
-        RichIterable<Function<?>> functionsToSearch = getFunctionsWithMatchingName(functionToFindName, functionPkg, functionExpression, processorSupport);
+        RichIterable<Function<?>> functionsToSearch = getFunctionsWithMatchingName(functionToFindName, functionPkg, functionExpression, ListHelper.wrapListIterable(parametersValues), processorSupport);
 
         SourceInformation sourceInformation = functionExpression.getSourceInformation();
 
@@ -150,10 +152,17 @@ public class FunctionExpressionMatcher
         return bestFunctions.getFirst();
     }
 
-    private static RichIterable<Function<?>> getFunctionsWithMatchingName(String functionName, ListIterable<String> functionPackage, FunctionExpression functionExpression, ProcessorSupport processorSupport)
+    private static RichIterable<Function<?>> getFunctionsWithMatchingName(String functionName, ListIterable<String> functionPackage, FunctionExpression functionExpression, ListIterable<? extends ValueSpecification> parametersValues, ProcessorSupport processorSupport)
     {
         SetIterable<org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.PackageableElement> packages = getValidPackages(functionPackage, functionExpression, processorSupport);
-        return processorSupport.function_getFunctionsForName(functionName).collectIf(f -> packages.contains(((PackageableFunction<?>) f)._package()), f -> (Function<?>) f, Lists.mutable.empty());
+        // Prune functions which certainly cannot match before computing full matches. Filtering the functions rather
+        // than iterating over the candidates keeps the order of the remaining functions, and so of the matches.
+        FunctionOverloadIndex overloadIndex = processorSupport.function_getOverloadIndex(functionName);
+        SetIterable<CoreInstance> candidates = overloadIndex.getCandidates(parametersValues, processorSupport);
+        return processorSupport.function_getFunctionsForName(functionName).collectIf(
+                f -> (candidates.contains(f) || !overloadIndex.getAllFunctions().contains(f)) && packages.contains(((PackageableFunction<?>) f)._package()),
+                f -> (Function<?>) f,
+                Lists.mutable.empty());
     }
 
     private static SetIterable<org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.PackageableElement> getValidPackages(ListIterable<String> functionPackage, FunctionExpression functionExpression, ProcessorSupport processorSupport)
@@ -15,6 +15,7 @@
 package org.finos.legend.pure.m3.compiler.postprocessing.processor;
 
 import org.finos.legend.pure.m3.compiler.Context;
+import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.extension.Annotation;
 import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.extension.AnnotatedElement;
 import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.extension.AnnotatedElementCoreInstanceWrapper;
 import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.extension.Stereotype;
@@ -31,6 +32,8 @@ import org.finos.legend.pure.m4.ModelRepository;
 import org.finos.legend.pure.m4.coreinstance.CoreInstance;
 import org.finos.legend.pure.m4.exception.PureCompilationException;
 
+import java.util.function.Consumer;
+
 public class AnnotatedElementProcessor implements MatchRunner<CoreInstance>
 {
     @Override
@@ -51,15 +54,27 @@ public class AnnotatedElementProcessor implements MatchRunner<CoreInstance>
     }
 
     public static void noteModelElementForAnnotations(AnnotatedElement annotatedElement, ProcessorSupport processorSupport)
+    {
+        forEachAnnotation(annotatedElement, processorSupport, annotation -> annotation._modelElementsAdd(annotatedElement));
+    }
+
+    /**
+     * Apply the consumer to each annotation (stereotype or tag) of the annotated element. These are the annotations
+     * which have the annotated element as one of their model elements.
+     *
+     * @param annotatedElement annotated element
+     * @param processorSupport processor support
+     * @param consumer         annotation consumer
+     */
+    public static void forEachAnnotation(AnnotatedElement annotatedElement, ProcessorSupport processorSupport, Consumer<? super Annotation> consumer)
     {
         for (CoreInstance stereotype : ImportStub.withImportStubByPasses(ListHelper.wrapListIterable(annotatedElement._stereotypesCoreInstance()), processorSupport))
         {
-            ((Stereotype) stereotype)._modelElementsAdd(annotatedElement);
+            consumer.accept((Stereotype) stereotype);
         }
         for (TaggedValue taggedValue : annotatedElement._taggedValues())
         {
-            Tag tag = (Tag) ImportStub.withImportStubByPass(taggedValue._tagCoreInstance(), processorSupport);
-            tag._modelElementsAdd(annotatedElement);
+            consumer.accept((Tag) ImportStub.withImportStubByPass(taggedValue._tagCoreInstance(), processorSupport));
         }
     }
 }
@@ -34,6 +34,9 @@ public class FunctionUnloaderWalk implements MatchRunner<Function<?>>
     @Override
     public void run(Function<?> function, MatcherState state, Matcher matcher, ModelRepository modelRepository, Context context) throws PureCompilationException
     {
-        function._applications().forEach(app -> matcher.fullMatch(app, state));
+        if (((WalkerState) state).isApplicationWalkRequired(function))
+        {
+            function._applications().forEach(app -> matcher.fullMatch(app, state));
+        }
     }
 }
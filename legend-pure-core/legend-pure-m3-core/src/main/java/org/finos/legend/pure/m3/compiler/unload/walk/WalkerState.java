@@ -17,6 +17,17 @@ package org.finos.legend.pure.m3.compiler.unload.walk;
 import org.eclipse.collections.api.factory.Sets;
 import org.eclipse.collections.api.set.MutableSet;
 import org.eclipse.collections.api.set.SetIterable;
+import org.eclipse.collections.impl.utility.LazyIterate;
+import org.finos.legend.pure.m3.compiler.postprocessing.processor.milestoning.MilestoningFunctions;
+import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.PackageableElement;
+import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel._import.ImportStub;
+import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.function.Function;
+import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.function.property.AbstractProperty;
+import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.relation.Column;
+import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.relation.RelationType;
+import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.type.FunctionType;
+import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.type.Type;
+import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.type.generics.GenericType;
 import org.finos.legend.pure.m3.navigation.Instance;
 import org.finos.legend.pure.m3.navigation.M3ProcessorSupport;
 import org.finos.legend.pure.m3.navigation._package._Package;
@@ -28,11 +39,25 @@ public class WalkerState extends MatcherState
 {
     private final MutableSet<CoreInstance> instances = Sets.mutable.with();
     private final CoreInstance mappingClassClass;
+    private final SetIterable<? extends CoreInstance> unloadedInstances;
 
     public WalkerState(M3ProcessorSupport processorSupport)
+    {
+        this(processorSupport, null);
+    }
+
+    /**
+     * If the instances being unloaded are given, the walk skips applications of functions whose signatures are not
+     * affected by unloading them (see {@link #isApplicationWalkRequired}). Otherwise, all applications are walked.
+     *
+     * @param processorSupport  processor support
+     * @param unloadedInstances instances being unloaded (may be null)
+     */
+    public WalkerState(M3ProcessorSupport processorSupport, SetIterable<? extends CoreInstance> unloadedInstances)
     {
         super(processorSupport);
         this.mappingClassClass = _Package.getByUserPath("meta::pure::mapping::MappingClass", processorSupport);
+        this.unloadedInstances = unloadedInstances;
     }
 
     public void addInstance(CoreInstance instance)
@@ -60,6 +85,96 @@ public class WalkerState extends MatcherState
         return this.instances.asUnmodifiable();
     }
 
+    /**
+     * Whether the applications of the function must be walked. This is the case unless the function itself is
+     * retained and its signature does not refer to any of the instances being unloaded, as then the function
+     * expressions which apply it are unaffected. If the instances being unloaded are not known, this is always true.
+     *
+     * @param function function being walked
+     * @return whether to walk the applications of the function
+     */
+    public boolean isApplicationWalkRequired(Function<?> function)
+    {
+        if (this.unloadedInstances == null)
+        {
+            return true;
+        }
+
+        CoreInstance element = function;
+        if (function instanceof AbstractProperty)
+        {
+            if (MilestoningFunctions.isGeneratedMilestoningProperty(function, this.processorSupport))
+            {
+                // generated milestoning properties are regenerated with their owner
+                return true;
+            }
+            element = ((AbstractProperty<?>) function)._owner();
+        }
+        return !(element instanceof PackageableElement) ||
+                this.unloadedInstances.contains(element) ||
+                referencesUnloadedInstance(function._classifierGenericType());
+    }
+
+    /**
+     * Whether the generic type refers to any of the instances being unloaded, either directly or through its type
+     * arguments, function type, or relation type columns. Unresolved references are assumed to be affected. If the instances being unloaded
+     * are not known, this is always true.
+     *
+     * @param genericType generic type (may be null)
+     * @return whether the generic type refers to an unloaded instance
+     */
+    public boolean referencesUnloadedInstance(GenericType genericType)
+    {
+        if (this.unloadedInstances == null)
+        {
+            return true;
+        }
+        if (genericType == null)
+        {
+            return false;
+        }
+
+        CoreInstance rawType = genericType._rawTypeCoreInstance();
+        if (rawType instanceof ImportStub)
+        {
+            rawType = ((ImportStub) rawType)._resolvedNodeCoreInstance();
+            if (rawType == null)
+            {
+                return true;
+            }
+        }
+        if (rawType != null)
+        {
+            if (!(rawType instanceof Type) || this.unloadedInstances.contains(rawType))
+            {
+                return true;
+            }
+            if (rawType instanceof FunctionType)
+            {
+                FunctionType functionType = (FunctionType) rawType;
+                if (referencesUnloadedInstance(functionType._returnType()) || functionType._parameters().anySatisfy(p -> referencesUnloadedInstance(p._genericType())))
+                {
+                    return true;
+                }
+            }
+            else if (rawType instanceof RelationType)
+            {
+                if (((RelationType<?>) rawType)._columns().anySatisfy(this::columnReferencesUnloadedInstance))
+                {
+                    return true;
+                }
+            }
+        }
+        return genericType._typeArguments().anySatisfy(this::referencesUnloadedInstance);
+    }
+
+    private boolean columnReferencesUnloadedInstance(Column<?, ?> column)
+    {
+        GenericType classifierGenericType = column._classifierGenericType();
+        // NB: the first type argument is the relation type itself, so we skip it to avoid infinite recursion
+        return (classifierGenericType == null) || LazyIterate.drop(classifierGenericType._typeArguments(), 1).anySatisfy(this::referencesUnloadedInstance);
+    }
+
     @Override
     public InlineDSLLibrary getInlineDSLLibrary()
     {
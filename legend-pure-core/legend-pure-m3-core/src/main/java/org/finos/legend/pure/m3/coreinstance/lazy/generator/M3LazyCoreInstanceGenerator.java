@@ -626,7 +626,7 @@ public class M3LazyCoreInstanceGenerator
                 .append("    @Override\n")
                 .append("    public void commit(ModelRepositoryTransaction transaction)\n")
                 .append("    {\n")
-                .append("        this.state = (_State) transaction.getState(this);\n")
+                .append("        this.state = (_State) transaction.commitState(this, this.state);\n")
                 .append("    }\n");
     }
 
@@ -1541,11 +1541,7 @@ public class M3LazyCoreInstanceGenerator
                 .append("            {\n")
                 .append("                transaction.registerModified(this, new _State(this.state));\n")
                 .append("            }\n")
-                .append("            _State transactionState = (_State) transaction.getState(this);\n")
-                .append("            if (transactionState != null)\n")
-                .append("            {\n")
-                .append("                return transactionState;\n")
-                .append("            }\n")
+                .append("            return (_State) transaction.getState(this, this.state);\n")
                 .append("        }\n")
                 .append("        return this.state;\n")
                 .append("    }\n");
@@ -82,7 +82,7 @@ class SimpleLazyComponentInstance extends AbstractLazyComponentInstance implemen
     @Override
     public void commit(ModelRepositoryTransaction transaction)
     {
-        this.state = (SimpleLazyCoreInstanceState) transaction.getState(this);
+        this.state = (SimpleLazyCoreInstanceState) transaction.commitState(this, this.state);
     }
 
     @Override
@@ -136,11 +136,7 @@ class SimpleLazyComponentInstance extends AbstractLazyComponentInstance implemen
             {
                 transaction.registerModified(this, this.state.copy());
             }
-            SimpleLazyCoreInstanceState transactionState = (SimpleLazyCoreInstanceState) transaction.getState(this);
-            if (transactionState != null)
-            {
-                return transactionState;
-            }
+            return (SimpleLazyCoreInstanceState) transaction.getState(this, this.state);
         }
         return this.state;
     }
@@ -111,7 +111,7 @@ class SimpleLazyConcreteElement extends AbstractLazyConcreteElement implements C
     @Override
     public void commit(ModelRepositoryTransaction transaction)
     {
-        this.state = (SimpleLazyCoreInstanceState) transaction.getState(this);
+        this.state = (SimpleLazyCoreInstanceState) transaction.commitState(this, this.state);
     }
 
     @Override
@@ -181,11 +181,7 @@ class SimpleLazyConcreteElement extends AbstractLazyConcreteElement implements C
             {
                 transaction.registerModified(this, this.state.copy());
             }
-            SimpleLazyCoreInstanceState transactionState = (SimpleLazyCoreInstanceState) transaction.getState(this);
-            if (transactionState != null)
-            {
-                return transactionState;
-            }
+            return (SimpleLazyCoreInstanceState) transaction.getState(this, this.state);
         }
         return this.state;
     }
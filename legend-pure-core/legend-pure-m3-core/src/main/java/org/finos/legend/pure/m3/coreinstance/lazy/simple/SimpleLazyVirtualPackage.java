@@ -108,7 +108,7 @@ class SimpleLazyVirtualPackage extends AbstractLazyVirtualPackage implements Cor
     @Override
     public void commit(ModelRepositoryTransaction transaction)
     {
-        this.state = (SimpleLazyCoreInstanceState) transaction.getState(this);
+        this.state = (SimpleLazyCoreInstanceState) transaction.commitState(this, this.state);
     }
 
     @Override
@@ -208,11 +208,7 @@ class SimpleLazyVirtualPackage extends AbstractLazyVirtualPackage implements Cor
             {
                 transaction.registerModified(this, this.state.copy());
             }
-            SimpleLazyCoreInstanceState transactionState = (SimpleLazyCoreInstanceState) transaction.getState(this);
-            if (transactionState != null)
-            {
-                return transactionState;
-            }
+            return (SimpleLazyCoreInstanceState) transaction.getState(this, this.state);
         }
         return this.state;
     }
@@ -64,7 +64,7 @@ public class PureUnresolvedIdentifierException extends PureCompilationException
 
     private static RichIterable<CoreInstance> getImportCandidates(String id, ModelRepository repository, ProcessorSupport processorSupport, CoreInstance importStubNode, RichIterable<CodeRepository> codeRepositories)
     {
-        return SearchTools.findInAllPackages(id, repository).select(instance ->
+        return SearchTools.findInAllPackages(id, repository, processorSupport).select(instance ->
         {
             String sourceId = (importStubNode.getSourceInformation() == null) ? null : importStubNode.getSourceInformation().getSourceId();
             return Visibility.isVisibleInSource(instance, sourceId, codeRepositories, processorSupport);
@@ -19,6 +19,7 @@ import org.apache.commons.io.IOUtils;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.util.function.Predicate;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
 import java.util.zip.ZipOutputStream;
@@ -26,7 +27,7 @@ import java.util.zip.ZipOutputStream;
 public class XLSXOutputWriter implements OutputWriter<Object>
 {
     private static final String XLSX_TEMPLATE = "/xlsx_template.xlsx";
-    private static final String SHEET_PATH = "xl/worksheets/sheet1.xml";
+    static final String SHEET_PATH = "xl/worksheets/sheet1.xml";
 
     private final OutputWriter writer;
 
@@ -38,17 +39,9 @@ public class XLSXOutputWriter implements OutputWriter<Object>
     @Override
     public void write(Object result, OutputStream outputStream) throws IOException
     {
-        try (InputStream is = XLSXOutputWriter.class.getResourceAsStream(XLSX_TEMPLATE);
-             ZipInputStream zis = new ZipInputStream(is);
-             ZipOutputStream zos = new ZipOutputStream(outputStream))
+        try (ZipOutputStream zos = new ZipOutputStream(outputStream))
         {
-            ZipEntry zipEntry;
-            while ((zipEntry = zis.getNextEntry()) != null)
-            {
-                zos.putNextEntry(new ZipEntry(zipEntry.getName()));
-                IOUtils.copy(zis, zos);
-                zos.closeEntry();
-            }
+            copyTemplate(zos, name -> true);
 
             ZipEntry sheet1 = new ZipEntry(SHEET_PATH);
             zos.putNextEntry(sheet1);
@@ -59,4 +52,30 @@ public class XLSXOutputWriter implements OutputWriter<Object>
             zos.finish();
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Copy the entries of the workbook template which satisfy the filter into a zip stream. The template has no
+     * sheet; a writer must add one at {@link #SHEET_PATH}.
+     *
+     * @param zos    zip output stream
+     * @param filter filter on entry names
+     * @throws IOException if there is an error copying
+     */
+    static void copyTemplate(ZipOutputStream zos, Predicate<? super String> filter) throws IOException
+    {
+        try (InputStream is = XLSXOutputWriter.class.getResourceAsStream(XLSX_TEMPLATE);
+             ZipInputStream zis = new ZipInputStream(is))
+        {
+            ZipEntry zipEntry;
+            while ((zipEntry = zis.getNextEntry()) != null)
+            {
+                if (filter.test(zipEntry.getName()))
+                {
+                    zos.putNextEntry(new ZipEntry(zipEntry.getName()));
+                    IOUtils.copy(zis, zos);
+                    zos.closeEntry();
+                }
+            }
+        }
+    }
+}
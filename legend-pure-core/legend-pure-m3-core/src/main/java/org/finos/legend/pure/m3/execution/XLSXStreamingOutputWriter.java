@@ -0,0 +1,301 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.m3.execution;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.ListIterable;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.map.primitive.MutableObjectIntMap;
+import org.eclipse.collections.impl.factory.primitive.ObjectIntMaps;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Writes rows to a single sheet workbook, generating the sheet XML as the rows are read from the iterator, so that
+ * only one row is held in memory at a time. Each row is an iterable of cell values: numbers are written as numeric
+ * cells, booleans as boolean cells, nulls as empty cells, and anything else as its string value.
+ * <p>
+ * Strings are written to the shared string table, so that repeated values (e.g., enumerations or codes) are only
+ * stored once. To bound memory, strings longer than the maximum shared length, and any new strings once the table is
+ * full, are written inline in the sheet instead.
+ */
+public class XLSXStreamingOutputWriter implements OutputWriter<Iterator<? extends Iterable<?>>>
+{
+    public static final int DEFAULT_MAX_SHARED_STRINGS = 65536;
+    public static final int DEFAULT_MAX_SHARED_STRING_LENGTH = 256;
+
+    private static final String SHARED_STRINGS_PATH = "xl/sharedStrings.xml";
+    private static final String SPREADSHEETML_NS = "http://schemas.openxmlformats.org/spreadsheetml/2006/main";
+    private static final int MAX_ROWS = 1_048_576;
+    private static final int MAX_CELL_LENGTH = 32_767;
+
+    private final ListIterable<String> columnNames;
+    private final int maxSharedStrings;
+    private final int maxSharedStringLength;
+
+    public XLSXStreamingOutputWriter(ListIterable<String> columnNames, int maxSharedStrings, int maxSharedStringLength)
+    {
+        this.columnNames = columnNames;
+        this.maxSharedStrings = maxSharedStrings;
+        this.maxSharedStringLength = maxSharedStringLength;
+    }
+
+    public XLSXStreamingOutputWriter(ListIterable<String> columnNames)
+    {
+        this(columnNames, DEFAULT_MAX_SHARED_STRINGS, DEFAULT_MAX_SHARED_STRING_LENGTH);
+    }
+
+    public XLSXStreamingOutputWriter()
+    {
+        this(null);
+    }
+
+    @Override
+    public void write(Iterator<? extends Iterable<?>> rows, OutputStream outputStream) throws IOException
+    {
+        try (ZipOutputStream zos = new ZipOutputStream(outputStream))
+        {
+            XLSXOutputWriter.copyTemplate(zos, name -> !SHARED_STRINGS_PATH.equals(name));
+
+            // the writer must not be closed, as that would close the zip stream
+            Writer writer = new BufferedWriter(new OutputStreamWriter(zos, StandardCharsets.UTF_8));
+            SharedStrings sharedStrings = new SharedStrings(this.maxSharedStrings, this.maxSharedStringLength);
+
+            zos.putNextEntry(new ZipEntry(XLSXOutputWriter.SHEET_PATH));
+            writeSheet(rows, writer, sharedStrings);
+            writer.flush();
+            zos.closeEntry();
+
+            zos.putNextEntry(new ZipEntry(SHARED_STRINGS_PATH));
+            sharedStrings.write(writer);
+            writer.flush();
+            zos.closeEntry();
+
+            zos.finish();
+        }
+    }
+
+    private void writeSheet(Iterator<? extends Iterable<?>> rows, Writer writer, SharedStrings sharedStrings) throws IOException
+    {
+        writer.write("<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n<worksheet xmlns=\"" + SPREADSHEETML_NS + "\"><sheetData>");
+        ColumnReferences columnReferences = new ColumnReferences();
+        int rowNumber = 0;
+        if (this.columnNames != null)
+        {
+            writeRow(this.columnNames, ++rowNumber, writer, sharedStrings, columnReferences);
+        }
+        while (rows.hasNext())
+        {
+            if (rowNumber == MAX_ROWS)
+            {
+                throw new IOException("Too many rows for a sheet: the maximum is " + MAX_ROWS);
+            }
+            writeRow(rows.next(), ++rowNumber, writer, sharedStrings, columnReferences);
+        }
+        writer.write("</sheetData></worksheet>");
+    }
+
+    private static void writeRow(Iterable<?> row, int rowNumber, Writer writer, SharedStrings sharedStrings, ColumnReferences columnReferences) throws IOException
+    {
+        writer.write("<row r=\"");
+        writer.write(Integer.toString(rowNumber));
+        writer.write("\">");
+        int column = 0;
+        for (Object value : row)
+        {
+            if (value != null)
+            {
+                writeCell(value, columnReferences.get(column) + rowNumber, writer, sharedStrings);
+            }
+            column++;
+        }
+        writer.write("</row>");
+    }
+
+    private static void writeCell(Object value, String reference, Writer writer, SharedStrings sharedStrings) throws IOException
+    {
+        String number = toNumericString(value);
+        if (number != null)
+        {
+            writer.write("<c r=\"" + reference + "\"><v>" + number + "</v></c>");
+        }
+        else if (value instanceof Boolean)
+        {
+            writer.write("<c r=\"" + reference + "\" t=\"b\"><v>" + (((Boolean) value) ? '1' : '0') + "</v></c>");
+        }
+        else
+        {
+            String string = value.toString();
+            if (string.length() > MAX_CELL_LENGTH)
+            {
+                string = string.substring(0, MAX_CELL_LENGTH);
+            }
+            int index = sharedStrings.getIndex(string);
+            if (index >= 0)
+            {
+                writer.write("<c r=\"" + reference + "\" t=\"s\"><v>" + index + "</v></c>");
+            }
+            else
+            {
+                writer.write("<c r=\"" + reference + "\" t=\"inlineStr\"><is>");
+                writeText(string, writer);
+                writer.write("</is></c>");
+            }
+        }
+    }
+
+    private static String toNumericString(Object value)
+    {
+        if ((value instanceof Integer) || (value instanceof Long) || (value instanceof Short) || (value instanceof Byte) || (value instanceof BigInteger))
+        {
+            return value.toString();
+        }
+        if ((value instanceof Double) || (value instanceof Float))
+        {
+            double d = ((Number) value).doubleValue();
+            // NaN and infinities have no numeric representation in a sheet, so they are written as strings
+            return (Double.isNaN(d) || Double.isInfinite(d)) ? null : value.toString();
+        }
+        if (value instanceof BigDecimal)
+        {
+            return ((BigDecimal) value).toPlainString();
+        }
+        return null;
+    }
+
+    private static void writeText(String string, Writer writer) throws IOException
+    {
+        int length = string.length();
+        boolean preserveSpace = (length > 0) && (Character.isWhitespace(string.charAt(0)) || Character.isWhitespace(string.charAt(length - 1)));
+        writer.write(preserveSpace ? "<t xml:space=\"preserve\">" : "<t>");
+        for (int i = 0; i < length; i++)
+        {
+            char c = string.charAt(i);
+            switch (c)
+            {
+                case '&':
+                {
+                    writer.write("&amp;");
+                    break;
+                }
+                case '<':
+                {
+                    writer.write("&lt;");
+                    break;
+                }
+                case '>':
+                {
+                    writer.write("&gt;");
+                    break;
+                }
+                case '\t':
+                case '\n':
+                case '\r':
+                {
+                    writer.write(c);
+                    break;
+                }
+                default:
+                {
+                    // other control characters are not allowed in XML 1.0
+                    if ((c >= 0x20) && (c != 0xFFFE) && (c != 0xFFFF))
+                    {
+                        writer.write(c);
+                    }
+                }
+            }
+        }
+        writer.write("</t>");
+    }
+
+    private static class SharedStrings
+    {
+        private final int maxSize;
+        private final int maxLength;
+        private final MutableObjectIntMap<String> indexes = ObjectIntMaps.mutable.empty();
+        private final MutableList<String> strings = Lists.mutable.empty();
+        private int count = 0;
+
+        private SharedStrings(int maxSize, int maxLength)
+        {
+            this.maxSize = maxSize;
+            this.maxLength = maxLength;
+        }
+
+        // Returns the index of the string in the table, adding it if possible, or -1 if it should be written inline
+        private int getIndex(String string)
+        {
+            if (string.length() > this.maxLength)
+            {
+                return -1;
+            }
+            int index = this.indexes.getIfAbsent(string, -1);
+            if (index == -1)
+            {
+                if (this.strings.size() >= this.maxSize)
+                {
+                    return -1;
+                }
+                index = this.strings.size();
+                this.strings.add(string);
+                this.indexes.put(string, index);
+            }
+            this.count++;
+            return index;
+        }
+
+        private void write(Writer writer) throws IOException
+        {
+            writer.write("<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n<sst xmlns=\"" + SPREADSHEETML_NS + "\" count=\"" + this.count + "\" uniqueCount=\"" + this.strings.size() + "\">");
+            for (String string : this.strings)
+            {
+                writer.write("<si>");
+                writeText(string, writer);
+                writer.write("</si>");
+            }
+            writer.write("</sst>");
+        }
+    }
+
+    private static class ColumnReferences
+    {
+        private final MutableList<String> references = Lists.mutable.empty();
+
+        // Column letters for a zero-based column index: A, B, ..., Z, AA, AB, ...
+        private String get(int column)
+        {
+            for (int i = this.references.size(); i <= column; i++)
+            {
+                StringBuilder builder = new StringBuilder(3);
+                for (int n = i + 1; n > 0; n = (n - 1) / 26)
+                {
+                    builder.append((char) ('A' + ((n - 1) % 26)));
+                }
+                this.references.add(builder.reverse().toString());
+            }
+            return this.references.get(column);
+        }
+    }
+}
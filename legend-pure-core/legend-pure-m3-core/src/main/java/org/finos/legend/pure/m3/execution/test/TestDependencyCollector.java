@@ -0,0 +1,173 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.m3.execution.test;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.factory.Maps;
+import org.eclipse.collections.api.factory.Sets;
+import org.eclipse.collections.api.list.ImmutableList;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.map.MapIterable;
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.api.set.MutableSet;
+import org.eclipse.collections.api.set.SetIterable;
+import org.finos.legend.pure.m3.coreinstance.Package;
+import org.finos.legend.pure.m3.navigation.M3Paths;
+import org.finos.legend.pure.m3.navigation.M3PropertyPaths;
+import org.finos.legend.pure.m3.navigation.PackageableElement.PackageableElement;
+import org.finos.legend.pure.m3.navigation.ProcessorSupport;
+import org.finos.legend.pure.m3.navigation.imports.Imports;
+import org.finos.legend.pure.m3.serialization.runtime.PureRuntime;
+import org.finos.legend.pure.m3.serialization.runtime.Source;
+import org.finos.legend.pure.m3.tools.ContainingElementIndex;
+import org.finos.legend.pure.m4.coreinstance.CoreInstance;
+import org.finos.legend.pure.m4.coreinstance.SourceInformation;
+import org.finos.legend.pure.m4.tools.GraphNodeIterable;
+import org.finos.legend.pure.m4.tools.GraphWalkFilterResult;
+
+import java.util.function.Predicate;
+
+/**
+ * Collects the packageable elements a test depends on: the test function itself, the elements it references (the
+ * functions it calls, the types it uses, etc.), the elements those reference, and so on. If any of these elements
+ * changes, the test may behave differently, and so must be rerun.
+ * <p>
+ * Only forward references are followed: back reference properties (such as reference usages and specializations) are
+ * ignored, as are packages and import groups. Elements rejected by the element filter are neither collected nor
+ * followed; this is used to skip elements which cannot change, such as those in immutable sources.
+ */
+public class TestDependencyCollector
+{
+    private final ProcessorSupport processorSupport;
+    private final Predicate<? super CoreInstance> elementFilter;
+    private final ContainingElementIndex containingElementIndex;
+    private final MapIterable<String, ImmutableList<String>> backReferenceProperties = M3PropertyPaths.BACK_REFERENCE_PROPERTY_PATHS.groupByUniqueKey(ImmutableList::getLast, Maps.mutable.ofInitialCapacity(M3PropertyPaths.BACK_REFERENCE_PROPERTY_PATHS.size()));
+    private final MutableMap<CoreInstance, SetIterable<CoreInstance>> directDependencies = Maps.mutable.empty();
+    private final MutableMap<CoreInstance, String> elementPaths = Maps.mutable.empty();
+
+    public TestDependencyCollector(ProcessorSupport processorSupport, Predicate<? super CoreInstance> elementFilter)
+    {
+        this.processorSupport = processorSupport;
+        this.elementFilter = elementFilter;
+        this.containingElementIndex = ContainingElementIndex.builder(processorSupport).withAllElements().build();
+    }
+
+    /**
+     * Collector for the tests of a runtime, which ignores elements from immutable sources.
+     *
+     * @param runtime Pure runtime
+     * @return test dependency collector
+     */
+    public static TestDependencyCollector fromRuntime(PureRuntime runtime)
+    {
+        return new TestDependencyCollector(runtime.getProcessorSupport(), element ->
+        {
+            SourceInformation sourceInfo = element.getSourceInformation();
+            Source source = (sourceInfo == null) ? null : runtime.getSourceById(sourceInfo.getSourceId());
+            return (source != null) && !source.isImmutable();
+        });
+    }
+
+    /**
+     * Get the user paths of the elements the test function depends on, including the test function itself.
+     *
+     * @param testFunction test function
+     * @return paths of the test's dependencies
+     */
+    public MutableSet<String> getDependencies(CoreInstance testFunction)
+    {
+        MutableSet<CoreInstance> visited = Sets.mutable.with(testFunction);
+        MutableList<CoreInstance> deque = Lists.mutable.with(testFunction);
+        MutableSet<String> paths = Sets.mutable.empty();
+        while (deque.notEmpty())
+        {
+            CoreInstance element = deque.remove(deque.size() - 1);
+            paths.add(getElementPath(element));
+            getDirectDependencies(element).forEach(dependency ->
+            {
+                if (visited.add(dependency))
+                {
+                    deque.add(dependency);
+                }
+            });
+        }
+        return paths;
+    }
+
+    private SetIterable<CoreInstance> getDirectDependencies(CoreInstance element)
+    {
+        SetIterable<CoreInstance> cached = this.directDependencies.get(element);
+        if (cached == null)
+        {
+            cached = computeDirectDependencies(element);
+            this.directDependencies.put(element, cached);
+        }
+        return cached;
+    }
+
+    private SetIterable<CoreInstance> computeDirectDependencies(CoreInstance element)
+    {
+        SourceInformation elementSourceInfo = element.getSourceInformation();
+        if (elementSourceInfo == null)
+        {
+            return Sets.immutable.empty();
+        }
+
+        MutableSet<CoreInstance> dependencies = Sets.mutable.empty();
+        GraphNodeIterable.builder()
+                .withStartingNode(element)
+                .withKeyFilter(this::isForwardReference)
+                .withNodeFilter(node -> isExternal(elementSourceInfo, element, node) ? GraphWalkFilterResult.stop(true) : GraphWalkFilterResult.ACCEPT_AND_CONTINUE)
+                .build()
+                .forEach(node ->
+                {
+                    if ((node != element) && isExternal(elementSourceInfo, element, node) && !isPackage(node))
+                    {
+                        CoreInstance dependency = this.containingElementIndex.findContainingElement(node);
+                        if ((dependency != null) && (dependency != element) && !Imports.isImportGroup(dependency, this.processorSupport) && this.elementFilter.test(dependency))
+                        {
+                            dependencies.add(dependency);
+                        }
+                    }
+                });
+        return dependencies;
+    }
+
+    private boolean isExternal(SourceInformation elementSourceInfo, CoreInstance element, CoreInstance node)
+    {
+        if (node == element)
+        {
+            return false;
+        }
+        SourceInformation sourceInfo = node.getSourceInformation();
+        return (sourceInfo == null) ? isPackage(node) : !elementSourceInfo.subsumes(sourceInfo);
+    }
+
+    private boolean isPackage(CoreInstance node)
+    {
+        return (node instanceof Package) || this.processorSupport.instance_instanceOf(node, M3Paths.Package);
+    }
+
+    private boolean isForwardReference(CoreInstance node, String property)
+    {
+        ImmutableList<String> propertyPath = this.backReferenceProperties.get(property);
+        return (propertyPath == null) || !propertyPath.equals(node.getRealKeyByName(property));
+    }
+
+    private String getElementPath(CoreInstance element)
+    {
+        return this.elementPaths.getIfAbsentPutWithKey(element, PackageableElement::getUserPathForPackageableElement);
+    }
+}
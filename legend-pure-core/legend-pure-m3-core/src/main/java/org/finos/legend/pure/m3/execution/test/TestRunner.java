@@ -15,10 +15,13 @@
 package org.finos.legend.pure.m3.execution.test;
 
 import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.factory.Maps;
 import org.eclipse.collections.api.factory.Sets;
 import org.eclipse.collections.api.list.ListIterable;
 import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.map.MutableMap;
 import org.eclipse.collections.api.set.MutableSet;
+import org.eclipse.collections.api.set.SetIterable;
 import org.finos.legend.pure.m3.exception.PureAssertFailException;
 import org.finos.legend.pure.m3.execution.Console;
 import org.finos.legend.pure.m3.execution.FunctionExecution;
@@ -39,6 +42,7 @@ import java.io.PrintStream;
 import java.io.UncheckedIOException;
 import java.util.Collections;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
 
 public class TestRunner implements Runnable
 {
@@ -51,6 +55,8 @@ public class TestRunner implements Runnable
     private final AtomicBoolean stopped = new AtomicBoolean(false);
     protected final MutableSet<String> passedTests;
     protected final MutableSet<String> failedTests;
+    protected final MutableMap<String, MutableSet<String>> testDependencies = Maps.mutable.empty();
+    private TestDependencyCollector dependencyCollector;
 
     public TestRunner(TestCollection tests, FunctionExecution functionExecution, TestCallBack callBack, boolean shuffle)
     {
@@ -106,6 +112,17 @@ public class TestRunner implements Runnable
         this(path, functionExecution, runtime.getProcessorSupport(), callBack, shuffle);
     }
 
+    /**
+     * Run only the given tests under path, for example those invalidated by a change (see
+     * {@link org.finos.legend.pure.m3.serialization.runtime.ExecutedTestTracker#getInvalidatedTests()}). Test ids are
+     * test function paths, possibly followed by a parameterization id in square brackets; a test function is run
+     * (with all its parameterizations) if any of its test ids is given.
+     */
+    public TestRunner(String path, PureRuntime runtime, FunctionExecution functionExecution, TestCallBack callBack, boolean shuffle, SetIterable<String> testIds)
+    {
+        this(TestCollection.collectTests(path, runtime.getProcessorSupport(), functionExecution.getClass(), getTestFunctionFilter(testIds)), functionExecution, callBack, shuffle);
+    }
+
     @Override
     public void run()
     {
@@ -131,6 +148,28 @@ public class TestRunner implements Runnable
         return this.tests;
     }
 
+    /**
+     * Collect the dependencies of each test executed, which can then be noted in an
+     * {@link org.finos.legend.pure.m3.serialization.runtime.ExecutedTestTracker} so that later changes only
+     * invalidate the tests they impact. This must be set before the tests are run.
+     *
+     * @param dependencyCollector test dependency collector
+     */
+    public void setDependencyCollector(TestDependencyCollector dependencyCollector)
+    {
+        this.dependencyCollector = dependencyCollector;
+    }
+
+    /**
+     * Dependencies of the executed tests by test id, if a dependency collector was set.
+     *
+     * @return test dependencies
+     */
+    public MutableMap<String, MutableSet<String>> getTestDependencies()
+    {
+        return this.testDependencies;
+    }
+
     private void runTestsFromCollection(TestCollection testCollection, Console console) throws IOException
     {
         // Execute before functions
@@ -172,11 +211,15 @@ public class TestRunner implements Runnable
             ByteArrayOutputStream stream = new ByteArrayOutputStream();
             PrintStream ps = new PrintStream(stream);
             console.setPrintStream(ps);
+            if (this.dependencyCollector != null)
+            {
+                this.testDependencies.put(getTestId(test, testCollection), this.dependencyCollector.getDependencies(test));
+            }
             try
             {
                 executeTestFunc(test, testCollection.getTestFunctionParam(), testCollection.getTestFunctionParamCustomizer());
                 this.testCallBack.executedTest(test, testCollection.getTestParameterizationId(), stream.toString(), TestStatus.SUCCESS);
-                this.passedTests.add(PackageableElement.getUserPathForPackageableElement(test) + (testCollection.getTestParameterizationId() == null ? "" : "[" + testCollection.getTestParameterizationId() + "]"));
+                this.passedTests.add(getTestId(test, testCollection));
             }
             catch (Throwable t)
             {
@@ -189,7 +232,7 @@ public class TestRunner implements Runnable
                 {
                     this.testCallBack.executedTest(test, testCollection.getTestParameterizationId(), stream.toString(), new ErrorTestStatus(t));
                 }
-                this.failedTests.add(PackageableElement.getUserPathForPackageableElement(test) + (testCollection.getTestParameterizationId() == null ? "" : "[" + testCollection.getTestParameterizationId() + "]"));
+                this.failedTests.add(getTestId(test, testCollection));
             }
             stream.flush();
         }
@@ -212,6 +255,18 @@ public class TestRunner implements Runnable
         }
     }
 
+    private static String getTestId(CoreInstance test, TestCollection testCollection)
+    {
+        String path = PackageableElement.getUserPathForPackageableElement(test);
+        return (testCollection.getTestParameterizationId() == null) ? path : (path + "[" + testCollection.getTestParameterizationId() + "]");
+    }
+
+    private static Predicate<CoreInstance> getTestFunctionFilter(SetIterable<String> testIds)
+    {
+        MutableSet<String> testPaths = testIds.collect(id -> id.endsWith("]") && (id.indexOf('[') != -1) ? id.substring(0, id.indexOf('[')) : id, Sets.mutable.empty());
+        return test -> testPaths.contains(PackageableElement.getUserPathForPackageableElement(test));
+    }
+
     private void executeTestFunc(CoreInstance testFunc, Object testFunctionParam, CoreInstance testFunctionParamCustomizer)
     {
         ProcessorSupport processorSupport = this.functionExecution.getProcessorSupport();
@@ -0,0 +1,311 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.m3.generator;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.factory.Maps;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.map.MapIterable;
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.api.set.SetIterable;
+import org.finos.legend.pure.m3.serialization.filesystem.repository.CodeRepositorySet;
+import org.finos.legend.pure.m3.serialization.filesystem.usercodestorage.RepositoryCodeStorage;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Properties;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Fingerprints of the inputs to the generation of each of a set of repositories, persisted between builds so that
+ * generation can be skipped for the repositories whose inputs have not changed.
+ * <p>
+ * The fingerprint of a repository combines the input fingerprint, which covers everything shared by all repositories
+ * (configuration, classpath, etc.), with the content of the repository's sources and of the sources of the other
+ * generated repositories it depends on.
+ */
+public class GenerationFingerprints
+{
+    private final Path file;
+    private final String inputFingerprint;
+    private final MutableMap<String, String> fingerprints;
+
+    private GenerationFingerprints(Path file, String inputFingerprint, MutableMap<String, String> fingerprints)
+    {
+        this.file = file;
+        this.inputFingerprint = inputFingerprint;
+        this.fingerprints = fingerprints;
+    }
+
+    public Path getFile()
+    {
+        return this.file;
+    }
+
+    /**
+     * Whether the repository was last generated from inputs with the given fingerprint.
+     *
+     * @param repository  repository name
+     * @param fingerprint current fingerprint of the repository's inputs
+     * @return whether the repository is up to date
+     */
+    public boolean isUpToDate(String repository, String fingerprint)
+    {
+        return fingerprint.equals(this.fingerprints.get(repository));
+    }
+
+    /**
+     * Note that the repositories have been generated from inputs with the given fingerprints. This is not persisted
+     * until {@link #save} is called.
+     *
+     * @param repositoryFingerprints fingerprints by repository name
+     */
+    public void update(MapIterable<String, String> repositoryFingerprints)
+    {
+        repositoryFingerprints.forEachKeyValue(this.fingerprints::put);
+    }
+
+    /**
+     * Compute the current fingerprint of each of the target repositories.
+     *
+     * @param repositories all repositories, which must include the targets and their dependencies
+     * @param targets      names of the repositories to compute fingerprints for
+     * @param codeStorage  code storage with the sources of all the target repositories
+     * @return fingerprints by repository name
+     */
+    public MutableMap<String, String> computeFingerprints(CodeRepositorySet repositories, SetIterable<String> targets, RepositoryCodeStorage codeStorage)
+    {
+        return computeFingerprints(repositories, targets, repository -> codeStorage);
+    }
+
+    /**
+     * Compute the current fingerprint of each of the target repositories.
+     *
+     * @param repositories            all repositories, which must include the targets and their dependencies
+     * @param targets                 names of the repositories to compute fingerprints for
+     * @param codeStorageByRepository code storage with the sources of each target repository
+     * @return fingerprints by repository name
+     */
+    public MutableMap<String, String> computeFingerprints(CodeRepositorySet repositories, SetIterable<String> targets, Function<? super String, ? extends RepositoryCodeStorage> codeStorageByRepository)
+    {
+        MutableMap<String, String> sourceFingerprints = Maps.mutable.ofInitialCapacity(targets.size());
+        targets.forEach(repository -> sourceFingerprints.put(repository, newHasher().withString(repository).withRepositorySources(codeStorageByRepository.apply(repository), repository).getFingerprint()));
+
+        MutableMap<String, String> result = Maps.mutable.ofInitialCapacity(targets.size());
+        targets.forEach(repository ->
+        {
+            Hasher hasher = newHasher().withString(this.inputFingerprint);
+            repositories.subset(repository).getRepositoryNames().select(targets::contains).toSortedList().forEach(r -> hasher.withString(sourceFingerprints.get(r)));
+            result.put(repository, hasher.getFingerprint());
+        });
+        return result;
+    }
+
+    /**
+     * Persist the fingerprints to the file they were loaded from.
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    public void save() throws IOException
+    {
+        Properties properties = new Properties();
+        this.fingerprints.forEachKeyValue(properties::setProperty);
+        Path parent = this.file.getParent();
+        if (parent != null)
+        {
+            Files.createDirectories(parent);
+        }
+        try (OutputStream stream = Files.newOutputStream(this.file))
+        {
+            properties.store(stream, null);
+        }
+    }
+
+    /**
+     * Load the fingerprints persisted in the given file. If the file does not exist or cannot be read, there are no
+     * previous fingerprints and so every repository is out of date.
+     *
+     * @param file             fingerprint file
+     * @param inputFingerprint fingerprint of the inputs common to all repositories
+     * @return generation fingerprints
+     */
+    public static GenerationFingerprints load(Path file, String inputFingerprint)
+    {
+        MutableMap<String, String> fingerprints = Maps.mutable.empty();
+        if (Files.isRegularFile(file))
+        {
+            Properties properties = new Properties();
+            try (InputStream stream = Files.newInputStream(file))
+            {
+                properties.load(stream);
+                properties.stringPropertyNames().forEach(name -> fingerprints.put(name, properties.getProperty(name)));
+            }
+            catch (IOException | IllegalArgumentException ignore)
+            {
+                fingerprints.clear();
+            }
+        }
+        return new GenerationFingerprints(file, inputFingerprint, fingerprints);
+    }
+
+    public static Hasher newHasher()
+    {
+        return new Hasher();
+    }
+
+    public static class Hasher
+    {
+        private final MessageDigest digest;
+
+        private Hasher()
+        {
+            try
+            {
+                this.digest = MessageDigest.getInstance("SHA-256");
+            }
+            catch (NoSuchAlgorithmException e)
+            {
+                throw new RuntimeException(e);
+            }
+        }
+
+        public Hasher withString(String string)
+        {
+            if (string == null)
+            {
+                return withLong(-1L);
+            }
+            byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+            return withLong(bytes.length).withBytes(bytes);
+        }
+
+        public Hasher withStrings(Iterable<String> strings)
+        {
+            if (strings == null)
+            {
+                return withLong(-1L);
+            }
+            MutableList<String> sorted = Lists.mutable.<String>withAll(strings).sortThis();
+            withLong(sorted.size());
+            sorted.forEach(this::withString);
+            return this;
+        }
+
+        public Hasher withBoolean(boolean value)
+        {
+            this.digest.update((byte) (value ? 1 : 0));
+            return this;
+        }
+
+        public Hasher withLong(long value)
+        {
+            for (int shift = 56; shift >= 0; shift -= 8)
+            {
+                this.digest.update((byte) (value >>> shift));
+            }
+            return this;
+        }
+
+        public Hasher withBytes(byte[] bytes)
+        {
+            this.digest.update(bytes);
+            return this;
+        }
+
+        /**
+         * Add the path, size, and modification time of a file. If the file is a directory, this is done for every
+         * file in the directory and its subdirectories.
+         *
+         * @param file file or directory
+         * @return this hasher
+         */
+        public Hasher withFileStamp(File file)
+        {
+            return withFileStamp(file.toPath());
+        }
+
+        public Hasher withFileStamp(Path file)
+        {
+            withString(file.toAbsolutePath().toString());
+            if (!Files.isDirectory(file))
+            {
+                return withRegularFileStamp(file);
+            }
+            try (Stream<Path> files = Files.walk(file))
+            {
+                files.filter(Files::isRegularFile).sorted().forEach(f -> withString(file.relativize(f).toString()).withRegularFileStamp(f));
+            }
+            catch (IOException e)
+            {
+                throw new UncheckedIOException(e);
+            }
+            return this;
+        }
+
+        public Hasher withRepositorySources(RepositoryCodeStorage codeStorage, String repository)
+        {
+            String repositoryPath = "/" + repository;
+            if (codeStorage.exists(repositoryPath))
+            {
+                codeStorage.getFileOrFiles(repositoryPath).toSortedList().forEach(path ->
+                {
+                    byte[] content = codeStorage.getContentAsBytes(path);
+                    withString(path).withLong(content.length).withBytes(content);
+                });
+            }
+            return this;
+        }
+
+        private Hasher withRegularFileStamp(Path file)
+        {
+            try
+            {
+                BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+                return withLong(attributes.size()).withLong(attributes.lastModifiedTime().toMillis());
+            }
+            catch (IOException e)
+            {
+                // missing or unreadable files are simply noted as such
+                return withLong(-1L);
+            }
+        }
+
+        /**
+         * Get the fingerprint of everything added so far. This resets the hasher.
+         *
+         * @return fingerprint as a hex string
+         */
+        public String getFingerprint()
+        {
+            byte[] bytes = this.digest.digest();
+            StringBuilder builder = new StringBuilder(bytes.length * 2);
+            for (byte b : bytes)
+            {
+                builder.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return builder.toString();
+        }
+    }
+}
@@ -17,10 +17,13 @@ package org.finos.legend.pure.m3.generator.compiler;
 import org.eclipse.collections.api.factory.Lists;
 import org.eclipse.collections.api.factory.Sets;
 import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.map.MapIterable;
+import org.eclipse.collections.api.map.MutableMap;
 import org.eclipse.collections.api.set.MutableSet;
 import org.eclipse.collections.api.set.SetIterable;
 import org.eclipse.collections.impl.set.mutable.SetAdapter;
 import org.eclipse.collections.impl.utility.ArrayIterate;
+import org.finos.legend.pure.m3.generator.GenerationFingerprints;
 import org.finos.legend.pure.m3.serialization.compiler.PureCompilerSerializer;
 import org.finos.legend.pure.m3.serialization.compiler.element.ConcreteElementSerializer;
 import org.finos.legend.pure.m3.serialization.compiler.element.ElementLoader;
@@ -43,9 +46,13 @@ import org.finos.legend.pure.m4.serialization.grammar.antlr.PureParserException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 
 public class PureCompilerBinaryGenerator
 {
@@ -69,6 +76,47 @@ public class PureCompilerBinaryGenerator
     }
 
     public static void serializeModules(Path outputDirectory, ClassLoader classLoader, Iterable<String> modules, Iterable<String> excludedModules)
+    {
+        serializeModules(outputDirectory, classLoader, modules, excludedModules, (GenerationFingerprints) null);
+    }
+
+    /**
+     * Serialize modules, skipping those which are up to date according to the given fingerprints (if any). If some,
+     * but not all, of the requested modules are out of date, then only those are serialized. After serialization, the
+     * fingerprints are updated and saved.
+     *
+     * @param outputDirectory output directory
+     * @param classLoader     class loader (may be null)
+     * @param modules         modules to serialize (if empty, all modules are serialized)
+     * @param excludedModules modules to exclude (may be null)
+     * @param fingerprints    fingerprints from the previous serialization (may be null)
+     */
+    public static void serializeModules(Path outputDirectory, ClassLoader classLoader, Iterable<String> modules, Iterable<String> excludedModules, GenerationFingerprints fingerprints)
+    {
+        int parallelism = Runtime.getRuntime().availableProcessors();
+        if (parallelism <= 1)
+        {
+            serializeModules(outputDirectory, classLoader, modules, excludedModules, fingerprints, null);
+            return;
+        }
+
+        ForkJoinPool forkJoinPool = new ForkJoinPool(parallelism);
+        try
+        {
+            serializeModules(outputDirectory, classLoader, modules, excludedModules, fingerprints, forkJoinPool);
+        }
+        finally
+        {
+            forkJoinPool.shutdown();
+        }
+    }
+
+    public static void serializeModules(Path outputDirectory, ClassLoader classLoader, Iterable<String> modules, Iterable<String> excludedModules, ForkJoinPool forkJoinPool)
+    {
+        serializeModules(outputDirectory, classLoader, modules, excludedModules, null, forkJoinPool);
+    }
+
+    public static void serializeModules(Path outputDirectory, ClassLoader classLoader, Iterable<String> modules, Iterable<String> excludedModules, GenerationFingerprints fingerprints, ForkJoinPool forkJoinPool)
     {
         long start = System.nanoTime();
         SetIterable<String> moduleSet = (modules == null) ? Sets.immutable.empty() :
@@ -88,8 +136,31 @@ public class PureCompilerBinaryGenerator
         {
             FilePathProvider filePathProvider = FilePathProvider.builder().withLoadedExtensions(currentClassLoader).build();
             RepositoryInfo repositoryInfo = resolveRepositories(moduleSet, excludedModules, currentClassLoader, filePathProvider);
+            MutableMap<String, String> currentFingerprints = null;
+            if (fingerprints != null)
+            {
+                currentFingerprints = computeFingerprints(repositoryInfo, currentClassLoader, fingerprints);
+                SetIterable<String> outOfDate = findOutOfDateModules(outputDirectory, currentFingerprints, filePathProvider, fingerprints);
+                if (outOfDate.isEmpty())
+                {
+                    LOGGER.info("All of {} up to date: skipping compilation", modulesLogString);
+                    return;
+                }
+                LOGGER.info("Out of date: {}", outOfDate.toSortedList().makeString(", "));
+                // remove stale manifests from the output so that out of date modules are compiled rather than loaded
+                deleteModuleManifests(outputDirectory, outOfDate, filePathProvider);
+                if (repositoryInfo.toSerialize.notEmpty() && (outOfDate.size() < repositoryInfo.toSerialize.size()))
+                {
+                    repositoryInfo = new RepositoryInfo(repositoryInfo.toCompile.subset(outOfDate), outOfDate);
+                    currentFingerprints = currentFingerprints.select((module, fingerprint) -> outOfDate.contains(module));
+                }
+            }
             PureRuntime runtime = compile(currentClassLoader, repositoryInfo.toCompile);
-            serialize(outputDirectory, repositoryInfo.toSerialize, runtime, filePathProvider);
+            serialize(outputDirectory, repositoryInfo.toSerialize, runtime, filePathProvider, forkJoinPool);
+            if (fingerprints != null)
+            {
+                saveFingerprints(fingerprints, currentFingerprints);
+            }
         }
         catch (Throwable t)
         {
@@ -139,6 +210,58 @@ public class PureCompilerBinaryGenerator
         return new RepositoryInfo(resolvedRepositories, toSerialize);
     }
 
+    private static MutableMap<String, String> computeFingerprints(RepositoryInfo repositoryInfo, ClassLoader classLoader, GenerationFingerprints fingerprints)
+    {
+        long start = System.nanoTime();
+        SetIterable<String> modules = repositoryInfo.toSerialize.isEmpty() ? repositoryInfo.toCompile.getRepositoryNames().toSet() : repositoryInfo.toSerialize;
+        MutableMap<String, String> result = fingerprints.computeFingerprints(repositoryInfo.toCompile, modules, new ClassLoaderCodeStorage(classLoader, repositoryInfo.toCompile.getRepositories()));
+        LOGGER.debug("Computed fingerprints of {} modules in {}s", modules.size(), (System.nanoTime() - start) / 1_000_000_000.0);
+        return result;
+    }
+
+    private static SetIterable<String> findOutOfDateModules(Path outputDirectory, MapIterable<String, String> currentFingerprints, FilePathProvider filePathProvider, GenerationFingerprints fingerprints)
+    {
+        MutableSet<String> outOfDate = Sets.mutable.empty();
+        currentFingerprints.forEachKeyValue((module, fingerprint) ->
+        {
+            if (!fingerprints.isUpToDate(module, fingerprint) || Files.notExists(filePathProvider.getModuleManifestFilePath(outputDirectory, module)))
+            {
+                outOfDate.add(module);
+            }
+        });
+        return outOfDate;
+    }
+
+    private static void deleteModuleManifests(Path outputDirectory, SetIterable<String> modules, FilePathProvider filePathProvider)
+    {
+        modules.forEach(module ->
+        {
+            Path manifest = filePathProvider.getModuleManifestFilePath(outputDirectory, module);
+            try
+            {
+                Files.deleteIfExists(manifest);
+            }
+            catch (IOException e)
+            {
+                throw new UncheckedIOException("Error deleting " + manifest, e);
+            }
+        });
+    }
+
+    private static void saveFingerprints(GenerationFingerprints fingerprints, MapIterable<String, String> currentFingerprints)
+    {
+        fingerprints.update(currentFingerprints);
+        try
+        {
+            fingerprints.save();
+        }
+        catch (IOException e)
+        {
+            // not fatal: the next build will just do the work again
+            LOGGER.warn("Error saving fingerprints to {}", fingerprints.getFile(), e);
+        }
+    }
+
     private static PureRuntime compile(ClassLoader classLoader, CodeRepositorySet codeRepositories)
     {
         long start = System.nanoTime();
@@ -224,14 +347,17 @@ public class PureCompilerBinaryGenerator
         }
     }
 
-    private static void serialize(Path outputDirectory, SetIterable<String> modules, PureRuntime runtime, FilePathProvider filePathProvider)
+    private static void serialize(Path outputDirectory, SetIterable<String> modules, PureRuntime runtime, FilePathProvider filePathProvider, ForkJoinPool forkJoinPool)
     {
         long start = System.nanoTime();
         ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
         LOGGER.info("Starting serialization");
         try
         {
-            ModuleMetadataGenerator moduleMetadataGenerator = ModuleMetadataGenerator.fromPureRuntime(runtime);
+            ModuleMetadataGenerator moduleMetadataGenerator = ModuleMetadataGenerator.builder()
+                    .withPureRuntime(runtime)
+                    .withForkJoinPool(forkJoinPool)
+                    .build();
             ConcreteElementSerializer elementSerializer = ConcreteElementSerializer.builder(runtime.getProcessorSupport()).withLoadedExtensions(classLoader).build();
             ModuleMetadataSerializer moduleMetadataSerializer = ModuleMetadataSerializer.builder().withLoadedExtensions(classLoader).build();
             FileSerializer fileSerializer = FileSerializer.builder()
@@ -242,6 +368,7 @@ public class PureCompilerBinaryGenerator
                     .withFileSerializer(fileSerializer)
                     .withModuleMetadataGenerator(moduleMetadataGenerator)
                     .withProcessorSupport(runtime.getProcessorSupport())
+                    .withForkJoinPool(forkJoinPool)
                     .build();
 
             if (modules.isEmpty())
@@ -15,19 +15,29 @@
 package org.finos.legend.pure.m3.generator.par;
 
 import org.eclipse.collections.api.RichIterable;
+import org.eclipse.collections.api.factory.Lists;
 import org.eclipse.collections.api.factory.Sets;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.api.set.MutableSet;
+import org.finos.legend.pure.m3.generator.GenerationFingerprints;
 import org.finos.legend.pure.m3.generator.Log;
 import org.finos.legend.pure.m3.generator.LogToSystemOut;
 import org.finos.legend.pure.m3.serialization.filesystem.repository.CodeRepository;
 import org.finos.legend.pure.m3.serialization.filesystem.repository.CodeRepositoryProviderHelper;
 import org.finos.legend.pure.m3.serialization.filesystem.repository.CodeRepositorySet;
 import org.finos.legend.pure.m3.serialization.filesystem.repository.GenericCodeRepository;
+import org.finos.legend.pure.m3.serialization.filesystem.usercodestorage.classpath.ClassLoaderCodeStorage;
+import org.finos.legend.pure.m3.serialization.filesystem.usercodestorage.fs.MutableFSCodeStorage;
 import org.finos.legend.pure.m3.serialization.grammar.Parser;
 import org.finos.legend.pure.m3.serialization.grammar.m3parser.inlinedsl.InlineDSL;
 import org.finos.legend.pure.m3.serialization.runtime.ParserService;
 
 import java.io.File;
+import java.io.IOException;
 import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Set;
 
@@ -43,6 +53,15 @@ public class PureJarGenerator
 
 
     public static void doGeneratePAR(Set<String> repositories, Set<String> excludedRepositories, Set<String> extraRepositories, String purePlatformVersion, String modelVersion, File sourceDirectory, File outputDirectory, Log log) throws Exception
+    {
+        doGeneratePAR(repositories, excludedRepositories, extraRepositories, purePlatformVersion, modelVersion, sourceDirectory, outputDirectory, null, log);
+    }
+
+    /**
+     * Generate PAR files, skipping repositories which are up to date according to the given fingerprints (if any).
+     * After generation, the fingerprints are updated and saved.
+     */
+    public static void doGeneratePAR(Set<String> repositories, Set<String> excludedRepositories, Set<String> extraRepositories, String purePlatformVersion, String modelVersion, File sourceDirectory, File outputDirectory, GenerationFingerprints fingerprints, Log log) throws Exception
     {
         long start = System.nanoTime();
         try
@@ -62,8 +81,40 @@ public class PureJarGenerator
             log.debug("  Pure source directory: " + sourceDirectory);
             log.debug("  Output directory: " + outputDirectory);
 
-            log.info("  Starting compilation and generation of Pure PAR file(s)");
-            PureJarSerializer.writePureRepositoryJars(outputDirectory.toPath(), (sourceDirectory == null) ? null : sourceDirectory.toPath(), purePlatformVersion, modelVersion, resolvedRepositories, log);
+            if (fingerprints == null)
+            {
+                log.info("  Starting compilation and generation of Pure PAR file(s)");
+                PureJarSerializer.writePureRepositoryJars(outputDirectory.toPath(), (sourceDirectory == null) ? null : sourceDirectory.toPath(), purePlatformVersion, modelVersion, resolvedRepositories, log);
+            }
+            else
+            {
+                MutableMap<String, String> currentFingerprints = computeFingerprints(resolvedRepositories, sourceDirectory, fingerprints);
+                MutableSet<String> outOfDate = Sets.mutable.empty();
+                currentFingerprints.forEachKeyValue((repository, fingerprint) ->
+                {
+                    if (!fingerprints.isUpToDate(repository, fingerprint) || Files.notExists(PureJarSerializer.getPureRepositoryJarPath(outputDirectory.toPath(), repository)))
+                    {
+                        outOfDate.add(repository);
+                    }
+                });
+                if (outOfDate.isEmpty())
+                {
+                    log.info("  All Pure PAR file(s) up to date: skipping generation");
+                    return;
+                }
+                log.info("  Starting compilation and generation of Pure PAR file(s) for: " + outOfDate.toSortedList().makeString(", "));
+                PureJarSerializer.writePureRepositoryJars(outputDirectory.toPath(), (sourceDirectory == null) ? null : sourceDirectory.toPath(), purePlatformVersion, modelVersion, resolvedRepositories.subset(outOfDate), outOfDate::contains, Thread.currentThread().getContextClassLoader(), log);
+                fingerprints.update(currentFingerprints.select((repository, fingerprint) -> outOfDate.contains(repository)));
+                try
+                {
+                    fingerprints.save();
+                }
+                catch (IOException e)
+                {
+                    // not fatal: the next build will just do the work again
+                    log.error("  Error saving fingerprints to " + fingerprints.getFile(), e);
+                }
+            }
         }
         catch (Exception e)
         {
@@ -73,6 +124,20 @@ public class PureJarGenerator
         log.info(String.format("  -> Finished Pure PAR generation in %.9fs", durationSinceInSeconds(start)));
     }
 
+    private static MutableMap<String, String> computeFingerprints(CodeRepositorySet repositories, File sourceDirectory, GenerationFingerprints fingerprints)
+    {
+        if (sourceDirectory == null)
+        {
+            // all repositories are generated from the classpath
+            return fingerprints.computeFingerprints(repositories, repositories.getRepositoryNames().toSet(), new ClassLoaderCodeStorage(Thread.currentThread().getContextClassLoader(), repositories.getRepositories()));
+        }
+
+        // only repositories with sources in the source directory are generated
+        Path sourcePath = sourceDirectory.toPath();
+        MutableList<CodeRepository> repositoriesWithSource = repositories.getRepositories().select(r -> Files.exists(sourcePath.resolve(r.getName())), Lists.mutable.empty());
+        return fingerprints.computeFingerprints(repositories, repositoriesWithSource.collect(CodeRepository::getName, Sets.mutable.empty()), r -> new MutableFSCodeStorage(repositories.getRepository(r), sourcePath.resolve(r)));
+    }
+
     private static CodeRepositorySet resolveRepositories(Set<String> repositories, Set<String> excludedRepositories, Set<String> extraRepositories, Log log)
     {
         ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
@@ -39,6 +39,7 @@ import java.io.IOException;
 import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.function.Predicate;
 
 public class PureJarSerializer
 {
@@ -50,6 +51,15 @@ public class PureJarSerializer
     }
 
     public static void writePureRepositoryJars(Path outputDirectory, Path sourceDirectory, String platformVersion, String modelVersion, CodeRepositorySet repositories, ClassLoader classLoader, Log log) throws IOException
+    {
+        writePureRepositoryJars(outputDirectory, sourceDirectory, platformVersion, modelVersion, repositories, null, classLoader, log);
+    }
+
+    /**
+     * Compile the repositories and write PAR files for them, or for just those selected by the repository filter.
+     * Repositories which are compiled but not selected are still needed for the compilation of those which are.
+     */
+    public static void writePureRepositoryJars(Path outputDirectory, Path sourceDirectory, String platformVersion, String modelVersion, CodeRepositorySet repositories, Predicate<? super String> repositoryFilter, ClassLoader classLoader, Log log) throws IOException
     {
         PureRuntime runtime;
         RichIterable<CodeRepository> repositoriesToSerialize;
@@ -111,7 +121,12 @@ public class PureJarSerializer
         log.info("    *Starting serialization");
         for (String repositoryName : repositoriesToSerialize.collect(CodeRepository::getName))
         {
-            Path outputFile = outputDirectory.resolve("pure-" + repositoryName + "." + ARCHIVE_FILE_EXTENSION);
+            if ((repositoryFilter != null) && !repositoryFilter.test(repositoryName))
+            {
+                log.debug("      Skipping " + repositoryName);
+                continue;
+            }
+            Path outputFile = getPureRepositoryJarPath(outputDirectory, repositoryName);
             log.debug("      Writing " + outputFile);
             try (OutputStream outputStream = new BufferedOutputStream(Files.newOutputStream(outputFile)))
             {
@@ -120,6 +135,11 @@ public class PureJarSerializer
         }
     }
 
+    public static Path getPureRepositoryJarPath(Path outputDirectory, String repositoryName)
+    {
+        return outputDirectory.resolve("pure-" + repositoryName + "." + ARCHIVE_FILE_EXTENSION);
+    }
+
     private static Message getMessage(Log log, String prefix)
     {
         return new Message("")
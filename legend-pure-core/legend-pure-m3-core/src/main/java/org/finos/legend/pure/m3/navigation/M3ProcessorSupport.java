@@ -24,9 +24,12 @@ import org.finos.legend.pure.m3.compiler.Context;
 import org.finos.legend.pure.m3.navigation._class._Class;
 import org.finos.legend.pure.m3.navigation._package._Package;
 import org.finos.legend.pure.m3.navigation.function.Function;
+import org.finos.legend.pure.m3.navigation.function.FunctionOverloadIndex;
+import org.finos.legend.pure.m3.navigation.generictype.GenericType;
 import org.finos.legend.pure.m3.navigation.property.Property;
 import org.finos.legend.pure.m3.navigation.type.Type;
 import org.finos.legend.pure.m3.navigation.valuespecification.ValueSpecification;
+import org.finos.legend.pure.m3.tools.ElementNameIndex;
 import org.finos.legend.pure.m4.ModelRepository;
 import org.finos.legend.pure.m4.coreinstance.CoreInstance;
 import org.finos.legend.pure.m4.coreinstance.SourceInformation;
@@ -136,6 +139,24 @@ public class M3ProcessorSupport implements ProcessorSupport
         return this.context.getFunctionsForName(functionName);
     }
 
+    @Override
+    public FunctionOverloadIndex function_getOverloadIndex(String functionName)
+    {
+        return FunctionOverloadIndex.getOverloadIndex(functionName, this.context, this);
+    }
+
+    @Override
+    public boolean genericType_isCompatibleWith(CoreInstance genericType, CoreInstance otherGenericType, boolean covariant)
+    {
+        return GenericType.isGenericCompatibleWith(genericType, otherGenericType, covariant, this.context, this);
+    }
+
+    @Override
+    public ElementNameIndex package_getElementNameIndex()
+    {
+        return this.context.getElementNameIndex();
+    }
+
     @Override
     public CoreInstance newCoreInstance(String name, CoreInstance classifier, SourceInformation sourceInformation)
     {
@@ -20,6 +20,9 @@ import org.eclipse.collections.api.list.ImmutableList;
 import org.eclipse.collections.api.list.ListIterable;
 import org.eclipse.collections.api.map.MapIterable;
 import org.eclipse.collections.api.set.SetIterable;
+import org.finos.legend.pure.m3.navigation.function.FunctionOverloadIndex;
+import org.finos.legend.pure.m3.navigation.generictype.GenericType;
+import org.finos.legend.pure.m3.tools.ElementNameIndex;
 import org.finos.legend.pure.m4.coreinstance.CoreInstance;
 import org.finos.legend.pure.m4.coreinstance.SourceInformation;
 
@@ -49,6 +52,42 @@ public interface ProcessorSupport
 
     SetIterable<CoreInstance> function_getFunctionsForName(String functionName);
 
+    /**
+     * Get the overload index for all the functions with the given name.
+     *
+     * @param functionName function name
+     * @return overload index
+     */
+    default FunctionOverloadIndex function_getOverloadIndex(String functionName)
+    {
+        return FunctionOverloadIndex.getOverloadIndex(functionName, null, this);
+    }
+
+    /**
+     * Return whether one generic type is compatible with another, either
+     * covariantly or contravariantly.
+     *
+     * @param genericType      generic type
+     * @param otherGenericType other generic type
+     * @param covariant        whether the check is covariant or contravariant
+     * @return whether genericType is compatible with otherGenericType
+     */
+    default boolean genericType_isCompatibleWith(CoreInstance genericType, CoreInstance otherGenericType, boolean covariant)
+    {
+        return GenericType.isGenericCompatibleWith(genericType, otherGenericType, covariant, null, this);
+    }
+
+    /**
+     * Get the index of packageable elements by name, if there is one. Note that the index may not be complete (see
+     * {@link ElementNameIndex#isComplete()}).
+     *
+     * @return element name index or null
+     */
+    default ElementNameIndex package_getElementNameIndex()
+    {
+        return null;
+    }
+
     CoreInstance newCoreInstance(String name, CoreInstance classifier, SourceInformation sourceInformation);
 
     ImmutableList<CoreInstance> type_getTypeGeneralizations(CoreInstance type, Function<? super CoreInstance, ? extends ImmutableList<CoreInstance>> generator);
@@ -22,6 +22,9 @@ import org.eclipse.collections.api.list.ListIterable;
 import org.eclipse.collections.api.list.MutableList;
 import org.eclipse.collections.api.map.MapIterable;
 import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.api.multimap.list.ImmutableListMultimap;
+import org.eclipse.collections.api.multimap.list.MutableListMultimap;
+import org.eclipse.collections.impl.factory.Multimaps;
 import org.eclipse.collections.impl.utility.LazyIterate;
 import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.function.property.QualifiedProperty;
 import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.type.Any;
@@ -111,6 +114,25 @@ public class _Class
         return result;
     }
 
+    /**
+     * Group the qualified properties for the given class, including
+     * those from associations and those inherited from superclasses,
+     * by name. For each name, the qualified properties are in the same
+     * order as for {@link #findQualifiedPropertiesUsingGeneralization}.
+     *
+     * @param classifier       class
+     * @param processorSupport processor support
+     * @return qualified properties grouped by name
+     */
+    public static ImmutableListMultimap<String, CoreInstance> computeQualifiedPropertiesByName(CoreInstance classifier, ProcessorSupport processorSupport)
+    {
+        MutableListMultimap<String, CoreInstance> result = Multimaps.mutable.list.empty();
+        LazyIterate.flatCollect(Type.getGeneralizationResolutionOrder(classifier, processorSupport),
+                        t -> LazyIterate.flatCollect(QUALIFIED_PROPERTIES_PROPERTIES, p -> Instance.getValueForMetaPropertyToManyResolved(t, p, processorSupport)))
+                .forEach(qp -> result.put(qp.getValueForMetaPropertyToOne(M3Properties.name).getName(), qp));
+        return result.toImmutable();
+    }
+
     public static QualifiedProperty<?> findQualifiedPropertyWithNoExplicitArgsUsingGeneralization(CoreInstance classifier, String propertyName, ProcessorSupport processorSupport)
     {
         return (QualifiedProperty<?>) LazyIterate.flatCollect(Type.getGeneralizationResolutionOrder(classifier, processorSupport),
@@ -26,6 +26,7 @@ import org.finos.legend.pure.m3.navigation.PackageableElement.PackageableElement
 import org.finos.legend.pure.m3.navigation.PrimitiveUtilities;
 import org.finos.legend.pure.m3.navigation.ProcessorSupport;
 import org.finos.legend.pure.m3.navigation.generictype.GenericType;
+import org.finos.legend.pure.m3.navigation.valuespecification.ValueSpecification;
 import org.finos.legend.pure.m4.coreinstance.AbstractCoreInstanceWrapper;
 import org.finos.legend.pure.m4.coreinstance.CoreInstance;
 import org.finos.legend.pure.m4.exception.PureCompilationException;
@@ -36,6 +37,8 @@ import static org.finos.legend.pure.m3.navigation.function.FunctionDescriptor.wr
 
 public class Function
 {
+    private static final String COMPARE_FUNCTION_PATH = "meta::pure::functions::lang::compare_T_1__T_1__Integer_1_";
+
     public static boolean isFunctionDefinition(CoreInstance instance, ProcessorSupport processorSupport)
     {
         if (instance == null)
@@ -119,6 +122,68 @@ public class Function
         return FunctionType.getParameterGenericType(functionType, parameterIndex);
     }
 
+    /**
+     * Determine whether a comparison function is one of the standard comparators, which order values as the compare
+     * function does. This is the case for the compare function itself and for lambdas of the form
+     * <code>{x, y | $x->compare($y)}</code> (ascending) and <code>{x, y | $y->compare($x)}</code> (descending).
+     *
+     * @param function         comparison function
+     * @param processorSupport processor support
+     * @return 1 for an ascending comparator, -1 for a descending comparator, and 0 for any other function
+     */
+    public static int getStandardComparatorDirection(CoreInstance function, ProcessorSupport processorSupport)
+    {
+        if (function == null)
+        {
+            return 0;
+        }
+        if (COMPARE_FUNCTION_PATH.equals(PackageableElement.getUserPathForPackageableElement(function)))
+        {
+            return 1;
+        }
+        if (!isLambda(function, processorSupport))
+        {
+            return 0;
+        }
+
+        ListIterable<? extends CoreInstance> expressions = function.getValueForMetaPropertyToMany(M3Properties.expressionSequence);
+        if (expressions.size() != 1)
+        {
+            return 0;
+        }
+        CoreInstance expression = expressions.get(0);
+        CoreInstance func = Instance.getValueForMetaPropertyToOneResolved(expression, M3Properties.func, processorSupport);
+        if ((func == null) || !COMPARE_FUNCTION_PATH.equals(PackageableElement.getUserPathForPackageableElement(func)))
+        {
+            return 0;
+        }
+
+        ListIterable<? extends CoreInstance> parameters = processorSupport.function_getFunctionType(function).getValueForMetaPropertyToMany(M3Properties.parameters);
+        ListIterable<? extends CoreInstance> arguments = expression.getValueForMetaPropertyToMany(M3Properties.parametersValues);
+        if ((parameters.size() != 2) || (arguments.size() != 2) || !arguments.allSatisfy(a -> ValueSpecification.isVariableExpression(a, processorSupport)))
+        {
+            return 0;
+        }
+
+        String first = PrimitiveUtilities.getStringValue(parameters.get(0).getValueForMetaPropertyToOne(M3Properties.name));
+        String second = PrimitiveUtilities.getStringValue(parameters.get(1).getValueForMetaPropertyToOne(M3Properties.name));
+        String left = PrimitiveUtilities.getStringValue(arguments.get(0).getValueForMetaPropertyToOne(M3Properties.name));
+        String right = PrimitiveUtilities.getStringValue(arguments.get(1).getValueForMetaPropertyToOne(M3Properties.name));
+        if (first.equals(second))
+        {
+            return 0;
+        }
+        if (first.equals(left) && second.equals(right))
+        {
+            return 1;
+        }
+        if (second.equals(left) && first.equals(right))
+        {
+            return -1;
+        }
+        return 0;
+    }
+
     public static String print(CoreInstance function, ProcessorSupport processorSupport)
     {
         return print(new StringBuilder(128), function, processorSupport).toString();
@@ -0,0 +1,190 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.m3.navigation.function;
+
+import org.eclipse.collections.api.factory.Maps;
+import org.eclipse.collections.api.factory.Sets;
+import org.eclipse.collections.api.list.ListIterable;
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.api.map.primitive.MutableIntObjectMap;
+import org.eclipse.collections.api.set.MutableSet;
+import org.eclipse.collections.api.set.SetIterable;
+import org.eclipse.collections.impl.factory.primitive.IntObjectMaps;
+import org.finos.legend.pure.m3.compiler.Context;
+import org.finos.legend.pure.m3.navigation.Instance;
+import org.finos.legend.pure.m3.navigation.M3Paths;
+import org.finos.legend.pure.m3.navigation.M3Properties;
+import org.finos.legend.pure.m3.navigation.ProcessorSupport;
+import org.finos.legend.pure.m3.navigation.type.Type;
+import org.finos.legend.pure.m4.coreinstance.CoreInstance;
+
+/**
+ * Index of the overloads of a function name, bucketed by parameter count and by the raw type of the first parameter.
+ * This is used to prune candidates which cannot possibly match a function expression before computing full function
+ * matches. A candidate is only pruned if the full match would certainly fail: either its parameter count differs
+ * from the number of parameter values, or the raw types of its first parameter and of the first parameter value are
+ * both concrete classes, primitive types, or enumerations and the value type is not a subtype of the parameter type.
+ * Candidates which cannot be indexed (e.g., because their first parameter type is a type parameter or a function
+ * type) are never pruned.
+ */
+public class FunctionOverloadIndex
+{
+    private final SetIterable<CoreInstance> allFunctions;
+    private final MutableSet<CoreInstance> unindexedFunctions = Sets.mutable.empty();
+    private final MutableIntObjectMap<ParameterCountBucket> bucketsByParameterCount = IntObjectMaps.mutable.empty();
+
+    private FunctionOverloadIndex(SetIterable<CoreInstance> functions, ProcessorSupport processorSupport)
+    {
+        this.allFunctions = functions;
+        functions.forEach(function -> indexFunction(function, processorSupport));
+    }
+
+    /**
+     * Get all the functions in the index.
+     *
+     * @return all indexed functions
+     */
+    public SetIterable<CoreInstance> getAllFunctions()
+    {
+        return this.allFunctions;
+    }
+
+    /**
+     * Get the functions which may match the given parameter values. Any function in the index which is not in the
+     * result would certainly fail to match.
+     *
+     * @param parameterValues  parameter values
+     * @param processorSupport processor support
+     * @return candidate functions
+     */
+    public SetIterable<CoreInstance> getCandidates(ListIterable<? extends CoreInstance> parameterValues, ProcessorSupport processorSupport)
+    {
+        ParameterCountBucket bucket = this.bucketsByParameterCount.get(parameterValues.size());
+        if (bucket == null)
+        {
+            return this.unindexedFunctions.asUnmodifiable();
+        }
+
+        CoreInstance valueRawType = (bucket.byFirstParameterRawType.isEmpty() || parameterValues.isEmpty()) ? null : getFirstParameterValueRawType(parameterValues.get(0), processorSupport);
+        if (valueRawType == null)
+        {
+            return this.unindexedFunctions.isEmpty() ? bucket.allFunctions.asUnmodifiable() : Sets.mutable.withAll(bucket.allFunctions).withAll(this.unindexedFunctions);
+        }
+
+        MutableSet<CoreInstance> candidates = Sets.mutable.withAll(bucket.unprunableFunctions).withAll(this.unindexedFunctions);
+        Type.getGeneralizationResolutionOrder(valueRawType, processorSupport).forEach(type ->
+        {
+            MutableSet<CoreInstance> functions = bucket.byFirstParameterRawType.get(type);
+            if (functions != null)
+            {
+                candidates.addAll(functions);
+            }
+        });
+        return candidates;
+    }
+
+    private void indexFunction(CoreInstance function, ProcessorSupport processorSupport)
+    {
+        ListIterable<? extends CoreInstance> parameters;
+        try
+        {
+            parameters = processorSupport.function_getFunctionType(function).getValueForMetaPropertyToMany(M3Properties.parameters);
+        }
+        catch (RuntimeException e)
+        {
+            // leave the error for the full match to report
+            this.unindexedFunctions.add(function);
+            return;
+        }
+
+        ParameterCountBucket bucket = this.bucketsByParameterCount.getIfAbsentPut(parameters.size(), ParameterCountBucket::new);
+        bucket.allFunctions.add(function);
+        CoreInstance firstParameterRawType = parameters.isEmpty() ? null : getFirstParameterRawType(parameters.get(0), processorSupport);
+        if (firstParameterRawType == null)
+        {
+            bucket.unprunableFunctions.add(function);
+        }
+        else
+        {
+            bucket.byFirstParameterRawType.getIfAbsentPut(firstParameterRawType, Sets.mutable::empty).add(function);
+        }
+    }
+
+    private static CoreInstance getFirstParameterRawType(CoreInstance parameter, ProcessorSupport processorSupport)
+    {
+        try
+        {
+            CoreInstance genericType = Instance.getValueForMetaPropertyToOneResolved(parameter, M3Properties.genericType, processorSupport);
+            CoreInstance rawType = (genericType == null) ? null : Instance.getValueForMetaPropertyToOneResolved(genericType, M3Properties.rawType, processorSupport);
+            return (isIndexableType(rawType, processorSupport) && !Type.isTopType(rawType, processorSupport)) ? rawType : null;
+        }
+        catch (RuntimeException e)
+        {
+            // leave the error for the full match to report
+            return null;
+        }
+    }
+
+    private static CoreInstance getFirstParameterValueRawType(CoreInstance parameterValue, ProcessorSupport processorSupport)
+    {
+        try
+        {
+            CoreInstance genericType = Instance.getValueForMetaPropertyToOneResolved(parameterValue, M3Properties.genericType, processorSupport);
+            CoreInstance rawType = (genericType == null) ? null : Instance.getValueForMetaPropertyToOneResolved(genericType, M3Properties.rawType, processorSupport);
+            return (isIndexableType(rawType, processorSupport) && !Type.isBottomType(rawType, processorSupport)) ? rawType : null;
+        }
+        catch (RuntimeException e)
+        {
+            // leave the error for the full match to report
+            return null;
+        }
+    }
+
+    private static boolean isIndexableType(CoreInstance rawType, ProcessorSupport processorSupport)
+    {
+        return (rawType != null) &&
+                (processorSupport.instance_instanceOf(rawType, M3Paths.Class) ||
+                        processorSupport.instance_instanceOf(rawType, M3Paths.PrimitiveType) ||
+                        processorSupport.instance_instanceOf(rawType, M3Paths.Enumeration));
+    }
+
+    /**
+     * Get the overload index for a function name. If there is a context, the index is cached there until functions
+     * with that name are registered, updated, or removed.
+     *
+     * @param functionName     function name
+     * @param context          context (may be null)
+     * @param processorSupport processor support
+     * @return overload index
+     */
+    public static FunctionOverloadIndex getOverloadIndex(String functionName, Context context, ProcessorSupport processorSupport)
+    {
+        return (context == null) ?
+                newOverloadIndex(processorSupport.function_getFunctionsForName(functionName), processorSupport) :
+                context.getIfAbsentPutFunctionOverloadIndex(functionName, name -> newOverloadIndex(context.getFunctionsForName(name), processorSupport));
+    }
+
+    public static FunctionOverloadIndex newOverloadIndex(SetIterable<CoreInstance> functions, ProcessorSupport processorSupport)
+    {
+        return new FunctionOverloadIndex(Sets.immutable.withAll(functions), processorSupport);
+    }
+
+    private static class ParameterCountBucket
+    {
+        private final MutableSet<CoreInstance> allFunctions = Sets.mutable.empty();
+        private final MutableSet<CoreInstance> unprunableFunctions = Sets.mutable.empty();
+        private final MutableMap<CoreInstance, MutableSet<CoreInstance>> byFirstParameterRawType = Maps.mutable.empty();
+    }
+}
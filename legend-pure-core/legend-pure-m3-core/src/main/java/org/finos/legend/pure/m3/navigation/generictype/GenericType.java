@@ -24,6 +24,7 @@ import org.eclipse.collections.api.map.MapIterable;
 import org.eclipse.collections.api.map.MutableMap;
 import org.eclipse.collections.api.set.MutableSet;
 import org.eclipse.collections.impl.utility.LazyIterate;
+import org.finos.legend.pure.m3.compiler.Context;
 import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.relation.Column;
 import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.relation.GenericTypeOperation;
 import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.relation.RelationType;
@@ -413,6 +414,36 @@ public class GenericType
     }
 
     public static boolean isGenericCompatibleWith(CoreInstance genericType, CoreInstance otherGenericType, boolean covariant, ProcessorSupport processorSupport)
+    {
+        return processorSupport.genericType_isCompatibleWith(genericType, otherGenericType, covariant);
+    }
+
+    /**
+     * Return whether one generic type is compatible with another. If a context is supplied, the result is looked up
+     * in or stored in the context, provided both generic types have keys (see {@link GenericTypeKey}).
+     *
+     * @param genericType      generic type
+     * @param otherGenericType other generic type
+     * @param covariant        whether the check is covariant or contravariant
+     * @param context          context to cache the result in (may be null)
+     * @param processorSupport processor support
+     * @return whether genericType is compatible with otherGenericType
+     */
+    public static boolean isGenericCompatibleWith(CoreInstance genericType, CoreInstance otherGenericType, boolean covariant, Context context, ProcessorSupport processorSupport)
+    {
+        if ((context != null) && (genericType != otherGenericType))
+        {
+            GenericTypeKey key = GenericTypeKey.getKey(genericType, processorSupport);
+            GenericTypeKey otherKey = (key == null) ? null : GenericTypeKey.getKey(otherGenericType, processorSupport);
+            if (otherKey != null)
+            {
+                return context.getIfAbsentPutGenericTypeCompatibility(key, otherKey, covariant, () -> computeGenericCompatibleWith(genericType, otherGenericType, covariant, processorSupport));
+            }
+        }
+        return computeGenericCompatibleWith(genericType, otherGenericType, covariant, processorSupport);
+    }
+
+    private static boolean computeGenericCompatibleWith(CoreInstance genericType, CoreInstance otherGenericType, boolean covariant, ProcessorSupport processorSupport)
     {
         if (!ExtendedPrimitiveType.testTypeVariableValuesCompatible(genericType, otherGenericType, processorSupport))
         {
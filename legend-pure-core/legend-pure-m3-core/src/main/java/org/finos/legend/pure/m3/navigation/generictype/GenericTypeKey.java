@@ -0,0 +1,117 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.m3.navigation.generictype;
+
+import org.eclipse.collections.api.list.ListIterable;
+import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.relation.GenericTypeOperation;
+import org.finos.legend.pure.m3.navigation.Instance;
+import org.finos.legend.pure.m3.navigation.M3Properties;
+import org.finos.legend.pure.m3.navigation.ProcessorSupport;
+import org.finos.legend.pure.m4.coreinstance.CoreInstance;
+
+import java.util.Arrays;
+
+/**
+ * A structural key for a concrete generic type: its raw type and the keys of its type arguments. Generic types are
+ * frequently copied during type inference, so two generic type instances with equal keys are interchangeable for
+ * type checks, even though they are different instances.
+ * <p>
+ * Only generic types whose meaning is fully determined by packaged raw types have keys: generic types with type
+ * parameters, multiplicity arguments, or type variable values, generic type operations, and generic types whose raw
+ * types are anonymous (e.g., function types or relation types, which may still be modified by type inference) do not.
+ */
+public final class GenericTypeKey
+{
+    private static final GenericTypeKey[] NO_ARGUMENTS = new GenericTypeKey[0];
+
+    private final CoreInstance rawType;
+    private final GenericTypeKey[] typeArguments;
+    private final int hashCode;
+
+    private GenericTypeKey(CoreInstance rawType, GenericTypeKey[] typeArguments)
+    {
+        this.rawType = rawType;
+        this.typeArguments = typeArguments;
+        this.hashCode = (31 * rawType.hashCode()) + Arrays.hashCode(typeArguments);
+    }
+
+    public CoreInstance getRawType()
+    {
+        return this.rawType;
+    }
+
+    @Override
+    public boolean equals(Object other)
+    {
+        if (this == other)
+        {
+            return true;
+        }
+        if (!(other instanceof GenericTypeKey))
+        {
+            return false;
+        }
+        GenericTypeKey otherKey = (GenericTypeKey) other;
+        return (this.hashCode == otherKey.hashCode) && (this.rawType == otherKey.rawType) && Arrays.equals(this.typeArguments, otherKey.typeArguments);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return this.hashCode;
+    }
+
+    /**
+     * Get the key for a generic type, or null if it does not have one.
+     *
+     * @param genericType      generic type
+     * @param processorSupport processor support
+     * @return key or null
+     */
+    public static GenericTypeKey getKey(CoreInstance genericType, ProcessorSupport processorSupport)
+    {
+        if ((genericType == null) ||
+                (genericType instanceof GenericTypeOperation) ||
+                (genericType.getValueForMetaPropertyToOne(M3Properties.typeParameter) != null) ||
+                genericType.getValueForMetaPropertyToMany(M3Properties.multiplicityArguments).notEmpty() ||
+                genericType.getValueForMetaPropertyToMany(M3Properties.typeVariableValues).notEmpty())
+        {
+            return null;
+        }
+
+        CoreInstance rawType = Instance.getValueForMetaPropertyToOneResolved(genericType, M3Properties.rawType, processorSupport);
+        if ((rawType == null) || !rawType.isPersistent() || (rawType.getValueForMetaPropertyToOne(M3Properties._package) == null))
+        {
+            return null;
+        }
+
+        ListIterable<? extends CoreInstance> typeArguments = genericType.getValueForMetaPropertyToMany(M3Properties.typeArguments);
+        if (typeArguments.isEmpty())
+        {
+            return new GenericTypeKey(rawType, NO_ARGUMENTS);
+        }
+        GenericTypeKey[] argumentKeys = new GenericTypeKey[typeArguments.size()];
+        for (int i = 0; i < argumentKeys.length; i++)
+        {
+            GenericTypeKey argumentKey = getKey(typeArguments.get(i), processorSupport);
+            if (argumentKey == null)
+            {
+                return null;
+            }
+            argumentKeys[i] = argumentKey;
+        }
+        return new GenericTypeKey(rawType, argumentKeys);
+    }
+}
@@ -16,11 +16,16 @@ package org.finos.legend.pure.m3.pct.reports.generation;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.eclipse.collections.api.block.function.Function;
 import org.eclipse.collections.api.factory.Lists;
 import org.eclipse.collections.api.factory.Maps;
+import org.eclipse.collections.api.factory.Sets;
+import org.eclipse.collections.api.list.ListIterable;
 import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.map.ConcurrentMutableMap;
 import org.eclipse.collections.api.map.MutableMap;
 import org.eclipse.collections.api.set.MutableSet;
+import org.eclipse.collections.impl.map.mutable.ConcurrentHashMap;
 import org.eclipse.collections.impl.utility.ListIterate;
 import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.function.PackageableFunction;
 import org.finos.legend.pure.m3.execution.test.TestCollection;
@@ -33,56 +38,110 @@ import org.finos.legend.pure.m3.pct.reports.model.FunctionTestResults;
 import org.finos.legend.pure.m3.pct.reports.model.TestInfo;
 import org.finos.legend.pure.m3.pct.shared.PCTTools;
 import org.finos.legend.pure.m3.pct.shared.generation.Shared;
+import org.finos.legend.pure.m3.pct.shared.model.ReportScope;
+import org.finos.legend.pure.m3.tools.forkjoin.ForkJoinTools;
+import org.finos.legend.pure.m4.coreinstance.CoreInstance;
 
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 
 public class ReportGeneration
 {
+    private static final int FUNCTION_SHARD_SIZE = 64;
+
     public static MutableList<AdapterReport> generateReport(List<String> testSuites, ProcessorSupport processorSupport)
     {
-        return ListIterate.collect(testSuites, suiteClass ->
+        return generateReport(testSuites, processorSupport, null);
+    }
+
+    /**
+     * Generate the reports for the given test suites. If a fork join pool is supplied, the reports for the different
+     * adapters are generated in parallel, as are the functions within each report. The test collection for each report
+     * scope and the adapter-independent information for each test function are computed once and shared between all
+     * the reports that need them.
+     *
+     * @param testSuites       PCT report configuration class names
+     * @param processorSupport processor support
+     * @param forkJoinPool     fork join pool for parallel generation (may be null)
+     * @return adapter reports, in the order of the test suites
+     */
+    public static MutableList<AdapterReport> generateReport(List<String> testSuites, ProcessorSupport processorSupport, ForkJoinPool forkJoinPool)
+    {
+        // Configurations are loaded here, as the context class loader is not available to fork join pool threads.
+        // Each suite gets its own configuration instance.
+        MutableList<PCTReportConfiguration> configurations = ListIterate.collect(testSuites, ReportGeneration::loadConfiguration);
+
+        ConcurrentMutableMap<String, TestCollection> testCollections = ConcurrentHashMap.newMap();
+        ConcurrentMutableMap<CoreInstance, TestFunctionInfo> testFunctionInfos = ConcurrentHashMap.newMap();
+        Function<PCTReportConfiguration, AdapterReport> generate = reportManager ->
         {
             try
             {
-                PCTReportConfiguration reportManager = (PCTReportConfiguration) Thread.currentThread().getContextClassLoader().loadClass(suiteClass).newInstance();
-                return generateReport(TestCollection.buildPCTTestCollection(reportManager.getReportScope()._package, reportManager.getReportScope().filePath, processorSupport), reportManager, processorSupport);
+                ReportScope scope = reportManager.getReportScope();
+                TestCollection testCollection = testCollections.getIfAbsentPut(scope._package + "\n" + scope.filePath, () -> TestCollection.buildPCTTestCollection(scope._package, scope.filePath, processorSupport));
+                return generateReport(testCollection, reportManager, processorSupport, testFunctionInfos, forkJoinPool);
             }
             catch (Exception e)
             {
-                StringBuilder builder = new StringBuilder("Error generating report for ").append(suiteClass);
-                String eMessage = e.getMessage();
-                if (eMessage != null)
-                {
-                    builder.append(": ").append(eMessage);
-                }
-                throw new RuntimeException(builder.toString(), e);
+                throw new RuntimeException(getErrorMessage(reportManager.getClass().getName(), e), e);
             }
-        });
+        };
+        return (forkJoinPool == null) ?
+                configurations.collect(generate) :
+                Lists.mutable.withAll(ForkJoinTools.collect(forkJoinPool, configurations, generate, 1));
     }
 
-    private static AdapterReport generateReport(TestCollection testCollection, PCTReportConfiguration reportManager, ProcessorSupport ps)
+    private static PCTReportConfiguration loadConfiguration(String suiteClass)
+    {
+        try
+        {
+            return (PCTReportConfiguration) Thread.currentThread().getContextClassLoader().loadClass(suiteClass).newInstance();
+        }
+        catch (Exception e)
+        {
+            throw new RuntimeException(getErrorMessage(suiteClass, e), e);
+        }
+    }
+
+    private static String getErrorMessage(String suiteClass, Exception e)
+    {
+        StringBuilder builder = new StringBuilder("Error generating report for ").append(suiteClass);
+        String eMessage = e.getMessage();
+        if (eMessage != null)
+        {
+            builder.append(": ").append(eMessage);
+        }
+        return builder.toString();
+    }
+
+    private static AdapterReport generateReport(TestCollection testCollection, PCTReportConfiguration reportManager, ProcessorSupport ps, ConcurrentMutableMap<CoreInstance, TestFunctionInfo> testFunctionInfos, ForkJoinPool forkJoinPool)
     {
         MutableMap<String, String> explodedExpectedFailures = PCTReportConfiguration.explodeExpectedFailures(reportManager.expectedFailures(), ps);
         MutableMap<String, MutableSet<String>> explodedQualifiers = PCTReportConfiguration.explodeQualifiers(reportManager.expectedFailures(), ps);
 
-        MutableMap<String, FunctionTestResults> testResults = Maps.mutable.empty();
+        MutableList<CoreInstance> testFunctions = testCollection.getAllTestFunctions();
+
+        Function<CoreInstance, TestFunctionInfo> getInfo = f -> testFunctionInfos.getIfAbsentPut(f, () -> new TestFunctionInfo(f, ps));
+        ListIterable<TestFunctionInfo> infos = (forkJoinPool == null) ?
+                testFunctions.collect(getInfo) :
+                ForkJoinTools.collect(forkJoinPool, testFunctions, getInfo, FUNCTION_SHARD_SIZE);
 
-        testCollection.forEachTestFunction(x ->
+        MutableMap<String, FunctionTestResults> testResults = Maps.mutable.empty();
+        infos.forEach(info ->
         {
-            FunctionTestResults functionInfo = testResults.getIfAbsentPut(x.getSourceInformation().getSourceId(), () -> new FunctionTestResults(x.getSourceInformation().getSourceId()));
-            PackageableFunction<?> f = (PackageableFunction<?>) x;
+            FunctionTestResults functionInfo = testResults.getIfAbsentPut(info.sourceId, () -> new FunctionTestResults(info.sourceId));
 
-            Set<String> pctQualifiers = PCTTools.getPCTQualifiers(f, ps);
-            String error = explodedExpectedFailures.get(PackageableElement.getUserPathForPackageableElement(f));
-            MutableSet<String> adapterQualifiers = explodedQualifiers.get(PackageableElement.getUserPathForPackageableElement(f));
+            Set<String> pctQualifiers = Sets.mutable.withAll(info.pctQualifiers);
+            String error = explodedExpectedFailures.get(info.userPath);
+            MutableSet<String> adapterQualifiers = explodedQualifiers.get(info.userPath);
             if (adapterQualifiers != null && !adapterQualifiers.isEmpty())
             {
                 pctQualifiers.addAll(adapterQualifiers);
             }
-            functionInfo.tests.add(new TestInfo(f._functionName(), error == null, error, pctQualifiers));
+            functionInfo.tests.add(new TestInfo(info.functionName, error == null, error, pctQualifiers));
         });
 
         return new AdapterReport(
@@ -112,4 +171,22 @@ public class ReportGeneration
     {
         return "ADAPTER_" + adapterReport.reportScope.module + "_" + adapterReport.adapterKey.platform + "_" + adapterReport.adapterKey.adapter.name;
     }
+
+    // Information about a test function which does not depend on the adapter
+    private static class TestFunctionInfo
+    {
+        private final String sourceId;
+        private final String functionName;
+        private final String userPath;
+        private final Set<String> pctQualifiers;
+
+        private TestFunctionInfo(CoreInstance testFunction, ProcessorSupport processorSupport)
+        {
+            PackageableFunction<?> f = (PackageableFunction<?>) testFunction;
+            this.sourceId = f.getSourceInformation().getSourceId();
+            this.functionName = f._functionName();
+            this.userPath = PackageableElement.getUserPathForPackageableElement(f);
+            this.pctQualifiers = PCTTools.getPCTQualifiers(f, processorSupport);
+        }
+    }
 }
@@ -14,7 +14,9 @@
 
 package org.finos.legend.pure.m3.serialization.compiler;
 
+import org.eclipse.collections.api.factory.Lists;
 import org.eclipse.collections.api.factory.Sets;
+import org.eclipse.collections.api.list.ListIterable;
 import org.eclipse.collections.api.list.MutableList;
 import org.eclipse.collections.api.set.MutableSet;
 import org.eclipse.collections.api.set.SetIterable;
@@ -24,6 +26,7 @@ import org.finos.legend.pure.m3.serialization.compiler.file.FileSerializer;
 import org.finos.legend.pure.m3.serialization.compiler.metadata.ModuleMetadata;
 import org.finos.legend.pure.m3.serialization.compiler.metadata.ModuleMetadataGenerator;
 import org.finos.legend.pure.m3.tools.GraphTools;
+import org.finos.legend.pure.m3.tools.forkjoin.ForkJoinTools;
 import org.finos.legend.pure.m4.coreinstance.CoreInstance;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -31,6 +34,7 @@ import org.slf4j.LoggerFactory;
 import java.nio.file.Path;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Predicate;
 import java.util.zip.ZipOutputStream;
 
@@ -38,15 +42,20 @@ public class PureCompilerSerializer
 {
     private static final Logger LOGGER = LoggerFactory.getLogger(PureCompilerSerializer.class);
 
+    private static final int SERIALIZE_ELEMENTS_THRESHOLD = 100;
+    private static final int ZIP_ELEMENT_BATCH_SIZE = 10_000;
+
     private final FileSerializer fileSerializer;
     private final ModuleMetadataGenerator moduleMetadataGenerator;
     private final ProcessorSupport processorSupport;
+    private final ForkJoinPool forkJoinPool;
 
-    private PureCompilerSerializer(FileSerializer fileSerializer, ModuleMetadataGenerator moduleMetadataGenerator, ProcessorSupport processorSupport)
+    private PureCompilerSerializer(FileSerializer fileSerializer, ModuleMetadataGenerator moduleMetadataGenerator, ProcessorSupport processorSupport, ForkJoinPool forkJoinPool)
     {
         this.fileSerializer = Objects.requireNonNull(fileSerializer);
         this.moduleMetadataGenerator = Objects.requireNonNull(moduleMetadataGenerator);
         this.processorSupport = Objects.requireNonNull(processorSupport);
+        this.forkJoinPool = forkJoinPool;
     }
 
     // Serialize all
@@ -138,22 +147,22 @@ public class PureCompilerSerializer
         {
             long eltStart = System.nanoTime();
             LOGGER.info("Starting element serialization");
-            int[] eltCount = {0};
+            MutableList<CoreInstance> elements = Lists.mutable.empty();
             try
             {
                 GraphTools.getTopLevelAndPackagedElements(this.processorSupport).forEach(e ->
                 {
                     if (ModuleHelper.isElementInModule(e, moduleName))
                     {
-                        serializer.serializeElement(e);
-                        eltCount[0]++;
+                        elements.add(e);
                     }
                 });
+                serializeElements(serializer, elements);
             }
             finally
             {
                 long eltEnd = System.nanoTime();
-                LOGGER.info("Finished serializing {} elements in {}s", eltCount[0], (eltEnd - eltStart) / 1_000_000_000.0);
+                LOGGER.info("Finished serializing {} elements in {}s", elements.size(), (eltEnd - eltStart) / 1_000_000_000.0);
             }
 
             long modMetaGenStart = System.nanoTime();
@@ -245,22 +254,22 @@ public class PureCompilerSerializer
                 {
                     long eltStart = System.nanoTime();
                     LOGGER.info("Starting element serialization");
-                    int[] eltCount = {0};
+                    MutableList<CoreInstance> elements = Lists.mutable.empty();
                     try
                     {
                         GraphTools.getTopLevelAndPackagedElements(this.processorSupport).forEach(e ->
                         {
                             if (moduleNames.contains(ModuleHelper.getElementModule(e)))
                             {
-                                serializer.serializeElement(e);
-                                eltCount[0]++;
+                                elements.add(e);
                             }
                         });
+                        serializeElements(serializer, elements);
                     }
                     finally
                     {
                         long eltEnd = System.nanoTime();
-                        LOGGER.info("Finished serializing {} elements in {}s", eltCount[0], (eltEnd - eltStart) / 1_000_000_000.0);
+                        LOGGER.info("Finished serializing {} elements in {}s", elements.size(), (eltEnd - eltStart) / 1_000_000_000.0);
                     }
 
                     generateAndSerializeModuleMetadata(serializer, moduleNames);
@@ -289,7 +298,7 @@ public class PureCompilerSerializer
             MutableSet<String> moduleNames = Sets.mutable.empty();
             long eltStart = System.nanoTime();
             LOGGER.info("Starting element serialization");
-            int[] eltCount = {0};
+            MutableList<CoreInstance> elements = Lists.mutable.empty();
             try
             {
                 GraphTools.getTopLevelAndPackagedElements(this.processorSupport).forEach(e ->
@@ -298,15 +307,15 @@ public class PureCompilerSerializer
                     if ((moduleName != null) && moduleFilter.test(moduleName))
                     {
                         moduleNames.add(moduleName);
-                        serializer.serializeElement(e);
-                        eltCount[0]++;
+                        elements.add(e);
                     }
                 });
+                serializeElements(serializer, elements);
             }
             finally
             {
                 long eltEnd = System.nanoTime();
-                LOGGER.info("Finished serializing {} elements in {}s", eltCount[0], (eltEnd - eltStart) / 1_000_000_000.0);
+                LOGGER.info("Finished serializing {} elements in {}s", elements.size(), (eltEnd - eltStart) / 1_000_000_000.0);
             }
 
             generateAndSerializeModuleMetadata(serializer, moduleNames);
@@ -323,6 +332,18 @@ public class PureCompilerSerializer
         }
     }
 
+    private void serializeElements(Serializer serializer, ListIterable<CoreInstance> elements)
+    {
+        if ((this.forkJoinPool != null) && (elements.size() > SERIALIZE_ELEMENTS_THRESHOLD))
+        {
+            serializer.serializeElements(this.forkJoinPool, elements);
+        }
+        else
+        {
+            elements.forEach(serializer::serializeElement);
+        }
+    }
+
     private void generateAndSerializeModuleMetadata(Serializer serializer, SetIterable<? extends String> moduleNames)
     {
         long modMetaGenStart = System.nanoTime();
@@ -388,6 +409,7 @@ public class PureCompilerSerializer
         private FileSerializer fileSerializer;
         private ModuleMetadataGenerator moduleMetadataGenerator;
         private ProcessorSupport processorSupport;
+        private ForkJoinPool forkJoinPool;
 
         private Builder()
         {
@@ -411,9 +433,15 @@ public class PureCompilerSerializer
             return this;
         }
 
+        public Builder withForkJoinPool(ForkJoinPool forkJoinPool)
+        {
+            this.forkJoinPool = forkJoinPool;
+            return this;
+        }
+
         public PureCompilerSerializer build()
         {
-            return new PureCompilerSerializer(this.fileSerializer, this.moduleMetadataGenerator, this.processorSupport);
+            return new PureCompilerSerializer(this.fileSerializer, this.moduleMetadataGenerator, this.processorSupport, this.forkJoinPool);
         }
     }
 
@@ -421,6 +449,8 @@ public class PureCompilerSerializer
     {
         void serializeElement(CoreInstance element);
 
+        void serializeElements(ForkJoinPool forkJoinPool, ListIterable<CoreInstance> elements);
+
         void serializeModuleMetadata(ModuleMetadata moduleMetadata);
     }
 
@@ -441,6 +471,14 @@ public class PureCompilerSerializer
             this.fileSerializer.serializeElement(this.directory, element);
         }
 
+        @Override
+        public void serializeElements(ForkJoinPool forkJoinPool, ListIterable<CoreInstance> elements)
+        {
+            // each element is written to its own file, so they can be written independently; but the elements may
+            // be lazily loaded from the very files being replaced, so each is serialized fully before being written
+            ForkJoinTools.forEach(forkJoinPool, elements, element -> this.fileSerializer.writeSerializedElement(this.directory, element, this.fileSerializer.serializeElementToBytes(element)), SERIALIZE_ELEMENTS_THRESHOLD);
+        }
+
         @Override
         public void serializeModuleMetadata(ModuleMetadata moduleMetadata)
         {
@@ -469,6 +507,20 @@ public class PureCompilerSerializer
             this.fileSerializer.serializeElement(this.stream, element);
         }
 
+        @Override
+        public void serializeElements(ForkJoinPool forkJoinPool, ListIterable<CoreInstance> elements)
+        {
+            // elements are serialized to bytes in parallel, in bounded batches, and then written to the stream in the
+            // original order so that the output is identical to serial serialization
+            for (int batchStart = 0, size = elements.size(); batchStart < size; batchStart += ZIP_ELEMENT_BATCH_SIZE)
+            {
+                int start = batchStart;
+                int end = Math.min(start + ZIP_ELEMENT_BATCH_SIZE, size);
+                ListIterable<byte[]> serialized = ForkJoinTools.collect(forkJoinPool, elements, this.fileSerializer::serializeElementToBytes, start, end, SERIALIZE_ELEMENTS_THRESHOLD);
+                serialized.forEachWithIndex((bytes, i) -> this.fileSerializer.writeSerializedElement(this.stream, elements.get(start + i), bytes));
+            }
+        }
+
         @Override
         public void serializeModuleMetadata(ModuleMetadata moduleMetadata)
         {
@@ -31,10 +31,12 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.Objects;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
@@ -153,6 +155,132 @@ public class FileSerializer
         return entryName;
     }
 
+    // Serialize element to bytes
+
+    public byte[] serializeElementToBytes(CoreInstance element)
+    {
+        return serializeElementToBytes(element, this.elementSerializer.getDefaultVersion(), this.elementSerializer.getReferenceIdProviders().getDefaultVersion());
+    }
+
+    public byte[] serializeElementToBytes(CoreInstance element, int serializerVersion, int referenceIdVersion)
+    {
+        Objects.requireNonNull(element, "element is required");
+
+        long start = System.nanoTime();
+        String elementPath = PackageableElement.getUserPathForPackageableElement(element);
+        LOGGER.debug("Serializing {} to bytes", elementPath);
+        try
+        {
+            ByteArrayOutputStream stream = new ByteArrayOutputStream();
+            try (Writer writer = BinaryWriters.newBinaryWriter(stream))
+            {
+                this.elementSerializer.serialize(writer, element, serializerVersion, referenceIdVersion);
+            }
+            return stream.toByteArray();
+        }
+        catch (Exception e)
+        {
+            LOGGER.error("Error serializing {} to bytes", elementPath, e);
+            StringBuilder builder = new StringBuilder("Error serializing element ").append(elementPath);
+            SourceInformation sourceInfo = element.getSourceInformation();
+            if (sourceInfo != null)
+            {
+                sourceInfo.appendMessage(builder.append(" (")).append(')');
+            }
+            String eMessage = e.getMessage();
+            if (eMessage != null)
+            {
+                builder.append(": ").append(eMessage);
+            }
+            throw new RuntimeException(builder.toString(), e);
+        }
+        finally
+        {
+            long end = System.nanoTime();
+            LOGGER.debug("Finished serializing {} to bytes in {}s", elementPath, (end - start) / 1_000_000_000.0);
+        }
+    }
+
+    // Write serialized element to zip
+
+    public Path writeSerializedElement(Path directory, CoreInstance element, byte[] serializedElement)
+    {
+        return writeSerializedElement(directory, element, serializedElement, this.filePathProvider.getDefaultVersion());
+    }
+
+    public Path writeSerializedElement(Path directory, CoreInstance element, byte[] serializedElement, int filePathVersion)
+    {
+        Objects.requireNonNull(directory, "directory is required");
+        Objects.requireNonNull(element, "element is required");
+        Objects.requireNonNull(serializedElement, "serialized element is required");
+
+        String elementPath = PackageableElement.getUserPathForPackageableElement(element);
+        Path filePath = this.filePathProvider.getElementFilePath(directory, elementPath, filePathVersion);
+        LOGGER.debug("Writing serialized {} to {}", elementPath, filePath);
+        try
+        {
+            // write to a temporary file and move it into place, so that concurrent readers of the file (e.g., lazy
+            // elements loaded from the same directory) never see it partially written
+            Files.createDirectories(filePath.getParent());
+            Path tmpPath = Files.createTempFile(filePath.getParent(), filePath.getFileName().toString(), ".tmp");
+            try
+            {
+                Files.write(tmpPath, serializedElement);
+                Files.move(tmpPath, filePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            }
+            finally
+            {
+                Files.deleteIfExists(tmpPath);
+            }
+        }
+        catch (IOException e)
+        {
+            LOGGER.error("Error writing serialized {} to {}", elementPath, filePath, e);
+            StringBuilder builder = new StringBuilder("Error writing serialized element ").append(elementPath).append(" to ").append(filePath);
+            String eMessage = e.getMessage();
+            if (eMessage != null)
+            {
+                builder.append(": ").append(eMessage);
+            }
+            throw new UncheckedIOException(builder.toString(), e);
+        }
+        return filePath;
+    }
+
+    public String writeSerializedElement(ZipOutputStream zipStream, CoreInstance element, byte[] serializedElement)
+    {
+        return writeSerializedElement(zipStream, element, serializedElement, this.filePathProvider.getDefaultVersion());
+    }
+
+    public String writeSerializedElement(ZipOutputStream zipStream, CoreInstance element, byte[] serializedElement, int filePathVersion)
+    {
+        Objects.requireNonNull(zipStream, "zip stream is required");
+        Objects.requireNonNull(element, "element is required");
+        Objects.requireNonNull(serializedElement, "serialized element is required");
+
+        String elementPath = PackageableElement.getUserPathForPackageableElement(element);
+        String entryName = this.filePathProvider.getElementFilePath(elementPath, "/", filePathVersion);
+        LOGGER.debug("Writing serialized {} to zip entry '{}'", elementPath, entryName);
+        try
+        {
+            zipStream.putNextEntry(new ZipEntry(entryName));
+            zipStream.write(serializedElement);
+            zipStream.closeEntry();
+        }
+        catch (IOException e)
+        {
+            LOGGER.error("Error writing serialized {} to zip entry '{}'", elementPath, entryName, e);
+            StringBuilder builder = new StringBuilder("Error writing serialized element ").append(elementPath).append(" to ").append(entryName);
+            String eMessage = e.getMessage();
+            if (eMessage != null)
+            {
+                builder.append(": ").append(eMessage);
+            }
+            throw new UncheckedIOException(builder.toString(), e);
+        }
+        return entryName;
+    }
+
     // Serialize module manifest to directory
 
     public Path serializeModuleManifest(Path directory, ModuleManifest moduleManifest)
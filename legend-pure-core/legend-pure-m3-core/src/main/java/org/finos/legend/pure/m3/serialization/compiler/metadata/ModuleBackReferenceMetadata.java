@@ -147,6 +147,12 @@ public class ModuleBackReferenceMetadata
             this.elementBackReferences.getIfAbsentPutWithKey(elementPath, ElementBackReferenceMetadata::builder).addInstanceBackReferenceMetadata(instanceReferenceId, backReferences);
         }
 
+        public void addElementBackReferenceMetadata(ElementBackReferenceMetadata elementBackReferences)
+        {
+            Objects.requireNonNull(elementBackReferences, "element back references may not be null");
+            this.elementBackReferences.getIfAbsentPutWithKey(elementBackReferences.getElementPath(), ElementBackReferenceMetadata::builder).addMetadata(elementBackReferences);
+        }
+
         public Builder withModuleName(String name)
         {
             setModuleName(name);
@@ -171,6 +177,12 @@ public class ModuleBackReferenceMetadata
             return this;
         }
 
+        public Builder withElementBackReferenceMetadata(ElementBackReferenceMetadata elementBackReferences)
+        {
+            addElementBackReferenceMetadata(elementBackReferences);
+            return this;
+        }
+
         public ModuleBackReferenceMetadata build()
         {
             Objects.requireNonNull(this.moduleName, "module name may not be null");
@@ -279,6 +279,16 @@ public class ModuleMetadata
             this.functionsByName.getIfAbsentPut(Objects.requireNonNull(functionName), Lists.mutable::empty).addAll(functionsList);
         }
 
+        public void addModuleMetadata(ModuleMetadata metadata)
+        {
+            Objects.requireNonNull(metadata, "module metadata may not be null");
+            this.manifestBuilder.addElements(metadata.manifest.getElements());
+            this.sourceMetadataBuilder.addSources(metadata.sourceMetadata.getSources());
+            metadata.externalReferenceMetadata.getExternalReferences().forEach(this.extRefBuilder::addElementExternalReferenceMetadata);
+            metadata.backReferenceMetadata.getBackReferences().forEach(this.backRefBuilder::addElementBackReferenceMetadata);
+            metadata.functionNameMetadata.getFunctionsByName().forEach(fbn -> addFunctionsByName(fbn.getFunctionName(), fbn.getFunctions()));
+        }
+
         public Builder withName(String name)
         {
             setName(name);
@@ -375,6 +385,12 @@ public class ModuleMetadata
             return this;
         }
 
+        public Builder withModuleMetadata(ModuleMetadata metadata)
+        {
+            addModuleMetadata(metadata);
+            return this;
+        }
+
         public ModuleMetadata build()
         {
             Objects.requireNonNull(this.name, "module name may not be null");
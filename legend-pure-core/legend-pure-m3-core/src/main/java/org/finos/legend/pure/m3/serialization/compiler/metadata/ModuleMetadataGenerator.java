@@ -16,7 +16,9 @@ package org.finos.legend.pure.m3.serialization.compiler.metadata;
 
 import org.eclipse.collections.api.factory.Lists;
 import org.eclipse.collections.api.factory.Maps;
+import org.eclipse.collections.api.list.ListIterable;
 import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.map.MapIterable;
 import org.eclipse.collections.api.map.MutableMap;
 import org.finos.legend.pure.m3.navigation.ProcessorSupport;
 import org.finos.legend.pure.m3.serialization.compiler.ModuleHelper;
@@ -25,25 +27,32 @@ import org.finos.legend.pure.m3.serialization.compiler.reference.ReferenceIdProv
 import org.finos.legend.pure.m3.serialization.runtime.PureRuntime;
 import org.finos.legend.pure.m3.serialization.runtime.SourceRegistry;
 import org.finos.legend.pure.m3.tools.GraphTools;
+import org.finos.legend.pure.m3.tools.forkjoin.ForkJoinTools;
+import org.finos.legend.pure.m4.coreinstance.CoreInstance;
 
 import java.util.Arrays;
 import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
 
 public class ModuleMetadataGenerator
 {
+    private static final int ELEMENT_METADATA_THRESHOLD = 100;
+
     private final ProcessorSupport processorSupport;
     private final SourceRegistry sourceRegistry;
     private final ConcreteElementMetadataGenerator elementGenerator;
     private final SourceMetadataGenerator sourceGenerator;
     private final int referenceIdVersion;
+    private final ForkJoinPool forkJoinPool;
 
-    private ModuleMetadataGenerator(ProcessorSupport processorSupport, SourceRegistry sourceRegistry, ReferenceIdProvider referenceIdProvider)
+    private ModuleMetadataGenerator(ProcessorSupport processorSupport, SourceRegistry sourceRegistry, ReferenceIdProvider referenceIdProvider, ForkJoinPool forkJoinPool)
     {
         this.processorSupport = processorSupport;
         this.sourceRegistry = sourceRegistry;
         this.elementGenerator = new ConcreteElementMetadataGenerator(referenceIdProvider, processorSupport);
         this.sourceGenerator = (sourceRegistry == null) ? null : new SourceMetadataGenerator();
         this.referenceIdVersion = referenceIdProvider.version();
+        this.forkJoinPool = forkJoinPool;
     }
 
     public ModuleMetadata generateModuleMetadata(String name)
@@ -54,13 +63,15 @@ public class ModuleMetadataGenerator
 
     private ModuleMetadata.Builder generateModuleMetadata(String moduleName, ModuleMetadata.Builder builder)
     {
+        MutableList<CoreInstance> elements = Lists.mutable.empty();
         GraphTools.getTopLevelAndPackagedElements(this.processorSupport).forEach(e ->
         {
             if (ModuleHelper.isElementInModule(e, moduleName))
             {
-                this.elementGenerator.computeMetadata(builder, e);
+                elements.add(e);
             }
         });
+        computeElementMetadata(elements, Maps.immutable.with(moduleName, builder));
         if (this.sourceRegistry != null)
         {
             this.sourceRegistry.getSources().forEach(s ->
@@ -90,18 +101,16 @@ public class ModuleMetadataGenerator
         {
             return Lists.mutable.with(generateModuleMetadata(buildersByModule.keysView().getAny(), buildersByModule.valuesView().getAny()).build());
         }
+        MutableList<CoreInstance> elements = Lists.mutable.empty();
         GraphTools.getTopLevelAndPackagedElements(this.processorSupport).forEach(element ->
         {
             String moduleName = ModuleHelper.getElementModule(element);
-            if (moduleName != null)
+            if ((moduleName != null) && buildersByModule.containsKey(moduleName))
             {
-                ModuleMetadata.Builder builder = buildersByModule.get(moduleName);
-                if (builder != null)
-                {
-                    this.elementGenerator.computeMetadata(builder, element);
-                }
+                elements.add(element);
             }
         });
+        computeElementMetadata(elements, buildersByModule);
         if (this.sourceRegistry != null)
         {
             this.sourceRegistry.getSources().forEach(source ->
@@ -148,14 +157,17 @@ public class ModuleMetadataGenerator
     public MutableList<ModuleMetadata> generateAllModuleMetadata(boolean includeRootModule)
     {
         MutableMap<String, ModuleMetadata.Builder> buildersByModule = Maps.mutable.empty();
+        MutableList<CoreInstance> elements = Lists.mutable.empty();
         GraphTools.getTopLevelAndPackagedElements(this.processorSupport).forEach(element ->
         {
             String moduleName = ModuleHelper.getElementModule(element);
             if ((moduleName != null) && (includeRootModule || ModuleHelper.isNonRootModule(moduleName)))
             {
-                this.elementGenerator.computeMetadata(buildersByModule.getIfAbsentPutWithKey(moduleName, this::moduleMetadataBuilder), element);
+                buildersByModule.getIfAbsentPutWithKey(moduleName, this::moduleMetadataBuilder);
+                elements.add(element);
             }
         });
+        computeElementMetadata(elements, buildersByModule);
         if (this.sourceRegistry != null)
         {
             this.sourceRegistry.getSources().forEach(source ->
@@ -170,6 +182,29 @@ public class ModuleMetadataGenerator
         return buildersByModule.collect(ModuleMetadata.Builder::build, Lists.mutable.ofInitialCapacity(buildersByModule.size()));
     }
 
+    private void computeElementMetadata(ListIterable<CoreInstance> elements, MapIterable<String, ModuleMetadata.Builder> buildersByModule)
+    {
+        if ((this.forkJoinPool == null) || (elements.size() <= ELEMENT_METADATA_THRESHOLD))
+        {
+            elements.forEach(e -> this.elementGenerator.computeMetadata(getModuleBuilder(buildersByModule, e), e));
+            return;
+        }
+
+        // Compute the metadata for each element independently, then reduce into the module builders in the original
+        // element order so that the result is identical to the serial computation
+        ListIterable<ModuleMetadata> elementMetadata = ForkJoinTools.collect(
+                this.forkJoinPool,
+                elements,
+                e -> this.elementGenerator.computeMetadata(moduleMetadataBuilder(ModuleHelper.getElementModule(e)), e).build(),
+                ELEMENT_METADATA_THRESHOLD);
+        elements.forEachWithIndex((e, i) -> getModuleBuilder(buildersByModule, e).addModuleMetadata(elementMetadata.get(i)));
+    }
+
+    private ModuleMetadata.Builder getModuleBuilder(MapIterable<String, ModuleMetadata.Builder> buildersByModule, CoreInstance element)
+    {
+        return (buildersByModule.size() == 1) ? buildersByModule.valuesView().getAny() : buildersByModule.get(ModuleHelper.getElementModule(element));
+    }
+
     int getReferenceIdVersion()
     {
         return this.referenceIdVersion;
@@ -210,6 +245,7 @@ public class ModuleMetadataGenerator
         private ProcessorSupport processorSupport;
         private SourceRegistry sourceRegistry;
         private ReferenceIdProvider referenceIdProvider;
+        private ForkJoinPool forkJoinPool;
 
         private Builder()
         {
@@ -239,13 +275,19 @@ public class ModuleMetadataGenerator
             return this;
         }
 
+        public Builder withForkJoinPool(ForkJoinPool forkJoinPool)
+        {
+            this.forkJoinPool = forkJoinPool;
+            return this;
+        }
+
         public ModuleMetadataGenerator build()
         {
             Objects.requireNonNull(this.processorSupport);
             ReferenceIdProvider idProvider = (this.referenceIdProvider == null) ?
                                              ReferenceIdProviders.builder().withProcessorSupport(this.processorSupport).withAvailableExtensions().build().provider() :
                                              this.referenceIdProvider;
-            return new ModuleMetadataGenerator(this.processorSupport, this.sourceRegistry, idProvider);
+            return new ModuleMetadataGenerator(this.processorSupport, this.sourceRegistry, idProvider, this.forkJoinPool);
         }
     }
 }
@@ -17,8 +17,10 @@ package org.finos.legend.pure.m3.serialization.runtime;
 import org.eclipse.collections.api.factory.Maps;
 import org.eclipse.collections.api.factory.Sets;
 import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.api.multimap.set.MutableSetMultimap;
 import org.eclipse.collections.api.set.MutableSet;
 import org.eclipse.collections.api.set.SetIterable;
+import org.eclipse.collections.impl.factory.Multimaps;
 import org.eclipse.collections.impl.tuple.Tuples;
 import org.json.simple.JSONObject;
 import org.json.simple.parser.JSONParser;
@@ -35,6 +37,11 @@ import java.util.Map;
 /**
  * For keeping track of the tests a user has executed during their session, to ensure that all impacted tests pass before
  * they may commit their changes.
+ * <p>
+ * The elements each test depends on may also be noted (see
+ * {@link org.finos.legend.pure.m3.execution.test.TestDependencyCollector}). When the elements changed by an edit are
+ * known, only the tests which depend on them are invalidated, rather than all tests. Dependencies are only held in
+ * memory: tests whose dependencies are not known are invalidated by any change.
  */
 public class ExecutedTestTracker
 {
@@ -44,6 +51,9 @@ public class ExecutedTestTracker
     }
 
     private MutableMap<String, TestState> tests;
+    private final MutableMap<String, SetIterable<String>> testDependencies = Maps.mutable.empty();
+    private final MutableSetMultimap<String, String> testsByDependency = Multimaps.mutable.set.empty();
+    private final MutableSet<String> invalidatedTests = Sets.mutable.empty();
     private final Path path;
     private final String activeUserDBDirectory;
     private final Object lock = new Object();
@@ -63,6 +73,7 @@ public class ExecutedTestTracker
     private void noteTestsState(SetIterable<String> newTests, TestState state)
     {
         newTests.forEach(t -> this.tests.put(t, state));
+        this.invalidatedTests.removeAllIterable(newTests);
     }
 
     /**
@@ -81,15 +92,82 @@ public class ExecutedTestTracker
         noteTestsState(failedTests, TestState.Failed);
     }
 
+    /**
+     * Store the elements a test depends on, replacing any previously noted for it. The test is invalidated whenever
+     * any of these elements is changed.
+     *
+     * @param test         test id
+     * @param dependencies paths of the elements the test depends on
+     */
+    public void noteTestDependencies(String test, SetIterable<String> dependencies)
+    {
+        SetIterable<String> previous = this.testDependencies.put(test, dependencies);
+        if (previous != null)
+        {
+            previous.forEach(d -> this.testsByDependency.remove(d, test));
+        }
+        dependencies.forEach(d -> this.testsByDependency.put(d, test));
+    }
+
+    public SetIterable<String> getTestDependencies(String test)
+    {
+        return this.testDependencies.get(test);
+    }
+
+    /**
+     * Get the tests with a stored state which are impacted by a change to the given elements: those which depend on
+     * any of the elements, and those whose dependencies are not known.
+     *
+     * @param changedElements paths of the changed elements
+     * @return impacted tests
+     */
+    public MutableSet<String> getImpactedTests(SetIterable<String> changedElements)
+    {
+        MutableSet<String> impacted = this.tests.keysView().reject(this.testDependencies::containsKey, Sets.mutable.empty());
+        changedElements.forEach(e -> impacted.addAll(this.testsByDependency.get(e)));
+        return impacted;
+    }
+
+    /**
+     * Get the tests whose stored state has been invalidated since they were last executed. Running just these tests
+     * (see {@link org.finos.legend.pure.m3.execution.test.TestRunner}) restores the state for all tests which were
+     * previously executed.
+     *
+     * @return invalidated tests
+     */
+    public SetIterable<String> getInvalidatedTests()
+    {
+        return this.invalidatedTests.asUnmodifiable();
+    }
+
     /**
      * Whenever a change is made to the set of changed files e.g. saving, reverting, deleting, etc the stored state of
      * executed tests must be invalidated as it cannot be known whether the prior state for any given test still stands
      */
     void invalidate()
     {
+        this.invalidatedTests.addAllIterable(this.tests.keysView());
         this.tests = Maps.mutable.empty();
     }
 
+    /**
+     * Invalidate the stored state of the tests impacted by a change to the given elements (see
+     * {@link #getImpactedTests}). If the changed elements are not known, all tests are invalidated.
+     *
+     * @param changedElements paths of the changed elements, or null if not known
+     */
+    void invalidate(SetIterable<String> changedElements)
+    {
+        if (changedElements == null)
+        {
+            invalidate();
+            return;
+        }
+        MutableSet<String> impacted = getImpactedTests(changedElements);
+        impacted.forEach(this.tests::remove);
+        this.invalidatedTests.addAllIterable(impacted);
+    }
+
     @SuppressWarnings("unchecked")
     private MutableMap<String, MutableMap<String, TestState>> readFromFile()
     {
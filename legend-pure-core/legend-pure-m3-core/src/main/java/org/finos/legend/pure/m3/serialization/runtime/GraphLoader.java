@@ -35,6 +35,8 @@ import org.finos.legend.pure.m3.compiler.postprocessing.GenericTypeTraceability;
 import org.finos.legend.pure.m3.compiler.postprocessing.SpecializationProcessor;
 import org.finos.legend.pure.m3.compiler.postprocessing.processor.AnnotatedElementProcessor;
 import org.finos.legend.pure.m3.compiler.postprocessing.processor.Processor;
+import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.extension.AnnotatedElement;
+import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.extension.AnnotatedElementCoreInstanceWrapper;
 import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.function.FunctionDefinition;
 import org.finos.legend.pure.m3.navigation.Instance;
 import org.finos.legend.pure.m3.navigation.M3Paths;
@@ -64,6 +66,8 @@ import org.finos.legend.pure.m3.serialization.runtime.binary.reference.Reference
 import org.finos.legend.pure.m3.serialization.runtime.binary.reference.ReferenceFactory;
 import org.finos.legend.pure.m3.serialization.runtime.binary.reference.SimpleReferenceFactory;
 import org.finos.legend.pure.m3.serialization.runtime.pattern.URLPatternLibrary;
+import org.finos.legend.pure.m3.statelistener.ExecutionSpan;
+import org.finos.legend.pure.m3.statelistener.ExecutionTracing;
 import org.finos.legend.pure.m3.tools.forkjoin.ForkJoinTools;
 import org.finos.legend.pure.m4.ModelRepository;
 import org.finos.legend.pure.m4.coreinstance.CoreInstance;
@@ -73,6 +77,7 @@ import org.finos.legend.pure.m4.serialization.binary.BinaryReaders;
 import java.net.URL;
 import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.RecursiveTask;
+import java.util.function.BiConsumer;
 
 public class GraphLoader
 {
@@ -245,9 +250,23 @@ public class GraphLoader
     {
         if (fileBytes.notEmpty())
         {
-            ListIterable<SourceDeserializationResult> results = deserializeFiles(fileBytes, message);
-            loadDeserializationResults(results, message);
-            this.loadedFiles.addAllIterable(fileBytes.keysView());
+            try (ExecutionSpan ignore = ExecutionTracing.startSpan("load", "loadFiles").withAttribute("files", fileBytes.size()))
+            {
+                LoadTimings timings = new LoadTimings();
+                long start = System.nanoTime();
+                ListIterable<SourceDeserializationResult> results;
+                try (ExecutionSpan ignore2 = ExecutionTracing.startSpan("load", "deserialize"))
+                {
+                    results = deserializeFiles(fileBytes, message);
+                }
+                timings.deserialize = System.nanoTime() - start;
+                loadDeserializationResults(results, message, timings);
+                this.loadedFiles.addAllIterable(fileBytes.keysView());
+                if (message != null)
+                {
+                    message.setMessage(timings.appendReport(new StringBuilder(String.format("    Loaded %,d files in %.3fs", fileBytes.size(), (System.nanoTime() - start) / 1_000_000_000.0))).toString());
+                }
+            }
         }
     }
 
@@ -273,17 +292,59 @@ public class GraphLoader
         return results;
     }
 
-    private void loadDeserializationResults(ListIterable<SourceDeserializationResult> results, Message message)
+    private void loadDeserializationResults(ListIterable<SourceDeserializationResult> results, Message message, LoadTimings timings)
     {
         ListIterable<DeserializationNode> nodes = LazyIterate.select(results, SourceDeserializationResult::hasDeserializationNodes).flatCollect(SourceDeserializationResult::getDeserializationNodes, Lists.mutable.empty());
-        initializeNodes(nodes, message);
-        resolveReferences(nodes, message);
+
+        long start = System.nanoTime();
+        try (ExecutionSpan ignore = ExecutionTracing.startSpan("load", "initializeNodes"))
+        {
+            initializeNodes(nodes, message);
+        }
+        long end = System.nanoTime();
+        timings.initializeNodes = end - start;
+
+        start = end;
+        try (ExecutionSpan ignore = ExecutionTracing.startSpan("load", "resolveReferences"))
+        {
+            resolveReferences(nodes, message);
+        }
+        end = System.nanoTime();
+        timings.resolveReferences = end - start;
 
         ListIterable<CoreInstance> instances = nodes.collect(DeserializationNode::getInstance);
-        populateBackReferences(instances, message);
-        updateContext(instances, message);
-        updateSourceRegistry(results, nodes, message);
-        updatePatternLibrary(nodes, message);
+
+        start = end;
+        try (ExecutionSpan ignore = ExecutionTracing.startSpan("load", "populateBackReferences"))
+        {
+            populateBackReferences(instances, message);
+        }
+        end = System.nanoTime();
+        timings.populateBackReferences = end - start;
+
+        start = end;
+        try (ExecutionSpan ignore = ExecutionTracing.startSpan("load", "updateContext"))
+        {
+            updateContext(instances, message);
+        }
+        end = System.nanoTime();
+        timings.updateContext = end - start;
+
+        start = end;
+        try (ExecutionSpan ignore = ExecutionTracing.startSpan("load", "updateSourceRegistry"))
+        {
+            updateSourceRegistry(results, nodes, message);
+        }
+        end = System.nanoTime();
+        timings.updateSourceRegistry = end - start;
+
+        start = end;
+        try (ExecutionSpan ignore = ExecutionTracing.startSpan("load", "updatePatternLibrary"))
+        {
+            updatePatternLibrary(nodes, message);
+        }
+        end = System.nanoTime();
+        timings.updatePatternLibrary = end - start;
     }
 
     private void initializeNodes(ListIterable<DeserializationNode> nodes, Message message)
@@ -422,7 +483,22 @@ public class GraphLoader
         BackReferencePopulator backReferencePopulator = new BackReferencePopulator(this.repository, this.context, this.processorSupport, processorsByType, annotatedElementClass, associationClass, functionDefinitionClass, functionExpressionClass, newPropertyRouteNodeFunctionDefinition, typeClass);
         if (shouldParallelize(instances.size(), POPULATE_BACK_REFERENCES_THRESHOLD))
         {
-            ForkJoinTools.forEach(this.forkJoinPool, instances, backReferencePopulator, POPULATE_BACK_REFERENCES_THRESHOLD);
+            // Back reference updates are collected in parallel and then bucketed by the instance being updated. Each
+            // bucket is applied by a single thread, so no two threads update the same instance, and the updates for
+            // each instance are applied in the same order as they would be serially.
+            ListIterable<ListIterable<BackReferenceUpdate>> updates = ForkJoinTools.collect(this.forkJoinPool, instances, backReferencePopulator::collectUpdates, POPULATE_BACK_REFERENCES_THRESHOLD);
+            int shardCount = this.forkJoinPool.getParallelism() * 4;
+            MutableList<MutableList<BackReferenceUpdate>> shards = Lists.mutable.withInitialCapacity(shardCount);
+            for (int i = 0; i < shardCount; i++)
+            {
+                shards.add(Lists.mutable.empty());
+            }
+            updates.forEach(instanceUpdates -> instanceUpdates.forEach(update -> shards.get(update.getShard(shardCount)).add(update)));
+            if (message != null)
+            {
+                message.setMessage(String.format("    Applying %,d reverse reference updates ...", shards.sumOfInt(MutableList::size)));
+            }
+            ForkJoinTools.forEach(this.forkJoinPool, shards, shard -> shard.forEach(BackReferenceUpdate::apply), 1);
         }
         else
         {
@@ -616,6 +692,52 @@ public class GraphLoader
         }
     }
 
+    private static class BackReferenceUpdate
+    {
+        private final CoreInstance target;
+        private final Runnable update;
+
+        private BackReferenceUpdate(CoreInstance target, Runnable update)
+        {
+            this.target = target;
+            this.update = update;
+        }
+
+        private int getShard(int shardCount)
+        {
+            int hash = this.target.hashCode();
+            return ((hash ^ (hash >>> 16)) & Integer.MAX_VALUE) % shardCount;
+        }
+
+        private void apply()
+        {
+            this.update.run();
+        }
+    }
+
+    private static class LoadTimings
+    {
+        private long deserialize;
+        private long initializeNodes;
+        private long resolveReferences;
+        private long populateBackReferences;
+        private long updateContext;
+        private long updateSourceRegistry;
+        private long updatePatternLibrary;
+
+        private StringBuilder appendReport(StringBuilder builder)
+        {
+            return builder.append(String.format(" (deserialize: %.3fs, initialize nodes: %.3fs, resolve references: %.3fs, populate reverse references: %.3fs, update context: %.3fs, update source registry: %.3fs, update pattern library: %.3fs)",
+                    this.deserialize / 1_000_000_000.0,
+                    this.initializeNodes / 1_000_000_000.0,
+                    this.resolveReferences / 1_000_000_000.0,
+                    this.populateBackReferences / 1_000_000_000.0,
+                    this.updateContext / 1_000_000_000.0,
+                    this.updateSourceRegistry / 1_000_000_000.0,
+                    this.updatePatternLibrary / 1_000_000_000.0));
+        }
+    }
+
     @SuppressWarnings({"rawtypes", "unchecked"})
     private static class BackReferencePopulator implements Procedure<CoreInstance>
     {
@@ -646,6 +768,26 @@ public class GraphLoader
 
         @Override
         public void value(CoreInstance instance)
+        {
+            populate(instance, (target, update) -> update.run());
+        }
+
+        ListIterable<BackReferenceUpdate> collectUpdates(CoreInstance instance)
+        {
+            MutableList<BackReferenceUpdate> updates = Lists.mutable.empty();
+            populate(instance, (target, update) -> updates.add(new BackReferenceUpdate(target, update)));
+            return updates.isEmpty() ? Lists.immutable.<BackReferenceUpdate>empty() : updates;
+        }
+
+        /**
+         * Populate back references for the instance. Updates to other instances (applications, model elements,
+         * properties from associations, and specializations) are passed to the updater, which may apply them
+         * immediately or defer them. Reference usages are populated by the processors directly.
+         *
+         * @param instance instance
+         * @param updater  updater for other instances
+         */
+        private void populate(CoreInstance instance, BiConsumer<CoreInstance, Runnable> updater)
         {
             try
             {
@@ -656,13 +798,14 @@ public class GraphLoader
                 if (genlsSet.contains(this.functionExpressionClass))
                 {
                     CoreInstance function = Instance.getValueForMetaPropertyToOneResolved(instance, M3Properties.func, this.processorSupport);
-                    function.addKeyValue(M3PropertyPaths.applications, instance);
+                    updater.accept(function, () -> function.addKeyValue(M3PropertyPaths.applications, instance));
                 }
 
                 // modelElements
                 if (genlsSet.contains(this.annotatedElementClass))
                 {
-                    AnnotatedElementProcessor.noteModelElementForAnnotations(instance, this.processorSupport);
+                    AnnotatedElement annotatedElement = AnnotatedElementCoreInstanceWrapper.toAnnotatedElement(instance);
+                    AnnotatedElementProcessor.forEachAnnotation(annotatedElement, this.processorSupport, annotation -> updater.accept(annotation, () -> annotation._modelElementsAdd(annotatedElement)));
                 }
 
                 if (genlsSet.contains(this.associationClass))
@@ -671,23 +814,29 @@ public class GraphLoader
                     instance.getValueForMetaPropertyToMany(M3Properties.properties).forEach(property ->
                     {
                         CoreInstance sourceType = Property.getSourceType(property, this.processorSupport);
-                        sourceType.addKeyValue(M3PropertyPaths.propertiesFromAssociations, property);
-                        this.context.update(sourceType);
+                        updater.accept(sourceType, () ->
+                        {
+                            sourceType.addKeyValue(M3PropertyPaths.propertiesFromAssociations, property);
+                            this.context.update(sourceType);
+                        });
                     });
 
                     // qualifiedPropertiesFromAssociations
                     instance.getValueForMetaPropertyToMany(M3Properties.qualifiedProperties).forEach(property ->
                     {
                         CoreInstance sourceType = Property.getSourceType(property, this.processorSupport);
-                        sourceType.addKeyValue(M3PropertyPaths.qualifiedPropertiesFromAssociations, property);
-                        this.context.update(sourceType);
+                        updater.accept(sourceType, () ->
+                        {
+                            sourceType.addKeyValue(M3PropertyPaths.qualifiedPropertiesFromAssociations, property);
+                            this.context.update(sourceType);
+                        });
                     });
                 }
 
                 // specializations
                 if (genlsSet.contains(this.typeClass))
                 {
-                    SpecializationProcessor.process((org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.type.Type) instance, this.processorSupport);
+                    SpecializationProcessor.forEachGeneral((org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.type.Type) instance, this.processorSupport, (general, generalization) -> updater.accept(general, () -> SpecializationProcessor.addSpecialization(general, generalization)));
                 }
 
                 // referenceUsages
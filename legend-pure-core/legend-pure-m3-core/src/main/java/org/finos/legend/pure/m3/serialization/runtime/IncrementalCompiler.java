@@ -49,6 +49,8 @@ import org.finos.legend.pure.m3.serialization.grammar.m3parser.inlinedsl.InlineD
 import org.finos.legend.pure.m3.serialization.grammar.m3parser.inlinedsl.InlineDSLLibrary;
 import org.finos.legend.pure.m3.serialization.runtime.pattern.URLPatternLibrary;
 import org.finos.legend.pure.m3.serialization.runtime.pattern.URLPatternLibrary.URLPatternLibraryTransaction;
+import org.finos.legend.pure.m3.statelistener.ExecutionSpan;
+import org.finos.legend.pure.m3.statelistener.ExecutionTracing;
 import org.finos.legend.pure.m3.statelistener.VoidM3M4StateListener;
 import org.finos.legend.pure.m3.tools.forkjoin.ForkJoinTools;
 import org.finos.legend.pure.m3.tools.matcher.MatchRunner;
@@ -84,7 +86,7 @@ public abstract class IncrementalCompiler implements SourceEventHandler
     final ParserLibrary library;
     final RepositoryCodeStorage codeStorage;
     final ModelRepository modelRepository;
-    final Context context = new Context();
+    final Context context;
     M3ProcessorSupport processorSupport;
     final ForkJoinPool forkJoinPool;
     final boolean isTransactionalByDefault;
@@ -103,7 +105,7 @@ public abstract class IncrementalCompiler implements SourceEventHandler
     final Message message;
     final URLPatternLibrary urlPatternLibrary;
 
-    IncrementalCompiler(RichIterable<? extends Parser> parsers, RichIterable<? extends InlineDSL> inlineDSLs, RepositoryCodeStorage codeStorage, URLPatternLibrary urlPatternLibrary, Message message, CoreInstanceFactoryRegistry factoryRegistryOverride, ForkJoinPool forkJoinPool, boolean isTransactionalByDefault)
+    IncrementalCompiler(RichIterable<? extends Parser> parsers, RichIterable<? extends InlineDSL> inlineDSLs, RepositoryCodeStorage codeStorage, URLPatternLibrary urlPatternLibrary, Message message, CoreInstanceFactoryRegistry factoryRegistryOverride, ForkJoinPool forkJoinPool, boolean isTransactionalByDefault, IncrementalCompiler base)
     {
         this.message = message;
         this.urlPatternLibrary = urlPatternLibrary;
@@ -117,8 +119,20 @@ public abstract class IncrementalCompiler implements SourceEventHandler
                                                        .withRegistries(inlineDSLs.asLazy().flatCollect(CoreInstanceFactoriesRegistry::getCoreInstanceFactoriesRegistry))
                                                        .build();
 
-        this.modelRepository = new ModelRepository(new CompositeCoreInstanceFactory(registry));
+        if (base == null)
+        {
+            this.modelRepository = new ModelRepository(new CompositeCoreInstanceFactory(registry));
+            this.context = new Context();
+        }
+        else
+        {
+            // layered over the frozen graph of the base compiler, which shares the base's instance factories
+            this.modelRepository = new ModelRepository(base.modelRepository);
+            this.context = new Context(base.context);
+        }
         this.processorSupport = new M3ProcessorSupport(this.context, this.modelRepository);
+        // every element compiled or loaded is registered with the context, so its name index is complete
+        this.context.getElementNameIndex().setComplete(true);
         this.library = new ParserLibrary(allParsers);
         try
         {
@@ -228,7 +242,11 @@ public abstract class IncrementalCompiler implements SourceEventHandler
             newInstancesConsolidated.forEach(this::registerInstanceInContext);
         }
 
-        SourceMutation sourceMutation = PostProcessor.process(newInstancesConsolidated, this.modelRepository, this.library, this.dslLibrary, this.codeStorage, this.context, this.processorSupport, this.urlPatternLibrary, this.message, postProcessorObserver);
+        SourceMutation sourceMutation;
+        try (ExecutionSpan ignore = ExecutionTracing.startSpan("compile", "postProcess").withAttribute("instances", newInstancesConsolidated.size()))
+        {
+            sourceMutation = PostProcessor.process(newInstancesConsolidated, this.modelRepository, this.library, this.dslLibrary, this.codeStorage, this.context, this.processorSupport, this.urlPatternLibrary, this.message, postProcessorObserver);
+        }
 
         if (validationType == ValidationType.DEEP)
         {
@@ -238,7 +256,10 @@ public abstract class IncrementalCompiler implements SourceEventHandler
         newInstancesConsolidated.removeIf(SourceMutation::isMarkedForDeletion);
 
         this.message.setMessage("Validating " + repoName + "...");
-        Validator.validateM3(newInstancesConsolidated, validationType, this.library, this.dslLibrary, this.additionalValidators.asUnmodifiable(), this.codeStorage, this.modelRepository, this.context, this.processorSupport);
+        try (ExecutionSpan ignore = ExecutionTracing.startSpan("compile", "validate").withAttribute("instances", newInstancesConsolidated.size()))
+        {
+            Validator.validateM3(newInstancesConsolidated, validationType, this.library, this.dslLibrary, this.additionalValidators.asUnmodifiable(), this.codeStorage, this.modelRepository, this.context, this.processorSupport);
+        }
 
         rebuildExclusionSet(this.modelRepository, this.processorSupport);
 
@@ -284,12 +305,14 @@ public abstract class IncrementalCompiler implements SourceEventHandler
         return excludes;
     }
 
-    void rollBack(IncrementalCompilerTransaction transaction, Throwable t) throws PureCompilationException
+    void rollBack(IncrementalCompilerTransaction transaction, Throwable t, CompilerState savedState) throws PureCompilationException
     {
         try
         {
+            MutableSet<CoreInstance> toUpdate = Sets.mutable.withAll(this.toProcess);
             transaction.rollback();
-            this.toProcess.forEach(this.context::update);
+            savedState.restore();
+            toUpdate.withAll(this.toProcess).forEach(this.context::update);
         }
         catch (Throwable ignore)
         {
@@ -335,6 +358,22 @@ public abstract class IncrementalCompiler implements SourceEventHandler
             }
         }
         this.toProcess.remove(instance);
+        this.removeFromContext(instance);
+    }
+
+    /**
+     * Remove an instance from the context. If a transaction is open in the current thread, the instance is
+     * registered again if that transaction is rolled back.
+     *
+     * @param instance instance to remove
+     */
+    void removeFromContext(CoreInstance instance)
+    {
+        IncrementalCompilerTransaction transaction = this.transactionManager.getThreadLocalTransaction();
+        if (transaction != null)
+        {
+            transaction.noteRemovedFromContext(instance);
+        }
         this.context.remove(instance);
     }
 
@@ -376,6 +415,12 @@ public abstract class IncrementalCompiler implements SourceEventHandler
         return this.processorSupport;
     }
 
+    void freeze()
+    {
+        this.modelRepository.freeze();
+        this.context.freeze();
+    }
+
     public void reset()
     {
         this.modelRepository.clear();
@@ -433,6 +478,26 @@ public abstract class IncrementalCompiler implements SourceEventHandler
         this.processorSupport = processorSupport;
     }
 
+    /**
+     * The state of the compiler which is not covered by a transaction: what remains to be unloaded and processed.
+     * It is saved when a compile starts so that it can be restored if the compile is rolled back, leaving the next
+     * compile to start from the same point.
+     */
+    class CompilerState
+    {
+        private final MutableSet<CoreInstance> toProcess = Sets.mutable.withAll(IncrementalCompiler.this.toProcess);
+        private final MutableSet<CoreInstance> toUnload = Sets.mutable.withAll(IncrementalCompiler.this.toUnload);
+        private final MutableSet<Source> sourcesToBeRemoved = Sets.mutable.withAll(IncrementalCompiler.this.sourcesToBeRemoved);
+
+        void restore()
+        {
+            IncrementalCompiler.this.toProcess = Sets.mutable.withAll(this.toProcess);
+            IncrementalCompiler.this.toUnload = Sets.mutable.withAll(this.toUnload);
+            IncrementalCompiler.this.sourcesToBeRemoved.clear();
+            IncrementalCompiler.this.sourcesToBeRemoved.addAll(this.sourcesToBeRemoved);
+        }
+    }
+
     class IncrementalCompilerTransactionManager extends MultiTransactionManager<IncrementalCompilerTransaction>
     {
         @Override
@@ -478,6 +543,7 @@ public abstract class IncrementalCompiler implements SourceEventHandler
     public class IncrementalCompilerTransaction extends MultiTransaction
     {
         private final MutableSet<Source> sourcesCompiled = ConcurrentHashSet.newSet();
+        private final MutableSet<CoreInstance> removedFromContext = ConcurrentHashSet.newSet();
         private final ModelRepositoryTransaction modelRepositoryTransaction;
 
         private IncrementalCompilerTransaction(IncrementalCompilerTransactionManager manager, boolean committable, ModelRepositoryTransaction modelRepositoryTransaction, URLPatternLibraryTransaction urlPatternLibraryTransaction)
@@ -490,6 +556,11 @@ public abstract class IncrementalCompiler implements SourceEventHandler
         protected void doRollback()
         {
             super.doRollback();
+            for (CoreInstance removedInstance : this.removedFromContext)
+            {
+                IncrementalCompiler.this.registerInstanceInContext(removedInstance);
+            }
+
             for (CoreInstance newInstance : this.modelRepositoryTransaction.getNewInstancesInTransaction())
             {
                 IncrementalCompiler.this.context.remove(newInstance);
@@ -506,5 +577,11 @@ public abstract class IncrementalCompiler implements SourceEventHandler
             checkOpen();
             this.sourcesCompiled.add(source);
         }
+
+        void noteRemovedFromContext(CoreInstance instance)
+        {
+            checkOpen();
+            this.removedFromContext.add(instance);
+        }
     }
 }
@@ -44,6 +44,8 @@ import org.finos.legend.pure.m3.serialization.grammar.Parser;
 import org.finos.legend.pure.m3.serialization.grammar.m3parser.inlinedsl.InlineDSL;
 import org.finos.legend.pure.m3.serialization.grammar.top.TopParser;
 import org.finos.legend.pure.m3.serialization.runtime.pattern.URLPatternLibrary;
+import org.finos.legend.pure.m3.statelistener.ExecutionSpan;
+import org.finos.legend.pure.m3.statelistener.ExecutionTracing;
 import org.finos.legend.pure.m3.statelistener.VoidM3M4StateListener;
 import org.finos.legend.pure.m3.tools.ListHelper;
 import org.finos.legend.pure.m3.tools.forkjoin.ForkJoinTools;
@@ -64,9 +66,9 @@ public class IncrementalCompiler_New extends IncrementalCompiler
     private final MutableSet<CoreInstance> toUnbind = Sets.mutable.with();
     private final MutableSet<CoreInstance> processed = Sets.mutable.with();
 
-    IncrementalCompiler_New(RichIterable<? extends Parser> parsers, RichIterable<? extends InlineDSL> inlineDSLs, RepositoryCodeStorage codeStorage, URLPatternLibrary urlPatternLibrary, Message message, CoreInstanceFactoryRegistry factoryRegistryOverride, ForkJoinPool forkJoinPool, boolean isTransactionalByDefault)
+    IncrementalCompiler_New(RichIterable<? extends Parser> parsers, RichIterable<? extends InlineDSL> inlineDSLs, RepositoryCodeStorage codeStorage, URLPatternLibrary urlPatternLibrary, Message message, CoreInstanceFactoryRegistry factoryRegistryOverride, ForkJoinPool forkJoinPool, boolean isTransactionalByDefault, IncrementalCompiler base)
     {
-        super(parsers, inlineDSLs, codeStorage, urlPatternLibrary, message, factoryRegistryOverride, forkJoinPool, isTransactionalByDefault);
+        super(parsers, inlineDSLs, codeStorage, urlPatternLibrary, message, factoryRegistryOverride, forkJoinPool, isTransactionalByDefault, base);
     }
 
     //----------
@@ -76,84 +78,73 @@ public class IncrementalCompiler_New extends IncrementalCompiler
     @Override
     SourceMutation compile(RichIterable<? extends Source> sources, Iterable<? extends CompilerEventHandler> compilerEventHandlers, PostProcessorObserver postProcessorObserver) throws PureCompilationException, PureParserException
     {
-        MutableSet<CoreInstance> potentialToProcess = this.walkTheGraphForUnload(this.toUnload).withAll(this.toProcess).withAll(this.toUnbind);
-
-        this.unload();
-        this.toProcess = this.removeNodesFromRemovedSources(this.toProcess);
-
         IncrementalCompilerTransaction threadLocalTransaction = this.transactionManager.getThreadLocalTransaction();
+        boolean shouldCreateNewTransaction = this.isTransactionalByDefault && (threadLocalTransaction == null);
+        CompilerState savedState = shouldCreateNewTransaction ? new NewCompilerState() : null;
+        IncrementalCompilerTransaction transaction = shouldCreateNewTransaction ? this.newTransaction(true) : threadLocalTransaction;
+        MutableSet<CoreInstance> transactionInstances = Sets.mutable.empty();
 
         SourceMutation result;
         MutableListMultimap<String, Source> compiledSourcesByRepo = Multimaps.mutable.list.empty();
-        if (sources.isEmpty())
+        try
         {
-            // We must compile even if the set of sources is empty, as post-processing or validation may be required for nodes from already compiled sources.
-            boolean shouldCreateNewRepoTransaction = this.isTransactionalByDefault && (threadLocalTransaction == null);
-            IncrementalCompilerTransaction repoTransaction = shouldCreateNewRepoTransaction ? this.newTransaction(true) : threadLocalTransaction;
-            MutableSet<CoreInstance> repoTransactionInstances = Sets.mutable.empty();
-            try
+            // Unload in the same transaction as the compilation, so that neither is visible until both are committed
+            MutableSet<CoreInstance> potentialToProcess;
+            try (ThreadLocalTransactionContext ignored = (transaction != null) ? transaction.openInCurrentThread() : null)
             {
-                result = this.compileRepoSources(repoTransaction, "Pure", 1, 1, sources, this.toProcess.toImmutable(), this.toUnbind.toImmutable(), Lists.mutable.<SourceState>with(), repoTransactionInstances, postProcessorObserver);
-                if (shouldCreateNewRepoTransaction)
-                {
-                    repoTransaction.commit();
-                }
+                potentialToProcess = this.walkTheGraphForUnload(this.toUnload).withAll(this.toProcess).withAll(this.toUnbind);
+                this.unload();
             }
-            catch (Exception e)
+            this.toProcess = this.removeNodesFromRemovedSources(this.toProcess);
+
+            if (sources.isEmpty())
             {
-                if (shouldCreateNewRepoTransaction)
-                {
-                    this.rollBack(repoTransaction, e, repoTransactionInstances);
-                }
-                throw e;
+                // We must compile even if the set of sources is empty, as post-processing or validation may be required for nodes from already compiled sources.
+                result = this.compileRepoSources(transaction, "Pure", 1, 1, sources, this.toProcess.toImmutable(), this.toUnbind.toImmutable(), Lists.mutable.<SourceState>with(), transactionInstances, postProcessorObserver);
             }
-        }
-        else
-        {
-            result = new SourceMutation();
+            else
+            {
+                SourceMutation sourceMutation = new SourceMutation();
 
-            Multimap<String, ? extends Source> sourcesByRepo = sources.groupBy(s -> CompositeCodeStorage.getSourceRepoName(s.getId()));
-            Multimap<String, ? extends Source> sourcesByRepoNew = sources.groupBy(CompositeCodeStorage.GET_SOURCE_REPO);
-            Multimap<String, SourceState> sourceStatesByRepo = this.oldSourceStates.groupBy(IncrementalCompiler_New::getSourceStateRepo);
-            Multimap<String, CoreInstance> potentialRepos = potentialToProcess.groupBy(GET_COREINSTANCE_REPO_NAME);
+                Multimap<String, ? extends Source> sourcesByRepo = sources.groupBy(s -> CompositeCodeStorage.getSourceRepoName(s.getId()));
+                Multimap<String, ? extends Source> sourcesByRepoNew = sources.groupBy(CompositeCodeStorage.GET_SOURCE_REPO);
+                Multimap<String, SourceState> sourceStatesByRepo = this.oldSourceStates.groupBy(IncrementalCompiler_New::getSourceStateRepo);
+                Multimap<String, CoreInstance> potentialRepos = potentialToProcess.groupBy(GET_COREINSTANCE_REPO_NAME);
 
-            MutableSet<String> allReposToCompile = Sets.mutable.withAll(sourcesByRepo.keysView()).withAll(potentialRepos.keysView());
+                MutableSet<String> allReposToCompile = Sets.mutable.withAll(sourcesByRepo.keysView()).withAll(potentialRepos.keysView());
 
-            ListIterable<String> repoCompileOrder = allReposToCompile.toSortedList(new RepositoryComparator(this.codeStorage.getAllRepositories()));
-            this.message.setMessage("Compiling repositories in the following order:" + repoCompileOrder.makeString("[", ",", "]"));
+                ListIterable<String> repoCompileOrder = allReposToCompile.toSortedList(new RepositoryComparator(this.codeStorage.getAllRepositories()));
+                this.message.setMessage("Compiling repositories in the following order:" + repoCompileOrder.makeString("[", ",", "]"));
 
-            boolean shouldCreateNewRepoTransactions = this.isTransactionalByDefault && (threadLocalTransaction == null);
-            repoCompileOrder.forEachWithIndex((repo, i) ->
-            {
-                IncrementalCompilerTransaction repoTransaction = shouldCreateNewRepoTransactions ? this.newTransaction(true) : threadLocalTransaction;
-                RichIterable<? extends Source> repoSources = sourcesByRepoNew.get(repo);
-                this.message.setMessage("Compiling '" + repo + "' (sources:" + repoSources.size() + ")");
-                RichIterable<CoreInstance> toProcessThisRepo = this.toProcess.selectWith(IncrementalCompiler_New::coreInstanceIsFromRepo, repo).toImmutable();
-                RichIterable<CoreInstance> toUnbindThisRepo = this.toUnbind.selectWith(IncrementalCompiler_New::coreInstanceIsFromRepo, repo).toImmutable();
-                MutableSet<CoreInstance> repoTransactionInstances = Sets.mutable.empty();
-
-                SourceMutation repoResult;
-                try
+                repoCompileOrder.forEachWithIndex((repo, i) ->
                 {
+                    RichIterable<? extends Source> repoSources = sourcesByRepoNew.get(repo);
+                    this.message.setMessage("Compiling '" + repo + "' (sources:" + repoSources.size() + ")");
+                    RichIterable<CoreInstance> toProcessThisRepo = this.toProcess.selectWith(IncrementalCompiler_New::coreInstanceIsFromRepo, repo).toImmutable();
+                    RichIterable<CoreInstance> toUnbindThisRepo = this.toUnbind.selectWith(IncrementalCompiler_New::coreInstanceIsFromRepo, repo).toImmutable();
+
                     long time = System.currentTimeMillis();
-                    repoResult = this.compileRepoSources(repoTransaction, repo, i + 1, repoCompileOrder.size(), repoSources, toProcessThisRepo, toUnbindThisRepo, sourceStatesByRepo.get(repo), repoTransactionInstances, postProcessorObserver);
-                    if (shouldCreateNewRepoTransactions)
-                    {
-                        repoTransaction.commit();
-                    }
+                    SourceMutation repoResult = this.compileRepoSources(transaction, repo, i + 1, repoCompileOrder.size(), repoSources, toProcessThisRepo, toUnbindThisRepo, sourceStatesByRepo.get(repo), transactionInstances, postProcessorObserver);
                     this.message.setMessage("Finished compiling " + repo + " in " + DurationFormatUtils.formatDuration(System.currentTimeMillis() - time, "HH:mm:ss", true));
-                }
-                catch (Exception e)
-                {
-                    if (shouldCreateNewRepoTransactions)
-                    {
-                        this.rollBack(repoTransaction, e, repoTransactionInstances);
-                    }
-                    throw e;
-                }
-                result.merge(repoResult);
-                compiledSourcesByRepo.putAll(repo, repoSources);
-            });
+                    sourceMutation.merge(repoResult);
+                    compiledSourcesByRepo.putAll(repo, repoSources);
+                });
+                result = sourceMutation;
+            }
+
+            // All repositories are committed together, so readers never see some compiled and others not
+            if (shouldCreateNewTransaction)
+            {
+                transaction.commit();
+            }
+        }
+        catch (Exception e)
+        {
+            if (shouldCreateNewTransaction)
+            {
+                this.rollBack(transaction, e, savedState, transactionInstances);
+            }
+            throw e;
         }
 
         this.runEventHandlers(compilerEventHandlers, this.processed, compiledSourcesByRepo);
@@ -161,10 +152,11 @@ public class IncrementalCompiler_New extends IncrementalCompiler
         return result;
     }
 
-    private SourceMutation compileRepoSources(IncrementalCompilerTransaction transaction, String repoName, int repoNum, int repoTotalCount, RichIterable<? extends Source> sources, RichIterable<CoreInstance> instancesToProcess, RichIterable<CoreInstance> instancesToUnbind, RichIterable<SourceState> sourceStates, MutableSet<CoreInstance> repoTransactionInstances, PostProcessorObserver observer) throws PureCompilationException, PureParserException
+    private SourceMutation compileRepoSources(IncrementalCompilerTransaction transaction, String repoName, int repoNum, int repoTotalCount, RichIterable<? extends Source> sources, RichIterable<CoreInstance> instancesToProcess, RichIterable<CoreInstance> instancesToUnbind, RichIterable<SourceState> sourceStates, MutableSet<CoreInstance> transactionInstances, PostProcessorObserver observer) throws PureCompilationException, PureParserException
     {
         String repoDisplayName = repoName == null ? "non-repository" : repoName;
-        try (ThreadLocalTransactionContext ignored = transaction != null ? transaction.openInCurrentThread() : null)
+        try (ThreadLocalTransactionContext ignored = transaction != null ? transaction.openInCurrentThread() : null;
+             ExecutionSpan ignoredSpan = ExecutionTracing.startSpan("compile", repoDisplayName))
         {
             AtomicInteger sourceNum = this.message == null ? null : new AtomicInteger(0);
             int sourceTotalCount = sources.size();
@@ -200,13 +192,16 @@ public class IncrementalCompiler_New extends IncrementalCompiler
                     throw new PureParserException(new SourceInformation(source.getId(), -1, -1, -1, -1), "Error parsing " + source.getId(), e);
                 }
             };
-            if (this.shouldParallelize(sourceTotalCount, PARSE_SOURCES_THRESHOLD))
-            {
-                ForkJoinTools.forEach(this.forkJoinPool, ListHelper.wrapListIterable(sources), parseSource, PARSE_SOURCES_THRESHOLD);
-            }
-            else
+            try (ExecutionSpan ignore = ExecutionTracing.startSpan("compile", "parse").withAttribute("sources", sourceTotalCount))
             {
-                sources.forEach(parseSource);
+                if (this.shouldParallelize(sourceTotalCount, PARSE_SOURCES_THRESHOLD))
+                {
+                    ForkJoinTools.forEach(this.forkJoinPool, ListHelper.wrapListIterable(sources), parseSource, PARSE_SOURCES_THRESHOLD);
+                }
+                else
+                {
+                    sources.forEach(parseSource);
+                }
             }
 
 
@@ -232,7 +227,10 @@ public class IncrementalCompiler_New extends IncrementalCompiler
 
             // Total Unbind set is ( generated here + obtained through call - non retained )
             MutableSet<CoreInstance> hereUnbind = toUnbindWithinRepo.union(oldButNotNew).union(instancesToUnbind.toSet());
-            Unbinder.process(hereUnbind, this.modelRepository, this.library, this.dslLibrary, this.context, this.processorSupport, new UnbindState(this.context, this.urlPatternLibrary, this.dslLibrary, this.processorSupport), this.message);
+            try (ExecutionSpan ignore = ExecutionTracing.startSpan("compile", "unbind").withAttribute("instances", hereUnbind.size()))
+            {
+                Unbinder.process(hereUnbind, this.modelRepository, this.library, this.dslLibrary, this.context, this.processorSupport, new UnbindState(this.context, this.urlPatternLibrary, this.dslLibrary, this.processorSupport), this.message);
+            }
 
             // Invalidate the unbound instances
             if (hereUnbind.notEmpty())
@@ -263,7 +261,7 @@ public class IncrementalCompiler_New extends IncrementalCompiler
             sources.forEach(source -> allInstances.addAllIterable(source.getNewInstances()));
 
             // Store the to be processed set for rollback
-            repoTransactionInstances.addAllIterable(newInstancesConsolidated);
+            transactionInstances.addAllIterable(newInstancesConsolidated);
 
             // Do postprocessing, validation - can throw an error
             SourceMutation result = this.finishRepoCompilation(repoDisplayName, allInstances, newInstancesConsolidated, ValidationType.SHALLOW, observer);
@@ -306,7 +304,11 @@ public class IncrementalCompiler_New extends IncrementalCompiler
             allInstances.forEach(this::registerInstanceInContext);
         }
 
-        SourceMutation sourceMutation = PostProcessor.process(newInstancesConsolidated, this.modelRepository, this.library, this.dslLibrary, this.codeStorage, this.context, this.processorSupport, this.urlPatternLibrary, this.message, observer);
+        SourceMutation sourceMutation;
+        try (ExecutionSpan ignore = ExecutionTracing.startSpan("compile", "postProcess").withAttribute("instances", newInstancesConsolidated.size()))
+        {
+            sourceMutation = PostProcessor.process(newInstancesConsolidated, this.modelRepository, this.library, this.dslLibrary, this.codeStorage, this.context, this.processorSupport, this.urlPatternLibrary, this.message, observer);
+        }
 
         if (validationType == ValidationType.DEEP)
         {
@@ -316,7 +318,10 @@ public class IncrementalCompiler_New extends IncrementalCompiler
         newInstancesConsolidated.removeIf(SourceMutation::isMarkedForDeletion);
 
         this.message.setMessage("Validating " + repoName + "...");
-        Validator.validateM3(newInstancesConsolidated, validationType, this.library, this.dslLibrary, this.additionalValidators.asUnmodifiable(), this.codeStorage, this.modelRepository, this.context, this.processorSupport);
+        try (ExecutionSpan ignore = ExecutionTracing.startSpan("compile", "validate").withAttribute("instances", newInstancesConsolidated.size()))
+        {
+            Validator.validateM3(newInstancesConsolidated, validationType, this.library, this.dslLibrary, this.additionalValidators.asUnmodifiable(), this.codeStorage, this.modelRepository, this.context, this.processorSupport);
+        }
 
         rebuildExclusionSet(this.modelRepository, this.processorSupport);
 
@@ -369,7 +374,8 @@ public class IncrementalCompiler_New extends IncrementalCompiler
 
     private MutableSet<CoreInstance> walkTheGraphForUnload(MutableSet<CoreInstance> instances)
     {
-        WalkerState walkerState = new WalkerState(this.processorSupport);
+        // Knowing which instances are unloaded lets the walk skip applications of functions whose signatures are unaffected
+        WalkerState walkerState = new WalkerState(this.processorSupport, instances);
         Matcher walkerMatcher = new Matcher(this.modelRepository, this.context, this.processorSupport);
 
         this.library.getParsers().asLazy().flatCollect(Parser::getUnLoadWalkers).concatenate(this.dslLibrary.getInlineDSLs().asLazy().flatCollect(InlineDSL::getUnLoadWalkers)).forEach(walkerMatcher::addMatchIfTypeIsKnown);
@@ -377,12 +383,14 @@ public class IncrementalCompiler_New extends IncrementalCompiler
         return walkerState.getInstances().toSet();
     }
 
-    private void rollBack(IncrementalCompilerTransaction transaction, Throwable t, MutableSet<CoreInstance> repoTransactionInstances) throws PureCompilationException
+    private void rollBack(IncrementalCompilerTransaction transaction, Throwable t, CompilerState savedState, MutableSet<CoreInstance> transactionInstances) throws PureCompilationException
     {
         try
         {
+            MutableSet<CoreInstance> toUpdate = this.toProcess.union(transactionInstances);
             transaction.rollback();
-            this.toProcess.union(repoTransactionInstances).forEach(this.context::update);
+            savedState.restore();
+            toUpdate.withAll(this.toProcess).forEach(this.context::update);
         }
         catch (Throwable ignore)
         {
@@ -414,7 +422,7 @@ public class IncrementalCompiler_New extends IncrementalCompiler
             pkg._childrenRemove((PackageableElement) instance);
         }
         this.toProcess.remove(instance);
-        this.context.remove(instance);
+        this.removeFromContext(instance);
     }
 
     private void tryRemovePackage(CoreInstance instance)
@@ -439,6 +447,25 @@ public class IncrementalCompiler_New extends IncrementalCompiler
         super.updateSource(source, oldContent);
     }
 
+    private class NewCompilerState extends CompilerState
+    {
+        private final MutableSet<SourceState> oldSourceStates = Sets.mutable.withAll(IncrementalCompiler_New.this.oldSourceStates);
+        private final MutableSet<CoreInstance> toUnbind = Sets.mutable.withAll(IncrementalCompiler_New.this.toUnbind);
+        private final MutableSet<CoreInstance> processed = Sets.mutable.withAll(IncrementalCompiler_New.this.processed);
+
+        @Override
+        void restore()
+        {
+            super.restore();
+            IncrementalCompiler_New.this.oldSourceStates.clear();
+            IncrementalCompiler_New.this.oldSourceStates.addAll(this.oldSourceStates);
+            IncrementalCompiler_New.this.toUnbind.clear();
+            IncrementalCompiler_New.this.toUnbind.addAll(this.toUnbind);
+            IncrementalCompiler_New.this.processed.clear();
+            IncrementalCompiler_New.this.processed.addAll(this.processed);
+        }
+    }
+
     private static String getSourceStateRepo(SourceState sourceState)
     {
         String repo = CompositeCodeStorage.getSourceRepoName(sourceState.getSource().getId());
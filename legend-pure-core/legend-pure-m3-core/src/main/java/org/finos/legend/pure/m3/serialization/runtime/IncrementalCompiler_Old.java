@@ -37,6 +37,8 @@ import org.finos.legend.pure.m3.serialization.grammar.Parser;
 import org.finos.legend.pure.m3.serialization.grammar.m3parser.inlinedsl.InlineDSL;
 import org.finos.legend.pure.m3.serialization.grammar.top.TopParser;
 import org.finos.legend.pure.m3.serialization.runtime.pattern.URLPatternLibrary;
+import org.finos.legend.pure.m3.statelistener.ExecutionSpan;
+import org.finos.legend.pure.m3.statelistener.ExecutionTracing;
 import org.finos.legend.pure.m3.statelistener.VoidM3M4StateListener;
 import org.finos.legend.pure.m3.tools.ListHelper;
 import org.finos.legend.pure.m3.tools.forkjoin.ForkJoinTools;
@@ -53,9 +55,9 @@ import java.util.concurrent.atomic.AtomicInteger;
 
 public class IncrementalCompiler_Old extends IncrementalCompiler
 {
-    IncrementalCompiler_Old(RichIterable<? extends Parser> parsers, RichIterable<? extends InlineDSL> inlineDSLs, RepositoryCodeStorage codeStorage, URLPatternLibrary urlPatternLibrary, Message message, CoreInstanceFactoryRegistry factoryRegistryOverride, ForkJoinPool forkJoinPool, boolean isTransactionalByDefault)
+    IncrementalCompiler_Old(RichIterable<? extends Parser> parsers, RichIterable<? extends InlineDSL> inlineDSLs, RepositoryCodeStorage codeStorage, URLPatternLibrary urlPatternLibrary, Message message, CoreInstanceFactoryRegistry factoryRegistryOverride, ForkJoinPool forkJoinPool, boolean isTransactionalByDefault, IncrementalCompiler base)
     {
-        super(parsers, inlineDSLs, codeStorage, urlPatternLibrary, message, factoryRegistryOverride, forkJoinPool, isTransactionalByDefault);
+        super(parsers, inlineDSLs, codeStorage, urlPatternLibrary, message, factoryRegistryOverride, forkJoinPool, isTransactionalByDefault, base);
     }
 
     //----------
@@ -65,70 +67,63 @@ public class IncrementalCompiler_Old extends IncrementalCompiler
     @Override
     SourceMutation compile(RichIterable<? extends Source> sources, Iterable<? extends CompilerEventHandler> compilerEventHandlers, PostProcessorObserver postProcessorObserver) throws PureCompilationException, PureParserException
     {
-        this.unload();
-
-        this.toProcess = this.removeNodesFromSourcesInScope(sources, this.toProcess);
-        MutableSet<CoreInstance> copyToProcess = Sets.mutable.withAll(this.toProcess);
-
         IncrementalCompilerTransaction threadLocalTransaction = this.transactionManager.getThreadLocalTransaction();
+        boolean shouldCreateNewTransaction = this.isTransactionalByDefault && (threadLocalTransaction == null);
+        CompilerState savedState = shouldCreateNewTransaction ? new CompilerState() : null;
+        IncrementalCompilerTransaction transaction = shouldCreateNewTransaction ? this.newTransaction(true) : threadLocalTransaction;
 
         SourceMutation result;
+        MutableSet<CoreInstance> copyToProcess;
         MutableListMultimap<String, Source> compiledSourcesByRepo = Multimaps.mutable.list.empty();
-        if (sources.isEmpty())
+        try
         {
-            // We must compile even if the set of sources is empty, as post-processing or validation may be required for nodes from already compiled sources.
-            IncrementalCompilerTransaction repoTransaction = this.isTransactionalByDefault && threadLocalTransaction == null ? this.newTransaction(true) : threadLocalTransaction;
-            try
+            // Unload in the same transaction as the compilation, so that neither is visible until both are committed
+            try (ThreadLocalTransactionContext ignored = (transaction != null) ? transaction.openInCurrentThread() : null)
             {
-                result = this.compileRepoSources(repoTransaction, "Pure", 1, 1, sources, this.toProcess, postProcessorObserver);
-                if (this.isTransactionalByDefault && threadLocalTransaction == null)
-                {
-                    repoTransaction.commit();
-                }
+                this.unload();
             }
-            catch (RuntimeException e)
+
+            this.toProcess = this.removeNodesFromSourcesInScope(sources, this.toProcess);
+            copyToProcess = Sets.mutable.withAll(this.toProcess);
+
+            if (sources.isEmpty())
+            {
+                // We must compile even if the set of sources is empty, as post-processing or validation may be required for nodes from already compiled sources.
+                result = this.compileRepoSources(transaction, "Pure", 1, 1, sources, this.toProcess, postProcessorObserver);
+            }
+            else
             {
-                if (this.isTransactionalByDefault && threadLocalTransaction == null)
+                SourceMutation sourceMutation = new SourceMutation();
+
+                Multimap<String, ? extends Source> sourcesByRepo = sources.groupBy((Source source) -> CompositeCodeStorage.getSourceRepoName(source.getId()));
+                Multimap<String, CoreInstance> toProcessByRepo = this.toProcess.groupBy(GET_COREINSTANCE_REPO_NAME);
+                MutableSet<String> allReposToCompile = Sets.mutable.withAll(sourcesByRepo.keysView()).withAll(toProcessByRepo.keysView());
+
+                int repoCount = allReposToCompile.size();
+                allReposToCompile.toSortedList(new RepositoryComparator(this.codeStorage.getAllRepositories())).forEachWithIndex((repo, i) ->
                 {
-                    this.rollBack(repoTransaction, e);
-                }
-                throw e;
+                    RichIterable<? extends Source> repoSources = sourcesByRepo.get(repo);
+                    RichIterable<CoreInstance> toProcessThisRepo = toProcessByRepo.get(repo);
+                    SourceMutation repoResult = this.compileRepoSources(transaction, repo, i + 1, repoCount, repoSources, toProcessThisRepo, postProcessorObserver);
+                    sourceMutation.merge(repoResult);
+                    compiledSourcesByRepo.putAll(repo, repoSources);
+                });
+                result = sourceMutation;
+            }
+
+            // All repositories are committed together, so readers never see some compiled and others not
+            if (shouldCreateNewTransaction)
+            {
+                transaction.commit();
             }
         }
-        else
+        catch (RuntimeException e)
         {
-            result = new SourceMutation();
-
-            Multimap<String, ? extends Source> sourcesByRepo = sources.groupBy((Source source) -> CompositeCodeStorage.getSourceRepoName(source.getId()));
-            Multimap<String, CoreInstance> toProcessByRepo = this.toProcess.groupBy(GET_COREINSTANCE_REPO_NAME);
-            MutableSet<String> allReposToCompile = Sets.mutable.withAll(sourcesByRepo.keysView()).withAll(toProcessByRepo.keysView());
-
-            int repoCount = allReposToCompile.size();
-            allReposToCompile.toSortedList(new RepositoryComparator(this.codeStorage.getAllRepositories())).forEachWithIndex((repo, i) ->
+            if (shouldCreateNewTransaction)
             {
-                IncrementalCompilerTransaction repoTransaction = this.isTransactionalByDefault && threadLocalTransaction == null ? this.newTransaction(true) : threadLocalTransaction;
-                RichIterable<? extends Source> repoSources = sourcesByRepo.get(repo);
-                RichIterable<CoreInstance> toProcessThisRepo = toProcessByRepo.get(repo);
-                SourceMutation repoResult;
-                try
-                {
-                    repoResult = this.compileRepoSources(repoTransaction, repo, i + 1, repoCount, repoSources, toProcessThisRepo, postProcessorObserver);
-                    if (this.isTransactionalByDefault && threadLocalTransaction == null)
-                    {
-                        repoTransaction.commit();
-                    }
-                }
-                catch (RuntimeException e)
-                {
-                    if (this.isTransactionalByDefault && threadLocalTransaction == null)
-                    {
-                        this.rollBack(repoTransaction, e);
-                    }
-                    throw e;
-                }
-                result.merge(repoResult);
-                compiledSourcesByRepo.putAll(repo, repoSources);
-            });
+                this.rollBack(transaction, e, savedState);
+            }
+            throw e;
         }
 
         this.runEventHandlers(compilerEventHandlers, copyToProcess, compiledSourcesByRepo);
@@ -138,7 +133,8 @@ public class IncrementalCompiler_Old extends IncrementalCompiler
     private SourceMutation compileRepoSources(IncrementalCompilerTransaction transaction, String repoName, int repoNum, int repoTotalCount, RichIterable<? extends Source> sources, RichIterable<CoreInstance> instancesToProcess, PostProcessorObserver postProcessorObserver) throws PureCompilationException, PureParserException
     {
         String repoDisplayName = repoName == null ? "non-repository" : repoName;
-        try (ThreadLocalTransactionContext ignored = transaction != null ? transaction.openInCurrentThread() : null)
+        try (ThreadLocalTransactionContext ignored = transaction != null ? transaction.openInCurrentThread() : null;
+             ExecutionSpan ignoredSpan = ExecutionTracing.startSpan("compile", repoDisplayName))
         {
             AtomicInteger sourceNum = this.message == null ? null : new AtomicInteger(0);
             int sourceTotalCount = sources.size();
@@ -173,13 +169,16 @@ public class IncrementalCompiler_Old extends IncrementalCompiler
                     throw new PureParserException(new SourceInformation(source.getId(), -1, -1, -1, -1), "Error parsing " + source.getId(), e);
                 }
             };
-            if (this.shouldParallelize(sourceTotalCount, PARSE_SOURCES_THRESHOLD))
+            try (ExecutionSpan ignore = ExecutionTracing.startSpan("compile", "parse").withAttribute("sources", sourceTotalCount))
             {
-                ForkJoinTools.forEach(this.forkJoinPool, ListHelper.wrapListIterable(sources), parseSource, PARSE_SOURCES_THRESHOLD);
-            }
-            else
-            {
-                sources.forEach(parseSource);
+                if (this.shouldParallelize(sourceTotalCount, PARSE_SOURCES_THRESHOLD))
+                {
+                    ForkJoinTools.forEach(this.forkJoinPool, ListHelper.wrapListIterable(sources), parseSource, PARSE_SOURCES_THRESHOLD);
+                }
+                else
+                {
+                    sources.forEach(parseSource);
+                }
             }
             MutableList<CoreInstance> newInstancesConsolidated = sources.flatCollect(Source::getNewInstances, instancesToProcess.toList());
             return this.finishRepoCompilation(repoDisplayName, newInstancesConsolidated, ValidationType.SHALLOW, postProcessorObserver);
@@ -215,7 +214,10 @@ public class IncrementalCompiler_Old extends IncrementalCompiler
 
     private void unbindGraphDependencies(SetIterable<CoreInstance> consolidatedCoreInstances)
     {
-        Unbinder.process(consolidatedCoreInstances, this.modelRepository, this.library, this.dslLibrary, this.context, this.processorSupport, new UnbindState(this.context, this.urlPatternLibrary, this.dslLibrary, this.processorSupport), this.message);
+        try (ExecutionSpan ignore = ExecutionTracing.startSpan("compile", "unbind").withAttribute("instances", consolidatedCoreInstances.size()))
+        {
+            Unbinder.process(consolidatedCoreInstances, this.modelRepository, this.library, this.dslLibrary, this.context, this.processorSupport, new UnbindState(this.context, this.urlPatternLibrary, this.dslLibrary, this.processorSupport), this.message);
+        }
         this.toProcess.addAllIterable(consolidatedCoreInstances);
     }
 
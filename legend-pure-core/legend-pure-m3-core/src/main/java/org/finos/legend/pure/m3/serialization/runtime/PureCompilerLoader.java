@@ -351,6 +351,8 @@ public abstract class PureCompilerLoader
             long fnsByNameStart = System.nanoTime();
             LOGGER.debug("Loading functions by name");
             Context context = runtime.getContext();
+            // elements are loaded lazily, and so are not registered in the element name index
+            context.getElementNameIndex().setComplete(false);
             repositories.forEach(repo -> loadModuleFunctionsByName(repo).getFunctionsByName().forEach(fbn ->
             {
                 String funcName = fbn.getFunctionName();
@@ -17,6 +17,7 @@ package org.finos.legend.pure.m3.serialization.runtime;
 import org.eclipse.collections.api.LazyIterable;
 import org.eclipse.collections.api.RichIterable;
 import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.factory.Sets;
 import org.eclipse.collections.api.list.ListIterable;
 import org.eclipse.collections.api.list.MutableList;
 import org.eclipse.collections.api.map.MapIterable;
@@ -24,6 +25,7 @@ import org.eclipse.collections.api.map.primitive.IntObjectMap;
 import org.eclipse.collections.api.map.primitive.MutableIntObjectMap;
 import org.eclipse.collections.api.multimap.list.MutableListMultimap;
 import org.eclipse.collections.api.partition.PartitionIterable;
+import org.eclipse.collections.api.set.SetIterable;
 import org.eclipse.collections.api.tuple.Pair;
 import org.eclipse.collections.impl.factory.Multimaps;
 import org.eclipse.collections.impl.factory.primitive.IntObjectMaps;
@@ -63,6 +65,7 @@ import org.finos.legend.pure.m4.exception.PureException;
 import org.finos.legend.pure.m4.serialization.binary.BinaryRepositorySerializer;
 import org.finos.legend.pure.m4.serialization.grammar.M4Parser;
 import org.finos.legend.pure.m4.serialization.grammar.antlr.PureParserException;
+import org.finos.legend.pure.m4.transaction.GraphVersionPin;
 import org.finos.legend.pure.m4.transaction.framework.ThreadLocalTransactionContext;
 
 import java.io.File;
@@ -81,6 +84,7 @@ public class PureRuntime
     private final SourceRegistry sourceRegistry;
     private final PureGraphCache cache;
     private final IncrementalCompiler incrementalCompiler;
+    private final PureRuntime base;
 
     private final Object initializationLock = new Object();
     private boolean initialized = false;
@@ -94,8 +98,13 @@ public class PureRuntime
 
     PureRuntime(MutableRepositoryCodeStorage codeStorage, PureGraphCache cache,
                 PureRuntimeStatus pureRuntimeStatus, Message message, CoreInstanceFactoryRegistry factoryRegistryOverride, ForkJoinPool incrementalCompilerForkJoinPool,
-                boolean isTransactionByDefault, boolean useFastCompiler, ExecutedTestTracker executedTestTracker, RuntimeOptions options)
+                boolean isTransactionByDefault, boolean useFastCompiler, ExecutedTestTracker executedTestTracker, RuntimeOptions options, PureRuntime base)
     {
+        if ((base != null) && !base.isFrozen())
+        {
+            throw new IllegalArgumentException("Base runtime must be frozen");
+        }
+        this.base = base;
         this.pureRuntimeStatus = pureRuntimeStatus;
         this.cache = cache;
         this.cache.setPureRuntime(this);
@@ -106,10 +115,10 @@ public class PureRuntime
 
         this.incrementalCompiler =
                 useFastCompiler ?
-                        new IncrementalCompiler_New(parsers, inlineDSLs, codeStorage, this.patternLibrary, message, factoryRegistryOverride, incrementalCompilerForkJoinPool, isTransactionByDefault) :
-                        new IncrementalCompiler_Old(parsers, inlineDSLs, codeStorage, this.patternLibrary, message, factoryRegistryOverride, incrementalCompilerForkJoinPool, isTransactionByDefault);
+                        new IncrementalCompiler_New(parsers, inlineDSLs, codeStorage, this.patternLibrary, message, factoryRegistryOverride, incrementalCompilerForkJoinPool, isTransactionByDefault, (base == null) ? null : base.incrementalCompiler) :
+                        new IncrementalCompiler_Old(parsers, inlineDSLs, codeStorage, this.patternLibrary, message, factoryRegistryOverride, incrementalCompilerForkJoinPool, isTransactionByDefault, (base == null) ? null : base.incrementalCompiler);
 
-        this.sourceRegistry = new SourceRegistry(codeStorage, this.incrementalCompiler.getParserLibrary(), Lists.fixedSize.<SourceEventHandler>of(this.incrementalCompiler));
+        this.sourceRegistry = new SourceRegistry(codeStorage, this.incrementalCompiler.getParserLibrary(), Lists.fixedSize.<SourceEventHandler>of(this.incrementalCompiler), (base == null) ? null : base.sourceRegistry);
 
         this.executedTestTracker = executedTestTracker;
 
@@ -136,7 +145,10 @@ public class PureRuntime
                     {
                         message.setMessage("Initializing...");
                     }
-                    this.loadAndCompileCore(message);
+                    if (this.base == null)
+                    {
+                        this.loadAndCompileCore(message);
+                    }
                     try
                     {
                         this.loadAndCompileSystem(message);
@@ -179,6 +191,30 @@ public class PureRuntime
         }
     }
 
+    /**
+     * Freeze the runtime, so that it may be used as the base for other runtimes (see
+     * {@link PureRuntimeBuilder#withBase}). After this, nothing more may be compiled in this runtime.
+     */
+    public void freeze()
+    {
+        this.incrementalCompiler.freeze();
+    }
+
+    public boolean isFrozen()
+    {
+        return getModelRepository().isFrozen();
+    }
+
+    /**
+     * Get the base runtime this runtime is layered over, or null if there is none.
+     *
+     * @return base runtime or null
+     */
+    public PureRuntime getBase()
+    {
+        return this.base;
+    }
+
     public URLPatternLibrary getURLPatternLibrary()
     {
         return this.patternLibrary;
@@ -214,6 +250,20 @@ public class PureRuntime
         return this.incrementalCompiler.getModelRepository();
     }
 
+    /**
+     * Pin the current version of the graph in the current thread, so that a function execution can proceed while
+     * another thread compiles. See {@link ModelRepository#pinVersion()}.
+     * <p>
+     * Only the graph itself is versioned: caches derived from it (e.g., in the context or the processor support) are
+     * not, so they should only be used for elements which are not being recompiled.
+     *
+     * @return pin
+     */
+    public GraphVersionPin pinGraphVersion()
+    {
+        return getModelRepository().pinVersion();
+    }
+
     public Context getContext()
     {
         return this.incrementalCompiler.getContext();
@@ -502,7 +552,7 @@ public class PureRuntime
         {
             if (this.willModify(path, code))
             {
-                this.executedTestTracker.invalidate();
+                this.executedTestTracker.invalidate(getSourceElementPaths(path));
             }
         }
         this.pureRuntimeStatus.modifySource(path, code);
@@ -533,6 +583,7 @@ public class PureRuntime
 
     public void delete(String sourceId, boolean logical)
     {
+        SetIterable<String> deletedElements = (this.executedTestTracker == null) ? null : getSourceElementPaths(sourceId);
         this.pureRuntimeStatus.deleteSource(sourceId);
         Source source = this.sourceRegistry.getSource(sourceId);
         if (source == null)
@@ -554,8 +605,23 @@ public class PureRuntime
         }
         if (this.executedTestTracker != null)
         {
-            this.executedTestTracker.invalidate();
+            this.executedTestTracker.invalidate(deletedElements);
+        }
+    }
+
+    /**
+     * Paths of the elements currently defined in a source, or null if they are not known because the source is
+     * unknown or not compiled.
+     */
+    private SetIterable<String> getSourceElementPaths(String sourceId)
+    {
+        Source source = this.sourceRegistry.getSource(sourceId);
+        if ((source == null) || !source.isCompiled())
+        {
+            return null;
         }
+        ListIterable<CoreInstance> elements = source.getNewInstances();
+        return (elements == null) ? null : elements.collect(PackageableElement::getUserPathForPackageableElement, Sets.mutable.ofInitialCapacity(elements.size()));
     }
 
     public void move(String sourceId, String destinationId)
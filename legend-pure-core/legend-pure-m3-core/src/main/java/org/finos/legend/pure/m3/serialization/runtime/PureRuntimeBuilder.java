@@ -40,6 +40,7 @@ public class PureRuntimeBuilder
     private boolean useFastCompiler = true;
     private ExecutedTestTracker executedTestTracker;
     private RuntimeOptions options = RuntimeOptions.systemPropertyOptions("pure.options.");
+    private PureRuntime base;
 
     public PureRuntimeBuilder(MutableRepositoryCodeStorage codeStorage)
     {
@@ -107,9 +108,27 @@ public class PureRuntimeBuilder
         return this;
     }
 
+    /**
+     * Layer the runtime over a frozen base runtime (see {@link PureRuntime#freeze()}). The graph, context, and sources
+     * of the base are visible in the new runtime, which only compiles the sources the base does not have. Any number of
+     * runtimes may share one base, e.g., one compiled platform shared between per-user runtimes.
+     * <p>
+     * Note that while the base graph cannot be added to, its instances are not copied, so the back references the
+     * compiler records on them (package children, specializations, applications, reference usages) are visible to every runtime sharing
+     * the base. The factory registry override is ignored, as the runtime uses the instance factories of the base.
+     *
+     * @param base frozen base runtime
+     * @return this builder
+     */
+    public PureRuntimeBuilder withBase(PureRuntime base)
+    {
+        this.base = base;
+        return this;
+    }
+
     public PureRuntime build()
     {
-        PureRuntime runtime = new PureRuntime(this.codeStorage, this.cache, this.pureRuntimeStatus, this.message, this.factoryRegistryOverride, this.incrementalCompilerForkJoinPool, this.isTransactionalByDefault, this.useFastCompiler, this.executedTestTracker, this.options);
+        PureRuntime runtime = new PureRuntime(this.codeStorage, this.cache, this.pureRuntimeStatus, this.message, this.factoryRegistryOverride, this.incrementalCompilerForkJoinPool, this.isTransactionalByDefault, this.useFastCompiler, this.executedTestTracker, this.options, this.base);
         this.compilerEventHandlerFactoryFunctions.forEach(factory -> runtime.getIncrementalCompiler().addCompilerEventHandler(factory.apply(runtime)));
         return runtime;
     }
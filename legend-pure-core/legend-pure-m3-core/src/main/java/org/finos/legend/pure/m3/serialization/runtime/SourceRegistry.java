@@ -35,12 +35,28 @@ public class SourceRegistry
     private final ImmutableList<SourceEventHandler> sourceEventHandlers;
     private final ConcurrentMutableMap<String, Source> sourcesById = ConcurrentHashMap.newMap();
     private final ParserLibrary parserLibrary;
-
-    public SourceRegistry(MutableRepositoryCodeStorage codeStorage, ParserLibrary parserLibrary, Iterable<? extends SourceEventHandler> sourceEventHandlers)
+    private final SourceRegistry base;
+
+    /**
+     * Create a source registry layered over the registry of a base runtime. Sources of the base are visible through
+     * this registry, but new sources are only registered with this one.
+     *
+     * @param codeStorage         code storage
+     * @param parserLibrary       parser library
+     * @param sourceEventHandlers source event handlers
+     * @param base                base source registry (may be null)
+     */
+    public SourceRegistry(MutableRepositoryCodeStorage codeStorage, ParserLibrary parserLibrary, Iterable<? extends SourceEventHandler> sourceEventHandlers, SourceRegistry base)
     {
         this.codeStorage = codeStorage;
         this.parserLibrary = parserLibrary;
         this.sourceEventHandlers = Lists.immutable.withAll(sourceEventHandlers);
+        this.base = base;
+    }
+
+    public SourceRegistry(MutableRepositoryCodeStorage codeStorage, ParserLibrary parserLibrary, Iterable<? extends SourceEventHandler> sourceEventHandlers)
+    {
+        this(codeStorage, parserLibrary, sourceEventHandlers, null);
     }
 
     public SourceRegistry(MutableRepositoryCodeStorage codeStorage, ParserLibrary parserLibrary, SourceEventHandler... sourceEventHandlers)
@@ -55,27 +71,28 @@ public class SourceRegistry
 
     public RichIterable<String> getSourceIds()
     {
-        return this.sourcesById.keysView();
+        return (this.base == null) ? this.sourcesById.keysView() : this.base.getSourceIds().asLazy().concatenate(this.sourcesById.keysView());
     }
 
     public RichIterable<Source> getSources()
     {
-        return this.sourcesById.valuesView();
+        return (this.base == null) ? this.sourcesById.valuesView() : this.base.getSources().asLazy().concatenate(this.sourcesById.valuesView());
     }
 
     public int getSourceCount()
     {
-        return this.sourcesById.size();
+        return this.sourcesById.size() + ((this.base == null) ? 0 : this.base.getSourceCount());
     }
 
     public boolean hasSource(String id)
     {
-        return this.sourcesById.containsKey(id);
+        return this.sourcesById.containsKey(id) || ((this.base != null) && this.base.hasSource(id));
     }
 
     public Source getSource(String id)
     {
-        return this.sourcesById.get(id);
+        Source source = this.sourcesById.get(id);
+        return ((source == null) && (this.base != null)) ? this.base.getSource(id) : source;
     }
 
     public RichIterable<SourceCoordinates> find(String string)
@@ -85,7 +102,7 @@ public class SourceRegistry
 
     public RichIterable<SourceCoordinates> find(String string, boolean caseSensitive, Pattern sourceIdPattern)
     {
-        MutableList<SourceCoordinates> results = Lists.mutable.empty();
+        MutableList<SourceCoordinates> results = (this.base == null) ? Lists.mutable.empty() : Lists.mutable.withAll(this.base.find(string, caseSensitive, sourceIdPattern));
         if (sourceIdPattern == null)
         {
             this.sourcesById.forEachValue(source -> results.addAllIterable(source.find(string, caseSensitive)));
@@ -110,7 +127,7 @@ public class SourceRegistry
 
     public RichIterable<SourceCoordinates> find(Pattern pattern, Pattern sourceIdPattern)
     {
-        MutableList<SourceCoordinates> results = Lists.mutable.empty();
+        MutableList<SourceCoordinates> results = (this.base == null) ? Lists.mutable.empty() : Lists.mutable.withAll(this.base.find(pattern, sourceIdPattern));
         if (sourceIdPattern == null)
         {
             this.sourcesById.forEachValue(source -> results.addAllIterable(source.find(pattern)));
@@ -133,7 +150,7 @@ public class SourceRegistry
         MutableList<SourceCoordinates> results = Lists.mutable.empty();
         coordinates.forEach(coordinate ->
         {
-            Source source = this.sourcesById.get(coordinate.getSourceId());
+            Source source = getSource(coordinate.getSourceId());
             if (source == null)
             {
                 return;
@@ -152,13 +169,13 @@ public class SourceRegistry
 
     public RichIterable<String> findSourceIds(Pattern sourceIdPattern)
     {
-        return this.sourcesById.keysView().select(id -> sourceIdPattern.matcher(id).matches(), Lists.mutable.empty());
+        return getSourceIds().select(id -> sourceIdPattern.matcher(id).matches(), Lists.mutable.empty());
     }
 
     public RichIterable<String> findSourceIds(String fileName)
     {
         String lowerCaseFileName = fileName.toLowerCase();
-        return this.sourcesById.keysView().select(id -> id.toLowerCase().contains(lowerCaseFileName), Lists.mutable.empty());
+        return getSourceIds().select(id -> id.toLowerCase().contains(lowerCaseFileName), Lists.mutable.empty());
     }
 
     void registerSource(Source source)
@@ -173,7 +190,7 @@ public class SourceRegistry
             throw new IllegalArgumentException("Invalid source id: " + id);
         }
 
-        Source value = this.sourcesById.getIfAbsentPut(id, source);
+        Source value = ((this.base != null) && this.base.hasSource(id)) ? this.base.getSource(id) : this.sourcesById.getIfAbsentPut(id, source);
         if (value != source)
         {
             throw new RuntimeException("Source id '" + id + "' is already in use");
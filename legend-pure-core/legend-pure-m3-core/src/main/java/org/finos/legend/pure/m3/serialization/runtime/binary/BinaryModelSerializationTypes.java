@@ -41,4 +41,9 @@ class BinaryModelSerializationTypes
     static final byte ANONYMOUS_INSTANCE = 15;
     static final byte OTHER_INSTANCE = 16;
     static final byte ENUM_INSTANCE = 17;
+
+    // Source information (NO_SOURCE_INFO and UNPACKED_SOURCE_INFO coincide with boolean false and true)
+    static final byte NO_SOURCE_INFO = 0;
+    static final byte UNPACKED_SOURCE_INFO = 1;
+    static final byte PACKED_SOURCE_INFO = 2;
 }
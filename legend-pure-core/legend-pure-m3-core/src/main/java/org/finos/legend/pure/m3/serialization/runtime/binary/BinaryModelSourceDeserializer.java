@@ -20,11 +20,13 @@ import org.eclipse.collections.api.factory.Maps;
 import org.eclipse.collections.api.list.ListIterable;
 import org.eclipse.collections.api.list.MutableList;
 import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.api.map.primitive.MutableLongObjectMap;
 import org.eclipse.collections.api.multimap.list.ListMultimap;
 import org.eclipse.collections.api.multimap.list.MutableListMultimap;
 import org.eclipse.collections.impl.Counter;
 import org.eclipse.collections.impl.block.factory.Functions;
 import org.eclipse.collections.impl.factory.Multimaps;
+import org.eclipse.collections.impl.factory.primitive.LongObjectMaps;
 import org.eclipse.collections.impl.list.fixed.ArrayAdapter;
 import org.eclipse.collections.impl.utility.LazyIterate;
 import org.finos.legend.pure.m3.coreinstance.M3CoreInstanceFactoryRegistry;
@@ -60,6 +62,7 @@ public class BinaryModelSourceDeserializer
     private ListIterable<Reference> otherExternalReferences;
     private ListIterable<ListIterable<String>> propertyRealKeys;
     private ListIterable<InternalNode> internalNodes;
+    private final MutableLongObjectMap<SourceInformation> packedSourceInfos = LongObjectMaps.mutable.empty();
 
     private BinaryModelSourceDeserializer(ExternalReferenceSerializerLibrary serializerLibrary, ReferenceFactory referenceFactory)
     {
@@ -311,19 +314,34 @@ public class BinaryModelSourceDeserializer
 
     private SourceInformation readSourceInformation(Reader reader)
     {
-        boolean hasSourceInfo = reader.readBoolean();
-        if (!hasSourceInfo)
+        byte code = reader.readByte();
+        switch (code)
         {
-            return null;
+            case BinaryModelSerializationTypes.NO_SOURCE_INFO:
+            {
+                return null;
+            }
+            case BinaryModelSerializationTypes.PACKED_SOURCE_INFO:
+            {
+                // identical ranges share a single instance
+                long packedPositions = reader.readLong();
+                return this.packedSourceInfos.getIfAbsentPut(packedPositions, () -> SourceInformation.fromPackedPositions(this.source.getId(), packedPositions));
+            }
+            case BinaryModelSerializationTypes.UNPACKED_SOURCE_INFO:
+            {
+                int startLine = reader.readInt();
+                int startColumn = reader.readInt();
+                int line = reader.readInt();
+                int column = reader.readInt();
+                int endLine = reader.readInt();
+                int endColumn = reader.readInt();
+                return new SourceInformation(this.source.getId(), startLine, startColumn, line, column, endLine, endColumn);
+            }
+            default:
+            {
+                throw new RuntimeException("Unknown source information code: " + code);
+            }
         }
-
-        int startLine = reader.readInt();
-        int startColumn = reader.readInt();
-        int line = reader.readInt();
-        int column = reader.readInt();
-        int endLine = reader.readInt();
-        int endColumn = reader.readInt();
-        return new SourceInformation(this.source.getId(), startLine, startColumn, line, column, endLine, endColumn);
     }
 
     private Reference readReference(Reader reader)
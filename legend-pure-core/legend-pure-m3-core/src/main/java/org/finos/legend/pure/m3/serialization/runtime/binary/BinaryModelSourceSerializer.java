@@ -397,14 +397,19 @@ public class BinaryModelSourceSerializer
 
     private void serializeSourceInformation(SourceInformation sourceInformation, Writer writer)
     {
+        // We don't need to write the source id, since we know it is this source
         if (sourceInformation == null)
         {
-            writer.writeBoolean(false);
+            writer.writeByte(BinaryModelSerializationTypes.NO_SOURCE_INFO);
+        }
+        else if (sourceInformation.getPackedPositions() != SourceInformation.NOT_PACKED)
+        {
+            writer.writeByte(BinaryModelSerializationTypes.PACKED_SOURCE_INFO);
+            writer.writeLong(sourceInformation.getPackedPositions());
         }
         else
         {
-            writer.writeBoolean(true);
-            // We don't need to write the source id, since we know it is this source
+            writer.writeByte(BinaryModelSerializationTypes.UNPACKED_SOURCE_INFO);
             writer.writeInt(sourceInformation.getStartLine());
             writer.writeInt(sourceInformation.getStartColumn());
             writer.writeInt(sourceInformation.getLine());
@@ -90,6 +90,25 @@ public class PureRepositoryJars
         }
     }
 
+    /**
+     * Get a PureRepositoryJar backed directly by the given bytes, without copying them. The caller must not modify the
+     * bytes afterwards.
+     *
+     * @param bytes jar bytes
+     * @return PureRepositoryJar
+     */
+    public static PureRepositoryJar wrap(byte[] bytes)
+    {
+        try
+        {
+            return new ByteArrayPureRepositoryJar(bytes);
+        }
+        catch (IOException e)
+        {
+            throw new UncheckedIOException("Error getting PureRepositoryJar from byte array", e);
+        }
+    }
+
     public static PureRepositoryJar get(ByteArrayOutputStream byteStream)
     {
         try
@@ -0,0 +1,212 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.m3.serialization.runtime.cache;
+
+import org.eclipse.collections.api.factory.Sets;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.api.set.MutableSet;
+import org.eclipse.collections.impl.map.mutable.ConcurrentHashMap;
+import org.finos.legend.pure.m3.compiler.Context;
+import org.finos.legend.pure.m3.navigation.ProcessorSupport;
+import org.finos.legend.pure.m3.serialization.filesystem.repository.CodeRepository;
+import org.finos.legend.pure.m3.serialization.filesystem.usercodestorage.ImmutableRepositoryCodeStorage;
+import org.finos.legend.pure.m3.serialization.filesystem.usercodestorage.RepositoryCodeStorage;
+import org.finos.legend.pure.m3.serialization.filesystem.usercodestorage.welcome.WelcomeCodeStorage;
+import org.finos.legend.pure.m3.serialization.grammar.ParserLibrary;
+import org.finos.legend.pure.m3.serialization.runtime.GraphLoader;
+import org.finos.legend.pure.m3.serialization.runtime.Message;
+import org.finos.legend.pure.m3.serialization.runtime.RepositoryComparator;
+import org.finos.legend.pure.m3.serialization.runtime.SourceRegistry;
+import org.finos.legend.pure.m3.serialization.runtime.binary.BinaryModelRepositorySerializer;
+import org.finos.legend.pure.m3.serialization.runtime.binary.PureRepositoryJar;
+import org.finos.legend.pure.m3.serialization.runtime.binary.PureRepositoryJarLibrary;
+import org.finos.legend.pure.m3.serialization.runtime.binary.PureRepositoryJars;
+import org.finos.legend.pure.m3.serialization.runtime.binary.SimplePureRepositoryJarLibrary;
+import org.finos.legend.pure.m3.tools.forkjoin.ForkJoinTools;
+import org.finos.legend.pure.m4.ModelRepository;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * A graph cache backed by a {@link TieredPureRepositoryJarStore}. Repositories are serialized individually, so
+ * building from the cache only touches the repositories the runtime needs, each of which is served from memory or
+ * loaded on demand from the store's spill directory while the graph is loaded. The store may be shared by the caches
+ * of several runtimes.
+ * <p>
+ * Only repositories from immutable code storages are written to the store. Repositories which may be modified by the
+ * user, including the root repository, are held privately by each cache. Clearing the cache only removes the
+ * repositories it wrote, leaving those written by other runtimes sharing the store.
+ */
+public class TieredGraphLoaderPureGraphCache extends AbstractPureGraphCache
+{
+    private static final String ROOT_REPOSITORY_NAME = "root";
+
+    private final TieredPureRepositoryJarStore store;
+    private final boolean allowBuildingFromRepoSubset;
+    private final ForkJoinPool forkJoinPool;
+    private final MutableSet<String> ownedRepositories = Sets.mutable.<String>empty().asSynchronized();
+    private final MutableMap<String, byte[]> privateRepositories = ConcurrentHashMap.newMap();
+
+    public TieredGraphLoaderPureGraphCache(TieredPureRepositoryJarStore store, boolean allowBuildingFromRepoSubset, ForkJoinPool forkJoinPool, Message message)
+    {
+        this.store = Objects.requireNonNull(store, "store may not be null");
+        this.allowBuildingFromRepoSubset = allowBuildingFromRepoSubset;
+        this.forkJoinPool = forkJoinPool;
+        initializeCacheState(message);
+    }
+
+    public TieredGraphLoaderPureGraphCache(TieredPureRepositoryJarStore store, ForkJoinPool forkJoinPool)
+    {
+        this(store, false, forkJoinPool, null);
+    }
+
+    public TieredGraphLoaderPureGraphCache(TieredPureRepositoryJarStore store)
+    {
+        this(store, false, null, null);
+    }
+
+    public TieredPureRepositoryJarStore getStore()
+    {
+        return this.store;
+    }
+
+    @Override
+    protected void clearCaches()
+    {
+        this.ownedRepositories.forEach(this.store::remove);
+        this.ownedRepositories.clear();
+        this.privateRepositories.clear();
+    }
+
+    @Override
+    protected void writeCaches()
+    {
+        MutableList<String> repoNames = getRepositoryNames();
+        if (this.forkJoinPool == null)
+        {
+            repoNames.forEach(this::writeRepository);
+        }
+        else
+        {
+            ForkJoinTools.forEach(this.forkJoinPool, repoNames, this::writeRepository, 1);
+        }
+    }
+
+    @Override
+    protected boolean buildFromCaches(ModelRepository modelRepository, SourceRegistry sources, ParserLibrary library, Context context, ProcessorSupport processorSupport, Message message)
+    {
+        MutableList<String> repoNames = getRepositoryNames();
+        if (this.allowBuildingFromRepoSubset)
+        {
+            repoNames.removeIf(repoName -> !hasRepository(repoName));
+        }
+        // shared jars only hold their metadata, and their files are read from the store as the graph loader needs them
+        MutableList<PureRepositoryJar> jars = repoNames.collect(this::getJar);
+        repoNames = repoNames.collect(TieredGraphLoaderPureGraphCache::resolveRepositoryName);
+        PureRepositoryJarLibrary jarLibrary = SimplePureRepositoryJarLibrary.newLibrary(jars);
+        GraphLoader loader = new GraphLoader(modelRepository, context, library, this.pureRuntime.getIncrementalCompiler().getDslLibrary(), sources, null, jarLibrary, this.forkJoinPool);
+        repoNames.forEach(repoName -> loader.loadRepository(repoName, message));
+        updateCacheState();
+        return true;
+    }
+
+    @Override
+    protected boolean cacheExists()
+    {
+        return this.privateRepositories.notEmpty() || !this.store.isEmpty();
+    }
+
+    @Override
+    protected long getCacheSize()
+    {
+        return this.store.getTotalSize() + this.privateRepositories.sumOfInt(bytes -> bytes.length);
+    }
+
+    private void writeRepository(String repoName)
+    {
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        try
+        {
+            BinaryModelRepositorySerializer.serialize(stream, repoName, this.pureRuntime);
+        }
+        catch (IOException e)
+        {
+            throw new UncheckedIOException("Error writing cache for " + repoName, e);
+        }
+        String resolvedName = resolveRepositoryName(repoName);
+        if (isShared(repoName))
+        {
+            this.store.put(resolvedName, stream.toByteArray());
+            this.ownedRepositories.add(resolvedName);
+        }
+        else
+        {
+            this.privateRepositories.put(resolvedName, stream.toByteArray());
+        }
+    }
+
+    private boolean hasRepository(String repoName)
+    {
+        String resolvedName = resolveRepositoryName(repoName);
+        return isShared(repoName) ? this.store.hasRepository(resolvedName) : this.privateRepositories.containsKey(resolvedName);
+    }
+
+    private PureRepositoryJar getJar(String repoName)
+    {
+        String resolvedName = resolveRepositoryName(repoName);
+        if (isShared(repoName))
+        {
+            return this.store.getLazyJar(resolvedName);
+        }
+        byte[] bytes = this.privateRepositories.get(resolvedName);
+        if (bytes == null)
+        {
+            throw new IllegalArgumentException("Unknown repository: " + resolvedName);
+        }
+        return PureRepositoryJars.wrap(bytes);
+    }
+
+    private boolean isShared(String repoName)
+    {
+        if (repoName == null)
+        {
+            // the root repository holds the user's welcome file
+            return false;
+        }
+        RepositoryCodeStorage codeStorage = this.pureRuntime.getCodeStorage();
+        return codeStorage.getOriginalCodeStorage(codeStorage.getRepository(repoName)) instanceof ImmutableRepositoryCodeStorage;
+    }
+
+    private MutableList<String> getRepositoryNames()
+    {
+        RepositoryCodeStorage codeStorage = this.pureRuntime.getCodeStorage();
+        MutableList<String> repoNames = codeStorage.getAllRepositories().collect(CodeRepository::getName).toSortedList(new RepositoryComparator(codeStorage.getAllRepositories()));
+        if (codeStorage.isFile(WelcomeCodeStorage.WELCOME_FILE_PATH))
+        {
+            repoNames.add(null);
+        }
+        return repoNames;
+    }
+
+    private static String resolveRepositoryName(String repositoryName)
+    {
+        return (repositoryName == null) ? ROOT_REPOSITORY_NAME : repositoryName;
+    }
+}
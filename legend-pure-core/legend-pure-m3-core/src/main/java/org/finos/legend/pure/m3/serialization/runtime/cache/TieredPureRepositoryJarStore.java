@@ -0,0 +1,390 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.m3.serialization.runtime.cache;
+
+import org.eclipse.collections.api.factory.Maps;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.map.MapIterable;
+import org.eclipse.collections.api.map.MutableMap;
+import org.finos.legend.pure.m3.serialization.runtime.binary.PureRepositoryJar;
+import org.finos.legend.pure.m3.serialization.runtime.binary.PureRepositoryJarMetadata;
+import org.finos.legend.pure.m3.serialization.runtime.binary.PureRepositoryJarTools;
+import org.finos.legend.pure.m3.serialization.runtime.binary.PureRepositoryJars;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Objects;
+
+/**
+ * A store of serialized repository graphs with two tiers. Recently used repositories are held in memory up to a byte
+ * budget, with the least recently used being evicted first. Every repository is also written to a local spill
+ * directory, from which evicted repositories are loaded back into memory on demand. Spill files are written to a
+ * temporary file first and then moved into place, so a reader never sees a partially written repository.
+ * <p>
+ * The store is thread safe and its contents are read-only once written, so a single instance may be shared by the
+ * caches of several runtimes in one JVM without duplicating memory.
+ */
+public class TieredPureRepositoryJarStore
+{
+    private static final String TMP_EXTENSION = ".tmp";
+
+    private final Path spillDirectory;
+    private final long memoryBudget;
+
+    // access ordered, so iteration starts with the least recently used repository
+    private final LinkedHashMap<String, MemoryEntry> memoryTier = new LinkedHashMap<>(16, 0.75f, true);
+    private final MutableMap<String, Long> spillTier = Maps.mutable.empty();
+    private final MutableMap<String, PureRepositoryJarMetadata> metadata = Maps.mutable.empty();
+    private long memorySize = 0L;
+    private long totalSize = 0L;
+
+    public TieredPureRepositoryJarStore(Path spillDirectory, long memoryBudget)
+    {
+        if (memoryBudget < 0L)
+        {
+            throw new IllegalArgumentException("Invalid memory budget: " + memoryBudget);
+        }
+        this.spillDirectory = Objects.requireNonNull(spillDirectory, "spill directory may not be null");
+        this.memoryBudget = memoryBudget;
+        indexSpillDirectory();
+    }
+
+    public Path getSpillDirectory()
+    {
+        return this.spillDirectory;
+    }
+
+    public long getMemoryBudget()
+    {
+        return this.memoryBudget;
+    }
+
+    /**
+     * Get the number of bytes currently held in memory.
+     *
+     * @return memory tier size
+     */
+    public synchronized long getMemorySize()
+    {
+        return this.memorySize;
+    }
+
+    /**
+     * Get the total number of bytes in the store, across both tiers.
+     *
+     * @return total size
+     */
+    public synchronized long getTotalSize()
+    {
+        return this.totalSize;
+    }
+
+    public synchronized boolean isEmpty()
+    {
+        return this.spillTier.isEmpty();
+    }
+
+    public synchronized boolean hasRepository(String repositoryName)
+    {
+        return this.spillTier.containsKey(repositoryName);
+    }
+
+    public synchronized boolean isInMemory(String repositoryName)
+    {
+        return this.memoryTier.containsKey(repositoryName);
+    }
+
+    public synchronized MutableList<String> getRepositoryNames()
+    {
+        return this.spillTier.keysView().toSortedList();
+    }
+
+    /**
+     * Add the serialized graph for a repository, replacing any previous version. The bytes are written to the spill
+     * directory and then held in memory if they fit in the budget. The caller must not modify the bytes afterwards.
+     *
+     * @param repositoryName repository name
+     * @param bytes          serialized repository jar
+     */
+    public synchronized void put(String repositoryName, byte[] bytes)
+    {
+        Path path = getSpillPath(repositoryName);
+        try
+        {
+            Files.createDirectories(this.spillDirectory);
+            Path tmpPath = Files.createTempFile(this.spillDirectory, repositoryName, TMP_EXTENSION);
+            try
+            {
+                Files.write(tmpPath, bytes);
+                Files.move(tmpPath, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            }
+            finally
+            {
+                Files.deleteIfExists(tmpPath);
+            }
+        }
+        catch (IOException e)
+        {
+            throw new UncheckedIOException("Error writing " + repositoryName + " to " + path, e);
+        }
+        removeFromMemory(repositoryName);
+        this.metadata.remove(repositoryName);
+        Long oldSize = this.spillTier.put(repositoryName, (long) bytes.length);
+        this.totalSize += bytes.length - ((oldSize == null) ? 0L : oldSize);
+        addToMemory(repositoryName, bytes);
+    }
+
+    /**
+     * Get the jar for a repository, loading it into memory from the spill directory if necessary. If the repository is
+     * larger than the whole memory budget, it is read directly from the spill directory instead.
+     *
+     * @param repositoryName repository name
+     * @return repository jar
+     */
+    public synchronized PureRepositoryJar getJar(String repositoryName)
+    {
+        MemoryEntry entry = this.memoryTier.get(repositoryName);
+        if (entry != null)
+        {
+            return entry.jar;
+        }
+
+        Long size = this.spillTier.get(repositoryName);
+        if (size == null)
+        {
+            throw new IllegalArgumentException("Unknown repository: " + repositoryName);
+        }
+        Path path = getSpillPath(repositoryName);
+        if (size > this.memoryBudget)
+        {
+            return PureRepositoryJars.get(path);
+        }
+
+        byte[] bytes;
+        try
+        {
+            bytes = Files.readAllBytes(path);
+        }
+        catch (IOException e)
+        {
+            throw new UncheckedIOException("Error reading " + repositoryName + " from " + path, e);
+        }
+        return addToMemory(repositoryName, bytes);
+    }
+
+    /**
+     * Get a jar for a repository which only holds the repository metadata. File contents are read through
+     * {@link #getJar} each time, so they are loaded into memory only while needed and may be evicted in between.
+     *
+     * @param repositoryName repository name
+     * @return repository jar which reads from the store
+     */
+    public PureRepositoryJar getLazyJar(String repositoryName)
+    {
+        return new LazyJar(repositoryName, getMetadata(repositoryName));
+    }
+
+    /**
+     * Get the metadata for a repository.
+     *
+     * @param repositoryName repository name
+     * @return repository metadata
+     */
+    public synchronized PureRepositoryJarMetadata getMetadata(String repositoryName)
+    {
+        PureRepositoryJarMetadata repositoryMetadata = this.metadata.get(repositoryName);
+        if (repositoryMetadata == null)
+        {
+            repositoryMetadata = getJar(repositoryName).getMetadata();
+            this.metadata.put(repositoryName, repositoryMetadata);
+        }
+        return repositoryMetadata;
+    }
+
+    /**
+     * Remove a repository from both tiers, including its file in the spill directory.
+     *
+     * @param repositoryName repository name
+     * @return whether the repository was present
+     */
+    public synchronized boolean remove(String repositoryName)
+    {
+        removeFromMemory(repositoryName);
+        this.metadata.remove(repositoryName);
+        Long size = this.spillTier.remove(repositoryName);
+        if (size == null)
+        {
+            return false;
+        }
+        this.totalSize -= size;
+        deleteSpillFile(repositoryName);
+        return true;
+    }
+
+    /**
+     * Remove all repositories from both tiers, including their files in the spill directory.
+     */
+    public synchronized void clear()
+    {
+        this.memoryTier.clear();
+        this.memorySize = 0L;
+        this.metadata.clear();
+        this.spillTier.forEachKey(this::deleteSpillFile);
+        this.spillTier.clear();
+        this.totalSize = 0L;
+    }
+
+    private PureRepositoryJar addToMemory(String repositoryName, byte[] bytes)
+    {
+        if (bytes.length > this.memoryBudget)
+        {
+            return PureRepositoryJars.get(getSpillPath(repositoryName));
+        }
+
+        evict(this.memoryBudget - bytes.length);
+        MemoryEntry entry = new MemoryEntry(bytes);
+        this.memoryTier.put(repositoryName, entry);
+        this.memorySize += entry.size;
+        return entry.jar;
+    }
+
+    private void removeFromMemory(String repositoryName)
+    {
+        MemoryEntry entry = this.memoryTier.remove(repositoryName);
+        if (entry != null)
+        {
+            this.memorySize -= entry.size;
+        }
+    }
+
+    private void evict(long targetSize)
+    {
+        Iterator<MemoryEntry> iterator = this.memoryTier.values().iterator();
+        while ((this.memorySize > targetSize) && iterator.hasNext())
+        {
+            this.memorySize -= iterator.next().size;
+            iterator.remove();
+        }
+    }
+
+    private void deleteSpillFile(String repositoryName)
+    {
+        Path path = getSpillPath(repositoryName);
+        try
+        {
+            Files.deleteIfExists(path);
+        }
+        catch (IOException e)
+        {
+            throw new UncheckedIOException("Error deleting " + path, e);
+        }
+    }
+
+    private void indexSpillDirectory()
+    {
+        if (Files.notExists(this.spillDirectory))
+        {
+            return;
+        }
+
+        try (DirectoryStream<Path> dirStream = Files.newDirectoryStream(this.spillDirectory, "*" + PureRepositoryJarTools.PURE_JAR_EXTENSION))
+        {
+            for (Path path : dirStream)
+            {
+                String fileName = path.getFileName().toString();
+                String repositoryName = fileName.substring(0, fileName.length() - PureRepositoryJarTools.PURE_JAR_EXTENSION.length());
+                long size = Files.size(path);
+                this.spillTier.put(repositoryName, size);
+                this.totalSize += size;
+            }
+        }
+        catch (IOException e)
+        {
+            throw new UncheckedIOException("Error indexing spill directory " + this.spillDirectory, e);
+        }
+    }
+
+    private Path getSpillPath(String repositoryName)
+    {
+        return this.spillDirectory.resolve(repositoryName + PureRepositoryJarTools.PURE_JAR_EXTENSION);
+    }
+
+    private class LazyJar implements PureRepositoryJar
+    {
+        private final String repositoryName;
+        private final PureRepositoryJarMetadata metadata;
+
+        private LazyJar(String repositoryName, PureRepositoryJarMetadata metadata)
+        {
+            this.repositoryName = repositoryName;
+            this.metadata = metadata;
+        }
+
+        @Override
+        public PureRepositoryJarMetadata getMetadata()
+        {
+            return this.metadata;
+        }
+
+        @Override
+        public byte[] readFile(String filePath)
+        {
+            return getJar(this.repositoryName).readFile(filePath);
+        }
+
+        @Override
+        public MapIterable<String, byte[]> readFiles(Iterable<String> filePaths)
+        {
+            return getJar(this.repositoryName).readFiles(filePaths);
+        }
+
+        @Override
+        public void readFiles(Iterable<String> filePaths, MutableMap<String, byte[]> fileBytes)
+        {
+            getJar(this.repositoryName).readFiles(filePaths, fileBytes);
+        }
+
+        @Override
+        public MapIterable<String, byte[]> readAllFiles()
+        {
+            return getJar(this.repositoryName).readAllFiles();
+        }
+
+        @Override
+        public void readAllFiles(MutableMap<String, byte[]> fileBytes)
+        {
+            getJar(this.repositoryName).readAllFiles(fileBytes);
+        }
+    }
+
+    private static class MemoryEntry
+    {
+        private final PureRepositoryJar jar;
+        private final long size;
+
+        private MemoryEntry(byte[] bytes)
+        {
+            // the store owns the bytes, so there is no need for a defensive copy
+            this.jar = PureRepositoryJars.wrap(bytes);
+            this.size = bytes.length;
+        }
+    }
+}
@@ -19,4 +19,14 @@ public interface ExecutionActivityListener
     void relationalActivityCompleted(String dbHost, Integer dbPort, String dbName, String dbType, String sql, String planInfo, Long executionTime, Long sqlGenerationTime, Long connectionAcquisitionTime);
 
     void routingActivityCompleted(Long routingTimeInNanoSeconds);
+
+    /**
+     * Called when a span is closed, if this listener is registered with {@link ExecutionTracing}. The default
+     * implementation does nothing.
+     *
+     * @param span closed span
+     */
+    default void spanCompleted(ExecutionSpan span)
+    {
+    }
 }
@@ -0,0 +1,243 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.m3.statelistener;
+
+import org.eclipse.collections.api.factory.Maps;
+import org.eclipse.collections.api.map.MapIterable;
+import org.eclipse.collections.api.map.MutableMap;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A timed span of activity (e.g., a compile phase, a metadata load, or a database call). Spans are started with
+ * {@link ExecutionTracing#startSpan} and should be closed in the same thread, typically with try-with-resources. A span
+ * started while another is open in the same thread is its child. When a span is closed, it is passed to each
+ * registered {@link ExecutionActivityListener}, unless it was shorter than its threshold.
+ */
+public final class ExecutionSpan implements AutoCloseable
+{
+    private static final AtomicLong ID_COUNTER = new AtomicLong();
+
+    static final ExecutionSpan NO_OP = new ExecutionSpan(0L, null, null, "", "");
+
+    private final long id;
+    private final ExecutionSpan parent;
+    private final ExecutionSpan previous;
+    private final String category;
+    private final String name;
+    private final long startTimeMillis;
+    private final long startNanos;
+    private long durationNanos = -1L;
+    private long thresholdNanos = 0L;
+    private MutableMap<String, Object> attributes;
+
+    private ExecutionSpan(long id, ExecutionSpan parent, ExecutionSpan previous, String category, String name)
+    {
+        this.id = id;
+        this.parent = parent;
+        this.previous = previous;
+        this.category = category;
+        this.name = name;
+        this.startTimeMillis = System.currentTimeMillis();
+        this.startNanos = System.nanoTime();
+    }
+
+    /**
+     * Span id, unique within the JVM. The no-op span returned when tracing is disabled has id 0.
+     *
+     * @return span id
+     */
+    public long getId()
+    {
+        return this.id;
+    }
+
+    /**
+     * Parent span, or null if this is a root span.
+     *
+     * @return parent span
+     */
+    public ExecutionSpan getParent()
+    {
+        return this.parent;
+    }
+
+    /**
+     * Id of the parent span, or 0 if this is a root span.
+     *
+     * @return parent span id
+     */
+    public long getParentId()
+    {
+        return (this.parent == null) ? 0L : this.parent.id;
+    }
+
+    /**
+     * Id of the root span of this span's tree. This can be used to correlate all the spans of a request.
+     *
+     * @return root span id
+     */
+    public long getRootId()
+    {
+        ExecutionSpan span = this;
+        while (span.parent != null)
+        {
+            span = span.parent;
+        }
+        return span.id;
+    }
+
+    /**
+     * Span category, e.g., "compile", "load", "metadata", "reactivate", "native", or "db".
+     *
+     * @return category
+     */
+    public String getCategory()
+    {
+        return this.category;
+    }
+
+    public String getName()
+    {
+        return this.name;
+    }
+
+    /**
+     * Wall clock time the span started, in milliseconds since the epoch.
+     *
+     * @return start time
+     */
+    public long getStartTimeMillis()
+    {
+        return this.startTimeMillis;
+    }
+
+    /**
+     * Duration of the span in nanoseconds, or -1 if it has not been closed.
+     *
+     * @return duration in nanoseconds
+     */
+    public long getDurationNanos()
+    {
+        return this.durationNanos;
+    }
+
+    public boolean isClosed()
+    {
+        return this.durationNanos >= 0L;
+    }
+
+    public boolean isNoOp()
+    {
+        return this == NO_OP;
+    }
+
+    public MapIterable<String, Object> getAttributes()
+    {
+        return (this.attributes == null) ? Maps.immutable.empty() : this.attributes.asUnmodifiable();
+    }
+
+    /**
+     * Add an attribute to the span. This does nothing for the no-op span.
+     *
+     * @param key   attribute key
+     * @param value attribute value
+     * @return this span
+     */
+    public ExecutionSpan withAttribute(String key, Object value)
+    {
+        if (!isNoOp())
+        {
+            if (this.attributes == null)
+            {
+                this.attributes = Maps.mutable.empty();
+            }
+            this.attributes.put(key, value);
+        }
+        return this;
+    }
+
+    /**
+     * Set a minimum duration for the span to be reported. If the span is shorter than this when it is closed, it is
+     * not passed to listeners (though it is still the parent of any spans started while it was open).
+     *
+     * @param thresholdNanos minimum duration in nanoseconds
+     * @return this span
+     */
+    public ExecutionSpan withThreshold(long thresholdNanos)
+    {
+        this.thresholdNanos = thresholdNanos;
+        return this;
+    }
+
+    /**
+     * Close the span. This has no effect if the span has already been closed.
+     */
+    @Override
+    public void close()
+    {
+        if (!isNoOp() && !isClosed())
+        {
+            this.durationNanos = System.nanoTime() - this.startNanos;
+            ExecutionTracing.spanClosed(this);
+        }
+    }
+
+    boolean isReportable()
+    {
+        return this.durationNanos >= this.thresholdNanos;
+    }
+
+    // the span which was current in the thread when this span was started
+    ExecutionSpan getPrevious()
+    {
+        return this.previous;
+    }
+
+    boolean isAncestorOf(ExecutionSpan span)
+    {
+        for (ExecutionSpan s = span; s != null; s = s.parent)
+        {
+            if (s == this)
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public String toString()
+    {
+        StringBuilder builder = new StringBuilder("<ExecutionSpan id=").append(this.id)
+                .append(" parent=").append(getParentId())
+                .append(" category=").append(this.category)
+                .append(" name=").append(this.name);
+        if (isClosed())
+        {
+            builder.append(" durationNanos=").append(this.durationNanos);
+        }
+        if (this.attributes != null)
+        {
+            builder.append(" attributes=").append(this.attributes);
+        }
+        return builder.append('>').toString();
+    }
+
+    static ExecutionSpan newSpan(ExecutionSpan parent, ExecutionSpan previous, String category, String name)
+    {
+        return new ExecutionSpan(ID_COUNTER.incrementAndGet(), parent, previous, category, name);
+    }
+}
@@ -0,0 +1,137 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.m3.statelistener;
+
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Entry point for span-oriented tracing of compilation, loading, and execution. Tracing is disabled until at least one
+ * {@link ExecutionActivityListener} is registered; while it is disabled, {@link #startSpan} returns a shared no-op span
+ * and costs no more than a volatile read.
+ * <p>
+ * Listeners receive each span as it is closed (see {@link ExecutionActivityListener#spanCompleted}), and so act as
+ * exporters: e.g., to a log, to a service's own tracing system, or to JDK Flight Recorder events on runtimes which
+ * support them.
+ */
+public class ExecutionTracing
+{
+    private static final CopyOnWriteArrayList<ExecutionActivityListener> LISTENERS = new CopyOnWriteArrayList<>();
+    private static final ThreadLocal<ExecutionSpan> CURRENT_SPAN = new ThreadLocal<>();
+
+    private static volatile boolean enabled = false;
+
+    private ExecutionTracing()
+    {
+    }
+
+    public static synchronized void addListener(ExecutionActivityListener listener)
+    {
+        LISTENERS.addIfAbsent(listener);
+        enabled = true;
+    }
+
+    public static synchronized void removeListener(ExecutionActivityListener listener)
+    {
+        LISTENERS.remove(listener);
+        enabled = !LISTENERS.isEmpty();
+    }
+
+    public static boolean isEnabled()
+    {
+        return enabled;
+    }
+
+    /**
+     * Start a span in the current thread. Its parent is the innermost open span in the current thread, if any. If
+     * tracing is disabled, this returns a no-op span.
+     *
+     * @param category span category
+     * @param name     span name
+     * @return new span
+     */
+    public static ExecutionSpan startSpan(String category, String name)
+    {
+        if (!enabled)
+        {
+            return ExecutionSpan.NO_OP;
+        }
+        ExecutionSpan current = CURRENT_SPAN.get();
+        ExecutionSpan span = ExecutionSpan.newSpan(current, current, category, name);
+        CURRENT_SPAN.set(span);
+        return span;
+    }
+
+    /**
+     * Start a span in the current thread with an explicit parent, e.g., for work forked from another thread. If
+     * tracing is disabled, this returns a no-op span.
+     *
+     * @param parent   parent span (may be null or the no-op span)
+     * @param category span category
+     * @param name     span name
+     * @return new span
+     */
+    public static ExecutionSpan startSpan(ExecutionSpan parent, String category, String name)
+    {
+        if (!enabled)
+        {
+            return ExecutionSpan.NO_OP;
+        }
+        ExecutionSpan span = ExecutionSpan.newSpan(((parent == null) || parent.isNoOp()) ? null : parent, CURRENT_SPAN.get(), category, name);
+        CURRENT_SPAN.set(span);
+        return span;
+    }
+
+    /**
+     * Get the innermost open span in the current thread, or null if there is none.
+     *
+     * @return current span or null
+     */
+    public static ExecutionSpan getCurrentSpan()
+    {
+        return CURRENT_SPAN.get();
+    }
+
+    static void spanClosed(ExecutionSpan span)
+    {
+        // If the span is open in this thread, whatever was current when it started becomes current again. Any
+        // descendants which were not closed (e.g., because of an exception) are abandoned.
+        if (span.isAncestorOf(CURRENT_SPAN.get()))
+        {
+            if (span.getPrevious() == null)
+            {
+                CURRENT_SPAN.remove();
+            }
+            else
+            {
+                CURRENT_SPAN.set(span.getPrevious());
+            }
+        }
+
+        if (span.isReportable())
+        {
+            for (ExecutionActivityListener listener : LISTENERS)
+            {
+                try
+                {
+                    listener.spanCompleted(span);
+                }
+                catch (RuntimeException ignore)
+                {
+                    // a failing listener must not affect execution
+                }
+            }
+        }
+    }
+}
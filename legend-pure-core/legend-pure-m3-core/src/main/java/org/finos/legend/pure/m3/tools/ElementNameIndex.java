@@ -0,0 +1,740 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.m3.tools;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.factory.Maps;
+import org.eclipse.collections.api.factory.Sets;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.api.map.primitive.MutableObjectIntMap;
+import org.eclipse.collections.api.set.MutableSet;
+import org.eclipse.collections.impl.factory.primitive.ObjectIntMaps;
+import org.finos.legend.pure.m3.coreinstance.Package;
+import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.PackageableElement;
+import org.finos.legend.pure.m3.navigation.M3Properties;
+import org.finos.legend.pure.m4.coreinstance.CoreInstance;
+
+import java.util.Locale;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+/**
+ * <p>Index of packageable elements by name, supporting exact, prefix, camel-case, substring, and regular expression
+ * lookups without walking the package tree. It is maintained incrementally as elements are registered with and
+ * removed from the {@link org.finos.legend.pure.m3.compiler.Context Context}.</p>
+ *
+ * <p>Elements in the index are found by their name (see {@link CoreInstance#getName()}), which for functions
+ * includes the signature. Packages are not registered with the context, so instead they are indexed for as long as
+ * they contain (directly or through sub-packages) an element which is in the index. Since an index only knows about
+ * elements which have been registered with it, it may not be complete (e.g., if elements are loaded lazily); callers
+ * should fall back to walking the package tree if {@link #isComplete()} is false.</p>
+ */
+public class ElementNameIndex
+{
+    private final ElementNameIndex parent;
+    private final Lock readLock;
+    private final Lock writeLock;
+    private final MutableMap<String, MutableSet<CoreInstance>> elementsByName = Maps.mutable.empty();
+    private final MutableMap<CoreInstance, String> namesByElement = Maps.mutable.empty();
+    private final NavigableMap<String, MutableSet<String>> namesByLowerCaseName = new TreeMap<>();
+    private final NavigableMap<String, MutableSet<String>> namesByHumpInitials = new TreeMap<>();
+    private final MutableMap<CoreInstance, Package> packagesByElement = Maps.mutable.empty();
+    private final MutableMap<Package, Package> parentsByPackage = Maps.mutable.empty();
+    private final MutableObjectIntMap<Package> elementCountsByPackage = ObjectIntMaps.mutable.empty();
+    private volatile boolean complete = false;
+
+    /**
+     * Create an index layered over a parent index. Lookups include elements from the parent, while additions and
+     * removals only ever affect this index.
+     *
+     * @param parent parent index (may be null)
+     */
+    public ElementNameIndex(ElementNameIndex parent)
+    {
+        this.parent = parent;
+        ReadWriteLock lock = new ReentrantReadWriteLock();
+        this.readLock = lock.readLock();
+        this.writeLock = lock.writeLock();
+    }
+
+    public ElementNameIndex()
+    {
+        this(null);
+    }
+
+    /**
+     * Whether all elements (in this index and its parent, if any) have been registered with the index.
+     *
+     * @return whether the index is complete
+     */
+    public boolean isComplete()
+    {
+        return this.complete && ((this.parent == null) || this.parent.isComplete());
+    }
+
+    public void setComplete(boolean complete)
+    {
+        this.complete = complete;
+    }
+
+    /**
+     * Add an element to the index, along with its package and the packages containing that. Instances which are not
+     * packageable elements (or are packages), or which have no name, are ignored.
+     *
+     * @param instance instance to add
+     */
+    public void add(CoreInstance instance)
+    {
+        String name = instance.getName();
+        if ((name == null) || !(instance instanceof PackageableElement) || (instance instanceof Package))
+        {
+            return;
+        }
+
+        this.writeLock.lock();
+        try
+        {
+            String oldName = this.namesByElement.put(instance, name);
+            if (!name.equals(oldName))
+            {
+                if (oldName != null)
+                {
+                    removeFromName(instance, oldName);
+                }
+                addToName(instance, name);
+            }
+            updatePackage(instance);
+        }
+        finally
+        {
+            this.writeLock.unlock();
+        }
+    }
+
+    /**
+     * Update the index for an element which may have been renamed (for example, functions are renamed to their
+     * signature during post-processing) or moved to a package. If the element is not in the index, this does
+     * nothing.
+     *
+     * @param instance instance to update
+     */
+    public void update(CoreInstance instance)
+    {
+        this.writeLock.lock();
+        try
+        {
+            String oldName = this.namesByElement.get(instance);
+            String name = instance.getName();
+            if ((oldName != null) && !oldName.equals(name))
+            {
+                removeFromName(instance, oldName);
+                if (name == null)
+                {
+                    this.namesByElement.remove(instance);
+                    removeFromPackage(this.packagesByElement.remove(instance));
+                    return;
+                }
+                this.namesByElement.put(instance, name);
+                addToName(instance, name);
+            }
+            if (oldName != null)
+            {
+                updatePackage(instance);
+            }
+        }
+        finally
+        {
+            this.writeLock.unlock();
+        }
+    }
+
+    /**
+     * Remove an element from the index. If the element is not in the index, this does nothing.
+     *
+     * @param instance instance to remove
+     */
+    public void remove(CoreInstance instance)
+    {
+        this.writeLock.lock();
+        try
+        {
+            String name = this.namesByElement.remove(instance);
+            if (name != null)
+            {
+                removeFromName(instance, name);
+                removeFromPackage(this.packagesByElement.remove(instance));
+            }
+        }
+        finally
+        {
+            this.writeLock.unlock();
+        }
+    }
+
+    /**
+     * Remove all elements from the index. This does not affect the parent index.
+     */
+    public void clear()
+    {
+        this.writeLock.lock();
+        try
+        {
+            this.elementsByName.clear();
+            this.namesByElement.clear();
+            this.namesByLowerCaseName.clear();
+            this.namesByHumpInitials.clear();
+            this.packagesByElement.clear();
+            this.parentsByPackage.clear();
+            this.elementCountsByPackage.clear();
+        }
+        finally
+        {
+            this.writeLock.unlock();
+        }
+    }
+
+    /**
+     * Find all elements with exactly the given name.
+     *
+     * @param name element name
+     * @return elements with the name
+     */
+    public MutableList<CoreInstance> findByName(String name)
+    {
+        MutableList<CoreInstance> result = (this.parent == null) ? Lists.mutable.empty() : this.parent.findByName(name);
+        this.readLock.lock();
+        try
+        {
+            MutableSet<CoreInstance> elements = this.elementsByName.get(name);
+            if (elements != null)
+            {
+                elements.forEach(e -> addIfInPackage(e, result));
+            }
+        }
+        finally
+        {
+            this.readLock.unlock();
+        }
+        return result;
+    }
+
+    /**
+     * Find all elements whose name starts with the given prefix.
+     *
+     * @param prefix        name prefix
+     * @param caseSensitive whether the prefix is case sensitive
+     * @return elements whose name starts with prefix
+     */
+    public MutableList<CoreInstance> findByPrefix(String prefix, boolean caseSensitive)
+    {
+        MutableList<CoreInstance> result = (this.parent == null) ? Lists.mutable.empty() : this.parent.findByPrefix(prefix, caseSensitive);
+        String lowerCasePrefix = toLowerCase(prefix);
+        this.readLock.lock();
+        try
+        {
+            this.namesByLowerCaseName.subMap(lowerCasePrefix, true, lowerCasePrefix + Character.MAX_VALUE, false).values().forEach(names -> names.forEach(name ->
+            {
+                if (!caseSensitive || name.startsWith(prefix))
+                {
+                    addElements(name, result);
+                }
+            }));
+        }
+        finally
+        {
+            this.readLock.unlock();
+        }
+        return result;
+    }
+
+    /**
+     * Find all elements whose name matches the given camel-case abbreviation. The abbreviation is split into humps,
+     * each starting with an upper case letter (or the first character), and matches a name if each hump is a
+     * (case-insensitive) prefix of the corresponding hump of the name. For example, "TC", "TeCl", and "TestC" all
+     * match "TestClass", but "TCl2" does not match "TestClass2" (as the "2" is part of the "Class2" hump).
+     *
+     * @param abbreviation camel-case abbreviation
+     * @return elements whose name matches the abbreviation
+     */
+    public MutableList<CoreInstance> findByCamelCase(String abbreviation)
+    {
+        MutableList<CoreInstance> result = (this.parent == null) ? Lists.mutable.empty() : this.parent.findByCamelCase(abbreviation);
+        MutableList<String> queryHumps = splitHumps(abbreviation);
+        if (queryHumps.isEmpty())
+        {
+            return result;
+        }
+
+        String initials = getInitials(queryHumps);
+        this.readLock.lock();
+        try
+        {
+            this.namesByHumpInitials.subMap(initials, true, initials + Character.MAX_VALUE, false).values().forEach(names -> names.forEach(name ->
+            {
+                if (matchesHumps(queryHumps, splitHumps(name)))
+                {
+                    addElements(name, result);
+                }
+            }));
+        }
+        finally
+        {
+            this.readLock.unlock();
+        }
+        return result;
+    }
+
+    /**
+     * Find all elements whose name contains the given string, ignoring case.
+     *
+     * @param substring string to search for
+     * @return elements whose name contains substring
+     */
+    public MutableList<CoreInstance> findBySubstring(String substring)
+    {
+        String lowerCaseSubstring = toLowerCase(substring);
+        return findByLowerCaseName(lowerCaseName -> lowerCaseName.contains(lowerCaseSubstring), name -> true);
+    }
+
+    /**
+     * Find all elements whose name matches the given pattern. Where the pattern requires a literal string, only
+     * names containing that string are matched against the pattern.
+     *
+     * @param pattern name pattern
+     * @return elements whose name matches pattern
+     */
+    public MutableList<CoreInstance> find(Pattern pattern)
+    {
+        String literal = getRequiredLiteral(pattern);
+        Predicate<String> namePredicate = name -> pattern.matcher(name).matches();
+        if (literal == null)
+        {
+            return findByLowerCaseName(lowerCaseName -> true, namePredicate);
+        }
+        String lowerCaseLiteral = toLowerCase(literal);
+        return findByLowerCaseName(lowerCaseName -> lowerCaseName.contains(lowerCaseLiteral), namePredicate);
+    }
+
+    /**
+     * Number of elements in the index (and its parent, if any), not counting packages.
+     *
+     * @return number of elements
+     */
+    public int size()
+    {
+        int size = (this.parent == null) ? 0 : this.parent.size();
+        this.readLock.lock();
+        try
+        {
+            return size + this.namesByElement.size();
+        }
+        finally
+        {
+            this.readLock.unlock();
+        }
+    }
+
+    private MutableList<CoreInstance> findByLowerCaseName(Predicate<? super String> lowerCaseNamePredicate, Predicate<? super String> namePredicate)
+    {
+        MutableList<CoreInstance> result = (this.parent == null) ? Lists.mutable.empty() : this.parent.findByLowerCaseName(lowerCaseNamePredicate, namePredicate);
+        this.readLock.lock();
+        try
+        {
+            this.namesByLowerCaseName.forEach((lowerCaseName, names) ->
+            {
+                if (lowerCaseNamePredicate.test(lowerCaseName))
+                {
+                    names.forEach(name ->
+                    {
+                        if (namePredicate.test(name))
+                        {
+                            addElements(name, result);
+                        }
+                    });
+                }
+            });
+        }
+        finally
+        {
+            this.readLock.unlock();
+        }
+        return result;
+    }
+
+    private void updatePackage(CoreInstance instance)
+    {
+        // the package is remembered, as the element may already have been removed from it when it is removed from the index
+        Package pkg = ((PackageableElement) instance)._package();
+        Package oldPkg = (pkg == null) ? this.packagesByElement.remove(instance) : this.packagesByElement.put(instance, pkg);
+        if (pkg != oldPkg)
+        {
+            removeFromPackage(oldPkg);
+            addToPackage(pkg);
+        }
+    }
+
+    private void addToPackage(Package pkg)
+    {
+        // the root package is not indexed, as it is never found by searches
+        Package current = pkg;
+        while ((current != null) && (current._package() != null))
+        {
+            if (this.elementCountsByPackage.addToValue(current, 1) == 1)
+            {
+                this.parentsByPackage.put(current, current._package());
+                if ((this.parent == null) || !this.parent.containsPackage(current))
+                {
+                    addToName(current, current.getName());
+                }
+            }
+            current = current._package();
+        }
+    }
+
+    private void removeFromPackage(Package pkg)
+    {
+        Package current = pkg;
+        while ((current != null) && this.elementCountsByPackage.containsKey(current))
+        {
+            Package next = this.parentsByPackage.get(current);
+            if (this.elementCountsByPackage.addToValue(current, -1) <= 0)
+            {
+                this.elementCountsByPackage.remove(current);
+                this.parentsByPackage.remove(current);
+                removeFromName(current, current.getName());
+            }
+            current = next;
+        }
+    }
+
+    private boolean containsPackage(Package pkg)
+    {
+        if ((this.parent != null) && this.parent.containsPackage(pkg))
+        {
+            return true;
+        }
+        this.readLock.lock();
+        try
+        {
+            return this.elementCountsByPackage.containsKey(pkg);
+        }
+        finally
+        {
+            this.readLock.unlock();
+        }
+    }
+
+    private void addToName(CoreInstance instance, String name)
+    {
+        if (this.elementsByName.getIfAbsentPut(name, Sets.mutable::empty).add(instance))
+        {
+            this.namesByLowerCaseName.computeIfAbsent(toLowerCase(name), k -> Sets.mutable.empty()).add(name);
+            this.namesByHumpInitials.computeIfAbsent(getHumpInitials(name), k -> Sets.mutable.empty()).add(name);
+        }
+    }
+
+    private void removeFromName(CoreInstance instance, String name)
+    {
+        MutableSet<CoreInstance> elements = this.elementsByName.get(name);
+        if ((elements != null) && elements.remove(instance) && elements.isEmpty())
+        {
+            this.elementsByName.remove(name);
+            removeName(this.namesByLowerCaseName, toLowerCase(name), name);
+            removeName(this.namesByHumpInitials, getHumpInitials(name), name);
+        }
+    }
+
+    private void addElements(String name, MutableList<CoreInstance> result)
+    {
+        this.elementsByName.get(name).forEach(e -> addIfInPackage(e, result));
+    }
+
+    private static void addIfInPackage(CoreInstance element, MutableList<CoreInstance> result)
+    {
+        // the root package and elements which have been removed from their package are not found by searches
+        if (element.getValueForMetaPropertyToOne(M3Properties._package) != null)
+        {
+            result.add(element);
+        }
+    }
+
+    private static void removeName(NavigableMap<String, MutableSet<String>> index, String key, String name)
+    {
+        MutableSet<String> names = index.get(key);
+        if ((names != null) && names.remove(name) && names.isEmpty())
+        {
+            index.remove(key);
+        }
+    }
+
+    /**
+     * Whether a name matches a camel-case abbreviation, as in {@link #findByCamelCase}.
+     *
+     * @param abbreviation camel-case abbreviation
+     * @param name         element name
+     * @return whether name matches the abbreviation
+     */
+    static boolean matchesCamelCase(String abbreviation, String name)
+    {
+        MutableList<String> queryHumps = splitHumps(abbreviation);
+        return queryHumps.notEmpty() && matchesHumps(queryHumps, splitHumps(name));
+    }
+
+    private static boolean matchesHumps(MutableList<String> queryHumps, MutableList<String> nameHumps)
+    {
+        if (queryHumps.size() > nameHumps.size())
+        {
+            return false;
+        }
+        for (int i = 0; i < queryHumps.size(); i++)
+        {
+            String queryHump = queryHumps.get(i);
+            if (!nameHumps.get(i).regionMatches(true, 0, queryHump, 0, queryHump.length()))
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String getHumpInitials(String name)
+    {
+        return getInitials(splitHumps(name));
+    }
+
+    private static String getInitials(MutableList<String> humps)
+    {
+        StringBuilder builder = new StringBuilder(humps.size());
+        humps.forEach(hump -> builder.append(Character.toUpperCase(hump.charAt(0))));
+        return builder.toString();
+    }
+
+    /**
+     * Split a name into humps. A new hump starts at the first character, at each upper case letter, and at each
+     * letter or digit following a character which is neither. Characters which are neither letters nor digits (such
+     * as '_') are not part of any hump.
+     */
+    static MutableList<String> splitHumps(String name)
+    {
+        MutableList<String> humps = Lists.mutable.empty();
+        int start = -1;
+        for (int i = 0; i < name.length(); i++)
+        {
+            char c = name.charAt(i);
+            if (!Character.isLetterOrDigit(c))
+            {
+                if (start != -1)
+                {
+                    humps.add(name.substring(start, i));
+                    start = -1;
+                }
+            }
+            else if (start == -1)
+            {
+                start = i;
+            }
+            else if (Character.isUpperCase(c))
+            {
+                humps.add(name.substring(start, i));
+                start = i;
+            }
+        }
+        if (start != -1)
+        {
+            humps.add(name.substring(start));
+        }
+        return humps;
+    }
+
+    /**
+     * Get the longest literal string which any match of the pattern must contain, or null if there is no such string
+     * of at least two characters. This is conservative: only literal characters outside groups and character classes
+     * are considered, and patterns with alternation or unusual flags are not analyzed at all.
+     */
+    static String getRequiredLiteral(Pattern pattern)
+    {
+        if ((pattern.flags() & (Pattern.LITERAL | Pattern.COMMENTS | Pattern.UNICODE_CASE | Pattern.CANON_EQ)) != 0)
+        {
+            return null;
+        }
+
+        String regex = pattern.pattern();
+        String longest = null;
+        StringBuilder current = new StringBuilder();
+        int depth = 0;
+        int i = 0;
+        while (i < regex.length())
+        {
+            char c = regex.charAt(i);
+            switch (c)
+            {
+                case '|':
+                {
+                    // alternation: nothing is required
+                    return null;
+                }
+                case '\\':
+                {
+                    if (i + 1 >= regex.length())
+                    {
+                        return null;
+                    }
+                    char next = regex.charAt(i + 1);
+                    if (Character.isDigit(next) || ("xupPkcNQ".indexOf(next) != -1))
+                    {
+                        // back references, escapes longer than one character, and quoting are not analyzed
+                        return null;
+                    }
+                    if ((depth == 0) && !Character.isLetter(next))
+                    {
+                        current.append(next);
+                    }
+                    else
+                    {
+                        // character class (\d, \S, etc.), boundary, or inside a group
+                        longest = longer(longest, current);
+                        current.setLength(0);
+                    }
+                    i += 2;
+                    continue;
+                }
+                case '[':
+                {
+                    longest = longer(longest, current);
+                    current.setLength(0);
+                    i = skipCharacterClass(regex, i);
+                    if (i < 0)
+                    {
+                        return null;
+                    }
+                    continue;
+                }
+                case '(':
+                {
+                    if ((i + 2 < regex.length()) && (regex.charAt(i + 1) == '?') && Character.isLetter(regex.charAt(i + 2)))
+                    {
+                        // inline flags
+                        return null;
+                    }
+                    depth++;
+                    longest = longer(longest, current);
+                    current.setLength(0);
+                    break;
+                }
+                case ')':
+                {
+                    depth--;
+                    break;
+                }
+                case '{':
+                {
+                    // the preceding character may be optional
+                    if (current.length() > 0)
+                    {
+                        current.setLength(current.length() - 1);
+                    }
+                    longest = longer(longest, current);
+                    current.setLength(0);
+                    i = regex.indexOf('}', i);
+                    if (i < 0)
+                    {
+                        return null;
+                    }
+                    break;
+                }
+                case '?':
+                case '*':
+                {
+                    // the preceding character is optional
+                    if (current.length() > 0)
+                    {
+                        current.setLength(current.length() - 1);
+                    }
+                    longest = longer(longest, current);
+                    current.setLength(0);
+                    break;
+                }
+                case '+':
+                case '.':
+                case '^':
+                case '$':
+                {
+                    longest = longer(longest, current);
+                    current.setLength(0);
+                    break;
+                }
+                default:
+                {
+                    if (depth == 0)
+                    {
+                        current.append(c);
+                    }
+                }
+            }
+            i++;
+        }
+        longest = longer(longest, current);
+        return ((longest == null) || (longest.length() < 2)) ? null : longest;
+    }
+
+    private static String longer(String longest, StringBuilder current)
+    {
+        return ((longest == null) || (current.length() > longest.length())) ? current.toString() : longest;
+    }
+
+    private static int skipCharacterClass(String regex, int start)
+    {
+        int i = start + 1;
+        if ((i < regex.length()) && (regex.charAt(i) == '^'))
+        {
+            i++;
+        }
+        if ((i < regex.length()) && (regex.charAt(i) == ']'))
+        {
+            i++;
+        }
+        int depth = 1;
+        while (i < regex.length())
+        {
+            char c = regex.charAt(i);
+            if (c == '\\')
+            {
+                i += 2;
+                continue;
+            }
+            if (c == '[')
+            {
+                depth++;
+            }
+            else if ((c == ']') && (--depth == 0))
+            {
+                return i + 1;
+            }
+            i++;
+        }
+        return -1;
+    }
+
+    private static String toLowerCase(String string)
+    {
+        return string.toLowerCase(Locale.ROOT);
+    }
+}
@@ -46,6 +46,11 @@ public class MetricsRecorder
             .labelNames("host", "type")
             .help("All Executions.").register();
 
+    static final Gauge preparedStatementCacheRequests = Gauge.build()
+            .name("pure_relational_prepared_statement_cache_requests")
+            .labelNames("host", "result")
+            .help("Prepared statement cache requests, by result (hit or miss)").register();
+
     public static MutableList<Collector> executionMetrics = Lists.mutable.empty();
 
     public static InetAddress localMachine;
@@ -96,6 +101,16 @@ public class MetricsRecorder
         currentQueriesBeingExecuted.labels(localMachine.getCanonicalHostName()).dec();
     }
 
+    public static void recordPreparedStatementCacheHit()
+    {
+        preparedStatementCacheRequests.labels(localMachine.getCanonicalHostName(), "hit").inc();
+    }
+
+    public static void recordPreparedStatementCacheMiss()
+    {
+        preparedStatementCacheRequests.labels(localMachine.getCanonicalHostName(), "miss").inc();
+    }
+
     public static void incrementExecutionCount(ExecutionMetricType type)
     {
         allExecution.labels(localMachine.getCanonicalHostName(), type.name).inc();
@@ -18,10 +18,13 @@ import org.eclipse.collections.api.RichIterable;
 import org.eclipse.collections.api.list.MutableList;
 import org.eclipse.collections.impl.factory.Lists;
 import org.finos.legend.pure.m3.coreinstance.Package;
+import org.finos.legend.pure.m3.navigation.ProcessorSupport;
 import org.finos.legend.pure.m3.navigation._package._Package;
 import org.finos.legend.pure.m4.ModelRepository;
 import org.finos.legend.pure.m4.coreinstance.CoreInstance;
 
+import java.util.Locale;
+import java.util.function.Predicate;
 import java.util.regex.Pattern;
 
 public class SearchTools
@@ -51,6 +54,92 @@ public class SearchTools
         return find(pattern, PackageTreeIterable.newRootPackageTreeIterable(repository));
     }
 
+    /**
+     * Find all elements with the given name. If the processor support has a complete element name index, this is used
+     * instead of walking the package tree.
+     *
+     * @param name             element name
+     * @param repository       model repository
+     * @param processorSupport processor support
+     * @return elements with the name
+     */
+    public static RichIterable<CoreInstance> findInAllPackages(String name, ModelRepository repository, ProcessorSupport processorSupport)
+    {
+        ElementNameIndex index = getCompleteIndex(processorSupport);
+        return (index == null) ? findInAllPackages(name, repository) : index.findByName(name);
+    }
+
+    /**
+     * Find all elements whose name matches the given pattern. If the processor support has a complete element name
+     * index, this is used instead of walking the package tree.
+     *
+     * @param pattern          name pattern
+     * @param repository       model repository
+     * @param processorSupport processor support
+     * @return elements whose name matches pattern
+     */
+    public static RichIterable<CoreInstance> findInAllPackages(Pattern pattern, ModelRepository repository, ProcessorSupport processorSupport)
+    {
+        ElementNameIndex index = getCompleteIndex(processorSupport);
+        return (index == null) ? findInAllPackages(pattern, repository) : index.find(pattern);
+    }
+
+    /**
+     * Find all elements whose name starts with the given prefix.
+     *
+     * @param prefix           name prefix
+     * @param caseSensitive    whether the prefix is case sensitive
+     * @param repository       model repository
+     * @param processorSupport processor support
+     * @return elements whose name starts with prefix
+     * @see ElementNameIndex#findByPrefix
+     */
+    public static RichIterable<CoreInstance> findByPrefixInAllPackages(String prefix, boolean caseSensitive, ModelRepository repository, ProcessorSupport processorSupport)
+    {
+        String lowerCasePrefix = prefix.toLowerCase(Locale.ROOT);
+        Predicate<String> namePredicate = caseSensitive ? name -> name.startsWith(prefix) : name -> name.toLowerCase(Locale.ROOT).startsWith(lowerCasePrefix);
+        ElementNameIndex index = getCompleteIndex(processorSupport);
+        return (index == null) ?
+               find(namePredicate, PackageTreeIterable.newRootPackageTreeIterable(repository)) :
+               index.findByPrefix(prefix, caseSensitive);
+    }
+
+    /**
+     * Find all elements whose name matches the given camel-case abbreviation.
+     *
+     * @param abbreviation     camel-case abbreviation
+     * @param repository       model repository
+     * @param processorSupport processor support
+     * @return elements whose name matches the abbreviation
+     * @see ElementNameIndex#findByCamelCase
+     */
+    public static RichIterable<CoreInstance> findByCamelCaseInAllPackages(String abbreviation, ModelRepository repository, ProcessorSupport processorSupport)
+    {
+        Predicate<String> namePredicate = name -> ElementNameIndex.matchesCamelCase(abbreviation, name);
+        ElementNameIndex index = getCompleteIndex(processorSupport);
+        return (index == null) ?
+               find(namePredicate, PackageTreeIterable.newRootPackageTreeIterable(repository)) :
+               index.findByCamelCase(abbreviation);
+    }
+
+    /**
+     * Find all elements whose name contains the given string, ignoring case.
+     *
+     * @param substring        string to search for
+     * @param repository       model repository
+     * @param processorSupport processor support
+     * @return elements whose name contains substring
+     */
+    public static RichIterable<CoreInstance> findBySubstringInAllPackages(String substring, ModelRepository repository, ProcessorSupport processorSupport)
+    {
+        String lowerCaseSubstring = substring.toLowerCase(Locale.ROOT);
+        Predicate<String> namePredicate = name -> name.toLowerCase(Locale.ROOT).contains(lowerCaseSubstring);
+        ElementNameIndex index = getCompleteIndex(processorSupport);
+        return (index == null) ?
+               find(namePredicate, PackageTreeIterable.newRootPackageTreeIterable(repository)) :
+               index.findBySubstring(substring);
+    }
+
     public static RichIterable<CoreInstance> find(String name, PackageTreeIterable packageIterable)
     {
         MutableList<CoreInstance> toReturn = Lists.mutable.empty();
@@ -66,13 +155,18 @@ public class SearchTools
     }
 
     public static RichIterable<CoreInstance> find(Pattern pattern, PackageTreeIterable packageIterable)
+    {
+        return find(name -> pattern.matcher(name).matches(), packageIterable);
+    }
+
+    private static RichIterable<CoreInstance> find(Predicate<? super String> namePredicate, PackageTreeIterable packageIterable)
     {
         MutableList<CoreInstance> toReturn = Lists.mutable.empty();
         for (Package pkg : packageIterable)
         {
             for (CoreInstance child : pkg._children())
             {
-                if (pattern.matcher(child.getName()).matches())
+                if (namePredicate.test(child.getName()))
                 {
                     toReturn.add(child);
                 }
@@ -80,4 +174,10 @@ public class SearchTools
         }
         return toReturn;
     }
+
+    private static ElementNameIndex getCompleteIndex(ProcessorSupport processorSupport)
+    {
+        ElementNameIndex index = (processorSupport == null) ? null : processorSupport.package_getElementNameIndex();
+        return ((index != null) && index.isComplete()) ? index : null;
+    }
 }
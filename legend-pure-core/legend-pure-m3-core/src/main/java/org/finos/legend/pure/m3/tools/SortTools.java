@@ -0,0 +1,164 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.m3.tools;
+
+import java.util.Comparator;
+
+/**
+ * Stable sorts over precomputed sort keys. Rather than sorting values directly, these compute the permutation of
+ * indices which puts the keys in order. Keys are compared in place in their arrays, so no objects are allocated per
+ * comparison, and primitive keys are never boxed.
+ */
+public class SortTools
+{
+    private static final int INSERTION_SORT_THRESHOLD = 16;
+
+    private SortTools()
+    {
+    }
+
+    /**
+     * Compares two elements identified by their indices.
+     */
+    @FunctionalInterface
+    public interface IndexComparator
+    {
+        int compare(int left, int right);
+    }
+
+    /**
+     * Get the stable sort order for an array of long keys.
+     *
+     * @param keys       sort keys
+     * @param descending whether to sort in descending order
+     * @return indices of the keys in sorted order
+     */
+    public static int[] sortIndices(long[] keys, boolean descending)
+    {
+        return descending ?
+                sortIndices(keys.length, (left, right) -> Long.compare(keys[right], keys[left])) :
+                sortIndices(keys.length, (left, right) -> Long.compare(keys[left], keys[right]));
+    }
+
+    /**
+     * Get the stable sort order for an array of double keys. Keys are ordered as by {@link Double#compare}.
+     *
+     * @param keys       sort keys
+     * @param descending whether to sort in descending order
+     * @return indices of the keys in sorted order
+     */
+    public static int[] sortIndices(double[] keys, boolean descending)
+    {
+        return descending ?
+                sortIndices(keys.length, (left, right) -> Double.compare(keys[right], keys[left])) :
+                sortIndices(keys.length, (left, right) -> Double.compare(keys[left], keys[right]));
+    }
+
+    /**
+     * Get the stable sort order for an array of keys, according to the given comparator.
+     *
+     * @param keys       sort keys
+     * @param comparator key comparator
+     * @param descending whether to sort in descending order
+     * @param <K>        key type
+     * @return indices of the keys in sorted order
+     */
+    public static <K> int[] sortIndices(K[] keys, Comparator<? super K> comparator, boolean descending)
+    {
+        return descending ?
+                sortIndices(keys.length, (left, right) -> comparator.compare(keys[right], keys[left])) :
+                sortIndices(keys.length, (left, right) -> comparator.compare(keys[left], keys[right]));
+    }
+
+    /**
+     * Get the stable sort order for the indices from 0 (inclusive) to size (exclusive), according to the given
+     * comparator. Indices which compare as equal remain in ascending order.
+     *
+     * @param size       number of indices
+     * @param comparator index comparator
+     * @return sorted indices
+     */
+    public static int[] sortIndices(int size, IndexComparator comparator)
+    {
+        int[] indices = new int[size];
+        for (int i = 0; i < size; i++)
+        {
+            indices[i] = i;
+        }
+        if (size > 1)
+        {
+            mergeSort(indices, indices.clone(), 0, size, comparator);
+        }
+        return indices;
+    }
+
+    /**
+     * Copy values into a new array in the given order.
+     *
+     * @param values values
+     * @param order  indices of the values in the desired order
+     * @return reordered values
+     */
+    public static Object[] reorder(Object[] values, int[] order)
+    {
+        Object[] result = new Object[order.length];
+        for (int i = 0; i < order.length; i++)
+        {
+            result[i] = values[order[i]];
+        }
+        return result;
+    }
+
+    // Sorts target[from, to), using source as scratch space; on entry both hold the same indices in that range
+    private static void mergeSort(int[] target, int[] source, int from, int to, IndexComparator comparator)
+    {
+        if ((to - from) <= INSERTION_SORT_THRESHOLD)
+        {
+            insertionSort(target, from, to, comparator);
+            return;
+        }
+
+        int mid = (from + to) >>> 1;
+        mergeSort(source, target, from, mid, comparator);
+        mergeSort(source, target, mid, to, comparator);
+
+        // already in order: just copy
+        if (comparator.compare(source[mid - 1], source[mid]) <= 0)
+        {
+            System.arraycopy(source, from, target, from, to - from);
+            return;
+        }
+
+        for (int i = from, left = from, right = mid; i < to; i++)
+        {
+            target[i] = ((right >= to) || ((left < mid) && (comparator.compare(source[left], source[right]) <= 0))) ? source[left++] : source[right++];
+        }
+    }
+
+    private static void insertionSort(int[] indices, int from, int to, IndexComparator comparator)
+    {
+        for (int i = from + 1; i < to; i++)
+        {
+            int index = indices[i];
+            int j = i - 1;
+            while ((j >= from) && (comparator.compare(indices[j], index) > 0))
+            {
+                indices[j + 1] = indices[j];
+                j--;
+            }
+            indices[j + 1] = index;
+        }
+    }
+}
@@ -0,0 +1,182 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.m3.compiler;
+
+import org.eclipse.collections.api.factory.Sets;
+import org.eclipse.collections.api.set.SetIterable;
+import org.finos.legend.pure.m4.ModelRepository;
+import org.finos.legend.pure.m4.coreinstance.CoreInstance;
+import org.finos.legend.pure.m4.serialization.grammar.M4Parser;
+import org.finos.legend.pure.m4.statelistener.VoidM4StateListener;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class TestContext
+{
+    private ModelRepository repository;
+    private CoreInstance classifier;
+    private CoreInstance otherClassifier;
+
+    @Before
+    public void setUp() throws Exception
+    {
+        this.repository = new ModelRepository();
+        new M4Parser().parse("^Class Class\n" +
+                "{\n" +
+                "    Class.properties[properties] :\n" +
+                "        [\n" +
+                "            ^Property properties\n" +
+                "                {\n" +
+                "                    Property.properties[type] : Property\n" +
+                "                }\n" +
+                "        ]\n" +
+                "}\n" +
+                "\n" +
+                "^Class Property\n" +
+                "{\n" +
+                "    Class.properties[properties] :\n" +
+                "        [\n" +
+                "            ^Property type\n" +
+                "                {\n" +
+                "                    Property.properties[type] : Class\n" +
+                "                }\n" +
+                "        ]\n" +
+                "}", this.repository, new VoidM4StateListener());
+        CoreInstance classClass = this.repository.getTopLevel("Class");
+        this.classifier = newInstance("Classifier", classClass);
+        this.otherClassifier = newInstance("OtherClassifier", classClass);
+    }
+
+    @Test
+    public void testFrozenContext()
+    {
+        Context context = new Context();
+        IllegalArgumentException e = Assert.assertThrows(IllegalArgumentException.class, () -> new Context(context));
+        Assert.assertEquals("Base context must be frozen", e.getMessage());
+
+        CoreInstance instance = newInstance("instance", this.classifier);
+        context.registerInstanceByClassifier(instance);
+        context.freeze();
+        Assert.assertTrue(context.isFrozen());
+        Assert.assertNull(context.getBase());
+
+        CoreInstance other = newInstance("other", this.classifier);
+        assertFrozen(() -> context.registerInstanceByClassifier(other));
+        assertFrozen(() -> context.registerFunctionByName("f", other));
+        assertFrozen(() -> context.registerFunctionsByName("f", Sets.immutable.with(other)));
+        assertFrozen(() -> context.update(instance));
+        assertFrozen(() -> context.remove(instance));
+        assertFrozen(context::clear);
+        Assert.assertEquals(Sets.immutable.with(instance), context.getClassifierInstances(this.classifier));
+    }
+
+    @Test
+    public void testLayeredClassifierInstances()
+    {
+        Context base = new Context();
+        CoreInstance baseInstance = newInstance("baseInstance", this.classifier);
+        base.registerInstanceByClassifier(baseInstance);
+        base.freeze();
+
+        Context overlay = new Context(base);
+        Assert.assertSame(base, overlay.getBase());
+        Assert.assertFalse(overlay.isFrozen());
+        Assert.assertEquals(Sets.immutable.with(baseInstance), overlay.getClassifierInstances(this.classifier));
+        Assert.assertEquals(Sets.immutable.empty(), overlay.getClassifierInstances(this.otherClassifier));
+
+        CoreInstance instance1 = newInstance("instance1", this.classifier);
+        CoreInstance otherInstance = newInstance("otherInstance", this.otherClassifier);
+        overlay.registerInstancesByClassifier(Sets.immutable.with(instance1, otherInstance));
+
+        SetIterable<CoreInstance> instances = overlay.getClassifierInstances(this.classifier);
+        Assert.assertEquals(Sets.immutable.with(baseInstance, instance1), instances);
+        Assert.assertEquals(2, instances.size());
+        Assert.assertTrue(instances.contains(baseInstance));
+        Assert.assertTrue(instances.contains(instance1));
+        Assert.assertFalse(instances.contains(otherInstance));
+        Assert.assertEquals(Sets.immutable.with(otherInstance), overlay.getClassifierInstances(this.otherClassifier));
+        Assert.assertEquals(Sets.immutable.with(baseInstance, instance1, otherInstance), overlay.getAllInstances());
+
+        // the base is not affected
+        Assert.assertEquals(Sets.immutable.with(baseInstance), base.getClassifierInstances(this.classifier));
+        Assert.assertEquals(Sets.immutable.empty(), base.getClassifierInstances(this.otherClassifier));
+
+        // the merged set is a view rather than a copy
+        CoreInstance instance2 = newInstance("instance2", this.classifier);
+        overlay.registerInstanceByClassifier(instance2);
+        Assert.assertEquals(Sets.immutable.with(baseInstance, instance1, instance2), instances);
+        Assert.assertEquals(3, instances.size());
+
+        // instances registered in both are only counted once
+        overlay.registerInstanceByClassifier(baseInstance);
+        Assert.assertEquals(3, instances.size());
+        Assert.assertEquals(3, instances.toList().size());
+
+        overlay.remove(instance1);
+        Assert.assertEquals(Sets.immutable.with(baseInstance, instance2), overlay.getClassifierInstances(this.classifier));
+
+        overlay.clear();
+        Assert.assertEquals(Sets.immutable.with(baseInstance), overlay.getClassifierInstances(this.classifier));
+        Assert.assertEquals(Sets.immutable.with(baseInstance), base.getClassifierInstances(this.classifier));
+    }
+
+    @Test
+    public void testLayeredFunctionsByName()
+    {
+        Context base = new Context();
+        CoreInstance baseFunction = newInstance("baseFunction", this.classifier);
+        base.registerFunctionByName("f", baseFunction);
+        base.registerFunctionByName("g", newInstance("g", this.classifier));
+        base.freeze();
+
+        Context overlay = new Context(base);
+        Assert.assertEquals(Sets.immutable.with(baseFunction), overlay.getFunctionsForName("f"));
+        Assert.assertEquals(Sets.immutable.empty(), overlay.getFunctionsForName("h"));
+        Assert.assertEquals(Sets.immutable.with("f", "g"), overlay.getAllFunctionNames().toSet());
+
+        CoreInstance function1 = newInstance("function1", this.classifier);
+        CoreInstance function2 = newInstance("function2", this.classifier);
+        overlay.registerFunctionByName("f", function1);
+        overlay.registerFunctionByName("h", function2);
+
+        SetIterable<CoreInstance> functions = overlay.getFunctionsForName("f");
+        Assert.assertEquals(Sets.immutable.with(baseFunction, function1), functions);
+        Assert.assertEquals(Sets.immutable.with(function2), overlay.getFunctionsForName("h"));
+        Assert.assertEquals(Sets.immutable.with(baseFunction), base.getFunctionsForName("f"));
+        Assert.assertEquals(Sets.immutable.empty(), base.getFunctionsForName("h"));
+
+        // function names are not repeated
+        Assert.assertEquals(3, overlay.getAllFunctionNames().size());
+        Assert.assertEquals(Sets.immutable.with("f", "g", "h"), overlay.getAllFunctionNames().toSet());
+        Assert.assertEquals(Sets.immutable.with("f", "g"), base.getAllFunctionNames().toSet());
+
+        // the merged set is a view rather than a copy
+        CoreInstance function3 = newInstance("function3", this.classifier);
+        overlay.registerFunctionsByName("f", Sets.immutable.with(function3));
+        Assert.assertEquals(Sets.immutable.with(baseFunction, function1, function3), functions);
+    }
+
+    private CoreInstance newInstance(String name, CoreInstance instanceClassifier)
+    {
+        return this.repository.newCoreInstance(name, instanceClassifier, null);
+    }
+
+    private static void assertFrozen(Runnable runnable)
+    {
+        IllegalStateException e = Assert.assertThrows(IllegalStateException.class, runnable::run);
+        Assert.assertEquals("Context is frozen", e.getMessage());
+    }
+}
@@ -0,0 +1,111 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.m3.execution;
+
+import org.apache.commons.io.IOUtils;
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.factory.Maps;
+import org.eclipse.collections.api.list.ListIterable;
+import org.eclipse.collections.api.map.MutableMap;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+public class TestXLSXStreamingOutputWriter
+{
+    @Test
+    public void testWriteRows() throws IOException
+    {
+        ListIterable<ListIterable<?>> rows = Lists.immutable.with(
+                Lists.fixedSize.with("a", 1L, 1.5d, true),
+                Lists.fixedSize.with("b & <c>", null, new BigDecimal("1E+3"), false),
+                Lists.fixedSize.with("a", -2, Double.NaN, " padded "));
+        MutableMap<String, String> entries = write(new XLSXStreamingOutputWriter(Lists.immutable.with("name", "int", "float", "other")), rows);
+
+        Assert.assertTrue(entries.keySet().containsAll(Arrays.asList("[Content_Types].xml", "xl/workbook.xml", "xl/styles.xml", "xl/_rels/workbook.xml.rels")));
+        Assert.assertEquals(
+                "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n" +
+                        "<worksheet xmlns=\"http://schemas.openxmlformats.org/spreadsheetml/2006/main\"><sheetData>" +
+                        "<row r=\"1\"><c r=\"A1\" t=\"s\"><v>0</v></c><c r=\"B1\" t=\"s\"><v>1</v></c><c r=\"C1\" t=\"s\"><v>2</v></c><c r=\"D1\" t=\"s\"><v>3</v></c></row>" +
+                        "<row r=\"2\"><c r=\"A2\" t=\"s\"><v>4</v></c><c r=\"B2\"><v>1</v></c><c r=\"C2\"><v>1.5</v></c><c r=\"D2\" t=\"b\"><v>1</v></c></row>" +
+                        "<row r=\"3\"><c r=\"A3\" t=\"s\"><v>5</v></c><c r=\"C3\"><v>1000</v></c><c r=\"D3\" t=\"b\"><v>0</v></c></row>" +
+                        "<row r=\"4\"><c r=\"A4\" t=\"s\"><v>4</v></c><c r=\"B4\"><v>-2</v></c><c r=\"C4\" t=\"s\"><v>6</v></c><c r=\"D4\" t=\"s\"><v>7</v></c></row>" +
+                        "</sheetData></worksheet>",
+                entries.get("xl/worksheets/sheet1.xml"));
+        Assert.assertEquals(
+                "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n" +
+                        "<sst xmlns=\"http://schemas.openxmlformats.org/spreadsheetml/2006/main\" count=\"9\" uniqueCount=\"8\">" +
+                        "<si><t>name</t></si><si><t>int</t></si><si><t>float</t></si><si><t>other</t></si>" +
+                        "<si><t>a</t></si><si><t>b &amp; &lt;c&gt;</t></si><si><t>NaN</t></si><si><t xml:space=\"preserve\"> padded </t></si>" +
+                        "</sst>",
+                entries.get("xl/sharedStrings.xml"));
+    }
+
+    @Test
+    public void testSharedStringLimits() throws IOException
+    {
+        ListIterable<ListIterable<?>> rows = Lists.immutable.with(
+                Lists.fixedSize.with("a", "b", "long string"),
+                Lists.fixedSize.with("c", "a", "b"));
+        MutableMap<String, String> entries = write(new XLSXStreamingOutputWriter(null, 2, 5), rows);
+
+        Assert.assertEquals(
+                "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n" +
+                        "<worksheet xmlns=\"http://schemas.openxmlformats.org/spreadsheetml/2006/main\"><sheetData>" +
+                        "<row r=\"1\"><c r=\"A1\" t=\"s\"><v>0</v></c><c r=\"B1\" t=\"s\"><v>1</v></c><c r=\"C1\" t=\"inlineStr\"><is><t>long string</t></is></c></row>" +
+                        "<row r=\"2\"><c r=\"A2\" t=\"inlineStr\"><is><t>c</t></is></c><c r=\"B2\" t=\"s\"><v>0</v></c><c r=\"C2\" t=\"s\"><v>1</v></c></row>" +
+                        "</sheetData></worksheet>",
+                entries.get("xl/worksheets/sheet1.xml"));
+        Assert.assertEquals(
+                "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n" +
+                        "<sst xmlns=\"http://schemas.openxmlformats.org/spreadsheetml/2006/main\" count=\"4\" uniqueCount=\"2\"><si><t>a</t></si><si><t>b</t></si></sst>",
+                entries.get("xl/sharedStrings.xml"));
+    }
+
+    @Test
+    public void testColumnReferences() throws IOException
+    {
+        Object[] row = new Object[28];
+        Arrays.fill(row, 0);
+        MutableMap<String, String> entries = write(new XLSXStreamingOutputWriter(), Lists.immutable.with(Arrays.asList(row)));
+        String sheet = entries.get("xl/worksheets/sheet1.xml");
+        Assert.assertTrue(sheet, sheet.contains("<c r=\"Z1\"><v>0</v></c><c r=\"AA1\"><v>0</v></c><c r=\"AB1\"><v>0</v></c></row>"));
+    }
+
+    private static MutableMap<String, String> write(XLSXStreamingOutputWriter writer, ListIterable<? extends Iterable<?>> rows) throws IOException
+    {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        writer.write(rows.iterator(), bytes);
+
+        MutableMap<String, String> entries = Maps.mutable.empty();
+        try (ZipInputStream zis = new ZipInputStream(new ByteArrayInputStream(bytes.toByteArray())))
+        {
+            ZipEntry entry;
+            while ((entry = zis.getNextEntry()) != null)
+            {
+                Assert.assertNull(entry.getName(), entries.put(entry.getName(), IOUtils.toString(zis, StandardCharsets.UTF_8)));
+            }
+        }
+        return entries;
+    }
+}
@@ -0,0 +1,132 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.m3.generator;
+
+import org.eclipse.collections.api.factory.Sets;
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.api.set.SetIterable;
+import org.finos.legend.pure.m3.serialization.filesystem.repository.CodeRepository;
+import org.finos.legend.pure.m3.serialization.filesystem.repository.CodeRepositorySet;
+import org.finos.legend.pure.m3.serialization.filesystem.repository.GenericCodeRepository;
+import org.finos.legend.pure.m3.serialization.filesystem.usercodestorage.fs.MutableFSCodeStorage;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+public class TestGenerationFingerprints
+{
+    @Rule
+    public final TemporaryFolder tmpFolder = new TemporaryFolder();
+
+    private final CodeRepository platform = GenericCodeRepository.build("platform", "meta(::.*)?");
+    private final CodeRepository testA = GenericCodeRepository.build("test_a", "test::a(::.*)?", "platform");
+    private final CodeRepository testB = GenericCodeRepository.build("test_b", "test::b(::.*)?", "platform", "test_a");
+    private final CodeRepositorySet repositories = CodeRepositorySet.builder().withCodeRepositories(this.platform, this.testA, this.testB).build();
+    private final SetIterable<String> targets = Sets.immutable.with("test_a", "test_b");
+
+    private Path sourceDirectory;
+    private Path fingerprintFile;
+
+    @Before
+    public void setUp() throws IOException
+    {
+        this.sourceDirectory = this.tmpFolder.newFolder("src").toPath();
+        this.fingerprintFile = this.tmpFolder.getRoot().toPath().resolve("fingerprints").resolve("test.fingerprints");
+        writeSource("test_a", "a.pure", "function test::a::f():Integer[1] { 1 }");
+        writeSource("test_b", "b.pure", "function test::b::g():Integer[1] { test::a::f() }");
+    }
+
+    @Test
+    public void testNoPreviousFingerprints()
+    {
+        GenerationFingerprints fingerprints = GenerationFingerprints.load(this.fingerprintFile, "input");
+        computeFingerprints(fingerprints).forEachKeyValue((repository, fingerprint) -> Assert.assertFalse(repository, fingerprints.isUpToDate(repository, fingerprint)));
+    }
+
+    @Test
+    public void testUpToDateAfterSave() throws IOException
+    {
+        saveCurrentFingerprints("input");
+
+        GenerationFingerprints fingerprints = GenerationFingerprints.load(this.fingerprintFile, "input");
+        computeFingerprints(fingerprints).forEachKeyValue((repository, fingerprint) -> Assert.assertTrue(repository, fingerprints.isUpToDate(repository, fingerprint)));
+    }
+
+    @Test
+    public void testSourceChanges() throws IOException
+    {
+        saveCurrentFingerprints("input");
+
+        // a change to test_b does not affect test_a
+        writeSource("test_b", "b.pure", "function test::b::g():Integer[1] { test::a::f() + 1 }");
+        GenerationFingerprints fingerprints1 = GenerationFingerprints.load(this.fingerprintFile, "input");
+        MutableMap<String, String> current1 = computeFingerprints(fingerprints1);
+        Assert.assertTrue(fingerprints1.isUpToDate("test_a", current1.get("test_a")));
+        Assert.assertFalse(fingerprints1.isUpToDate("test_b", current1.get("test_b")));
+
+        // a change to test_a affects test_b, which depends on it
+        saveCurrentFingerprints("input");
+        writeSource("test_a", "a2.pure", "function test::a::h():Integer[1] { 2 }");
+        GenerationFingerprints fingerprints2 = GenerationFingerprints.load(this.fingerprintFile, "input");
+        MutableMap<String, String> current2 = computeFingerprints(fingerprints2);
+        Assert.assertFalse(fingerprints2.isUpToDate("test_a", current2.get("test_a")));
+        Assert.assertFalse(fingerprints2.isUpToDate("test_b", current2.get("test_b")));
+    }
+
+    @Test
+    public void testInputChanges() throws IOException
+    {
+        saveCurrentFingerprints("input");
+
+        GenerationFingerprints fingerprints = GenerationFingerprints.load(this.fingerprintFile, "other input");
+        computeFingerprints(fingerprints).forEachKeyValue((repository, fingerprint) -> Assert.assertFalse(repository, fingerprints.isUpToDate(repository, fingerprint)));
+    }
+
+    @Test
+    public void testHasher()
+    {
+        String fingerprint = GenerationFingerprints.newHasher().withString("a").withStrings(Sets.mutable.with("c", "b")).withLong(1L).getFingerprint();
+        Assert.assertEquals(64, fingerprint.length());
+        Assert.assertEquals(fingerprint, GenerationFingerprints.newHasher().withString("a").withStrings(Sets.mutable.with("b", "c")).withLong(1L).getFingerprint());
+        Assert.assertNotEquals(fingerprint, GenerationFingerprints.newHasher().withString("a").withStrings(Sets.mutable.with("b", "c")).withLong(2L).getFingerprint());
+        Assert.assertNotEquals(GenerationFingerprints.newHasher().withString("ab").withString("c").getFingerprint(), GenerationFingerprints.newHasher().withString("a").withString("bc").getFingerprint());
+    }
+
+    private void saveCurrentFingerprints(String inputFingerprint) throws IOException
+    {
+        GenerationFingerprints fingerprints = GenerationFingerprints.load(this.fingerprintFile, inputFingerprint);
+        fingerprints.update(computeFingerprints(fingerprints));
+        fingerprints.save();
+    }
+
+    private MutableMap<String, String> computeFingerprints(GenerationFingerprints fingerprints)
+    {
+        return fingerprints.computeFingerprints(this.repositories, this.targets, r -> new MutableFSCodeStorage(this.repositories.getRepository(r), this.sourceDirectory.resolve(r)));
+    }
+
+    private void writeSource(String repository, String fileName, String code) throws IOException
+    {
+        Path file = this.sourceDirectory.resolve(repository).resolve(fileName);
+        Files.createDirectories(file.getParent());
+        Files.write(file, code.getBytes(StandardCharsets.UTF_8));
+    }
+}
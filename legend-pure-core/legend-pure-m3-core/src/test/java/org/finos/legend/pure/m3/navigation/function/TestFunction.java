@@ -0,0 +1,80 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.m3.navigation.function;
+
+import org.eclipse.collections.impl.tuple.Tuples;
+import org.finos.legend.pure.m3.navigation.Instance;
+import org.finos.legend.pure.m3.navigation.M3Properties;
+import org.finos.legend.pure.m3.tests.AbstractPureTestWithCoreCompiled;
+import org.finos.legend.pure.m4.coreinstance.CoreInstance;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class TestFunction extends AbstractPureTestWithCoreCompiled
+{
+    @BeforeClass
+    public static void setUp()
+    {
+        setUpRuntime(getFunctionExecution(), Tuples.pair(
+                "test.pure",
+                "function test::ascending():Function<{Integer[1],Integer[1]->Integer[1]}>[1]\n" +
+                        "{\n" +
+                        "  {x:Integer[1], y:Integer[1] | $x->compare($y)}\n" +
+                        "}\n" +
+                        "\n" +
+                        "function test::descending():Function<{Integer[1],Integer[1]->Integer[1]}>[1]\n" +
+                        "{\n" +
+                        "  {a:Integer[1], b:Integer[1] | compare($b, $a)}\n" +
+                        "}\n" +
+                        "\n" +
+                        "function test::sameArgument():Function<{Integer[1],Integer[1]->Integer[1]}>[1]\n" +
+                        "{\n" +
+                        "  {x:Integer[1], y:Integer[1] | $x->compare($x)}\n" +
+                        "}\n" +
+                        "\n" +
+                        "function test::negated():Function<{Integer[1],Integer[1]->Integer[1]}>[1]\n" +
+                        "{\n" +
+                        "  {x:Integer[1], y:Integer[1] | -1 * $x->compare($y)}\n" +
+                        "}\n" +
+                        "\n" +
+                        "function test::twoExpressions():Function<{Integer[1],Integer[1]->Integer[1]}>[1]\n" +
+                        "{\n" +
+                        "  {x:Integer[1], y:Integer[1] | let z = 1; $x->compare($y);}\n" +
+                        "}\n"));
+    }
+
+    @Test
+    public void testGetStandardComparatorDirection()
+    {
+        Assert.assertEquals(1, Function.getStandardComparatorDirection(getLambda("test::ascending__Function_1_"), processorSupport));
+        Assert.assertEquals(-1, Function.getStandardComparatorDirection(getLambda("test::descending__Function_1_"), processorSupport));
+        Assert.assertEquals(0, Function.getStandardComparatorDirection(getLambda("test::sameArgument__Function_1_"), processorSupport));
+        Assert.assertEquals(0, Function.getStandardComparatorDirection(getLambda("test::negated__Function_1_"), processorSupport));
+        Assert.assertEquals(0, Function.getStandardComparatorDirection(getLambda("test::twoExpressions__Function_1_"), processorSupport));
+
+        Assert.assertEquals(1, Function.getStandardComparatorDirection(runtime.getFunction("meta::pure::functions::lang::compare_T_1__T_1__Integer_1_"), processorSupport));
+        Assert.assertEquals(0, Function.getStandardComparatorDirection(runtime.getFunction("test::ascending__Function_1_"), processorSupport));
+        Assert.assertEquals(0, Function.getStandardComparatorDirection(null, processorSupport));
+    }
+
+    private CoreInstance getLambda(String functionPath)
+    {
+        CoreInstance function = runtime.getFunction(functionPath);
+        Assert.assertNotNull(functionPath, function);
+        CoreInstance expression = function.getValueForMetaPropertyToMany(M3Properties.expressionSequence).getOnly();
+        return Instance.getValueForMetaPropertyToOneResolved(expression, M3Properties.values, processorSupport);
+    }
+}
@@ -0,0 +1,137 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.m3.navigation.function;
+
+import org.eclipse.collections.api.factory.Sets;
+import org.eclipse.collections.api.list.ListIterable;
+import org.eclipse.collections.api.set.SetIterable;
+import org.eclipse.collections.impl.tuple.Tuples;
+import org.finos.legend.pure.m3.compiler.postprocessing.functionmatch.FunctionExpressionMatcher;
+import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.function.Function;
+import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.valuespecification.FunctionExpression;
+import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.valuespecification.ValueSpecification;
+import org.finos.legend.pure.m3.navigation.M3Properties;
+import org.finos.legend.pure.m3.tests.AbstractPureTestWithCoreCompiled;
+import org.finos.legend.pure.m3.tools.ListHelper;
+import org.finos.legend.pure.m4.coreinstance.CoreInstance;
+import org.finos.legend.pure.m4.tools.GraphNodeIterable;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class TestFunctionOverloadIndex extends AbstractPureTestWithCoreCompiled
+{
+    @BeforeClass
+    public static void setUp()
+    {
+        setUpRuntime(getFunctionExecution(), Tuples.pair(
+                "test.pure",
+                "function test::over(s:String[1]):String[1] { $s }\n" +
+                        "function test::over(i:Integer[1]):String[1] { 'integer' }\n" +
+                        "function test::over(n:Number[1]):String[1] { 'number' }\n" +
+                        "function test::over<T>(t:T[1]):String[1] { 'any' }\n" +
+                        "function test::over(f:Function<{->String[1]}>[1]):String[1] { $f->eval() }\n" +
+                        "function test::over(s1:String[1], s2:String[1]):String[1] { $s1 + $s2 }\n" +
+                        "function test::over():String[1] { 'none' }\n" +
+                        "\n" +
+                        "function test::callOverloads():String[*]\n" +
+                        "{\n" +
+                        "  [test::over(1), test::over(1.5), test::over('a'), test::over(%2020-01-01), test::over('a', 'b'), test::over()]\n" +
+                        "}\n"));
+    }
+
+    @Test
+    public void testCandidates()
+    {
+        FunctionOverloadIndex index = processorSupport.function_getOverloadIndex("over");
+        Assert.assertEquals(7, index.getAllFunctions().size());
+
+        ListIterable<? extends CoreInstance> calls = getCallSites("test::callOverloads__String_MANY_");
+        Assert.assertEquals(
+                Sets.mutable.with("over_Integer_1__String_1_", "over_Number_1__String_1_", "over_T_1__String_1_"),
+                getCandidateIds(index, calls.get(0)));
+        Assert.assertEquals(
+                Sets.mutable.with("over_Number_1__String_1_", "over_T_1__String_1_"),
+                getCandidateIds(index, calls.get(1)));
+        Assert.assertEquals(
+                Sets.mutable.with("over_String_1__String_1_", "over_T_1__String_1_"),
+                getCandidateIds(index, calls.get(2)));
+        Assert.assertEquals(
+                Sets.mutable.with("over_T_1__String_1_"),
+                getCandidateIds(index, calls.get(3)));
+        Assert.assertEquals(
+                Sets.mutable.with("over_String_1__String_1__String_1_"),
+                getCandidateIds(index, calls.get(4)));
+        Assert.assertEquals(
+                Sets.mutable.with("over__String_1_"),
+                getCandidateIds(index, calls.get(5)));
+    }
+
+    @Test
+    public void testIndexIsCachedUntilFunctionsChange()
+    {
+        FunctionOverloadIndex index = processorSupport.function_getOverloadIndex("over");
+        Assert.assertSame(index, processorSupport.function_getOverloadIndex("over"));
+
+        CoreInstance function = runtime.getFunction("test::over_String_1__String_1_");
+        runtime.getContext().update(function);
+        FunctionOverloadIndex newIndex = processorSupport.function_getOverloadIndex("over");
+        Assert.assertNotSame(index, newIndex);
+        Assert.assertEquals(index.getAllFunctions(), newIndex.getAllFunctions());
+    }
+
+    @Test
+    public void testPruningDoesNotChangeMatches()
+    {
+        int[] counts = new int[2];
+        GraphNodeIterable.fromModelRepository(repository).forEach(node ->
+        {
+            if (node instanceof FunctionExpression)
+            {
+                FunctionExpression expression = (FunctionExpression) node;
+                String functionName = expression._functionName();
+                if (functionName != null)
+                {
+                    FunctionOverloadIndex index = processorSupport.function_getOverloadIndex(functionName);
+                    ListIterable<? extends ValueSpecification> parametersValues = ListHelper.wrapListIterable(expression._parametersValues());
+                    SetIterable<CoreInstance> candidates = index.getCandidates(parametersValues, processorSupport);
+                    SetIterable<Function<?>> allFunctions = index.getAllFunctions().collect(f -> (Function<?>) f, Sets.mutable.empty());
+                    SetIterable<Function<?>> candidateFunctions = allFunctions.select(candidates::contains);
+                    Assert.assertEquals(
+                            functionName,
+                            FunctionExpressionMatcher.getFunctionMatches(allFunctions, parametersValues, functionName, expression.getSourceInformation(), true, processorSupport).toSet(),
+                            FunctionExpressionMatcher.getFunctionMatches(candidateFunctions, parametersValues, functionName, expression.getSourceInformation(), true, processorSupport).toSet());
+                    counts[0] += allFunctions.size();
+                    counts[1] += candidateFunctions.size();
+                }
+            }
+        });
+        Assert.assertTrue(counts[0] > 0);
+        Assert.assertTrue(counts[0] + " candidates before pruning, " + counts[1] + " after", counts[1] < counts[0]);
+    }
+
+    private ListIterable<? extends CoreInstance> getCallSites(String functionPath)
+    {
+        CoreInstance function = runtime.getFunction(functionPath);
+        Assert.assertNotNull(functionPath, function);
+        return function.getValueForMetaPropertyToMany(M3Properties.expressionSequence).getOnly().getValueForMetaPropertyToMany(M3Properties.values);
+    }
+
+    private SetIterable<String> getCandidateIds(FunctionOverloadIndex index, CoreInstance call)
+    {
+        ListIterable<? extends ValueSpecification> parametersValues = ListHelper.wrapListIterable(((FunctionExpression) call)._parametersValues());
+        return index.getCandidates(parametersValues, processorSupport).collect(CoreInstance::getName, Sets.mutable.empty());
+    }
+}
@@ -0,0 +1,130 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.m3.navigation.generictype;
+
+import org.eclipse.collections.impl.tuple.Tuples;
+import org.finos.legend.pure.m3.compiler.Context;
+import org.finos.legend.pure.m3.navigation.M3Properties;
+import org.finos.legend.pure.m3.tests.AbstractPureTestWithCoreCompiled;
+import org.finos.legend.pure.m4.coreinstance.CoreInstance;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class TestGenericTypeCompatibilityCache extends AbstractPureTestWithCoreCompiled
+{
+    @BeforeClass
+    public static void setUp()
+    {
+        setUpRuntime(getFunctionExecution(), Tuples.pair(
+                "test.pure",
+                "Class test::A {}\n" +
+                        "Class test::B extends test::A {}\n" +
+                        "Class test::Box<T> {}\n" +
+                        "\n" +
+                        "function test::boxA():test::Box<test::A>[0..1] { [] }\n" +
+                        "function test::boxB():test::Box<test::B>[0..1] { [] }\n" +
+                        "function test::otherBoxB():test::Box<test::B>[0..1] { [] }\n" +
+                        "function test::boxT<T>():test::Box<T>[0..1] { [] }\n" +
+                        "function test::boxFunc():test::Box<{->String[1]}>[0..1] { [] }\n"));
+    }
+
+    @Test
+    public void testKeys()
+    {
+        GenericTypeKey boxA = GenericTypeKey.getKey(getReturnType("test::boxA__Box_$0_1$_"), processorSupport);
+        GenericTypeKey boxB = GenericTypeKey.getKey(getReturnType("test::boxB__Box_$0_1$_"), processorSupport);
+        GenericTypeKey otherBoxB = GenericTypeKey.getKey(getReturnType("test::otherBoxB__Box_$0_1$_"), processorSupport);
+
+        Assert.assertNotNull(boxA);
+        Assert.assertNotNull(boxB);
+        Assert.assertSame(runtime.getCoreInstance("test::Box"), boxB.getRawType());
+        Assert.assertEquals(boxB, otherBoxB);
+        Assert.assertEquals(boxB.hashCode(), otherBoxB.hashCode());
+        Assert.assertNotEquals(boxA, boxB);
+
+        Assert.assertNull(GenericTypeKey.getKey(getReturnType("test::boxT__Box_$0_1$_"), processorSupport));
+        Assert.assertNull(GenericTypeKey.getKey(getReturnType("test::boxFunc__Box_$0_1$_"), processorSupport));
+    }
+
+    @Test
+    public void testCompatibility()
+    {
+        CoreInstance boxA = getReturnType("test::boxA__Box_$0_1$_");
+        CoreInstance boxB = getReturnType("test::boxB__Box_$0_1$_");
+        CoreInstance otherBoxB = getReturnType("test::otherBoxB__Box_$0_1$_");
+        CoreInstance boxT = getReturnType("test::boxT__Box_$0_1$_");
+        CoreInstance[] genericTypes = {boxA, boxB, otherBoxB, boxT};
+
+        Assert.assertTrue(GenericType.isGenericCompatibleWith(boxB, boxA, true, processorSupport));
+        Assert.assertFalse(GenericType.isGenericCompatibleWith(boxA, boxB, true, processorSupport));
+        Assert.assertTrue(GenericType.isGenericCompatibleWith(boxB, otherBoxB, true, processorSupport));
+
+        // repeat the checks so that they are answered from the cache, and compare with the uncached results
+        for (int i = 0; i < 2; i++)
+        {
+            for (CoreInstance genericType : genericTypes)
+            {
+                for (CoreInstance otherGenericType : genericTypes)
+                {
+                    for (boolean covariant : new boolean[]{true, false})
+                    {
+                        Assert.assertEquals(
+                                GenericType.print(genericType, processorSupport) + " / " + GenericType.print(otherGenericType, processorSupport) + " / " + covariant,
+                                GenericType.isGenericCompatibleWith(genericType, otherGenericType, covariant, null, processorSupport),
+                                GenericType.isGenericCompatibleWith(genericType, otherGenericType, covariant, processorSupport));
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testCachedUntilHierarchyChanges()
+    {
+        Context context = runtime.getContext();
+        CoreInstance boxA = getReturnType("test::boxA__Box_$0_1$_");
+        CoreInstance boxB = getReturnType("test::boxB__Box_$0_1$_");
+        GenericTypeKey boxAKey = GenericTypeKey.getKey(boxA, processorSupport);
+        GenericTypeKey boxBKey = GenericTypeKey.getKey(boxB, processorSupport);
+        AtomicInteger computations = new AtomicInteger();
+
+        // start from an empty cache
+        CoreInstance classB = runtime.getCoreInstance("test::B");
+        Assert.assertTrue(processorSupport.type_subTypeOf(classB, runtime.getCoreInstance("test::A")));
+        context.update(classB);
+
+        Assert.assertTrue(GenericType.isGenericCompatibleWith(boxB, boxA, true, context, processorSupport));
+        Assert.assertTrue(context.getIfAbsentPutGenericTypeCompatibility(boxBKey, boxAKey, true, () -> computations.incrementAndGet() > 0));
+        Assert.assertEquals(0, computations.get());
+
+        // the contravariant check is cached separately
+        Assert.assertTrue(context.getIfAbsentPutGenericTypeCompatibility(boxBKey, boxAKey, false, () -> computations.incrementAndGet() > 0));
+        Assert.assertEquals(1, computations.get());
+
+        context.update(classB);
+        Assert.assertTrue(context.getIfAbsentPutGenericTypeCompatibility(boxBKey, boxAKey, true, () -> computations.incrementAndGet() > 0));
+        Assert.assertEquals(2, computations.get());
+    }
+
+    private static CoreInstance getReturnType(String functionId)
+    {
+        CoreInstance function = runtime.getFunction(functionId);
+        Assert.assertNotNull(functionId, function);
+        return processorSupport.function_getFunctionType(function).getValueForMetaPropertyToOne(M3Properties.returnType);
+    }
+}
@@ -14,8 +14,10 @@
 
 package org.finos.legend.pure.m3.serialization.compiler;
 
+import org.eclipse.collections.api.factory.Lists;
 import org.eclipse.collections.api.factory.Maps;
 import org.eclipse.collections.api.factory.Sets;
+import org.eclipse.collections.api.list.MutableList;
 import org.eclipse.collections.api.map.MutableMap;
 import org.finos.legend.pure.m3.navigation.PackageableElement.PackageableElement;
 import org.finos.legend.pure.m3.serialization.compiler.element.ConcreteElementSerializer;
@@ -31,19 +33,28 @@ import org.finos.legend.pure.m3.serialization.filesystem.usercodestorage.classpa
 import org.finos.legend.pure.m3.serialization.filesystem.usercodestorage.composite.CompositeCodeStorage;
 import org.finos.legend.pure.m3.tools.GraphTools;
 import org.finos.legend.pure.m4.coreinstance.CoreInstance;
+import org.junit.AfterClass;
 import org.junit.Assert;
 import org.junit.BeforeClass;
 import org.junit.ClassRule;
 import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
 
+import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URL;
 import java.net.URLClassLoader;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.concurrent.ForkJoinPool;
 import java.util.jar.JarOutputStream;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
 
 public class TestPureCompilerSerializer extends AbstractReferenceTest
 {
@@ -53,6 +64,8 @@ public class TestPureCompilerSerializer extends AbstractReferenceTest
     private static FileDeserializer fileDeserializer;
     private static ModuleMetadataGenerator moduleMetadataGenerator;
     private static PureCompilerSerializer pureCompilerSerializer;
+    private static ForkJoinPool forkJoinPool;
+    private static PureCompilerSerializer parallelPureCompilerSerializer;
 
     @BeforeClass
     public static void setUpRuntime()
@@ -71,6 +84,23 @@ public class TestPureCompilerSerializer extends AbstractReferenceTest
                 .withModuleMetadataGenerator(moduleMetadataGenerator)
                 .withProcessorSupport(processorSupport)
                 .build();
+
+        forkJoinPool = new ForkJoinPool(4);
+        parallelPureCompilerSerializer = PureCompilerSerializer.builder()
+                .withFileSerializer(fileSerializer)
+                .withModuleMetadataGenerator(ModuleMetadataGenerator.builder().withPureRuntime(runtime).withForkJoinPool(forkJoinPool).build())
+                .withProcessorSupport(processorSupport)
+                .withForkJoinPool(forkJoinPool)
+                .build();
+    }
+
+    @AfterClass
+    public static void shutDownForkJoinPool()
+    {
+        if (forkJoinPool != null)
+        {
+            forkJoinPool.shutdown();
+        }
     }
 
     @Test
@@ -114,6 +144,55 @@ public class TestPureCompilerSerializer extends AbstractReferenceTest
         }
     }
 
+    @Test
+    public void testParallelSerializeAllToDirectory() throws IOException
+    {
+        Path serialDirectory = TMP.newFolder().toPath();
+        pureCompilerSerializer.serializeAll(serialDirectory);
+
+        Path parallelDirectory = TMP.newFolder().toPath();
+        parallelPureCompilerSerializer.serializeAll(parallelDirectory);
+
+        MutableList<Path> serialFiles = listFiles(serialDirectory);
+        Assert.assertEquals(serialFiles, listFiles(parallelDirectory));
+        for (Path file : serialFiles)
+        {
+            Assert.assertArrayEquals(file.toString(), Files.readAllBytes(serialDirectory.resolve(file)), Files.readAllBytes(parallelDirectory.resolve(file)));
+        }
+    }
+
+    @Test
+    public void testParallelSerializeAllToJar() throws IOException
+    {
+        Path directory = TMP.newFolder().toPath();
+
+        Path serialJarPath = directory.resolve("serial.jar");
+        try (JarOutputStream jarStream = new JarOutputStream(new BufferedOutputStream(Files.newOutputStream(serialJarPath))))
+        {
+            pureCompilerSerializer.serializeAll(jarStream);
+        }
+
+        Path parallelJarPath = directory.resolve("parallel.jar");
+        try (JarOutputStream jarStream = new JarOutputStream(new BufferedOutputStream(Files.newOutputStream(parallelJarPath))))
+        {
+            parallelPureCompilerSerializer.serializeAll(jarStream);
+        }
+
+        try (ZipInputStream serialStream = new ZipInputStream(new BufferedInputStream(Files.newInputStream(serialJarPath)));
+             ZipInputStream parallelStream = new ZipInputStream(new BufferedInputStream(Files.newInputStream(parallelJarPath))))
+        {
+            ZipEntry serialEntry;
+            while ((serialEntry = serialStream.getNextEntry()) != null)
+            {
+                ZipEntry parallelEntry = parallelStream.getNextEntry();
+                Assert.assertNotNull(serialEntry.getName(), parallelEntry);
+                Assert.assertEquals(serialEntry.getName(), parallelEntry.getName());
+                Assert.assertArrayEquals(serialEntry.getName(), readAllBytes(serialStream), readAllBytes(parallelStream));
+            }
+            Assert.assertNull(parallelStream.getNextEntry());
+        }
+    }
+
     @Test
     public void testSerializePlatformToDirectory() throws IOException
     {
@@ -216,6 +295,26 @@ public class TestPureCompilerSerializer extends AbstractReferenceTest
         }
     }
 
+    private static byte[] readAllBytes(InputStream stream) throws IOException
+    {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        int read;
+        while ((read = stream.read(buffer)) != -1)
+        {
+            bytes.write(buffer, 0, read);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static MutableList<Path> listFiles(Path directory) throws IOException
+    {
+        try (Stream<Path> stream = Files.walk(directory))
+        {
+            return stream.filter(Files::isRegularFile).map(directory::relativize).sorted().collect(Collectors.toCollection(Lists.mutable::empty));
+        }
+    }
+
     private void assertElementSerialized(Path directory, String path, CoreInstance element)
     {
         Assert.assertTrue(path, fileDeserializer.elementExists(directory, path));
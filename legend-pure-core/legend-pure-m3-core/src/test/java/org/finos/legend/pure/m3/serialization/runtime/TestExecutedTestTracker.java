@@ -0,0 +1,82 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.m3.serialization.runtime;
+
+import org.eclipse.collections.api.factory.Maps;
+import org.eclipse.collections.api.factory.Sets;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+
+public class TestExecutedTestTracker
+{
+    @Rule
+    public final TemporaryFolder tmpFolder = new TemporaryFolder();
+
+    @Test
+    public void testInvalidateImpactedTests() throws IOException
+    {
+        ExecutedTestTracker tracker = newTracker();
+        tracker.notePassingTests(Sets.mutable.with("test::testA", "test::testB"));
+        tracker.noteFailingTests(Sets.mutable.with("test::testC"));
+        tracker.noteTestDependencies("test::testA", Sets.mutable.with("test::testA", "test::helper1", "test::Person"));
+        tracker.noteTestDependencies("test::testB", Sets.mutable.with("test::testB", "test::helper2"));
+
+        // testC has no known dependencies, so it is always impacted
+        Assert.assertEquals(Sets.mutable.with("test::testA", "test::testC"), tracker.getImpactedTests(Sets.mutable.with("test::Person")));
+        Assert.assertEquals(Sets.mutable.with("test::testC"), tracker.getImpactedTests(Sets.mutable.with("test::other")));
+
+        tracker.invalidate(Sets.mutable.with("test::helper2"));
+        Assert.assertEquals(Maps.mutable.with("test::testA", ExecutedTestTracker.TestState.Passed), tracker.getTests());
+        Assert.assertEquals(Sets.mutable.with("test::testB", "test::testC"), tracker.getInvalidatedTests());
+
+        tracker.notePassingTests(Sets.mutable.with("test::testB"));
+        Assert.assertEquals(Maps.mutable.with("test::testA", ExecutedTestTracker.TestState.Passed, "test::testB", ExecutedTestTracker.TestState.Passed), tracker.getTests());
+        Assert.assertEquals(Sets.mutable.with("test::testC"), tracker.getInvalidatedTests());
+    }
+
+    @Test
+    public void testReplaceTestDependencies() throws IOException
+    {
+        ExecutedTestTracker tracker = newTracker();
+        tracker.notePassingTests(Sets.mutable.with("test::testA"));
+        tracker.noteTestDependencies("test::testA", Sets.mutable.with("test::testA", "test::helper1"));
+        tracker.noteTestDependencies("test::testA", Sets.mutable.with("test::testA", "test::helper2"));
+
+        Assert.assertEquals(Sets.mutable.with("test::testA", "test::helper2"), tracker.getTestDependencies("test::testA"));
+        Assert.assertEquals(Sets.mutable.empty(), tracker.getImpactedTests(Sets.mutable.with("test::helper1")));
+        Assert.assertEquals(Sets.mutable.with("test::testA"), tracker.getImpactedTests(Sets.mutable.with("test::helper2")));
+    }
+
+    @Test
+    public void testInvalidateUnknownChanges() throws IOException
+    {
+        ExecutedTestTracker tracker = newTracker();
+        tracker.notePassingTests(Sets.mutable.with("test::testA", "test::testB"));
+        tracker.noteTestDependencies("test::testA", Sets.mutable.with("test::testA"));
+
+        tracker.invalidate(null);
+        Assert.assertEquals(Maps.mutable.empty(), tracker.getTests());
+        Assert.assertEquals(Sets.mutable.with("test::testA", "test::testB"), tracker.getInvalidatedTests());
+    }
+
+    private ExecutedTestTracker newTracker() throws IOException
+    {
+        return new ExecutedTestTracker(this.tmpFolder.newFolder().toPath().resolve("tests.json"), "userDB");
+    }
+}
@@ -63,7 +63,7 @@ import java.io.UncheckedIOException;
 
 public abstract class TestGraphLoader extends AbstractPureTestWithCoreCompiledPlatform
 {
-    private static final MutableList<PureRepositoryJar> jars = Lists.mutable.empty();
+    protected static final MutableList<PureRepositoryJar> jars = Lists.mutable.empty();
 
     private PureRuntime runtime2;
     private ModelRepository repository2;
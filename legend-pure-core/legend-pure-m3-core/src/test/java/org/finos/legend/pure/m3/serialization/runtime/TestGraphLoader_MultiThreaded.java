@@ -14,20 +14,91 @@
 
 package org.finos.legend.pure.m3.serialization.runtime;
 
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.factory.Maps;
+import org.eclipse.collections.api.list.ImmutableList;
+import org.eclipse.collections.api.list.ListIterable;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.map.MutableMap;
 import org.finos.legend.pure.m3.compiler.Context;
+import org.finos.legend.pure.m3.navigation.M3Properties;
 import org.finos.legend.pure.m3.serialization.grammar.ParserLibrary;
 import org.finos.legend.pure.m3.serialization.grammar.m3parser.inlinedsl.InlineDSLLibrary;
 import org.finos.legend.pure.m3.serialization.runtime.binary.PureRepositoryJarLibrary;
+import org.finos.legend.pure.m3.serialization.runtime.binary.SimplePureRepositoryJarLibrary;
 import org.finos.legend.pure.m3.serialization.runtime.pattern.URLPatternLibrary;
 import org.finos.legend.pure.m4.ModelRepository;
+import org.finos.legend.pure.m4.coreinstance.CoreInstance;
+import org.finos.legend.pure.m4.coreinstance.SourceInformation;
+import org.finos.legend.pure.m4.tools.GraphNodeIterable;
+import org.junit.Assert;
+import org.junit.Test;
 
 import java.util.concurrent.ForkJoinPool;
 
 public class TestGraphLoader_MultiThreaded extends TestGraphLoader
 {
+    private static final ImmutableList<String> BACK_REFERENCE_PROPERTIES = Lists.immutable.with(M3Properties.applications, M3Properties.modelElements, M3Properties.propertiesFromAssociations, M3Properties.qualifiedPropertiesFromAssociations, M3Properties.specializations);
+
     @Override
     protected GraphLoader buildGraphLoader(ModelRepository repository, Context context, ParserLibrary parserLibrary, InlineDSLLibrary dslLibrary, SourceRegistry sourceRegistry, URLPatternLibrary patternLibrary, PureRepositoryJarLibrary jarLibrary)
     {
         return new GraphLoader(repository, context, parserLibrary, dslLibrary, sourceRegistry, patternLibrary, jarLibrary, new ForkJoinPool());
     }
+
+    @Test
+    public void testBackReferencesMatchSerialLoading()
+    {
+        PureRuntime serialRuntime = loadAll(null);
+        PureRuntime parallelRuntime = loadAll(new ForkJoinPool(4));
+        MutableMap<String, MutableList<String>> serialBackReferences = getBackReferences(serialRuntime.getModelRepository());
+        MutableMap<String, MutableList<String>> parallelBackReferences = getBackReferences(parallelRuntime.getModelRepository());
+        Assert.assertFalse(serialBackReferences.isEmpty());
+        Assert.assertEquals(serialBackReferences.keySet(), parallelBackReferences.keySet());
+        serialBackReferences.forEachKeyValue((key, values) -> Assert.assertEquals(key, values, parallelBackReferences.get(key)));
+    }
+
+    private PureRuntime loadAll(ForkJoinPool forkJoinPool)
+    {
+        PureRuntime pureRuntime = new PureRuntimeBuilder(runtime.getCodeStorage())
+                .withRuntimeStatus(getPureRuntimeStatus())
+                .build();
+        IncrementalCompiler compiler = pureRuntime.getIncrementalCompiler();
+        new GraphLoader(pureRuntime.getModelRepository(), pureRuntime.getContext(), compiler.getParserLibrary(), compiler.getDslLibrary(), pureRuntime.getSourceRegistry(), pureRuntime.getURLPatternLibrary(), SimplePureRepositoryJarLibrary.newLibrary(jars), forkJoinPool).loadAll();
+        return pureRuntime;
+    }
+
+    /**
+     * Describe the back references of all instances with source information, in order. As instances cannot be
+     * compared across repositories, instances are described by classifier and source information, and the back
+     * references of instances with the same description are sorted.
+     */
+    private MutableMap<String, MutableList<String>> getBackReferences(ModelRepository repository)
+    {
+        MutableMap<String, MutableList<String>> result = Maps.mutable.empty();
+        GraphNodeIterable.fromModelRepository(repository).forEach(instance ->
+        {
+            SourceInformation sourceInfo = instance.getSourceInformation();
+            if (sourceInfo != null)
+            {
+                BACK_REFERENCE_PROPERTIES.forEach(property ->
+                {
+                    ListIterable<? extends CoreInstance> values = instance.getValueForMetaPropertyToMany(property);
+                    if (values.notEmpty())
+                    {
+                        String key = describe(instance) + "." + property;
+                        result.getIfAbsentPut(key, Lists.mutable::empty).add(values.collect(TestGraphLoader_MultiThreaded::describe).makeString("[", ", ", "]"));
+                    }
+                });
+            }
+        });
+        result.forEachValue(MutableList::sortThis);
+        return result;
+    }
+
+    private static String describe(CoreInstance instance)
+    {
+        SourceInformation sourceInfo = instance.getSourceInformation();
+        return instance.getClassifier().getName() + ((sourceInfo == null) ? "" : (" " + sourceInfo.getMessage()));
+    }
 }
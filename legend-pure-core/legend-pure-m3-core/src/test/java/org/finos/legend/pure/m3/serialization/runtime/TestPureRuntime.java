@@ -14,24 +14,46 @@
 
 package org.finos.legend.pure.m3.serialization.runtime;
 
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.MutableList;
 import org.eclipse.collections.impl.tuple.Tuples;
+import org.finos.legend.pure.m3.navigation.PackageableElement.PackageableElement;
+import org.finos.legend.pure.m3.serialization.filesystem.repository.CodeRepository;
 import org.finos.legend.pure.m3.serialization.filesystem.repository.CodeRepositoryProviderHelper;
 import org.finos.legend.pure.m3.serialization.filesystem.repository.GenericCodeRepository;
 import org.finos.legend.pure.m3.serialization.filesystem.usercodestorage.MutableRepositoryCodeStorage;
 import org.finos.legend.pure.m3.serialization.filesystem.usercodestorage.classpath.ClassLoaderCodeStorage;
 import org.finos.legend.pure.m3.serialization.filesystem.usercodestorage.composite.CompositeCodeStorage;
+import org.finos.legend.pure.m3.serialization.filesystem.usercodestorage.fs.MutableFSCodeStorage;
 import org.finos.legend.pure.m3.serialization.runtime.IncrementalCompiler.IncrementalCompilerTransaction;
+import org.finos.legend.pure.m3.serialization.runtime.binary.PureRepositoryJar;
+import org.finos.legend.pure.m3.serialization.runtime.binary.PureRepositoryJarTools;
 import org.finos.legend.pure.m3.serialization.runtime.cache.CompressedMemoryPureGraphCache;
 import org.finos.legend.pure.m3.serialization.runtime.cache.PureGraphCache;
+import org.finos.legend.pure.m3.serialization.runtime.cache.TieredGraphLoaderPureGraphCache;
+import org.finos.legend.pure.m3.serialization.runtime.cache.TieredPureRepositoryJarStore;
 import org.finos.legend.pure.m3.tests.AbstractPureTestWithCoreCompiledPlatform;
+import org.finos.legend.pure.m3.tools.GraphTools;
 import org.finos.legend.pure.m4.coreinstance.CoreInstance;
 import org.finos.legend.pure.m4.exception.PureCompilationException;
 import org.finos.legend.pure.m4.transaction.framework.ThreadLocalTransactionContext;
 import org.junit.Assert;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public class TestPureRuntime
 {
+    @Rule
+    public final TemporaryFolder tmpFolder = new TemporaryFolder();
+
     @Test
     public void testLoadSourceDoesNotReload()
     {
@@ -70,6 +92,150 @@ public class TestPureRuntime
         Assert.assertEquals(runtime.getContext().getAllInstances().collect(CoreInstance.GET_NAME).toSortedList(), newRuntime.getContext().getAllInstances().collect(CoreInstance.GET_NAME).toSortedList());
     }
 
+    @Test
+    public void testSharedTieredCache() throws IOException
+    {
+        MutableRepositoryCodeStorage codeStorage = new CompositeCodeStorage(new ClassLoaderCodeStorage(CodeRepositoryProviderHelper.findPlatformCodeRepository()));
+        Path spillDirectory = this.tmpFolder.newFolder().toPath();
+
+        TieredPureRepositoryJarStore store = new TieredPureRepositoryJarStore(spillDirectory, Long.MAX_VALUE);
+        PureGraphCache cache = new TieredGraphLoaderPureGraphCache(store);
+        Assert.assertFalse(cache.getCacheState().isCached());
+        PureRuntime runtime = new PureRuntimeBuilder(codeStorage).withCache(cache).buildAndTryToInitializeFromCache();
+        runtime.loadAndCompileCore();
+        cache.cacheRepoAndSources();
+        Assert.assertTrue(cache.getCacheState().isCached());
+        Assert.assertEquals(store.getTotalSize(), cache.getCacheState().getCurrentCacheSize());
+        Assert.assertEquals(store.getTotalSize(), store.getMemorySize());
+        Assert.assertTrue(store.isInMemory("platform"));
+
+        // a second runtime sharing the same store
+        PureRuntime sharedRuntime = new PureRuntimeBuilder(codeStorage).withCache(new TieredGraphLoaderPureGraphCache(store)).buildAndTryToInitializeFromCache();
+        Assert.assertEquals(getElementPaths(runtime), getElementPaths(sharedRuntime));
+
+        // a store with no memory budget serves everything from the spill directory
+        TieredPureRepositoryJarStore spillOnlyStore = new TieredPureRepositoryJarStore(spillDirectory, 0L);
+        Assert.assertEquals(store.getRepositoryNames(), spillOnlyStore.getRepositoryNames());
+        Assert.assertEquals(store.getTotalSize(), spillOnlyStore.getTotalSize());
+        PureRuntime spilledRuntime = new PureRuntimeBuilder(codeStorage).withCache(new TieredGraphLoaderPureGraphCache(spillOnlyStore)).buildAndTryToInitializeFromCache();
+        Assert.assertEquals(getElementPaths(runtime), getElementPaths(spilledRuntime));
+        Assert.assertFalse(spillOnlyStore.isInMemory("platform"));
+        Assert.assertEquals(0L, spillOnlyStore.getMemorySize());
+
+        // clearing a cache only removes the repositories it wrote
+        PureGraphCache otherCache = new TieredGraphLoaderPureGraphCache(store);
+        new PureRuntimeBuilder(codeStorage).withCache(otherCache).buildAndTryToInitializeFromCache();
+        otherCache.deleteCache();
+        Assert.assertEquals(Lists.mutable.with("platform"), store.getRepositoryNames());
+        cache.deleteCache();
+        Assert.assertTrue(store.isEmpty());
+        Assert.assertEquals(Lists.mutable.empty(), listFiles(spillDirectory));
+    }
+
+    @Test
+    public void testTieredStoreEviction() throws IOException
+    {
+        PureRuntime runtime = new PureRuntimeBuilder(new CompositeCodeStorage(new ClassLoaderCodeStorage(CodeRepositoryProviderHelper.findPlatformCodeRepository()))).build();
+        runtime.loadAndCompileCore();
+        Path platformDirectory = this.tmpFolder.newFolder().toPath();
+        TieredPureRepositoryJarStore platformStore = new TieredPureRepositoryJarStore(platformDirectory, 0L);
+        PureGraphCache platformCache = new TieredGraphLoaderPureGraphCache(platformStore);
+        platformCache.setPureRuntime(runtime);
+        platformCache.cacheRepoAndSources();
+        byte[] platformBytes = Files.readAllBytes(platformDirectory.resolve("platform" + PureRepositoryJarTools.PURE_JAR_EXTENSION));
+
+        // the budget only has room for one repository
+        Path spillDirectory = this.tmpFolder.newFolder().toPath();
+        TieredPureRepositoryJarStore store = new TieredPureRepositoryJarStore(spillDirectory, platformBytes.length);
+        store.put("a", platformBytes);
+        store.put("b", platformBytes);
+        Assert.assertFalse(store.isInMemory("a"));
+        Assert.assertTrue(store.isInMemory("b"));
+        Assert.assertEquals(platformBytes.length, store.getMemorySize());
+        Assert.assertEquals(2L * platformBytes.length, store.getTotalSize());
+
+        // spill files are moved into place, leaving no temporary files behind
+        Assert.assertEquals(Lists.mutable.with("a" + PureRepositoryJarTools.PURE_JAR_EXTENSION, "b" + PureRepositoryJarTools.PURE_JAR_EXTENSION), listFiles(spillDirectory));
+
+        // lazy jars only load the repository when its files are read
+        PureRepositoryJar lazyA = store.getLazyJar("a");
+        PureRepositoryJar lazyB = store.getLazyJar("b");
+        Assert.assertTrue(store.isInMemory("b"));
+        Assert.assertEquals(lazyB.readAllFiles().keysView().toSet(), lazyA.readAllFiles().keysView().toSet());
+        Assert.assertTrue(store.isInMemory("a"));
+        Assert.assertFalse(store.isInMemory("b"));
+        Assert.assertEquals(platformBytes.length, store.getMemorySize());
+
+        Assert.assertTrue(store.remove("a"));
+        Assert.assertFalse(store.remove("a"));
+        Assert.assertEquals(Lists.mutable.with("b"), store.getRepositoryNames());
+        Assert.assertEquals(0L, store.getMemorySize());
+        Assert.assertEquals(platformBytes.length, store.getTotalSize());
+        Assert.assertEquals(Lists.mutable.with("b" + PureRepositoryJarTools.PURE_JAR_EXTENSION), listFiles(spillDirectory));
+    }
+
+    @Test
+    public void testTieredCacheKeepsUserRepositoriesPrivate() throws IOException
+    {
+        CodeRepository userRepository = GenericCodeRepository.build("test_user", "test::user(::.*)?", "platform");
+        Path userDirectory = this.tmpFolder.newFolder("test_user").toPath();
+        Files.write(userDirectory.resolve("user.pure"), "function test::user::f():Integer[1] { 1 }".getBytes(StandardCharsets.UTF_8));
+        MutableRepositoryCodeStorage codeStorage = new CompositeCodeStorage(new ClassLoaderCodeStorage(CodeRepositoryProviderHelper.findPlatformCodeRepository()), new MutableFSCodeStorage(userRepository, userDirectory));
+        Path spillDirectory = this.tmpFolder.newFolder().toPath();
+
+        TieredPureRepositoryJarStore store = new TieredPureRepositoryJarStore(spillDirectory, Long.MAX_VALUE);
+        PureGraphCache cache = new TieredGraphLoaderPureGraphCache(store);
+        PureRuntime runtime = new PureRuntimeBuilder(codeStorage).withCache(cache).build();
+        runtime.loadAndCompileCore();
+        runtime.loadAndCompileSystem();
+        cache.cacheRepoAndSources();
+        Assert.assertEquals(Lists.mutable.with("platform"), store.getRepositoryNames());
+        Assert.assertTrue(cache.getCacheState().getCurrentCacheSize() > store.getTotalSize());
+
+        PureRuntime newRuntime = new PureRuntimeBuilder(codeStorage).withCache(cache).buildAndTryToInitializeFromCache();
+        Assert.assertTrue(getElementPaths(newRuntime).contains("test::user::f__Integer_1_"));
+        Assert.assertEquals(getElementPaths(runtime), getElementPaths(newRuntime));
+    }
+
+    @Test
+    public void testLayeredRuntime() throws IOException
+    {
+        CodeRepository userRepository = GenericCodeRepository.build("test_user", "test::user(::.*)?", "platform");
+        Path userDirectory = this.tmpFolder.newFolder("test_user").toPath();
+        Files.write(userDirectory.resolve("user.pure"), "function test::user::f():Integer[1] { 1 }".getBytes(StandardCharsets.UTF_8));
+        MutableRepositoryCodeStorage codeStorage = new CompositeCodeStorage(new ClassLoaderCodeStorage(CodeRepositoryProviderHelper.findPlatformCodeRepository()), new MutableFSCodeStorage(userRepository, userDirectory));
+
+        PureRuntime base = new PureRuntimeBuilder(codeStorage).build();
+        base.loadAndCompileCore();
+        IllegalArgumentException e = Assert.assertThrows(IllegalArgumentException.class, () -> new PureRuntimeBuilder(codeStorage).withBase(base).build());
+        Assert.assertEquals("Base runtime must be frozen", e.getMessage());
+
+        base.freeze();
+        Assert.assertTrue(base.isFrozen());
+        Assert.assertTrue(base.getContext().isFrozen());
+        int baseSourceCount = base.getSourceRegistry().getSourceCount();
+        int baseIdCounter = base.getModelRepository().getIdCounter();
+
+        PureRuntime overlay = new PureRuntimeBuilder(codeStorage).withBase(base).build();
+        Assert.assertSame(base, overlay.getBase());
+        Assert.assertFalse(overlay.isFrozen());
+        overlay.loadAndCompileSystem();
+
+        CoreInstance function = overlay.getFunction("test::user::f():Integer[1]");
+        Assert.assertNotNull(function);
+        Assert.assertTrue(function.getSyntheticId() > baseIdCounter);
+        Assert.assertTrue(overlay.getContext().getFunctionsForName("f").contains(function));
+        Assert.assertSame(base.getCoreInstance("meta::pure::metamodel::type::Class"), overlay.getCoreInstance("meta::pure::metamodel::type::Class"));
+        Assert.assertNotNull(overlay.getSourceById("/test_user/user.pure"));
+        Assert.assertNotNull(overlay.getSourceById("/platform/pure/grammar/m3.pure"));
+        Assert.assertEquals(baseSourceCount + 1, overlay.getSourceRegistry().getSourceCount());
+
+        // the base is not affected, apart from back references such as package children
+        Assert.assertFalse(base.getContext().getFunctionsForName("f").contains(function));
+        Assert.assertNull(base.getSourceById("/test_user/user.pure"));
+        Assert.assertEquals(baseSourceCount, base.getSourceRegistry().getSourceCount());
+    }
+
     @Test
     public void testThreadLocalState()
     {
@@ -151,13 +317,60 @@ public class TestPureRuntime
         Assert.assertNotNull(e.getSourceInformation());
         Assert.assertEquals("testBad.pure", e.getSourceInformation().getSourceId());
 
+        // repositories are committed together, so the good source is rolled back with the bad one
         Source testFile = runtime.getSourceById("/platform/testFile.pure");
         Assert.assertNotNull(testFile);
-        Assert.assertTrue(testFile.isCompiled());
+        Assert.assertFalse(testFile.isCompiled());
+        Assert.assertNull(runtime.getFunction("meta::pure::testFn():String[1]"));
 
         Source testBad = runtime.getSourceById("testBad.pure");
         Assert.assertNotNull(testBad);
         Assert.assertFalse(testBad.isCompiled());
+
+        runtime.modify("testBad.pure", "function sandbox::testFn2():Integer[1] { 1 + 7}");
+        runtime.compile();
+        Assert.assertTrue(testFile.isCompiled());
+        Assert.assertTrue(testBad.isCompiled());
+        Assert.assertNotNull(runtime.getFunction("meta::pure::testFn():String[1]"));
+        Assert.assertNotNull(runtime.getFunction("sandbox::testFn2():Integer[1]"));
+    }
+
+    @Test
+    public void testFailedCompilationKeepsUnloadedInstances()
+    {
+        PureRuntime runtime = new PureRuntimeBuilder(new CompositeCodeStorage(new ClassLoaderCodeStorage(CodeRepositoryProviderHelper.findPlatformCodeRepository()))).build();
+        runtime.loadAndCompileCore();
+        runtime.createInMemoryAndCompile(Tuples.pair("testFile.pure", "function sandbox::testFn():Integer[1] { 1 }"));
+        CoreInstance function = runtime.getFunction("sandbox::testFn():Integer[1]");
+        Assert.assertNotNull(function);
+
+        // the unload of the old function is rolled back with the rest of the compilation
+        runtime.modify("testFile.pure", "function sandbox::testFn():Integer[1] { 1 + '7'}\nfunction sandbox::testFn3():Integer[1] { 3 }");
+        Assert.assertThrows(PureCompilationException.class, runtime::compile);
+        Assert.assertSame(function, runtime.getFunction("sandbox::testFn():Integer[1]"));
+        Assert.assertNull(runtime.getFunction("sandbox::testFn3():Integer[1]"));
+        Assert.assertFalse(runtime.getSourceById("testFile.pure").isCompiled());
+
+        runtime.modify("testFile.pure", "function sandbox::testFn():Integer[1] { 2 }\nfunction sandbox::testFn3():Integer[1] { 3 }");
+        runtime.compile();
+        CoreInstance newFunction = runtime.getFunction("sandbox::testFn():Integer[1]");
+        Assert.assertNotNull(newFunction);
+        Assert.assertNotSame(function, newFunction);
+        Assert.assertNotNull(runtime.getFunction("sandbox::testFn3():Integer[1]"));
+        Assert.assertTrue(runtime.getSourceById("testFile.pure").isCompiled());
+    }
+
+    private static MutableList<String> listFiles(Path directory) throws IOException
+    {
+        try (Stream<Path> stream = Files.list(directory))
+        {
+            return stream.map(p -> p.getFileName().toString()).sorted().collect(Collectors.toCollection(Lists.mutable::empty));
+        }
+    }
+
+    private static MutableList<String> getElementPaths(PureRuntime runtime)
+    {
+        return GraphTools.getTopLevelAndPackagedElements(runtime.getProcessorSupport()).collect(PackageableElement::getUserPathForPackageableElement, Lists.mutable.empty()).sortThis();
     }
 
     private static class FunctionAccessor implements Runnable
@@ -0,0 +1,184 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.m3.statelistener;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.factory.Maps;
+import org.eclipse.collections.api.list.MutableList;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.function.Consumer;
+
+public class TestExecutionTracing
+{
+    private final MutableList<ExecutionSpan> completed = Lists.mutable.empty();
+    private final ExecutionActivityListener listener = new SpanListener(this.completed::add);
+
+    @Before
+    public void addListener()
+    {
+        ExecutionTracing.addListener(this.listener);
+    }
+
+    @After
+    public void removeListener()
+    {
+        ExecutionTracing.removeListener(this.listener);
+    }
+
+    @Test
+    public void testDisabled()
+    {
+        ExecutionTracing.removeListener(this.listener);
+        Assert.assertFalse(ExecutionTracing.isEnabled());
+        try (ExecutionSpan span = ExecutionTracing.startSpan("test", "disabled"))
+        {
+            Assert.assertTrue(span.isNoOp());
+            Assert.assertTrue(span.withAttribute("key", "value").getAttributes().isEmpty());
+            Assert.assertNull(ExecutionTracing.getCurrentSpan());
+        }
+        Assert.assertEquals(Lists.fixedSize.empty(), this.completed);
+    }
+
+    @Test
+    public void testNestedSpans()
+    {
+        Assert.assertTrue(ExecutionTracing.isEnabled());
+        ExecutionSpan outer;
+        ExecutionSpan inner;
+        try (ExecutionSpan span1 = ExecutionTracing.startSpan("test", "outer"))
+        {
+            outer = span1;
+            Assert.assertSame(outer, ExecutionTracing.getCurrentSpan());
+            try (ExecutionSpan span2 = ExecutionTracing.startSpan("test", "inner").withAttribute("key", 1))
+            {
+                inner = span2;
+                Assert.assertSame(inner, ExecutionTracing.getCurrentSpan());
+                Assert.assertFalse(inner.isClosed());
+            }
+            Assert.assertSame(outer, ExecutionTracing.getCurrentSpan());
+        }
+        Assert.assertNull(ExecutionTracing.getCurrentSpan());
+
+        Assert.assertEquals(Lists.fixedSize.with(inner, outer), this.completed);
+        Assert.assertTrue(outer.isClosed());
+        Assert.assertTrue(inner.isClosed());
+        Assert.assertNull(outer.getParent());
+        Assert.assertEquals(0L, outer.getParentId());
+        Assert.assertSame(outer, inner.getParent());
+        Assert.assertEquals(outer.getId(), inner.getParentId());
+        Assert.assertEquals(outer.getId(), inner.getRootId());
+        Assert.assertEquals(Maps.mutable.with("key", 1), inner.getAttributes());
+        Assert.assertTrue(outer.getDurationNanos() >= inner.getDurationNanos());
+    }
+
+    @Test
+    public void testUnclosedChildIsAbandoned()
+    {
+        ExecutionSpan inner;
+        try (ExecutionSpan ignore = ExecutionTracing.startSpan("test", "outer"))
+        {
+            inner = ExecutionTracing.startSpan("test", "inner");
+        }
+        Assert.assertNull(ExecutionTracing.getCurrentSpan());
+        Assert.assertFalse(inner.isClosed());
+        Assert.assertEquals(Lists.fixedSize.with("outer"), this.completed.collect(ExecutionSpan::getName));
+    }
+
+    @Test
+    public void testExplicitParentFromAnotherThread() throws InterruptedException
+    {
+        ExecutionSpan[] child = new ExecutionSpan[1];
+        try (ExecutionSpan outer = ExecutionTracing.startSpan("test", "outer"))
+        {
+            Thread thread = new Thread(() ->
+            {
+                try (ExecutionSpan span = ExecutionTracing.startSpan(outer, "test", "worker"))
+                {
+                    child[0] = span;
+                }
+                Assert.assertNull(ExecutionTracing.getCurrentSpan());
+            });
+            thread.start();
+            thread.join();
+            Assert.assertSame(outer, ExecutionTracing.getCurrentSpan());
+            Assert.assertSame(outer, child[0].getParent());
+        }
+    }
+
+    @Test
+    public void testThreshold()
+    {
+        try (ExecutionSpan ignore = ExecutionTracing.startSpan("test", "fast").withThreshold(Long.MAX_VALUE))
+        {
+            try (ExecutionSpan ignore2 = ExecutionTracing.startSpan("test", "child"))
+            {
+                // nothing
+            }
+        }
+        Assert.assertEquals(Lists.fixedSize.with("child"), this.completed.collect(ExecutionSpan::getName));
+    }
+
+    @Test
+    public void testFailingListenerIsIgnored()
+    {
+        ExecutionActivityListener failing = new SpanListener(span ->
+        {
+            throw new RuntimeException("failing listener");
+        });
+        ExecutionTracing.addListener(failing);
+        try
+        {
+            try (ExecutionSpan ignore = ExecutionTracing.startSpan("test", "span"))
+            {
+                // nothing
+            }
+        }
+        finally
+        {
+            ExecutionTracing.removeListener(failing);
+        }
+        Assert.assertEquals(Lists.fixedSize.with("span"), this.completed.collect(ExecutionSpan::getName));
+    }
+
+    private static class SpanListener implements ExecutionActivityListener
+    {
+        private final Consumer<ExecutionSpan> consumer;
+
+        private SpanListener(Consumer<ExecutionSpan> consumer)
+        {
+            this.consumer = consumer;
+        }
+
+        @Override
+        public void relationalActivityCompleted(String dbHost, Integer dbPort, String dbName, String dbType, String sql, String planInfo, Long executionTime, Long sqlGenerationTime, Long connectionAcquisitionTime)
+        {
+        }
+
+        @Override
+        public void routingActivityCompleted(Long routingTimeInNanoSeconds)
+        {
+        }
+
+        @Override
+        public void spanCompleted(ExecutionSpan span)
+        {
+            this.consumer.accept(span);
+        }
+    }
+}
@@ -0,0 +1,144 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.m3.tests.incremental._class;
+
+import org.eclipse.collections.api.factory.Sets;
+import org.eclipse.collections.api.set.SetIterable;
+import org.finos.legend.pure.m3.compiler.unload.walk.WalkerState;
+import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.function.FunctionDefinition;
+import org.finos.legend.pure.m3.navigation.M3ProcessorSupport;
+import org.finos.legend.pure.m3.serialization.grammar.Parser;
+import org.finos.legend.pure.m3.tests.AbstractPureTestWithCoreCompiled;
+import org.finos.legend.pure.m3.tests.RuntimeTestScriptBuilder;
+import org.finos.legend.pure.m3.tests.RuntimeVerifier;
+import org.finos.legend.pure.m3.tools.matcher.Matcher;
+import org.finos.legend.pure.m4.coreinstance.CoreInstance;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class TestPureRuntimeClass_UnloadWalk extends AbstractPureTestWithCoreCompiled
+{
+    private static final String CLASS_A = "Class test::A{name:String[1];}";
+    private static final String CLASSES_B_C = "Class test::B extends test::A{a:test::A[0..1]; other:String[1];}\n" +
+            "Class test::C{b:test::B[1];}\n";
+    private static final String FUNCTIONS = "function test::useCOther(c:test::C[1]):String[1]{$c.b.other}\n" +
+            "function test::useCA(c:test::C[1]):Boolean[1]{$c.b.a->isEmpty()}\n" +
+            "function test::useCName(c:test::C[1]):String[1]{$c.b.name}\n";
+
+    @BeforeClass
+    public static void setUp()
+    {
+        setUpRuntime(getExtra());
+    }
+
+    @After
+    public void clearRuntime()
+    {
+        runtime.delete("sourceId.pure");
+        runtime.delete("other.pure");
+        runtime.delete("userId.pure");
+        runtime.compile();
+    }
+
+    @Test
+    public void testUnloadWalkSkipsUnaffectedPropertyUsages()
+    {
+        runtime.createInMemorySource("sourceId.pure", CLASS_A);
+        runtime.createInMemorySource("other.pure", CLASSES_B_C);
+        runtime.createInMemorySource("userId.pure", FUNCTIONS);
+        runtime.compile();
+
+        CoreInstance classA = runtime.getCoreInstance("test::A");
+        CoreInstance classB = runtime.getCoreInstance("test::B");
+        CoreInstance classC = runtime.getCoreInstance("test::C");
+        CoreInstance useCOther = runtime.getFunction("test::useCOther_C_1__String_1_");
+        CoreInstance useCA = runtime.getFunction("test::useCA_C_1__Boolean_1_");
+        CoreInstance useCName = runtime.getFunction("test::useCName_C_1__String_1_");
+
+        SetIterable<CoreInstance> fullWalk = walk(classA, null);
+        Assert.assertTrue(fullWalk.containsAllArguments(classA, classB, classC, useCOther, useCA, useCName));
+
+        // B and C are only rebound, so usages of their properties whose types do not refer to A are unaffected
+        SetIterable<CoreInstance> restrictedWalk = walk(classA, Sets.mutable.with(classA));
+        Assert.assertTrue(restrictedWalk.containsAllArguments(classA, classB, classC, useCA, useCName));
+        Assert.assertFalse(restrictedWalk.contains(useCOther));
+    }
+
+    @Test
+    public void testRelationTypeColumnsReferencingUnloadedInstance()
+    {
+        runtime.createInMemorySource("sourceId.pure", CLASS_A);
+        runtime.createInMemorySource("other.pure", CLASSES_B_C);
+        runtime.createInMemorySource("userId.pure", "function test::relA():meta::pure::metamodel::relation::Relation<(id:Integer, a:test::A)>[0..1]{[]}\n" +
+                "function test::relB():meta::pure::metamodel::relation::Relation<(id:Integer, b:test::B)>[0..1]{[]}\n");
+        runtime.compile();
+
+        CoreInstance classA = runtime.getCoreInstance("test::A");
+        CoreInstance classB = runtime.getCoreInstance("test::B");
+        FunctionDefinition<?> relA = (FunctionDefinition<?>) context.getFunctionsForName("relA").getOnly();
+        FunctionDefinition<?> relB = (FunctionDefinition<?>) context.getFunctionsForName("relB").getOnly();
+
+        WalkerState stateA = new WalkerState((M3ProcessorSupport) processorSupport, Sets.mutable.with(classA));
+        Assert.assertTrue(stateA.isApplicationWalkRequired(relA));
+        Assert.assertFalse(stateA.isApplicationWalkRequired(relB));
+
+        WalkerState stateB = new WalkerState((M3ProcessorSupport) processorSupport, Sets.mutable.with(classB));
+        Assert.assertFalse(stateB.isApplicationWalkRequired(relA));
+        Assert.assertTrue(stateB.isApplicationWalkRequired(relB));
+    }
+
+    @Test
+    public void testReplaceClassUsedThroughProperty()
+    {
+        RuntimeVerifier.verifyOperationIsStable(new RuntimeTestScriptBuilder()
+                        .createInMemorySource("sourceId.pure", CLASS_A)
+                        .createInMemorySource("other.pure", CLASSES_B_C)
+                        .createInMemorySource("userId.pure", FUNCTIONS)
+                        .compile(),
+                new RuntimeTestScriptBuilder()
+                        .updateSource("sourceId.pure", "Class test::A{name:String[1]; extra:Integer[0..1];}")
+                        .compile()
+                        .updateSource("sourceId.pure", CLASS_A)
+                        .compile(),
+                runtime, functionExecution, this.getAdditionalVerifiers());
+    }
+
+    @Test
+    public void testReplaceClassWithIncompatibleClass()
+    {
+        RuntimeVerifier.verifyOperationIsStable(new RuntimeTestScriptBuilder()
+                        .createInMemorySource("sourceId.pure", CLASS_A)
+                        .createInMemorySource("other.pure", CLASSES_B_C)
+                        .createInMemorySource("userId.pure", FUNCTIONS)
+                        .compile(),
+                new RuntimeTestScriptBuilder()
+                        .updateSource("sourceId.pure", "Class test::A{otherName:String[1];}")
+                        .compileWithExpectedCompileFailure("Can't find the property 'name' in the class test::B", "userId.pure", 3, 54)
+                        .updateSource("sourceId.pure", CLASS_A)
+                        .compile(),
+                runtime, functionExecution, this.getAdditionalVerifiers());
+    }
+
+    private static SetIterable<CoreInstance> walk(CoreInstance instance, SetIterable<CoreInstance> unloadedInstances)
+    {
+        Matcher matcher = new Matcher(repository, context, processorSupport);
+        runtime.getIncrementalCompiler().getParserLibrary().getParsers().asLazy().flatCollect(Parser::getUnLoadWalkers).forEach(matcher::addMatchIfTypeIsKnown);
+        WalkerState state = new WalkerState((M3ProcessorSupport) processorSupport, unloadedInstances);
+        matcher.match(instance, state);
+        return state.getInstances();
+    }
+}
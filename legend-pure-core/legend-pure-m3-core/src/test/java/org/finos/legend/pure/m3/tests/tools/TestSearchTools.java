@@ -17,13 +17,17 @@ package org.finos.legend.pure.m3.tests.tools;
 import org.eclipse.collections.api.factory.Lists;
 import org.eclipse.collections.api.factory.Sets;
 import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.set.MutableSet;
 import org.eclipse.collections.impl.test.Verify;
 import org.finos.legend.pure.m3.coreinstance.Package;
+import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel._import.ImportGroup;
 import org.finos.legend.pure.m3.tests.AbstractPureTestWithCoreCompiledPlatform;
+import org.finos.legend.pure.m3.tools.ElementNameIndex;
 import org.finos.legend.pure.m3.tools.PackageTreeIterable;
 import org.finos.legend.pure.m3.tools.SearchTools;
 import org.finos.legend.pure.m4.coreinstance.CoreInstance;
 import org.junit.After;
+import org.junit.Assert;
 import org.junit.BeforeClass;
 import org.junit.Test;
 
@@ -157,4 +161,85 @@ public class TestSearchTools extends AbstractPureTestWithCoreCompiledPlatform
         //find all paths
         Verify.assertEmpty(SearchTools.findInPackages(Pattern.compile("\\S::\\S"), testPackages));
     }
+
+    @Test
+    public void testFindWithElementNameIndex()
+    {
+        compileTestSource("SourceId.pure", "Class test::TestClass {}\n" +
+                "Class test::searchTools::TestClass {}\n" +
+                "Class test::TestClass1{}\n" +
+                "Class test::TestClass2 {}\n" +
+                "Class test::searchTools::TestClass2 {}\n" +
+                "Class test::searchTools::TestMyClass {}\n" +
+                "function test::testFunction1():Any[*] {true;}\n" +
+                "function test::searchTools::testFunction1():Any[*] {true;}\n" +
+                "Enum test::TestEnum {A}\n" +
+                "Association test::TestAssociation1 {testClass2:test::TestClass2[1];testClass1:test::TestClass1[1];}");
+
+        ElementNameIndex index = runtime.getProcessorSupport().package_getElementNameIndex();
+        Assert.assertNotNull(index);
+        Assert.assertTrue(index.isComplete());
+
+        // the index gives the same results as walking the package tree
+        assertIndexHasAllElements();
+        for (String name : Lists.mutable.with("TestClass", "TestClass1", "testFunction1__Any_MANY_", "TestEnum", "testClass", "String", "Any", "searchTools", "test", "meta"))
+        {
+            Verify.assertSetsEqual(name, SearchTools.findInAllPackages(name, runtime.getModelRepository()).toSet(), SearchTools.findInAllPackages(name, runtime.getModelRepository(), runtime.getProcessorSupport()).toSet());
+        }
+        for (String regex : Lists.mutable.with("Test\\S+\\d+", "\\S::\\S", "test.*Function.*", "[Tt]est[A-Z]\\w*Class", "(Test)?MyClass", "Boolean|Integer"))
+        {
+            Pattern pattern = Pattern.compile(regex);
+            Verify.assertSetsEqual(regex, SearchTools.findInAllPackages(pattern, runtime.getModelRepository()).toSet(), SearchTools.findInAllPackages(pattern, runtime.getModelRepository(), runtime.getProcessorSupport()).toSet());
+        }
+
+        CoreInstance test_TestClass = runtime.getCoreInstance("test::TestClass");
+        CoreInstance test_searchTools_TestClass = runtime.getCoreInstance("test::searchTools::TestClass");
+        CoreInstance test_TestClass1 = runtime.getCoreInstance("test::TestClass1");
+        CoreInstance test_TestClass2 = runtime.getCoreInstance("test::TestClass2");
+        CoreInstance test_searchTools_TestClass2 = runtime.getCoreInstance("test::searchTools::TestClass2");
+        CoreInstance test_searchTools_TestMyClass = runtime.getCoreInstance("test::searchTools::TestMyClass");
+        CoreInstance test_letFn_TestClass = runtime.getCoreInstance("meta::pure::functions::lang::tests::letFn::TestClass");
+        CoreInstance test_removeAllOptimized_TestClassWithEquality = runtime.getCoreInstance("meta::pure::functions::collection::tests::removeAllOptimized::TestClassWithEquality");
+
+        //find by prefix
+        Verify.assertSetsEqual(Sets.mutable.with(test_TestClass, test_searchTools_TestClass, test_letFn_TestClass, test_removeAllOptimized_TestClassWithEquality, test_TestClass1, test_TestClass2, test_searchTools_TestClass2),
+                SearchTools.findByPrefixInAllPackages("TestClass", true, runtime.getModelRepository(), runtime.getProcessorSupport()).toSet());
+        Verify.assertEmpty(SearchTools.findByPrefixInAllPackages("testclass", true, runtime.getModelRepository(), runtime.getProcessorSupport()));
+        Verify.assertSetsEqual(SearchTools.findByPrefixInAllPackages("testclass", false, runtime.getModelRepository(), null).toSet(),
+                SearchTools.findByPrefixInAllPackages("testclass", false, runtime.getModelRepository(), runtime.getProcessorSupport()).toSet());
+
+        // packages are found by their name
+        CoreInstance test_searchTools = runtime.getCoreInstance("test::searchTools");
+        Verify.assertSetsEqual(Sets.mutable.with(test_searchTools), SearchTools.findByPrefixInAllPackages("searchT", true, runtime.getModelRepository(), runtime.getProcessorSupport()).toSet());
+
+        //find by camel case
+        Verify.assertSetsEqual(SearchTools.findByCamelCaseInAllPackages("TeCl", runtime.getModelRepository(), null).toSet(),
+                SearchTools.findByCamelCaseInAllPackages("TeCl", runtime.getModelRepository(), runtime.getProcessorSupport()).toSet());
+        Verify.assertSetsEqual(Sets.mutable.with(test_searchTools_TestMyClass), SearchTools.findByCamelCaseInAllPackages("TMC", runtime.getModelRepository(), runtime.getProcessorSupport()).toSet());
+        Verify.assertSetsEqual(Sets.mutable.with(test_searchTools_TestMyClass), SearchTools.findByCamelCaseInAllPackages("TeMyCl", runtime.getModelRepository(), runtime.getProcessorSupport()).toSet());
+        Verify.assertEmpty(SearchTools.findByCamelCaseInAllPackages("TMyCx", runtime.getModelRepository(), runtime.getProcessorSupport()));
+
+        //find by substring
+        Verify.assertSetsEqual(SearchTools.findBySubstringInAllPackages("class", runtime.getModelRepository(), null).toSet(),
+                SearchTools.findBySubstringInAllPackages("class", runtime.getModelRepository(), runtime.getProcessorSupport()).toSet());
+        Verify.assertSetsEqual(Sets.mutable.with(test_searchTools_TestMyClass), SearchTools.findBySubstringInAllPackages("tmycl", runtime.getModelRepository(), runtime.getProcessorSupport()).toSet());
+        Verify.assertSetsEqual(Sets.mutable.with(test_TestClass2, test_searchTools_TestClass2), SearchTools.findBySubstringInAllPackages("class2", runtime.getModelRepository(), runtime.getProcessorSupport()).toSet());
+
+        // deleted elements are removed from the index
+        runtime.delete("SourceId.pure");
+        runtime.compile();
+        Verify.assertSetsEqual(Sets.mutable.with(test_letFn_TestClass), SearchTools.findInAllPackages("TestClass", runtime.getModelRepository(), runtime.getProcessorSupport()).toSet());
+        Verify.assertEmpty(SearchTools.findBySubstringInAllPackages("tmycl", runtime.getModelRepository(), runtime.getProcessorSupport()));
+        Verify.assertEmpty(SearchTools.findInAllPackages("searchTools", runtime.getModelRepository(), runtime.getProcessorSupport()));
+        assertIndexHasAllElements();
+    }
+
+    private static void assertIndexHasAllElements()
+    {
+        // every element and package in the tree is found using the index, except for import groups which are not
+        // registered with the context
+        MutableSet<CoreInstance> expected = SearchTools.findBySubstringInAllPackages("", runtime.getModelRepository(), null).reject(e -> e instanceof ImportGroup, Sets.mutable.empty());
+        MutableSet<CoreInstance> actual = SearchTools.findBySubstringInAllPackages("", runtime.getModelRepository(), runtime.getProcessorSupport()).reject(e -> e instanceof ImportGroup, Sets.mutable.empty());
+        Verify.assertSetsEqual(expected, actual);
+    }
 }
@@ -0,0 +1,61 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.m3.tools;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.regex.Pattern;
+
+public class TestElementNameIndex
+{
+    @Test
+    public void testSplitHumps()
+    {
+        Assert.assertEquals(Lists.mutable.empty(), ElementNameIndex.splitHumps(""));
+        Assert.assertEquals(Lists.mutable.with("Test", "Class"), ElementNameIndex.splitHumps("TestClass"));
+        Assert.assertEquals(Lists.mutable.with("test", "Class2"), ElementNameIndex.splitHumps("testClass2"));
+        Assert.assertEquals(Lists.mutable.with("H", "T", "T", "P", "Request"), ElementNameIndex.splitHumps("HTTPRequest"));
+        Assert.assertEquals(Lists.mutable.with("my", "Function", "Any", "M", "A", "N", "Y"), ElementNameIndex.splitHumps("myFunction__Any_MANY_"));
+    }
+
+    @Test
+    public void testMatchesCamelCase()
+    {
+        Assert.assertTrue(ElementNameIndex.matchesCamelCase("TC", "TestClass"));
+        Assert.assertTrue(ElementNameIndex.matchesCamelCase("TeCl", "TestClass"));
+        Assert.assertTrue(ElementNameIndex.matchesCamelCase("TeClass", "TestClass"));
+        Assert.assertTrue(ElementNameIndex.matchesCamelCase("TestC", "TestClass2"));
+        Assert.assertFalse(ElementNameIndex.matchesCamelCase("TCl2", "TestClass2"));
+        Assert.assertFalse(ElementNameIndex.matchesCamelCase("TCX", "TestClass"));
+        Assert.assertFalse(ElementNameIndex.matchesCamelCase("", "TestClass"));
+    }
+
+    @Test
+    public void testGetRequiredLiteral()
+    {
+        Assert.assertEquals("TestClass", ElementNameIndex.getRequiredLiteral(Pattern.compile("TestClass")));
+        Assert.assertEquals("Test", ElementNameIndex.getRequiredLiteral(Pattern.compile("Test\\S+\\d+")));
+        Assert.assertEquals("Function", ElementNameIndex.getRequiredLiteral(Pattern.compile("test.*Function.*")));
+        Assert.assertEquals("MyClass", ElementNameIndex.getRequiredLiteral(Pattern.compile("(Test)?MyClass")));
+        Assert.assertEquals("Clas", ElementNameIndex.getRequiredLiteral(Pattern.compile("Class?")));
+        Assert.assertNull(ElementNameIndex.getRequiredLiteral(Pattern.compile("Boolean|Integer")));
+        Assert.assertNull(ElementNameIndex.getRequiredLiteral(Pattern.compile("(?i)TestClass")));
+        Assert.assertNull(ElementNameIndex.getRequiredLiteral(Pattern.compile("TestClass", Pattern.LITERAL)));
+        Assert.assertEquals("::", ElementNameIndex.getRequiredLiteral(Pattern.compile("\\S::\\S")));
+        Assert.assertEquals("Class", ElementNameIndex.getRequiredLiteral(Pattern.compile("[Tt]est[A-Z]\\w*Class")));
+    }
+}
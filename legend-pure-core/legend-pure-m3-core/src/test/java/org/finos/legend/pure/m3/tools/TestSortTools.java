@@ -0,0 +1,118 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.m3.tools;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.Interval;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
+public class TestSortTools
+{
+    @Test
+    public void testEmptyAndSingleton()
+    {
+        Assert.assertArrayEquals(new int[0], SortTools.sortIndices(new long[0], false));
+        Assert.assertArrayEquals(new int[]{0}, SortTools.sortIndices(new long[]{5L}, true));
+    }
+
+    @Test
+    public void testLongKeys()
+    {
+        long[] keys = {5L, -3L, 8L, 0L, Long.MIN_VALUE, Long.MAX_VALUE};
+        Assert.assertArrayEquals(new int[]{4, 1, 3, 0, 2, 5}, SortTools.sortIndices(keys, false));
+        Assert.assertArrayEquals(new int[]{5, 2, 0, 3, 1, 4}, SortTools.sortIndices(keys, true));
+    }
+
+    @Test
+    public void testDoubleKeys()
+    {
+        double[] keys = {1.5, Double.NaN, -0.0, 0.0, Double.NEGATIVE_INFINITY};
+        Assert.assertArrayEquals(new int[]{4, 2, 3, 0, 1}, SortTools.sortIndices(keys, false));
+        Assert.assertArrayEquals(new int[]{1, 0, 3, 2, 4}, SortTools.sortIndices(keys, true));
+    }
+
+    @Test
+    public void testStability()
+    {
+        Random random = new Random(1_234_567L);
+        long[] keys = new long[10_000];
+        for (int i = 0; i < keys.length; i++)
+        {
+            keys[i] = random.nextInt(50);
+        }
+        assertStableOrder(keys, SortTools.sortIndices(keys, false), false);
+        assertStableOrder(keys, SortTools.sortIndices(keys, true), true);
+    }
+
+    @Test
+    public void testAgainstListSort()
+    {
+        Random random = new Random(7_654_321L);
+        for (int size : new int[]{2, 15, 16, 17, 100, 1_000, 25_000})
+        {
+            String[] keys = new String[size];
+            for (int i = 0; i < size; i++)
+            {
+                keys[i] = Integer.toString(random.nextInt(size), 36);
+            }
+            MutableList<Integer> expected = Interval.zeroTo(size - 1).toList().sortThis(Comparator.comparing(i -> keys[i]));
+            Assert.assertEquals(expected, toList(SortTools.sortIndices(keys, Comparator.naturalOrder(), false)));
+            Assert.assertEquals(expected.sortThis(Comparator.comparing(i -> keys[i], Comparator.reverseOrder())), toList(SortTools.sortIndices(keys, Comparator.naturalOrder(), true)));
+        }
+    }
+
+    @Test
+    public void testReorder()
+    {
+        Object[] values = {"a", "b", "c"};
+        Assert.assertArrayEquals(new Object[]{"c", "a", "b"}, SortTools.reorder(values, new int[]{2, 0, 1}));
+        Assert.assertArrayEquals(new Object[]{"a", "b", "c"}, values);
+    }
+
+    private static void assertStableOrder(long[] keys, int[] order, boolean descending)
+    {
+        Assert.assertEquals(keys.length, order.length);
+        int[] sortedOrder = order.clone();
+        Arrays.sort(sortedOrder);
+        Assert.assertArrayEquals(Interval.zeroTo(keys.length - 1).toIntArray(), sortedOrder);
+        for (int i = 1; i < order.length; i++)
+        {
+            long previous = keys[order[i - 1]];
+            long current = keys[order[i]];
+            int comparison = descending ? Long.compare(current, previous) : Long.compare(previous, current);
+            Assert.assertTrue(comparison <= 0);
+            if (comparison == 0)
+            {
+                Assert.assertTrue(order[i - 1] < order[i]);
+            }
+        }
+    }
+
+    private static MutableList<Integer> toList(int[] indices)
+    {
+        MutableList<Integer> list = Lists.mutable.ofInitialCapacity(indices.length);
+        for (int i : indices)
+        {
+            list.add(i);
+        }
+        return list;
+    }
+}
@@ -49,6 +49,8 @@ import org.finos.legend.pure.m4.serialization.binary.BinaryRepositorySerializer;
 import org.finos.legend.pure.m4.serialization.binary.BinaryWriters;
 import org.finos.legend.pure.m4.serialization.grammar.NameSpace;
 import org.finos.legend.pure.m4.statelistener.M4StateListener;
+import org.finos.legend.pure.m4.transaction.GraphVersionPin;
+import org.finos.legend.pure.m4.transaction.GraphVersions;
 import org.finos.legend.pure.m4.transaction.ModelRepositoryTransaction;
 import org.finos.legend.pure.m4.transaction.TransactionObserver;
 import org.finos.legend.pure.m4.transaction.VoidTransactionObserver;
@@ -92,6 +94,7 @@ public class ModelRepository
     private final AtomicInteger anonymousIdCounter = new AtomicInteger(0);
 
     private final ModelRepositoryTransactionManager transactionManager = new ModelRepositoryTransactionManager();
+    private final GraphVersions graphVersions = new GraphVersions();
 
     private final AtomicReference<BooleanCoreInstance> cachedTrue = new AtomicReference<>();
     private final AtomicReference<BooleanCoreInstance> cachedFalse = new AtomicReference<>();
@@ -102,11 +105,43 @@ public class ModelRepository
 
     private final MultipassCoreInstanceFactory coreInstanceFactory;
 
+    private final ModelRepository base;
+    private volatile boolean frozen = false;
+    // ids at or above these limits are reserved for repositories layered over this one once it is frozen
+    private volatile int idLimit = Integer.MAX_VALUE;
+    private volatile int anonymousIdLimit = Integer.MAX_VALUE;
+
     private TransactionObserver transactionObserver = VoidTransactionObserver.VOID_TRANSACTION_OBSERVER;
 
     public ModelRepository(MultipassCoreInstanceFactory factory)
     {
         this.coreInstanceFactory = factory;
+        this.base = null;
+    }
+
+    /**
+     * Create a repository layered over a frozen base repository. Top level lookups fall through to the base, while
+     * new top level elements are only ever added to this repository. Instance ids start above the range reserved for
+     * the base when it was frozen, so they are unique across both even if the base creates further instances (e.g.,
+     * when loading lazily).
+     * <p>
+     * Note that the base is only protected against changes to its set of top level elements. Instances in the base
+     * are still mutable, so code which modifies them (e.g., by adding back references) affects every repository
+     * layered over the same base.
+     *
+     * @param base frozen base repository
+     */
+    public ModelRepository(ModelRepository base)
+    {
+        if (!base.isFrozen())
+        {
+            throw new IllegalArgumentException("Base repository must be frozen");
+        }
+        this.coreInstanceFactory = base.coreInstanceFactory;
+        this.base = base;
+        this.exclusionSet = base.exclusionSet;
+        this.idCounter.set(base.idLimit);
+        this.anonymousIdCounter.set(base.anonymousIdLimit);
     }
 
     public ModelRepository()
@@ -123,7 +158,8 @@ public class ModelRepository
     public CoreInstance getTopLevel(String name)
     {
         ModelRepositoryTransaction transaction = getTransaction();
-        return ((transaction != null) && transaction.isOpen()) ? transaction.getTopLevel(name) : this.topLevelMap.get(name);
+        CoreInstance topLevel = ((transaction != null) && transaction.isOpen()) ? transaction.getTopLevel(name) : this.topLevelMap.get(name);
+        return ((topLevel == null) && (this.base != null)) ? this.base.getTopLevel(name) : topLevel;
     }
 
     public void addTopLevel(CoreInstance topLevel)
@@ -137,6 +173,15 @@ public class ModelRepository
 
     public CoreInstance getOrAddTopLevel(CoreInstance topLevel)
     {
+        checkNotFrozen();
+        if (this.base != null)
+        {
+            CoreInstance baseTopLevel = this.base.getTopLevel(topLevel.getName());
+            if (baseTopLevel != null)
+            {
+                return baseTopLevel;
+            }
+        }
         ModelRepositoryTransaction transaction = getTransaction();
         return ((transaction != null) && transaction.isOpen()) ? transaction.getOrAddTopLevel(topLevel) : this.topLevelMap.getIfAbsentPut(topLevel.getName(), topLevel);
     }
@@ -144,7 +189,47 @@ public class ModelRepository
     public RichIterable<CoreInstance> getTopLevels()
     {
         ModelRepositoryTransaction transaction = getTransaction();
-        return ((transaction != null) && transaction.isOpen()) ? transaction.getTopLevels() : this.topLevelMap.valuesView();
+        if ((transaction != null) && transaction.isOpen())
+        {
+            // the transaction is seeded from this method, so it already includes the base top levels
+            return transaction.getTopLevels();
+        }
+        return (this.base == null) ? this.topLevelMap.valuesView() : this.base.getTopLevels().asLazy().concatenate(this.topLevelMap.valuesView());
+    }
+
+    /**
+     * Get the base repository this repository is layered over, or null if there is none.
+     *
+     * @return base repository or null
+     */
+    public ModelRepository getBase()
+    {
+        return this.base;
+    }
+
+    /**
+     * Freeze the repository. After this, no top level elements may be added to it, no transactions may be started
+     * on it, and it may not be cleared, but it may be used as the base for other repositories. Half of the remaining
+     * ids are reserved for further instances of this repository, and the rest for the repositories layered over it.
+     */
+    public synchronized void freeze()
+    {
+        ModelRepositoryTransaction transaction = getTransaction();
+        if ((transaction != null) && transaction.isOpen())
+        {
+            throw new IllegalStateException("Cannot freeze a repository with an open transaction");
+        }
+        if (!this.frozen)
+        {
+            this.idLimit = reserveIds(this.idCounter.get(), this.idLimit);
+            this.anonymousIdLimit = reserveIds(this.anonymousIdCounter.get(), this.anonymousIdLimit);
+            this.frozen = true;
+        }
+    }
+
+    public boolean isFrozen()
+    {
+        return this.frozen;
     }
 
     public int getIdCounter()
@@ -159,11 +244,12 @@ public class ModelRepository
 
     public void clear()
     {
+        checkNotFrozen();
         this.transactionManager.clear();
         this.topLevelMap.clear();
-        this.exclusionSet = Sets.immutable.empty();
-        this.idCounter.set(0);
-        this.anonymousIdCounter.set(0);
+        this.exclusionSet = (this.base == null) ? Sets.immutable.empty() : this.base.exclusionSet;
+        this.idCounter.set((this.base == null) ? 0 : this.base.idLimit);
+        this.anonymousIdCounter.set((this.base == null) ? 0 : this.base.anonymousIdLimit);
         clearCaches();
     }
 
@@ -855,6 +941,7 @@ public class ModelRepository
 
     public ModelRepositoryTransaction newTransaction(boolean committable)
     {
+        checkNotFrozen();
         return this.transactionManager.newTransaction(committable);
     }
 
@@ -863,6 +950,31 @@ public class ModelRepository
         return this.transactionManager.getThreadLocalTransaction();
     }
 
+    /**
+     * Pin the current committed version of the graph in the current thread. Until the returned pin is closed, the
+     * current thread sees the graph as of that version, even as other threads commit transactions. This lets
+     * readers (e.g., function executions) run concurrently with a compilation in another thread, without observing a
+     * partially committed graph.
+     *
+     * <p>The current thread must not already have a transaction.
+     *
+     * @return pin
+     */
+    public GraphVersionPin pinVersion()
+    {
+        checkNotFrozen();
+        if (getTransaction() != null)
+        {
+            throw new IllegalStateException("Cannot pin a version in a thread which already has a transaction");
+        }
+        return GraphVersionPin.open(this.transactionManager.newSnapshot());
+    }
+
+    public GraphVersions getGraphVersions()
+    {
+        return this.graphVersions;
+    }
+
     public void commitTransactionTopLevels(ModelRepositoryTransaction transaction)
     {
         if (transaction == null)
@@ -875,6 +987,10 @@ public class ModelRepository
         }
         for (CoreInstance topLevel : transaction.getTopLevels())
         {
+            if ((this.base != null) && (this.base.getTopLevel(topLevel.getName()) == topLevel))
+            {
+                continue;
+            }
             CoreInstance current = this.topLevelMap.getIfAbsentPut(topLevel.getName(), topLevel);
             if (current != topLevel)
             {
@@ -891,12 +1007,26 @@ public class ModelRepository
 
     public int nextId()
     {
-        return this.idCounter.getAndIncrement();
+        return checkIdLimit(this.idCounter.getAndIncrement(), this.idLimit);
     }
 
     private int nextAnonymousId()
     {
-        return this.anonymousIdCounter.getAndIncrement();
+        return checkIdLimit(this.anonymousIdCounter.getAndIncrement(), this.anonymousIdLimit);
+    }
+
+    private static int checkIdLimit(int id, int limit)
+    {
+        if (id >= limit)
+        {
+            throw new IllegalStateException("Model repository has run out of ids (limit: " + limit + ")");
+        }
+        return id;
+    }
+
+    private static int reserveIds(int counter, int limit)
+    {
+        return counter + ((limit - counter) / 2);
     }
 
     public String nextAnonymousInstanceName()
@@ -937,6 +1067,14 @@ public class ModelRepository
         return isAnonymousInstanceName(id) ? "Anonymous_StripedId" : id;
     }
 
+    private void checkNotFrozen()
+    {
+        if (this.frozen)
+        {
+            throw new IllegalStateException("Model repository is frozen");
+        }
+    }
+
     private class ModelRepositoryTransactionManager extends TransactionManager<ModelRepositoryTransaction>
     {
         @Override
@@ -944,5 +1082,20 @@ public class ModelRepository
         {
             return ModelRepositoryTransaction.newTransaction(this, committable, ModelRepository.this, ModelRepository.this.transactionObserver);
         }
+
+        private ModelRepositoryTransaction newSnapshot()
+        {
+            return registerNewTransaction(ModelRepositoryTransaction.newSnapshot(this, ModelRepository.this, ModelRepository.this.transactionObserver));
+        }
+
+        @Override
+        protected void handleRegistrationFailure(ModelRepositoryTransaction transaction)
+        {
+            if (transaction.isSnapshot())
+            {
+                // release the pin
+                transaction.rollback();
+            }
+        }
     }
 }
@@ -18,25 +18,43 @@ import org.finos.legend.pure.m4.tools.SafeAppendable;
 
 import java.io.IOException;
 
+/**
+ * Source information for an instance: a source id plus start, main, and end positions (each a line and column).
+ * <p>
+ * There is one of these for almost every element, expression, and value specification in a graph, so they are stored
+ * compactly. In the common case, the six positions are packed into a single long as a start position plus small
+ * non-negative line offsets for the main and end positions (see {@link #packPositions}), and the source id is the only
+ * other field. Positions which do not fit (very long sources, very wide lines, very long spans, or invalid intervals)
+ * are kept unpacked in a separate holder, which is referenced in place of the source id.
+ */
 public class SourceInformation implements Comparable<SourceInformation>
 {
-    private final String sourceId;
-    private final int line;
-    private final int column;
-    private final int startLine;
-    private final int startColumn;
-    private final int endLine;
-    private final int endColumn;
+    /**
+     * Value returned by {@link #packPositions} and {@link #getPackedPositions} when positions cannot be packed.
+     */
+    public static final long NOT_PACKED = -1L;
+
+    private static final int START_LINE_BITS = 20;
+    private static final int COLUMN_BITS = 10;
+    private static final int MAIN_LINE_OFFSET_BITS = 6;
+    private static final int END_LINE_OFFSET_BITS = 8;
+
+    private static final int END_COLUMN_SHIFT = 0;
+    private static final int END_LINE_OFFSET_SHIFT = END_COLUMN_SHIFT + COLUMN_BITS;
+    private static final int MAIN_COLUMN_SHIFT = END_LINE_OFFSET_SHIFT + END_LINE_OFFSET_BITS;
+    private static final int MAIN_LINE_OFFSET_SHIFT = MAIN_COLUMN_SHIFT + COLUMN_BITS;
+    private static final int START_COLUMN_SHIFT = MAIN_LINE_OFFSET_SHIFT + MAIN_LINE_OFFSET_BITS;
+    private static final int START_LINE_SHIFT = START_COLUMN_SHIFT + COLUMN_BITS;
+
+    // either the source id (String) or, if the positions are not packed, an Unpacked holder
+    private final Object source;
+    private final long packed;
 
     public SourceInformation(String sourceId, int startLine, int startColumn, int line, int column, int endLine, int endColumn)
     {
-        this.sourceId = sourceId;
-        this.line = line;
-        this.column = column;
-        this.startLine = startLine;
-        this.startColumn = startColumn;
-        this.endLine = endLine;
-        this.endColumn = endColumn;
+        long packedPositions = packPositions(startLine, startColumn, line, column, endLine, endColumn);
+        this.source = (packedPositions == NOT_PACKED) ? new Unpacked(sourceId, startLine, startColumn, line, column, endLine, endColumn) : sourceId;
+        this.packed = packedPositions;
     }
 
     public SourceInformation(String sourceId, int startLine, int startColumn, int endLine, int endColumn)
@@ -44,39 +62,66 @@ public class SourceInformation implements Comparable<SourceInformation>
         this(sourceId, startLine, startColumn, startLine, startColumn, endLine, endColumn);
     }
 
+    private SourceInformation(String sourceId, long packed)
+    {
+        this.source = sourceId;
+        this.packed = packed;
+    }
+
     public String getSourceId()
     {
-        return this.sourceId;
+        return isPacked() ? (String) this.source : ((Unpacked) this.source).sourceId;
     }
 
     public int getLine()
     {
-        return this.line;
+        return isPacked() ? (getStartLine() + unpack(MAIN_LINE_OFFSET_SHIFT, MAIN_LINE_OFFSET_BITS)) : ((Unpacked) this.source).line;
     }
 
     public int getColumn()
     {
-        return this.column;
+        return isPacked() ? unpack(MAIN_COLUMN_SHIFT, COLUMN_BITS) : ((Unpacked) this.source).column;
     }
 
     public int getStartLine()
     {
-        return this.startLine;
+        return isPacked() ? unpack(START_LINE_SHIFT, START_LINE_BITS) : ((Unpacked) this.source).startLine;
     }
 
     public int getStartColumn()
     {
-        return this.startColumn;
+        return isPacked() ? unpack(START_COLUMN_SHIFT, COLUMN_BITS) : ((Unpacked) this.source).startColumn;
     }
 
     public int getEndLine()
     {
-        return this.endLine;
+        return isPacked() ? (getLine() + unpack(END_LINE_OFFSET_SHIFT, END_LINE_OFFSET_BITS)) : ((Unpacked) this.source).endLine;
     }
 
     public int getEndColumn()
     {
-        return this.endColumn;
+        return isPacked() ? unpack(END_COLUMN_SHIFT, COLUMN_BITS) : ((Unpacked) this.source).endColumn;
+    }
+
+    /**
+     * Get the positions of this source information packed into a long, as by {@link #packPositions}. If the
+     * positions could not be packed, this returns {@link #NOT_PACKED}.
+     *
+     * @return packed positions or {@link #NOT_PACKED}
+     */
+    public long getPackedPositions()
+    {
+        return this.packed;
+    }
+
+    private boolean isPacked()
+    {
+        return this.packed != NOT_PACKED;
+    }
+
+    private int unpack(int shift, int bits)
+    {
+        return (int) ((this.packed >>> shift) & ((1L << bits) - 1));
     }
 
     /**
@@ -86,7 +131,7 @@ public class SourceInformation implements Comparable<SourceInformation>
      */
     public String getMessage()
     {
-        return appendMessage(new StringBuilder(this.sourceId.length() + 16)).toString();
+        return appendMessage(new StringBuilder(this.getSourceId().length() + 16)).toString();
     }
 
     /**
@@ -126,7 +171,7 @@ public class SourceInformation implements Comparable<SourceInformation>
      */
     public <T extends Appendable> T appendMessage(T appendable)
     {
-        appendInterval(SafeAppendable.wrap(appendable).append(this.sourceId).append(':'));
+        appendInterval(SafeAppendable.wrap(appendable).append(this.getSourceId()).append(':'));
         return appendable;
     }
 
@@ -145,28 +190,28 @@ public class SourceInformation implements Comparable<SourceInformation>
 
     private void appendInterval(SafeAppendable appendable)
     {
-        if (this.startLine == this.endLine)
+        if (this.getStartLine() == this.getEndLine())
         {
-            appendable.append(this.startLine);
-            if (this.startColumn == this.endColumn)
+            appendable.append(this.getStartLine());
+            if (this.getStartColumn() == this.getEndColumn())
             {
-                appendable.append('c').append(this.startColumn);
+                appendable.append('c').append(this.getStartColumn());
             }
             else
             {
-                appendable.append("cc").append(this.startColumn).append('-').append(this.endColumn);
+                appendable.append("cc").append(this.getStartColumn()).append('-').append(this.getEndColumn());
             }
         }
         else
         {
-            appendable.append(this.startLine).append('c').append(this.startColumn).append('-')
-                    .append(this.endLine).append('c').append(this.endColumn);
+            appendable.append(this.getStartLine()).append('c').append(this.getStartColumn()).append('-')
+                    .append(this.getEndLine()).append('c').append(this.getEndColumn());
         }
     }
 
     public String toM4String()
     {
-        return getM4SourceString(this.sourceId, this.startLine, this.startColumn, this.line, this.column, this.endLine, this.endColumn);
+        return getM4SourceString(this.getSourceId(), this.getStartLine(), this.getStartColumn(), this.getLine(), this.getColumn(), this.getEndLine(), this.getEndColumn());
     }
 
     /**
@@ -180,19 +225,19 @@ public class SourceInformation implements Comparable<SourceInformation>
 
     public <T extends Appendable> T appendM4String(T appendable)
     {
-        return appendM4SourceInformation(appendable, this.sourceId, this.startLine, this.startColumn, this.line, this.column, this.endLine, this.endColumn);
+        return appendM4SourceInformation(appendable, this.getSourceId(), this.getStartLine(), this.getStartColumn(), this.getLine(), this.getColumn(), this.getEndLine(), this.getEndColumn());
     }
 
     @Override
     public int hashCode()
     {
-        int result = this.sourceId.hashCode();
-        result = 31 * result + this.line;
-        result = 31 * result + this.column;
-        result = 31 * result + this.startLine;
-        result = 31 * result + this.startColumn;
-        result = 31 * result + this.endLine;
-        result = 31 * result + this.endColumn;
+        int result = this.getSourceId().hashCode();
+        result = 31 * result + this.getLine();
+        result = 31 * result + this.getColumn();
+        result = 31 * result + this.getStartLine();
+        result = 31 * result + this.getStartColumn();
+        result = 31 * result + this.getEndLine();
+        result = 31 * result + this.getEndColumn();
         return result;
     }
 
@@ -208,14 +253,11 @@ public class SourceInformation implements Comparable<SourceInformation>
             return false;
         }
 
+        // packing is canonical, so equal positions are either both packed identically or both unpacked
         SourceInformation sourceInfo = (SourceInformation) other;
-        return this.sourceId.equals(sourceInfo.sourceId) &&
-                (this.line == sourceInfo.line) &&
-                (this.column == sourceInfo.column) &&
-                (this.startLine == sourceInfo.startLine) &&
-                (this.startColumn == sourceInfo.startColumn) &&
-                (this.endLine == sourceInfo.endLine) &&
-                (this.endColumn == sourceInfo.endColumn);
+        return (this.packed == sourceInfo.packed) &&
+                this.getSourceId().equals(sourceInfo.getSourceId()) &&
+                (isPacked() || ((Unpacked) this.source).positionsEqual((Unpacked) sourceInfo.source));
     }
 
     @Override
@@ -246,9 +288,9 @@ public class SourceInformation implements Comparable<SourceInformation>
     public boolean subsumes(SourceInformation other)
     {
         return (other != null) &&
-                this.sourceId.equals(other.sourceId) &&
-                isNotAfter(this.startLine, this.startColumn, other.startLine, other.startColumn) &&
-                isNotBefore(this.endLine, this.endColumn, other.endLine, other.endColumn);
+                this.getSourceId().equals(other.getSourceId()) &&
+                isNotAfter(this.getStartLine(), this.getStartColumn(), other.getStartLine(), other.getStartColumn()) &&
+                isNotBefore(this.getEndLine(), this.getEndColumn(), other.getEndLine(), other.getEndColumn());
     }
 
     /**
@@ -261,9 +303,9 @@ public class SourceInformation implements Comparable<SourceInformation>
     public boolean intersects(SourceInformation other)
     {
         return (other != null) &&
-                this.sourceId.equals(other.sourceId) &&
-                isNotAfter(this.startLine, this.startColumn, other.endLine, other.endColumn) &&
-                isNotBefore(this.endLine, this.endColumn, other.startLine, other.startColumn);
+                this.getSourceId().equals(other.getSourceId()) &&
+                isNotAfter(this.getStartLine(), this.getStartColumn(), other.getEndLine(), other.getEndColumn()) &&
+                isNotBefore(this.getEndLine(), this.getEndColumn(), other.getStartLine(), other.getStartColumn());
     }
 
     /**
@@ -276,7 +318,7 @@ public class SourceInformation implements Comparable<SourceInformation>
     public boolean isValid()
     {
         // Source id must not be null
-        if (this.sourceId == null)
+        if (this.getSourceId() == null)
         {
             return false;
         }
@@ -284,22 +326,22 @@ public class SourceInformation implements Comparable<SourceInformation>
         // Source information with 0 for a line or column value occurs with ImportGroups with no Imports. In this case,
         // all column values should be 0 and all line values should be equal (and may be 0). We check for this unusual
         // but valid case by checking if the start column is 0.
-        if (this.startColumn == 0)
+        if (this.getStartColumn() == 0)
         {
-            return (this.startLine >= 0) &&
-                    (this.startLine == this.line) &&
-                    (this.startLine == this.endLine) &&
-                    (this.column == 0) &&
-                    (this.endColumn == 0);
+            return (this.getStartLine() >= 0) &&
+                    (this.getStartLine() == this.getLine()) &&
+                    (this.getStartLine() == this.getEndLine()) &&
+                    (this.getColumn() == 0) &&
+                    (this.getEndColumn() == 0);
         }
 
         // Otherwise, all line and column values must be strictly greater than 0, and the interval must be valid.
-        return (this.startLine > 0) &&
-                (this.startColumn > 0) &&
-                (this.column > 0) &&
-                (this.endColumn > 0) &&
-                isNotBefore(this.line, this.column, this.startLine, this.startColumn) &&
-                isNotBefore(this.endLine, this.endColumn, this.line, this.column);
+        return (this.getStartLine() > 0) &&
+                (this.getStartColumn() > 0) &&
+                (this.getColumn() > 0) &&
+                (this.getEndColumn() > 0) &&
+                isNotBefore(this.getLine(), this.getColumn(), this.getStartLine(), this.getStartColumn()) &&
+                isNotBefore(this.getEndLine(), this.getEndColumn(), this.getLine(), this.getColumn());
     }
 
     @Override
@@ -308,6 +350,66 @@ public class SourceInformation implements Comparable<SourceInformation>
         return appendMessage(new StringBuilder("<SourceInformation ")).append('>').toString();
     }
 
+    /**
+     * Create a source information from a source id and positions packed as by {@link #packPositions}.
+     *
+     * @param sourceId        source id
+     * @param packedPositions packed positions
+     * @return source information
+     * @throws IllegalArgumentException if packedPositions is {@link #NOT_PACKED}
+     */
+    public static SourceInformation fromPackedPositions(String sourceId, long packedPositions)
+    {
+        if (packedPositions == NOT_PACKED)
+        {
+            throw new IllegalArgumentException("Positions are not packed");
+        }
+        return new SourceInformation(sourceId, packedPositions);
+    }
+
+    /**
+     * Pack start, main, and end positions into a single long. The start line is stored as is, the main and end lines
+     * as offsets from the start and main lines respectively, and the columns as is. If any value is negative or too
+     * large to be packed (including if the main position is on an earlier line than the start or the end position on
+     * an earlier line than the main), this returns {@link #NOT_PACKED}.
+     *
+     * @param startLine   start line
+     * @param startColumn start column
+     * @param line        main line
+     * @param column      main column
+     * @param endLine     end line
+     * @param endColumn   end column
+     * @return packed positions or {@link #NOT_PACKED}
+     */
+    public static long packPositions(int startLine, int startColumn, int line, int column, int endLine, int endColumn)
+    {
+        int mainLineOffset = line - startLine;
+        int endLineOffset = endLine - line;
+        if (!fits(startLine, START_LINE_BITS) ||
+                !fits(startColumn, COLUMN_BITS) ||
+                !fits(mainLineOffset, MAIN_LINE_OFFSET_BITS) ||
+                !fits(column, COLUMN_BITS) ||
+                !fits(endLineOffset, END_LINE_OFFSET_BITS) ||
+                !fits(endColumn, COLUMN_BITS))
+        {
+            return NOT_PACKED;
+        }
+        long packed = ((long) startLine << START_LINE_SHIFT) |
+                ((long) startColumn << START_COLUMN_SHIFT) |
+                ((long) mainLineOffset << MAIN_LINE_OFFSET_SHIFT) |
+                ((long) column << MAIN_COLUMN_SHIFT) |
+                ((long) endLineOffset << END_LINE_OFFSET_SHIFT) |
+                ((long) endColumn << END_COLUMN_SHIFT);
+        // in the (practically impossible) case that every bit is set, this coincides with NOT_PACKED and so the
+        // positions are treated as unpacked
+        return packed;
+    }
+
+    private static boolean fits(int value, int bits)
+    {
+        return (value >= 0) && (value < (1 << bits));
+    }
+
     public static String getM4SourceString(String sourceId, int startLine, int startColumn, int line, int column, int endLine, int endColumn)
     {
         return appendM4SourceInformation(new StringBuilder(sourceId.length() + 32), sourceId, startLine, startColumn, line, column, endLine, endColumn).toString();
@@ -467,7 +569,7 @@ public class SourceInformation implements Comparable<SourceInformation>
      */
     public static int compareBySourceId(SourceInformation sourceInfo1, SourceInformation sourceInfo2)
     {
-        return sourceInfo1.sourceId.compareTo(sourceInfo2.sourceId);
+        return sourceInfo1.getSourceId().compareTo(sourceInfo2.getSourceId());
     }
 
     /**
@@ -480,7 +582,7 @@ public class SourceInformation implements Comparable<SourceInformation>
      */
     public static int compareByStartPosition(SourceInformation sourceInfo1, SourceInformation sourceInfo2)
     {
-        return comparePositions(sourceInfo1.startLine, sourceInfo1.startColumn, sourceInfo2.startLine, sourceInfo2.startColumn);
+        return comparePositions(sourceInfo1.getStartLine(), sourceInfo1.getStartColumn(), sourceInfo2.getStartLine(), sourceInfo2.getStartColumn());
     }
 
     /**
@@ -493,7 +595,7 @@ public class SourceInformation implements Comparable<SourceInformation>
      */
     public static int compareByMainPosition(SourceInformation sourceInfo1, SourceInformation sourceInfo2)
     {
-        return comparePositions(sourceInfo1.line, sourceInfo1.column, sourceInfo2.line, sourceInfo2.column);
+        return comparePositions(sourceInfo1.getLine(), sourceInfo1.getColumn(), sourceInfo2.getLine(), sourceInfo2.getColumn());
     }
 
     /**
@@ -506,6 +608,38 @@ public class SourceInformation implements Comparable<SourceInformation>
      */
     public static int compareByEndPosition(SourceInformation sourceInfo1, SourceInformation sourceInfo2)
     {
-        return comparePositions(sourceInfo1.endLine, sourceInfo1.endColumn, sourceInfo2.endLine, sourceInfo2.endColumn);
+        return comparePositions(sourceInfo1.getEndLine(), sourceInfo1.getEndColumn(), sourceInfo2.getEndLine(), sourceInfo2.getEndColumn());
+    }
+
+    private static class Unpacked
+    {
+        private final String sourceId;
+        private final int startLine;
+        private final int startColumn;
+        private final int line;
+        private final int column;
+        private final int endLine;
+        private final int endColumn;
+
+        private Unpacked(String sourceId, int startLine, int startColumn, int line, int column, int endLine, int endColumn)
+        {
+            this.sourceId = sourceId;
+            this.startLine = startLine;
+            this.startColumn = startColumn;
+            this.line = line;
+            this.column = column;
+            this.endLine = endLine;
+            this.endColumn = endColumn;
+        }
+
+        private boolean positionsEqual(Unpacked other)
+        {
+            return (this.startLine == other.startLine) &&
+                    (this.startColumn == other.startColumn) &&
+                    (this.line == other.line) &&
+                    (this.column == other.column) &&
+                    (this.endLine == other.endLine) &&
+                    (this.endColumn == other.endColumn);
+        }
     }
 }
@@ -38,7 +38,7 @@ public class SimpleCoreInstance extends AbstractCoreInstance implements CoreInst
     private CoreInstance classifier;
     private final boolean persistent;
 
-    private SimpleCoreInstanceMutableState state;
+    private volatile SimpleCoreInstanceMutableState state;
 
     protected SimpleCoreInstance(String name, SourceInformation sourceInformation, CoreInstance classifier, int internalSyntheticId, ModelRepository repository, boolean persistent)
     {
@@ -54,7 +54,7 @@ public class SimpleCoreInstance extends AbstractCoreInstance implements CoreInst
     @Override
     public void commit(ModelRepositoryTransaction transaction)
     {
-        this.state = (SimpleCoreInstanceMutableState) transaction.getState(this);
+        this.state = (SimpleCoreInstanceMutableState) transaction.commitState(this, this.state);
     }
 
     @Override
@@ -316,14 +316,6 @@ public class SimpleCoreInstance extends AbstractCoreInstance implements CoreInst
     private SimpleCoreInstanceMutableState getState()
     {
         ModelRepositoryTransaction transaction = this.repository.getTransaction();
-        if ((transaction != null) && transaction.isOpen())
-        {
-            SimpleCoreInstanceMutableState transactionState = (SimpleCoreInstanceMutableState) transaction.getState(this);
-            if (transactionState != null)
-            {
-                return transactionState;
-            }
-        }
-        return this.state;
+        return ((transaction != null) && transaction.isOpen()) ? (SimpleCoreInstanceMutableState) transaction.getState(this, this.state) : this.state;
     }
 }
@@ -0,0 +1,99 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.m4.transaction;
+
+import org.finos.legend.pure.m4.transaction.framework.ThreadLocalTransactionContext;
+
+/**
+ * A pin on a committed version of a model repository's graph, held in the thread which created it. While the pin is
+ * open, that thread sees the graph as of the pinned version, even as later versions are committed by other threads.
+ * Any changes the thread makes to the graph while the pin is open are private to it, and are discarded when the pin
+ * is closed.
+ *
+ * <p>It is strongly recommended that this be used with a {@code try}-with-resources statement to ensure that it is
+ * closed properly, as the replaced states of later versions are retained until it is.
+ */
+public class GraphVersionPin implements AutoCloseable
+{
+    private final ModelRepositoryTransaction transaction;
+    private final ThreadLocalTransactionContext context;
+
+    private GraphVersionPin(ModelRepositoryTransaction transaction, ThreadLocalTransactionContext context)
+    {
+        this.transaction = transaction;
+        this.context = context;
+    }
+
+    public long getVersion()
+    {
+        return this.transaction.getPinnedVersion();
+    }
+
+    @Override
+    public void close()
+    {
+        try
+        {
+            this.context.close();
+        }
+        finally
+        {
+            try
+            {
+                if (this.transaction.isOpen())
+                {
+                    this.transaction.rollback();
+                }
+            }
+            finally
+            {
+                // rolling back releases the pin, but the transaction may have been invalidated instead
+                this.transaction.releasePin();
+            }
+        }
+    }
+
+    /**
+     * Open a snapshot transaction (see {@link ModelRepositoryTransaction#newSnapshot}) in the current thread, so
+     * that it sees the graph as of the transaction's pinned version. If the transaction cannot be opened, it is rolled
+     * back.
+     *
+     * @param snapshot snapshot transaction
+     * @return pin
+     */
+    public static GraphVersionPin open(ModelRepositoryTransaction snapshot)
+    {
+        if (!snapshot.isSnapshot())
+        {
+            throw new IllegalArgumentException("Not a snapshot transaction");
+        }
+        try
+        {
+            return new GraphVersionPin(snapshot, snapshot.openInCurrentThread());
+        }
+        catch (RuntimeException e)
+        {
+            try
+            {
+                snapshot.rollback();
+            }
+            catch (Exception ignore)
+            {
+                // ignore this exception
+            }
+            throw e;
+        }
+    }
+}
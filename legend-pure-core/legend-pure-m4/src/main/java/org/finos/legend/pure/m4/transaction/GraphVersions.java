@@ -0,0 +1,188 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.m4.transaction;
+
+import org.eclipse.collections.api.RichIterable;
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.ImmutableList;
+import org.eclipse.collections.api.map.ConcurrentMutableMap;
+import org.eclipse.collections.api.map.primitive.MutableLongIntMap;
+import org.eclipse.collections.impl.factory.primitive.LongIntMaps;
+import org.eclipse.collections.impl.map.mutable.ConcurrentHashMap;
+import org.finos.legend.pure.m4.coreinstance.CoreInstance;
+
+import java.util.function.Supplier;
+
+/**
+ * Committed versions of a model repository's graph. Each commit of a {@link ModelRepositoryTransaction} produces a
+ * new version. Transactions never modify committed instance states in place: they work on copies, which replace the
+ * committed states when the transaction commits. So a version can be reconstructed from the current states together
+ * with the states each later commit replaced.
+ * <p>
+ * A reader can pin the current version (see {@link org.finos.legend.pure.m4.ModelRepository#pinVersion()}), after
+ * which it continues to see that version while later versions are committed. The states replaced by a commit are
+ * retained only while some reader is pinned to an earlier version.
+ */
+public class GraphVersions
+{
+    private final MutableLongIntMap pins = LongIntMaps.mutable.empty();
+    private volatile long currentVersion = 0L;
+    private volatile ImmutableList<VersionDelta> deltas = Lists.immutable.empty();
+
+    /**
+     * The current committed version.
+     *
+     * @return current version
+     */
+    public long getCurrentVersion()
+    {
+        return this.currentVersion;
+    }
+
+    /**
+     * The number of pins currently held, across all versions.
+     *
+     * @return number of pins
+     */
+    public synchronized int getPinCount()
+    {
+        return (int) this.pins.sum();
+    }
+
+    /**
+     * The number of commits whose replaced states are currently retained for pinned readers.
+     *
+     * @return number of retained commits
+     */
+    public int getRetainedCommitCount()
+    {
+        return this.deltas.size();
+    }
+
+    /**
+     * Pin the current version. The returned top levels are those of the pinned version: if a commit is in progress,
+     * these are the top levels from before it.
+     *
+     * @param currentTopLevels current committed top levels
+     * @return pinned version
+     */
+    synchronized PinnedVersion pin(Supplier<? extends RichIterable<CoreInstance>> currentTopLevels)
+    {
+        long version = this.currentVersion;
+        VersionDelta inProgress = this.deltas.detect(d -> d.version > version);
+        RichIterable<CoreInstance> topLevels = (inProgress == null) ? currentTopLevels.get().toList() : inProgress.previousTopLevels;
+        this.pins.addToValue(version, 1);
+        return new PinnedVersion(version, topLevels);
+    }
+
+    synchronized void unpin(long version)
+    {
+        if (this.pins.addToValue(version, -1) <= 0)
+        {
+            this.pins.remove(version);
+            reclaim();
+        }
+    }
+
+    /**
+     * Start committing a new version. The top levels are committed immediately, while instance states are recorded as
+     * they are replaced (see {@link VersionDelta#stateReplaced}).
+     *
+     * @param currentTopLevels current committed top levels
+     * @param commitTopLevels  commits the transaction's top levels
+     * @return delta for the new version
+     */
+    synchronized VersionDelta beginCommit(Supplier<? extends RichIterable<CoreInstance>> currentTopLevels, Runnable commitTopLevels)
+    {
+        RichIterable<CoreInstance> previousTopLevels = currentTopLevels.get().toList();
+        commitTopLevels.run();
+        VersionDelta delta = new VersionDelta(this.currentVersion + 1, previousTopLevels);
+        this.deltas = this.deltas.newWith(delta);
+        return delta;
+    }
+
+    synchronized void endCommit(VersionDelta delta)
+    {
+        this.currentVersion = delta.version;
+        reclaim();
+    }
+
+    /**
+     * Get the state of an instance as of a version.
+     *
+     * @param instance       instance
+     * @param committedState the instance's current committed state, which must be read before calling this
+     * @param version        version
+     * @return state as of version
+     */
+    Object getState(CoreInstance instance, Object committedState, long version)
+    {
+        // The earliest commit after the version which replaced the instance's state holds the state as of the version.
+        // Commits record a replaced state before replacing it, so if the committed state has already been replaced,
+        // the replaced state is found here.
+        for (VersionDelta delta : this.deltas)
+        {
+            if (delta.version > version)
+            {
+                Object state = delta.replacedStates.get(instance);
+                if (state != null)
+                {
+                    return state;
+                }
+            }
+        }
+        return committedState;
+    }
+
+    private void reclaim()
+    {
+        // A pin needs the deltas of later versions, and an in-progress commit needs its own delta
+        long minVersion = this.pins.isEmpty() ? this.currentVersion : Math.min(this.pins.keysView().min(), this.currentVersion);
+        if (this.deltas.anySatisfy(d -> d.version <= minVersion))
+        {
+            this.deltas = this.deltas.select(d -> d.version > minVersion);
+        }
+    }
+
+    static class PinnedVersion
+    {
+        final long version;
+        final RichIterable<CoreInstance> topLevels;
+
+        private PinnedVersion(long version, RichIterable<CoreInstance> topLevels)
+        {
+            this.version = version;
+            this.topLevels = topLevels;
+        }
+    }
+
+    static class VersionDelta
+    {
+        private final long version;
+        private final RichIterable<CoreInstance> previousTopLevels;
+        private final ConcurrentMutableMap<CoreInstance, Object> replacedStates = ConcurrentHashMap.newMap();
+
+        private VersionDelta(long version, RichIterable<CoreInstance> previousTopLevels)
+        {
+            this.version = version;
+            this.previousTopLevels = previousTopLevels;
+        }
+
+        void stateReplaced(CoreInstance instance, Object state)
+        {
+            this.replacedStates.putIfAbsent(instance, state);
+        }
+    }
+}
@@ -24,6 +24,8 @@ import org.finos.legend.pure.m4.tools.ConcurrentHashSet;
 import org.finos.legend.pure.m4.transaction.framework.Transaction;
 import org.finos.legend.pure.m4.transaction.framework.TransactionManager;
 
+import java.util.concurrent.atomic.AtomicBoolean;
+
 public class ModelRepositoryTransaction extends Transaction
 {
     private final MutableSet<CoreInstance> newInstances = ConcurrentHashSet.newSet();
@@ -32,13 +34,27 @@ public class ModelRepositoryTransaction extends Transaction
 
     private final ModelRepository modelRepository;
     private final TransactionObserver transactionObserver;
+    private final long pinnedVersion;
+    private final AtomicBoolean pinReleased = new AtomicBoolean(false);
+    private volatile GraphVersions.VersionDelta commitDelta;
 
-    private ModelRepositoryTransaction(TransactionManager<?> manager, boolean committable, ModelRepository modelRepository, TransactionObserver transactionObserver)
+    private ModelRepositoryTransaction(TransactionManager<?> manager, boolean committable, ModelRepository modelRepository, TransactionObserver transactionObserver, long pinnedVersion, RichIterable<CoreInstance> topLevels)
     {
         super(manager, committable);
         this.modelRepository = modelRepository;
         this.transactionObserver = transactionObserver;
-        this.modelRepository.getTopLevels().groupByUniqueKey(CoreInstance::getName, this.topLevels);
+        this.pinnedVersion = pinnedVersion;
+        topLevels.groupByUniqueKey(CoreInstance::getName, this.topLevels);
+    }
+
+    private ModelRepositoryTransaction(TransactionManager<?> manager, boolean committable, ModelRepository modelRepository, TransactionObserver transactionObserver)
+    {
+        this(manager, committable, modelRepository, transactionObserver, -1L, modelRepository.getTopLevels());
+    }
+
+    private ModelRepositoryTransaction(TransactionManager<?> manager, ModelRepository modelRepository, TransactionObserver transactionObserver, GraphVersions.PinnedVersion pinned)
+    {
+        this(manager, false, modelRepository, transactionObserver, pinned.version, pinned.topLevels);
     }
 
     public ModelRepository getModelRepository()
@@ -68,6 +84,66 @@ public class ModelRepositoryTransaction extends Transaction
         return this.modifiedInstanceStates.get(instance);
     }
 
+    /**
+     * Get the state of an instance as seen by this transaction: the state registered as modified in this transaction
+     * if there is one, otherwise the committed state (or, for a snapshot, the state as of the pinned version).
+     * <p>
+     * The committed state must be read before this is called, so that if it is concurrently replaced by a commit, the
+     * replaced state can still be found for snapshots.
+     *
+     * @param instance       instance
+     * @param committedState the instance's committed state
+     * @return state as seen by this transaction
+     */
+    public Object getState(CoreInstance instance, Object committedState)
+    {
+        Object state = this.modifiedInstanceStates.get(instance);
+        if (state != null)
+        {
+            return state;
+        }
+        return isSnapshot() ? this.modelRepository.getGraphVersions().getState(instance, committedState, this.pinnedVersion) : committedState;
+    }
+
+    /**
+     * Called by an instance while this transaction is being committed, to replace its committed state with the state
+     * from this transaction. The replaced state is retained for readers pinned to earlier versions.
+     *
+     * @param instance       instance
+     * @param committedState the instance's committed state, which is being replaced
+     * @return the instance's new committed state
+     */
+    public Object commitState(CoreInstance instance, Object committedState)
+    {
+        GraphVersions.VersionDelta delta = this.commitDelta;
+        if ((delta != null) && (committedState != null))
+        {
+            delta.stateReplaced(instance, committedState);
+        }
+        return this.modifiedInstanceStates.get(instance);
+    }
+
+    /**
+     * Whether this is a read-only snapshot of a pinned version of the graph (see {@link ModelRepository#pinVersion()}).
+     * Changes may still be made in a snapshot, but they can never be committed.
+     *
+     * @return whether this is a snapshot
+     */
+    public boolean isSnapshot()
+    {
+        return this.pinnedVersion >= 0L;
+    }
+
+    /**
+     * The version of the graph this transaction is pinned to, or -1 if it is not a snapshot.
+     *
+     * @return pinned version
+     */
+    public long getPinnedVersion()
+    {
+        return this.pinnedVersion;
+    }
+
     public RichIterable<CoreInstance> getNewInstancesInTransaction()
     {
         return this.newInstances.asUnmodifiable();
@@ -91,8 +167,18 @@ public class ModelRepositoryTransaction extends Transaction
     @Override
     protected void doCommit()
     {
-        this.modelRepository.commitTransactionTopLevels(this);
-        this.modifiedInstanceStates.forEachKey(instance -> instance.commit(this));
+        GraphVersions versions = this.modelRepository.getGraphVersions();
+        GraphVersions.VersionDelta delta = versions.beginCommit(this.modelRepository::getTopLevels, () -> this.modelRepository.commitTransactionTopLevels(this));
+        this.commitDelta = delta;
+        try
+        {
+            this.modifiedInstanceStates.forEachKey(instance -> instance.commit(this));
+        }
+        finally
+        {
+            this.commitDelta = null;
+            versions.endCommit(delta);
+        }
         if (this.transactionObserver != null)
         {
             this.transactionObserver.added(this.newInstances.asUnmodifiable());
@@ -103,11 +189,41 @@ public class ModelRepositoryTransaction extends Transaction
     @Override
     protected void doRollback()
     {
-        this.modifiedInstanceStates.forEachKey(instance -> instance.rollback(this));
+        try
+        {
+            this.modifiedInstanceStates.forEachKey(instance -> instance.rollback(this));
+        }
+        finally
+        {
+            releasePin();
+        }
+    }
+
+    void releasePin()
+    {
+        if (isSnapshot() && this.pinReleased.compareAndSet(false, true))
+        {
+            this.modelRepository.getGraphVersions().unpin(this.pinnedVersion);
+        }
     }
 
     public static ModelRepositoryTransaction newTransaction(TransactionManager<? super ModelRepositoryTransaction> manager, boolean committable, ModelRepository modelRepository, TransactionObserver transactionObserver)
     {
         return new ModelRepositoryTransaction(manager, committable, modelRepository, transactionObserver);
     }
+
+    /**
+     * Create a snapshot transaction, which pins the current version of the repository's graph. The snapshot must be
+     * registered with the manager and then opened with {@link GraphVersionPin#open}; if it cannot be, it must be
+     * rolled back to release the pin.
+     *
+     * @param manager             transaction manager
+     * @param modelRepository     model repository
+     * @param transactionObserver transaction observer
+     * @return snapshot transaction
+     */
+    public static ModelRepositoryTransaction newSnapshot(TransactionManager<? super ModelRepositoryTransaction> manager, ModelRepository modelRepository, TransactionObserver transactionObserver)
+    {
+        return new ModelRepositoryTransaction(manager, modelRepository, transactionObserver, modelRepository.getGraphVersions().pin(modelRepository::getTopLevels));
+    }
 }
@@ -53,7 +53,18 @@ public abstract class TransactionManager<T extends Transaction>
 
     public T newTransaction(boolean committable)
     {
-        T transaction = createTransaction(committable);
+        return registerNewTransaction(createTransaction(committable));
+    }
+
+    /**
+     * Register a new transaction created by this manager. This is for managers which create transactions other than
+     * through {@link #createTransaction}. If registration fails, {@link #handleRegistrationFailure} is called.
+     *
+     * @param transaction new transaction
+     * @return the transaction
+     */
+    protected T registerNewTransaction(T transaction)
+    {
         try
         {
             registerTransaction(transaction);
@@ -14,6 +14,11 @@
 
 package org.finos.legend.pure.m4;
 
+import org.finos.legend.pure.m4.coreinstance.CoreInstance;
+import org.finos.legend.pure.m4.serialization.grammar.M4Parser;
+import org.finos.legend.pure.m4.statelistener.VoidM4StateListener;
+import org.finos.legend.pure.m4.transaction.ModelRepositoryTransaction;
+import org.finos.legend.pure.m4.transaction.framework.ThreadLocalTransactionContext;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -37,4 +42,76 @@ public class TestModelRepository
         Assert.assertFalse(ModelRepository.isAnonymousInstanceName("@_1234a"));
         Assert.assertFalse(ModelRepository.isAnonymousInstanceName("@_1_5_67"));
     }
+
+    @Test
+    public void testLayeredRepository() throws Exception
+    {
+        ModelRepository base = new ModelRepository();
+        new M4Parser().parse("^Class Class\n" +
+                "{\n" +
+                "    Class.properties[properties] :\n" +
+                "        [\n" +
+                "            ^Property properties\n" +
+                "                {\n" +
+                "                    Property.properties[type] : Property\n" +
+                "                }\n" +
+                "        ]\n" +
+                "}\n" +
+                "\n" +
+                "^Class Property\n" +
+                "{\n" +
+                "    Class.properties[properties] :\n" +
+                "        [\n" +
+                "            ^Property type\n" +
+                "                {\n" +
+                "                    Property.properties[type] : Class\n" +
+                "                }\n" +
+                "        ]\n" +
+                "}", base, new VoidM4StateListener());
+        base.validate(new VoidM4StateListener());
+        CoreInstance classClass = base.getTopLevel("Class");
+
+        IllegalArgumentException e = Assert.assertThrows(IllegalArgumentException.class, () -> new ModelRepository(base));
+        Assert.assertEquals("Base repository must be frozen", e.getMessage());
+
+        base.freeze();
+        Assert.assertTrue(base.isFrozen());
+        Assert.assertThrows(IllegalStateException.class, () -> base.getOrCreateTopLevel("Other", null));
+        Assert.assertThrows(IllegalStateException.class, () -> base.newTransaction(true));
+        Assert.assertThrows(IllegalStateException.class, base::clear);
+
+        ModelRepository overlay = new ModelRepository(base);
+        Assert.assertSame(base, overlay.getBase());
+        Assert.assertFalse(overlay.isFrozen());
+        Assert.assertSame(classClass, overlay.getTopLevel("Class"));
+        Assert.assertSame(classClass, overlay.getOrCreateTopLevel("Class", null));
+        Assert.assertTrue(overlay.getIdCounter() > base.getIdCounter());
+
+        CoreInstance other = overlay.getOrCreateTopLevel("Other", null);
+        Assert.assertSame(other, overlay.getTopLevel("Other"));
+        Assert.assertNull(base.getTopLevel("Other"));
+
+        // the base may still create instances (e.g., when loading lazily), but their ids stay below the overlay's
+        int baseId = base.nextId();
+        Assert.assertTrue(baseId < other.getSyntheticId());
+        Assert.assertTrue(base.getIdCounter() < overlay.getIdCounter());
+        Assert.assertEquals(3, overlay.getTopLevels().size());
+        Assert.assertEquals(2, base.getTopLevels().size());
+
+        ModelRepositoryTransaction transaction = overlay.newTransaction(true);
+        try (ThreadLocalTransactionContext ignore = transaction.openInCurrentThread())
+        {
+            overlay.getOrCreateTopLevel("Another", null);
+            Assert.assertEquals(4, overlay.getTopLevels().size());
+        }
+        transaction.commit();
+        Assert.assertEquals(4, overlay.getTopLevels().size());
+        Assert.assertEquals(2, base.getTopLevels().size());
+        Assert.assertNull(base.getTopLevel("Another"));
+
+        overlay.clear();
+        Assert.assertSame(classClass, overlay.getTopLevel("Class"));
+        Assert.assertNull(overlay.getTopLevel("Other"));
+        Assert.assertEquals(2, overlay.getTopLevels().size());
+    }
 }
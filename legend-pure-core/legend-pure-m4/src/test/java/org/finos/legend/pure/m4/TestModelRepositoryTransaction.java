@@ -14,8 +14,12 @@
 
 package org.finos.legend.pure.m4;
 
+import org.finos.legend.pure.m4.coreinstance.CoreInstance;
+import org.finos.legend.pure.m4.coreinstance.compileState.CompileState;
 import org.finos.legend.pure.m4.serialization.grammar.M4Parser;
 import org.finos.legend.pure.m4.statelistener.VoidM4StateListener;
+import org.finos.legend.pure.m4.transaction.GraphVersionPin;
+import org.finos.legend.pure.m4.transaction.GraphVersions;
 import org.finos.legend.pure.m4.transaction.ModelRepositoryTransaction;
 import org.finos.legend.pure.m4.transaction.framework.ThreadLocalTransactionContext;
 import org.junit.Assert;
@@ -118,4 +122,93 @@ public class TestModelRepositoryTransaction
         transaction.commit();
         Assert.assertEquals(3, repository.getTopLevels().size());
     }
+
+    @Test
+    public void testPinnedVersion() throws Exception
+    {
+        ModelRepository repository = new ModelRepository();
+        new M4Parser().parse("^Class Class\n" +
+                "{\n" +
+                "    Class.properties[properties] :\n" +
+                "        [\n" +
+                "            ^Property properties\n" +
+                "                {\n" +
+                "                    Property.properties[type] : Property\n" +
+                "                }\n" +
+                "        ]\n" +
+                "}\n" +
+                "\n" +
+                "^Class Property\n" +
+                "{\n" +
+                "    Class.properties[properties] :\n" +
+                "        [\n" +
+                "            ^Property type\n" +
+                "                {\n" +
+                "                    Property.properties[type] : Class\n" +
+                "                }\n" +
+                "        ]\n" +
+                "}", repository, new VoidM4StateListener());
+        repository.validate(new VoidM4StateListener());
+        CoreInstance classClass = repository.getTopLevel("Class");
+        GraphVersions versions = repository.getGraphVersions();
+        Assert.assertEquals(0L, versions.getCurrentVersion());
+
+        try (GraphVersionPin pin = repository.pinVersion())
+        {
+            Assert.assertEquals(0L, pin.getVersion());
+            Assert.assertEquals(1, versions.getPinCount());
+
+            // commit a new version in another thread
+            Thread writer = new Thread(() ->
+            {
+                ModelRepositoryTransaction transaction = repository.newTransaction(true);
+                try (ThreadLocalTransactionContext ignore = transaction.openInCurrentThread())
+                {
+                    classClass.addCompileState(CompileState.PROCESSED);
+                    new M4Parser().parse("^Class Other\n" +
+                            "{\n" +
+                            "}", repository, new VoidM4StateListener());
+                }
+                transaction.commit();
+            });
+            writer.start();
+            writer.join();
+            Assert.assertEquals(1L, versions.getCurrentVersion());
+            Assert.assertEquals(1, versions.getRetainedCommitCount());
+
+            // the pinned thread still sees the pinned version
+            Assert.assertFalse(classClass.hasCompileState(CompileState.PROCESSED));
+            Assert.assertEquals(2, repository.getTopLevels().size());
+            Assert.assertNull(repository.getTopLevel("Other"));
+        }
+
+        // once unpinned, the replaced states are reclaimed and the new version is visible
+        Assert.assertEquals(0, versions.getPinCount());
+        Assert.assertEquals(0, versions.getRetainedCommitCount());
+        Assert.assertNull(repository.getTransaction());
+        Assert.assertTrue(classClass.hasCompileState(CompileState.PROCESSED));
+        Assert.assertEquals(3, repository.getTopLevels().size());
+        Assert.assertNotNull(repository.getTopLevel("Other"));
+    }
+
+    @Test
+    public void testPinnedVersionChangesAreDiscarded() throws Exception
+    {
+        ModelRepository repository = new ModelRepository();
+        new M4Parser().parse("^Class Class\n" +
+                "{\n" +
+                "}", repository, new VoidM4StateListener());
+        CoreInstance classClass = repository.getTopLevel("Class");
+
+        try (GraphVersionPin ignore = repository.pinVersion())
+        {
+            Assert.assertTrue(repository.getTransaction().isSnapshot());
+            classClass.addCompileState(CompileState.PROCESSED);
+            Assert.assertTrue(classClass.hasCompileState(CompileState.PROCESSED));
+            Assert.assertThrows(IllegalStateException.class, repository::pinVersion);
+        }
+        Assert.assertFalse(classClass.hasCompileState(CompileState.PROCESSED));
+        Assert.assertEquals(0, repository.getGraphVersions().getPinCount());
+        Assert.assertEquals(0L, repository.getGraphVersions().getCurrentVersion());
+    }
 }
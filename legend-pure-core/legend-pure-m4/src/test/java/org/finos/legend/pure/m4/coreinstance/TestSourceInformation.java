@@ -863,6 +863,53 @@ public class TestSourceInformation
         Assert.assertFalse(new SourceInformation(sourceId, 5, 3, 6, 1, 7, 0).isValid());
     }
 
+    @Test
+    public void testPackedPositions()
+    {
+        String sourceId = "/platform/test/source1.pure";
+
+        // packable
+        assertPositions(true, sourceId, 0, 0, 0, 0, 0, 0);
+        assertPositions(true, sourceId, 1, 1, 1, 1, 1, 1);
+        assertPositions(true, sourceId, 5, 3, 6, 1, 7, 8);
+        assertPositions(true, sourceId, 1_048_575, 1_023, 1_048_575 + 63, 1_023, 1_048_575 + 63 + 255, 1_022);
+
+        // not packable
+        assertPositions(false, sourceId, 1_048_576, 1, 1_048_576, 1, 1_048_576, 1);
+        assertPositions(false, sourceId, 5, 1_024, 5, 1, 5, 1);
+        assertPositions(false, sourceId, 5, 1, 5, 1_024, 5, 1_024);
+        assertPositions(false, sourceId, 5, 1, 5, 1, 5, 1_024);
+        assertPositions(false, sourceId, 5, 1, 69, 1, 69, 1);
+        assertPositions(false, sourceId, 5, 1, 5, 1, 261, 1);
+        assertPositions(false, sourceId, 5, 1, 4, 1, 7, 1);
+        assertPositions(false, sourceId, 5, 3, 5, 5, 4, 8);
+        assertPositions(false, sourceId, -1, 1, 2, 1, 3, 1);
+        assertPositions(false, null, 1, 1, 1, 1, 1, 1_024);
+
+        Assert.assertEquals(SourceInformation.NOT_PACKED, SourceInformation.packPositions(5, 1, 4, 1, 7, 1));
+        Assert.assertThrows(IllegalArgumentException.class, () -> SourceInformation.fromPackedPositions(sourceId, SourceInformation.NOT_PACKED));
+    }
+
+    private void assertPositions(boolean expectPacked, String sourceId, int startLine, int startColumn, int line, int column, int endLine, int endColumn)
+    {
+        SourceInformation sourceInfo = new SourceInformation(sourceId, startLine, startColumn, line, column, endLine, endColumn);
+        Assert.assertEquals(expectPacked, sourceInfo.getPackedPositions() != SourceInformation.NOT_PACKED);
+        Assert.assertEquals(sourceInfo.getPackedPositions(), SourceInformation.packPositions(startLine, startColumn, line, column, endLine, endColumn));
+        Assert.assertSame(sourceId, sourceInfo.getSourceId());
+        Assert.assertEquals(startLine, sourceInfo.getStartLine());
+        Assert.assertEquals(startColumn, sourceInfo.getStartColumn());
+        Assert.assertEquals(line, sourceInfo.getLine());
+        Assert.assertEquals(column, sourceInfo.getColumn());
+        Assert.assertEquals(endLine, sourceInfo.getEndLine());
+        Assert.assertEquals(endColumn, sourceInfo.getEndColumn());
+        if (expectPacked)
+        {
+            SourceInformation fromPacked = SourceInformation.fromPackedPositions(sourceId, sourceInfo.getPackedPositions());
+            Assert.assertEquals(sourceInfo, fromPacked);
+            Assert.assertEquals(sourceInfo.hashCode(), fromPacked.hashCode());
+        }
+    }
+
     private void assertSubsumes(SourceInformation sourceInfo1, SourceInformation sourceInfo2)
     {
         assertSubsumes(true, sourceInfo1, sourceInfo2);
@@ -77,11 +77,11 @@ public class RootGraphFetchTreeProcessor extends Processor<RootGraphFetchTree<?>
 
         for (GraphFetchTree subTree : instance._subTrees())
         {
-            this.processPropertyGraphFetchTree((PropertyGraphFetchTree) subTree, _class, state, matcher, repository, processorSupport);
+            this.processPropertyGraphFetchTree((PropertyGraphFetchTree) subTree, _class, state, matcher, repository, context, processorSupport);
         }
     }
 
-    private void processPropertyGraphFetchTree(PropertyGraphFetchTree propertyGraphFetchTree, CoreInstance _class, ProcessorState state, Matcher matcher, ModelRepository repository, ProcessorSupport processorSupport)
+    private void processPropertyGraphFetchTree(PropertyGraphFetchTree propertyGraphFetchTree, CoreInstance _class, ProcessorState state, Matcher matcher, ModelRepository repository, Context context, ProcessorSupport processorSupport)
     {
         GenericType classifierGT = GenericTypeInstance.createPersistent(repository)
                 ._rawType((Type) processorSupport.package_getByUserPath(M2GraphPaths.PropertyGraphFetchTree));
@@ -133,7 +133,7 @@ public class RootGraphFetchTreeProcessor extends Processor<RootGraphFetchTree<?>
             firstParam._multiplicity((Multiplicity) processorSupport.package_getByUserPath(M3Paths.PureOne));
             MutableList<ValueSpecification> params = Lists.mutable.<ValueSpecification>with(firstParam).withAll(propertyGraphFetchTree._parameters());
 
-            ListIterable<QualifiedProperty<?>> qualifiedProperties = _Class.findQualifiedPropertiesUsingGeneralization(_class, propertyName, processorSupport);
+            ListIterable<QualifiedProperty<?>> qualifiedProperties = findQualifiedProperties(_class, propertyName, context, processorSupport);
             ListIterable<QualifiedProperty<?>> foundQualifiedProperties = FunctionExpressionMatcher.getFunctionMatches(qualifiedProperties, params, propertyName, propertyStubNonResolved.getSourceInformation(), true, processorSupport);
 
             if (foundQualifiedProperties.isEmpty())
@@ -167,7 +167,7 @@ public class RootGraphFetchTreeProcessor extends Processor<RootGraphFetchTree<?>
 
         for (GraphFetchTree subTree : propertyGraphFetchTree._subTrees())
         {
-            this.processPropertyGraphFetchTree((PropertyGraphFetchTree) subTree, returnType, state, matcher, repository, processorSupport);
+            this.processPropertyGraphFetchTree((PropertyGraphFetchTree) subTree, returnType, state, matcher, repository, context, processorSupport);
         }
 
         if (MilestoningFunctions.isGeneratedQualifiedProperty(property, processorSupport))
@@ -182,6 +182,15 @@ public class RootGraphFetchTreeProcessor extends Processor<RootGraphFetchTree<?>
         }
     }
 
+    @SuppressWarnings("unchecked")
+    private static ListIterable<QualifiedProperty<?>> findQualifiedProperties(CoreInstance _class, String propertyName, Context context, ProcessorSupport processorSupport)
+    {
+        // The same properties are typically fetched from the same classes by many trees, so the qualified properties
+        // of each class are grouped by name once and kept in the context until the class hierarchy changes
+        ListIterable<? extends CoreInstance> qualifiedProperties = context.getIfAbsentPutQualifiedPropertiesByName(_class, cls -> _Class.computeQualifiedPropertiesByName(cls, processorSupport)).get(propertyName);
+        return (ListIterable<QualifiedProperty<?>>) qualifiedProperties;
+    }
+
     private void throwMilestoningPropertyPathValidationException(AbstractProperty<?> property, SourceInformation souceInformation, ProcessorSupport processorSupport)
     {
         String noArgPropertyName = property._functionName();
@@ -69,7 +69,8 @@ public class RootGraphFetchTreeValidator implements MatchRunner<RootGraphFetchTr
     private void validatePropertyGraphFetchTrees(PropertyGraphFetchTree propertyGraphFetchTree, ProcessorSupport processorSupport, Function<CoreInstance, CoreInstance> extractGenericTypeFunction)
     {
         AbstractProperty<?> property = (AbstractProperty<?>) ImportStub.withImportStubByPass(propertyGraphFetchTree._propertyCoreInstance(), processorSupport);
-        RichIterable<? extends VariableExpression> valueSpecifications = ((FunctionType) processorSupport.function_getFunctionType(property))._parameters();
+        FunctionType functionType = (FunctionType) processorSupport.function_getFunctionType(property);
+        RichIterable<? extends VariableExpression> valueSpecifications = functionType._parameters();
         ListIterable<? extends VariableExpression> parameterSpecifications = valueSpecifications.toList().subList(1, valueSpecifications.size());
         ListIterable<? extends ValueSpecification> parameters = propertyGraphFetchTree._parameters().toList();
 
@@ -102,7 +103,6 @@ public class RootGraphFetchTreeValidator implements MatchRunner<RootGraphFetchTr
             i++;
         }
 
-        FunctionType functionType = (FunctionType) processorSupport.function_getFunctionType(property);
         CoreInstance returnType = ImportStub.withImportStubByPass(functionType._returnType()._rawTypeCoreInstance(), processorSupport);
         CoreInstance subTypeClass = ImportStub.withImportStubByPass(propertyGraphFetchTree._subTypeCoreInstance(), processorSupport);
         if (subTypeClass != null)
@@ -14,10 +14,13 @@
 
 package org.finos.legend.pure.m2.inlinedsl.graph.validator;
 
+import org.eclipse.collections.api.factory.Sets;
+import org.eclipse.collections.api.set.MutableSet;
 import org.finos.legend.pure.m2.inlinedsl.graph.M2GraphPaths;
 import org.finos.legend.pure.m3.compiler.Context;
 import org.finos.legend.pure.m3.compiler.validation.ValidatorState;
 import org.finos.legend.pure.m3.compiler.validation.VisibilityValidation;
+import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.extension.ElementWithStereotypes;
 import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.function.property.AbstractProperty;
 import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.type.Class;
 import org.finos.legend.pure.m3.navigation.Instance;
@@ -25,6 +28,7 @@ import org.finos.legend.pure.m3.navigation.M3Properties;
 import org.finos.legend.pure.m3.navigation.ProcessorSupport;
 import org.finos.legend.pure.m3.serialization.grammar.m3parser.inlinedsl.VisibilityValidator;
 import org.finos.legend.pure.m4.coreinstance.CoreInstance;
+import org.finos.legend.pure.m4.coreinstance.SourceInformation;
 import org.finos.legend.pure.m4.exception.PureCompilationException;
 
 public class RootGraphFetchTreeVisibilityValidator implements VisibilityValidator
@@ -41,18 +45,29 @@ public class RootGraphFetchTreeVisibilityValidator implements VisibilityValidato
     //TODO: move to m2-graph
     private static void validateRootGraphFetchTree(CoreInstance rootTree, CoreInstance pkg, String sourceId, Context context, ValidatorState validatorState, ProcessorSupport processorSupport) throws PureCompilationException
     {
-        VisibilityValidation.validatePackageAndSourceVisibility(rootTree.getValueForMetaPropertyToOne(M3Properties._class).getSourceInformation(), pkg, sourceId, context, validatorState, processorSupport, (Class<?>) Instance.getValueForMetaPropertyToOneResolved(rootTree, M3Properties._class, processorSupport));
-        Instance.getValueForMetaPropertyToManyResolved(rootTree, "subTrees", processorSupport).forEach(subTree -> validatePropertyGraphFetchTree(subTree, pkg, sourceId, context, validatorState, processorSupport));
+        // The same classes and properties are often fetched many times in a tree, and their visibility from this
+        // package and source only needs to be checked at their first occurrence
+        MutableSet<CoreInstance> validated = Sets.mutable.empty();
+        validateVisibility(rootTree.getValueForMetaPropertyToOne(M3Properties._class).getSourceInformation(), pkg, sourceId, context, validatorState, processorSupport, (Class<?>) Instance.getValueForMetaPropertyToOneResolved(rootTree, M3Properties._class, processorSupport), validated);
+        Instance.getValueForMetaPropertyToManyResolved(rootTree, "subTrees", processorSupport).forEach(subTree -> validatePropertyGraphFetchTree(subTree, pkg, sourceId, context, validatorState, processorSupport, validated));
     }
 
-    private static void validatePropertyGraphFetchTree(CoreInstance propertyTree, CoreInstance pkg, String sourceId, Context context, ValidatorState validatorState, ProcessorSupport processorSupport) throws PureCompilationException
+    private static void validatePropertyGraphFetchTree(CoreInstance propertyTree, CoreInstance pkg, String sourceId, Context context, ValidatorState validatorState, ProcessorSupport processorSupport, MutableSet<CoreInstance> validated) throws PureCompilationException
     {
-        VisibilityValidation.validatePackageAndSourceVisibility(propertyTree.getValueForMetaPropertyToOne(M3Properties.property).getSourceInformation(), pkg, sourceId, context, validatorState, processorSupport, (AbstractProperty<?>) Instance.getValueForMetaPropertyToOneResolved(propertyTree, M3Properties.property, processorSupport));
+        validateVisibility(propertyTree.getValueForMetaPropertyToOne(M3Properties.property).getSourceInformation(), pkg, sourceId, context, validatorState, processorSupport, (AbstractProperty<?>) Instance.getValueForMetaPropertyToOneResolved(propertyTree, M3Properties.property, processorSupport), validated);
         CoreInstance subTypeClass = Instance.getValueForMetaPropertyToOneResolved(propertyTree, "subType", processorSupport);
         if (subTypeClass != null)
         {
-            VisibilityValidation.validatePackageAndSourceVisibility(propertyTree.getValueForMetaPropertyToOne("subType").getSourceInformation(), pkg, sourceId, context, validatorState, processorSupport, (Class<?>) subTypeClass);
+            validateVisibility(propertyTree.getValueForMetaPropertyToOne("subType").getSourceInformation(), pkg, sourceId, context, validatorState, processorSupport, (Class<?>) subTypeClass, validated);
+        }
+        Instance.getValueForMetaPropertyToManyResolved(propertyTree, "subTrees", processorSupport).forEach(subTree -> validatePropertyGraphFetchTree(subTree, pkg, sourceId, context, validatorState, processorSupport, validated));
+    }
+
+    private static void validateVisibility(SourceInformation sourceInformationForError, CoreInstance pkg, String sourceId, Context context, ValidatorState validatorState, ProcessorSupport processorSupport, ElementWithStereotypes element, MutableSet<CoreInstance> validated) throws PureCompilationException
+    {
+        if (validated.add(element))
+        {
+            VisibilityValidation.validatePackageAndSourceVisibility(sourceInformationForError, pkg, sourceId, context, validatorState, processorSupport, element);
         }
-        Instance.getValueForMetaPropertyToManyResolved(propertyTree, "subTrees", processorSupport).forEach(subTree -> validatePropertyGraphFetchTree(subTree, pkg, sourceId, context, validatorState, processorSupport));
     }
 }
@@ -385,4 +385,48 @@ public class TestGraphDSLCompilation extends AbstractPureTestWithCoreCompiled
                         "}\n");
         runtime.compile();
     }
+
+    @Test
+    public void testQualifiedPropertiesAfterClassChange()
+    {
+        runtime.createInMemorySource("file.pure",
+                "Class LegalEntity\n" +
+                        "{\n" +
+                        "    name : String[1];\n" +
+                        "    nameWithTitle(title:String[1]){$title+' '+$this.name}:String[1];\n" +
+                        "}\n" +
+                        "Class Person extends LegalEntity\n" +
+                        "{\n" +
+                        "}\n");
+
+        runtime.createInMemorySource("function.pure",
+                "function test():Any[*]\n" +
+                        "{\n" +
+                        "    print(#{Person{nameWithTitle('Dr')}}#,2);\n" +
+                        "    print(#{LegalEntity{nameWithTitle('Mr')}}#,2);\n" +
+                        "    print(#{Person{name, nameWithTitle('Ms')}}#,2);\n" +
+                        "}\n");
+        runtime.compile();
+
+        runtime.modify("function.pure",
+                "function test():Any[*]\n" +
+                        "{\n" +
+                        "    print(#{Person{nameWithTitle('Dr')}}#,2);\n" +
+                        "    print(#{Person{nameWithTitle('Dr', 'PhD')}}#,2);\n" +
+                        "}\n");
+        PureCompilationException e = Assert.assertThrows(PureCompilationException.class, runtime::compile);
+        Assert.assertEquals("Compilation error at (resource:function.pure line:4 column:20), \"The system can't find a match for the property / qualified property: nameWithTitle(_:String[1],_:String[1])\"", e.getMessage());
+
+        runtime.modify("file.pure",
+                "Class LegalEntity\n" +
+                        "{\n" +
+                        "    name : String[1];\n" +
+                        "    nameWithTitle(title:String[1]){$title+' '+$this.name}:String[1];\n" +
+                        "    nameWithTitle(title:String[1], suffix:String[1]){$title+' '+$this.name+', '+$suffix}:String[1];\n" +
+                        "}\n" +
+                        "Class Person extends LegalEntity\n" +
+                        "{\n" +
+                        "}\n");
+        runtime.compile();
+    }
 }
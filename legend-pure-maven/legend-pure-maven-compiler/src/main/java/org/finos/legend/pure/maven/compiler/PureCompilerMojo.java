@@ -31,8 +31,8 @@ import org.apache.maven.project.ProjectDependenciesResolver;
 import org.eclipse.aether.RepositorySystemSession;
 import org.eclipse.aether.graph.DependencyFilter;
 import org.eclipse.aether.util.filter.ScopeDependencyFilter;
+import org.finos.legend.pure.m3.generator.GenerationFingerprints;
 import org.finos.legend.pure.m3.generator.compiler.PureCompilerBinaryGenerator;
-import org.finos.legend.pure.m3.serialization.filesystem.repository.CodeRepository;
 import org.finos.legend.pure.m3.serialization.filesystem.repository.GenericCodeRepository;
 import org.finos.legend.pure.m4.exception.PureCompilationException;
 import org.finos.legend.pure.m4.serialization.grammar.antlr.PureParserException;
@@ -78,6 +78,16 @@ public class PureCompilerMojo extends AbstractMojo
     @Parameter
     private String dependencyScope;
 
+    /**
+     * Whether to skip serializing repositories whose inputs (sources, classpath, and configuration) have not changed
+     * since they were last serialized.
+     */
+    @Parameter(defaultValue = "true")
+    private boolean skipIfUpToDate;
+
+    @Parameter(readonly = true, required = true, defaultValue = "${project.build.directory}")
+    private File projectBuildDirectory;
+
     @Parameter(readonly = true, required = true, defaultValue = "${project.build.outputDirectory}")
     private File projectOutputDirectory;
 
@@ -115,9 +125,14 @@ public class PureCompilerMojo extends AbstractMojo
         }
         getLog().debug("Resolved repositories: " + ((resolvedRepos == null) ? "<all>" : String.join(", ", resolvedRepos)));
 
-        try (URLClassLoader classLoader = new URLClassLoader(getDependencyURLs(resolvedDependencyScope), Thread.currentThread().getContextClassLoader()))
+        try
         {
-            PureCompilerBinaryGenerator.serializeModules(resolvedOutputDir.toPath(), classLoader, resolvedRepos, this.excludedRepositories);
+            List<File> classpath = getDependencyClasspath(resolvedDependencyScope);
+            GenerationFingerprints fingerprints = this.skipIfUpToDate ? loadFingerprints(resolvedOutputDir, resolvedRepos, resolvedDependencyScope, classpath) : null;
+            try (URLClassLoader classLoader = new URLClassLoader(classpath.stream().map(PureCompilerMojo::toURL).toArray(URL[]::new), Thread.currentThread().getContextClassLoader()))
+            {
+                PureCompilerBinaryGenerator.serializeModules(resolvedOutputDir.toPath(), classLoader, resolvedRepos, this.excludedRepositories, fingerprints);
+            }
         }
         catch (MojoExecutionException e)
         {
@@ -207,12 +222,16 @@ public class PureCompilerMojo extends AbstractMojo
     }
 
     private void forEachRepoDefinition(Path directory, Consumer<? super String> consumer)
+    {
+        forEachRepoDefinitionFile(directory, file -> consumer.accept(GenericCodeRepository.build(file).getName()));
+    }
+
+    private void forEachRepoDefinitionFile(Path directory, Consumer<? super Path> consumer)
     {
         try (Stream<Path> files = Files.list(directory))
         {
             files.filter(f -> f.toString().endsWith(".definition.json"))
-                    .map(GenericCodeRepository::build)
-                    .map(CodeRepository::getName)
+                    .sorted()
                     .forEach(consumer);
         }
         catch (IOException e)
@@ -221,7 +240,36 @@ public class PureCompilerMojo extends AbstractMojo
         }
     }
 
-    private URL[] getDependencyURLs(String resolvedDependencyScope) throws DependencyResolutionException, MojoExecutionException
+    private GenerationFingerprints loadFingerprints(File resolvedOutputDir, Set<String> resolvedRepos, String resolvedDependencyScope, List<File> classpath)
+    {
+        GenerationFingerprints.Hasher hasher = GenerationFingerprints.newHasher()
+                .withString(this.execution.getMojoDescriptor().getPluginDescriptor().getVersion())
+                .withString(resolvedOutputDir.getAbsolutePath())
+                .withStrings(resolvedRepos)
+                .withStrings(this.excludedRepositories)
+                .withString(resolvedDependencyScope);
+        // the project's own output directories also hold what this goal generates, so only repository definitions
+        // are taken from them: their Pure sources are fingerprinted separately for each repository
+        classpath.forEach(file ->
+        {
+            if (file.equals(this.projectOutputDirectory) || file.equals(this.projectTestOutputDirectory))
+            {
+                if (file.isDirectory())
+                {
+                    forEachRepoDefinitionFile(file.toPath(), hasher::withFileStamp);
+                }
+            }
+            else
+            {
+                hasher.withFileStamp(file);
+            }
+        });
+        Path fingerprintFile = this.projectBuildDirectory.toPath().resolve("pure-compiler").resolve(this.execution.getExecutionId() + ".fingerprints");
+        getLog().debug("Fingerprint file: " + fingerprintFile);
+        return GenerationFingerprints.load(fingerprintFile, hasher.getFingerprint());
+    }
+
+    private List<File> getDependencyClasspath(String resolvedDependencyScope) throws DependencyResolutionException, MojoExecutionException
     {
         DependencyResolutionRequest request = new DefaultDependencyResolutionRequest(this.mavenProject, this.mavenRepoSession)
                 .setResolutionFilter(getDependencyFilter(resolvedDependencyScope));
@@ -232,7 +280,7 @@ public class PureCompilerMojo extends AbstractMojo
             classpath.add(this.projectTestOutputDirectory);
         }
         this.mavenProjectDependenciesResolver.resolve(request).getDependencies().forEach(dep -> classpath.add(dep.getArtifact().getFile()));
-        return classpath.stream().map(PureCompilerMojo::toURL).toArray(URL[]::new);
+        return classpath;
     }
 
     private DependencyFilter getDependencyFilter(String resolvedDependencyScope) throws MojoExecutionException
@@ -82,6 +82,20 @@ public class PureCompiledJarMojo extends AbstractMojo
     @Parameter(defaultValue = "true")
     private boolean generatePureTests;
 
+    /**
+     * If positive, Java code generation is pipelined with compilation and writing, with at most this many generated
+     * groups waiting to be compiled at any time. If zero, each phase completes before the next begins.
+     */
+    @Parameter(defaultValue = "0")
+    private int pipelineWindow;
+
+    /**
+     * If true, the generated code records which Pure functions are executed. Coverage is written when the JVM exits
+     * to the directory given by the functionExecutionCompiledCoverageDirectory system property, if set.
+     */
+    @Parameter(defaultValue = "false")
+    private boolean codeCoverage;
+
     @Override
     public void execute() throws MojoExecutionException
     {
@@ -123,7 +137,7 @@ public class PureCompiledJarMojo extends AbstractMojo
         try (URLClassLoader cl = this.buildClassLoader(this.project, savedClassLoader, log))
         {
             Thread.currentThread().setContextClassLoader(cl);
-            JavaCodeGeneration.doIt(repositories, excludedRepositories, extraRepositories, generationType, skip, addExternalAPI, externalAPIPackage, generateMetadata, useSingleDir, generateSources, false, preventJavaCompilation, classesDirectory, targetDirectory, generatePureTests, log);
+            JavaCodeGeneration.doIt(repositories, excludedRepositories, extraRepositories, generationType, skip, addExternalAPI, externalAPIPackage, generateMetadata, useSingleDir, generateSources, false, preventJavaCompilation, classesDirectory, targetDirectory, generatePureTests, pipelineWindow, codeCoverage, log);
         }
         catch (Exception e)
         {
@@ -18,10 +18,16 @@ import org.apache.maven.plugin.AbstractMojo;
 import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugins.annotations.Mojo;
 import org.apache.maven.plugins.annotations.Parameter;
+import org.finos.legend.pure.m3.generator.GenerationFingerprints;
 import org.finos.legend.pure.m3.generator.Log;
 import org.finos.legend.pure.m3.generator.par.PureJarGenerator;
 
 import java.io.File;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.Set;
 
 @Mojo(name = "build-pure-jar", threadSafe = true)
@@ -48,6 +54,22 @@ public class PureJarMojo extends AbstractMojo
     @Parameter
     private Set<String> extraRepositories;
 
+    /**
+     * Whether to skip generating PAR files for repositories whose inputs (sources, classpath, and configuration) have
+     * not changed since they were last generated.
+     */
+    @Parameter(defaultValue = "true")
+    private boolean skipIfUpToDate;
+
+    @Parameter(readonly = true, defaultValue = "${project.build.directory}")
+    private File projectBuildDirectory;
+
+    @Parameter(readonly = true, defaultValue = "${mojoExecution.executionId}")
+    private String executionId;
+
+    @Parameter(readonly = true, defaultValue = "${plugin.version}")
+    private String pluginVersion;
+
     @Override
     public void execute() throws MojoExecutionException
     {
@@ -60,6 +82,7 @@ public class PureJarMojo extends AbstractMojo
                     this.modelVersion,
                     this.sourceDirectory,
                     this.outputDirectory,
+                    this.skipIfUpToDate ? loadFingerprints() : null,
                     new Log()
                     {
                         @Override
@@ -89,5 +112,51 @@ public class PureJarMojo extends AbstractMojo
         }
     }
 
-
+    private GenerationFingerprints loadFingerprints()
+    {
+        GenerationFingerprints.Hasher hasher = GenerationFingerprints.newHasher()
+                .withString(this.pluginVersion)
+                .withString(this.purePlatformVersion)
+                .withString(this.modelVersion)
+                .withStrings(this.repositories)
+                .withStrings(this.excludedRepositories)
+                .withStrings(this.extraRepositories)
+                .withString((this.sourceDirectory == null) ? null : this.sourceDirectory.getAbsolutePath())
+                .withString(this.outputDirectory.getAbsolutePath());
+        if (this.extraRepositories != null)
+        {
+            this.extraRepositories.stream().map(File::new).filter(File::isFile).forEach(hasher::withFileStamp);
+        }
+        // repositories are resolved from the plugin's class path
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        if (classLoader instanceof URLClassLoader)
+        {
+            for (URL url : ((URLClassLoader) classLoader).getURLs())
+            {
+                if ("file".equals(url.getProtocol()))
+                {
+                    try
+                    {
+                        hasher.withFileStamp(Paths.get(url.toURI()));
+                    }
+                    catch (URISyntaxException e)
+                    {
+                        hasher.withString(url.toString());
+                    }
+                }
+                else
+                {
+                    hasher.withString(url.toString());
+                }
+            }
+        }
+        else
+        {
+            // cannot tell what is on the class path, so never consider anything up to date
+            hasher.withLong(System.nanoTime());
+        }
+        Path fingerprintFile = this.projectBuildDirectory.toPath().resolve("pure-par").resolve(this.executionId + ".fingerprints");
+        getLog().debug("Fingerprint file: " + fingerprintFile);
+        return GenerationFingerprints.load(fingerprintFile, hasher.getFingerprint());
+    }
 }
@@ -43,6 +43,13 @@ public class GeneratePCTReport extends AbstractMojo
     @Parameter()
     private Set<String> PCTTestSuites;
 
+    /**
+     * Number of threads to use to generate the reports: 0 to use the number of available processors, 1 to generate
+     * serially.
+     */
+    @Parameter(defaultValue = "0")
+    private int parallelism;
+
     @Override
     public void execute() throws MojoExecutionException
     {
@@ -65,13 +72,14 @@ public class GeneratePCTReport extends AbstractMojo
                     throw new MojoExecutionException("PCT test class not found: " + testClass);
                 }
             }
+            int threads = (parallelism > 0) ? parallelism : Runtime.getRuntime().availableProcessors();
             if (mode.equals(Mode.Compiled))
             {
-                PCTReportGenerator.generateCompiled(targetDir, Lists.mutable.withAll(PCTTestSuites));
+                PCTReportGenerator.generateCompiled(targetDir, Lists.mutable.withAll(PCTTestSuites), threads);
             }
             else
             {
-                org.finos.legend.pure.runtime.java.interpreted.testHelper.PCTReportGenerator.generateInterpreted(targetDir, Lists.mutable.withAll(PCTTestSuites));
+                org.finos.legend.pure.runtime.java.interpreted.testHelper.PCTReportGenerator.generateInterpreted(targetDir, Lists.mutable.withAll(PCTTestSuites), threads);
             }
         }
         catch (Exception e)
@@ -62,6 +62,7 @@ import org.finos.legend.pure.runtime.java.compiled.execution.CompiledExecutionSu
 import org.finos.legend.pure.runtime.java.compiled.generation.processors.support.Bridge;
 import org.finos.legend.pure.runtime.java.compiled.generation.processors.support.CompiledSupport;
 import org.finos.legend.pure.runtime.java.compiled.generation.processors.support.Pure;
+import org.finos.legend.pure.runtime.java.compiled.generation.processors.support.collection.PersistentList;
 import org.finos.legend.pure.runtime.java.compiled.generation.processors.support.map.PureEqualsHashingStrategy;
 import org.finos.legend.pure.runtime.java.compiled.generation.processors.support.map.PureMap;
 import org.finos.legend.pure.runtime.java.compiled.generation.processors.type.FullJavaPaths;
@@ -647,6 +648,10 @@ public class CoreHelper
         }
 
         int end = (int) number;
+        if (list instanceof PersistentList)
+        {
+            return ((PersistentList<T>) list).slice(0, end);
+        }
         if (list instanceof ListIterable)
         {
             return ((ListIterable<T>) list).subList(0, end);
@@ -683,6 +688,10 @@ public class CoreHelper
         }
 
         int toDrop = (int) number;
+        if (list instanceof PersistentList)
+        {
+            return ((PersistentList<T>) list).slice(toDrop, size);
+        }
         if (list instanceof ListIterable)
         {
             return ((ListIterable<T>) list).subList(toDrop, size);
@@ -765,7 +774,10 @@ public class CoreHelper
             throw new PureExecutionException(sourceInformation, "The low bound (" + start + ") can't be higher than the high bound (" + end + ") in a slice operation", Stacks.mutable.empty());
         }
 
-
+        if (collection instanceof PersistentList)
+        {
+            return ((PersistentList<T>) collection).slice(start, end);
+        }
         if (collection instanceof ListIterable)
         {
             return ((ListIterable<T>) collection).subList(start, end);
@@ -522,8 +522,16 @@ public class CompiledProcessorSupport implements ProcessorSupport
     @Override
     public boolean type_subTypeOf(CoreInstance type, CoreInstance possibleSuperType)
     {
-        //todo - optimize
-        return Type.subTypeOf(type, possibleSuperType, this);
+        return (type == possibleSuperType) ||
+                (type == type_BottomType()) ||
+                (possibleSuperType == type_TopType()) ||
+                this.context.getIfAbsentPutTypeGeneralizationSet(type, t -> Sets.immutable.withAll(Type.getGeneralizationResolutionOrder(t, this))).contains(possibleSuperType);
+    }
+
+    @Override
+    public boolean genericType_isCompatibleWith(CoreInstance genericType, CoreInstance otherGenericType, boolean covariant)
+    {
+        return org.finos.legend.pure.m3.navigation.generictype.GenericType.isGenericCompatibleWith(genericType, otherGenericType, covariant, this.context, this);
     }
 
     @Override
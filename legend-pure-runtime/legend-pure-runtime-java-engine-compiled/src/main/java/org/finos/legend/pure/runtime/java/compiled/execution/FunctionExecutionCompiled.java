@@ -99,14 +99,16 @@ public class FunctionExecutionCompiled implements FunctionExecution, PureRuntime
     private PureRuntime runtime;
 
     private final boolean includePureStackTrace;
+    private final boolean includeCodeCoverageProbes;
 
     private Metadata providedMetadata = null;
 
-    private FunctionExecutionCompiled(ExecutionActivityListener executionActivityListener, JavaCompilerEventObserver javaCompilerEventObserver, boolean includePureStackTrace, MutableList<CompiledExtension> extensions)
+    private FunctionExecutionCompiled(ExecutionActivityListener executionActivityListener, JavaCompilerEventObserver javaCompilerEventObserver, boolean includePureStackTrace, boolean includeCodeCoverageProbes, MutableList<CompiledExtension> extensions)
     {
         this.executionActivityListener = executionActivityListener;
         this.javaCompilerEventObserver = (javaCompilerEventObserver == null) ? VoidJavaCompilerEventObserver.VOID_JAVA_COMPILER_EVENT_OBSERVER : javaCompilerEventObserver;
         this.includePureStackTrace = includePureStackTrace;
+        this.includeCodeCoverageProbes = includeCodeCoverageProbes;
         this.extensions = extensions;
     }
 
@@ -117,7 +119,7 @@ public class FunctionExecutionCompiled implements FunctionExecution, PureRuntime
         this.repository = runtime.getModelRepository();
         this.context = runtime.getContext();
         this.sourceRegistry = runtime.getSourceRegistry();
-        this.javaCompilerEventHandler = new JavaCompilerEventHandler(runtime, message, this.includePureStackTrace, this.javaCompilerEventObserver, this.extensions);
+        this.javaCompilerEventHandler = new JavaCompilerEventHandler(runtime, message, this.includePureStackTrace, this.includeCodeCoverageProbes, this.javaCompilerEventObserver, this.extensions);
         this.metadataCompilerEventHandler = new MetadataEagerCompilerEventHandler(runtime.getModelRepository(), getMetadataEventObserver(), message, runtime.getProcessorSupport());
 
         runtime.addEventHandler(this);
@@ -541,6 +543,11 @@ public class FunctionExecutionCompiled implements FunctionExecution, PureRuntime
 
     static FunctionExecutionCompiled createFunctionExecutionCompiled(ExecutionActivityListener executionActivityListener, boolean includePureStackTrace, JavaCompilerEventObserver javaCompilerEventObserver)
     {
-        return new FunctionExecutionCompiled(executionActivityListener, javaCompilerEventObserver, includePureStackTrace, CompiledExtensionLoader.extensions());
+        return createFunctionExecutionCompiled(executionActivityListener, includePureStackTrace, false, javaCompilerEventObserver);
+    }
+
+    static FunctionExecutionCompiled createFunctionExecutionCompiled(ExecutionActivityListener executionActivityListener, boolean includePureStackTrace, boolean includeCodeCoverageProbes, JavaCompilerEventObserver javaCompilerEventObserver)
+    {
+        return new FunctionExecutionCompiled(executionActivityListener, javaCompilerEventObserver, includePureStackTrace, includeCodeCoverageProbes, CompiledExtensionLoader.extensions());
     }
 }
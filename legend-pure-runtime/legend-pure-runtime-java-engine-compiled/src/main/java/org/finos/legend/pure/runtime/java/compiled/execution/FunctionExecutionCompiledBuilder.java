@@ -16,6 +16,7 @@ package org.finos.legend.pure.runtime.java.compiled.execution;
 
 import org.finos.legend.pure.m3.statelistener.ExecutionActivityListener;
 import org.finos.legend.pure.m3.statelistener.VoidExecutionActivityListener;
+import org.finos.legend.pure.runtime.java.compiled.generation.processors.support.CodeCoverageProbes;
 import org.finos.legend.pure.runtime.java.compiled.statelistener.JavaCompilerEventObserver;
 import org.finos.legend.pure.runtime.java.compiled.statelistener.VoidJavaCompilerEventObserver;
 
@@ -25,6 +26,7 @@ import org.finos.legend.pure.runtime.java.compiled.statelistener.VoidJavaCompile
 public class FunctionExecutionCompiledBuilder
 {
     private boolean includePureStackTrace = false;
+    private boolean includeCodeCoverageProbes = false;
 
     private ExecutionActivityListener executionActivityListener = VoidExecutionActivityListener.VOID_EXECUTION_ACTIVITY_LISTENER;
     private JavaCompilerEventObserver javaCompilerEventObserver = VoidJavaCompilerEventObserver.VOID_JAVA_COMPILER_EVENT_OBSERVER;
@@ -41,6 +43,22 @@ public class FunctionExecutionCompiledBuilder
         return this;
     }
 
+    /**
+     * Include probes in the generated code which record which Pure functions are executed. See
+     * {@link CodeCoverageProbes}.
+     */
+    public FunctionExecutionCompiledBuilder shouldIncludeCodeCoverageProbes()
+    {
+        this.includeCodeCoverageProbes = true;
+        return this;
+    }
+
+    public FunctionExecutionCompiledBuilder shouldIncludeCodeCoverageProbes(boolean value)
+    {
+        this.includeCodeCoverageProbes = value;
+        return this;
+    }
+
     public FunctionExecutionCompiledBuilder withExecutionListener(ExecutionActivityListener executionListener)
     {
         this.executionActivityListener = executionListener;
@@ -55,6 +73,6 @@ public class FunctionExecutionCompiledBuilder
 
     public FunctionExecutionCompiled build()
     {
-        return FunctionExecutionCompiled.createFunctionExecutionCompiled(this.executionActivityListener, this.includePureStackTrace, this.javaCompilerEventObserver);
+        return FunctionExecutionCompiled.createFunctionExecutionCompiled(this.executionActivityListener, this.includePureStackTrace, this.includeCodeCoverageProbes, this.javaCompilerEventObserver);
     }
 }
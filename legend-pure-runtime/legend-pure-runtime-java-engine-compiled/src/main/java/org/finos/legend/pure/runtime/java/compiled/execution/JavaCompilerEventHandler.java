@@ -46,6 +46,7 @@ public class JavaCompilerEventHandler implements CompilerEventHandler
     private final Message message;
 
     private final boolean includePureStackTrace;
+    private final boolean includeCodeCoverageProbes;
 
     //Lifecycle of the compiled graph - clear each time we recompile
     private ClassCache classCache;
@@ -57,7 +58,7 @@ public class JavaCompilerEventHandler implements CompilerEventHandler
 
     private final Iterable<? extends CompiledExtension> extensions;
 
-    private JavaCompilerEventHandler(ProcessorSupport processorSupport, RepositoryCodeStorage codeStorage, Message message, boolean includePureStackTrace, JavaCompilerEventObserver observer, Iterable<? extends CompiledExtension> extensions)
+    private JavaCompilerEventHandler(ProcessorSupport processorSupport, RepositoryCodeStorage codeStorage, Message message, boolean includePureStackTrace, boolean includeCodeCoverageProbes, JavaCompilerEventObserver observer, Iterable<? extends CompiledExtension> extensions)
     {
         this.processorSupport = processorSupport;
         this.codeStorage = codeStorage;
@@ -67,12 +68,18 @@ public class JavaCompilerEventHandler implements CompilerEventHandler
         this.classCache = new ClassCache(this.generateAndCompile.getPureJavaCompiler().getClassLoader(), processorSupport);
         this.sharedFunctionCache = new FunctionCache(this.classCache);
         this.includePureStackTrace = includePureStackTrace;
+        this.includeCodeCoverageProbes = includeCodeCoverageProbes;
         this.extensions = extensions;
     }
 
     public JavaCompilerEventHandler(PureRuntime pureRuntime, Message message, boolean includePureStackTrace, JavaCompilerEventObserver observer, Iterable<? extends CompiledExtension> extensions)
     {
-        this(pureRuntime.getProcessorSupport(), pureRuntime.getCodeStorage(), message, includePureStackTrace, observer, extensions);
+        this(pureRuntime, message, includePureStackTrace, false, observer, extensions);
+    }
+
+    public JavaCompilerEventHandler(PureRuntime pureRuntime, Message message, boolean includePureStackTrace, boolean includeCodeCoverageProbes, JavaCompilerEventObserver observer, Iterable<? extends CompiledExtension> extensions)
+    {
+        this(pureRuntime.getProcessorSupport(), pureRuntime.getCodeStorage(), message, includePureStackTrace, includeCodeCoverageProbes, observer, extensions);
         if (pureRuntime.getCache() instanceof PreCompiledPureGraphCache)
         {
             this.javaGeneratedAndCompiled = true;
@@ -148,6 +155,6 @@ public class JavaCompilerEventHandler implements CompilerEventHandler
 
     private JavaSourceCodeGenerator getJavaSourceCodeGenerator()
     {
-        return new JavaSourceCodeGenerator(this.processorSupport, this.codeStorage, false, null, this.includePureStackTrace, this.extensions, "Dyna", JavaPackageAndImportBuilder.externalizablePackage(), false);
+        return new JavaSourceCodeGenerator(this.processorSupport, null, this.codeStorage, false, null, this.includePureStackTrace, this.includeCodeCoverageProbes, this.extensions, "Dyna", JavaPackageAndImportBuilder.externalizablePackage(), false);
     }
 }
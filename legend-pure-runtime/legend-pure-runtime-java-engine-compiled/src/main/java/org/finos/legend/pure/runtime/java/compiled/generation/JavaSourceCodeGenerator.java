@@ -14,6 +14,7 @@
 
 package org.finos.legend.pure.runtime.java.compiled.generation;
 
+import org.apache.commons.lang3.StringEscapeUtils;
 import org.eclipse.collections.api.RichIterable;
 import org.eclipse.collections.api.block.HashingStrategy;
 import org.eclipse.collections.api.factory.Lists;
@@ -44,6 +45,7 @@ import org.finos.legend.pure.m3.serialization.filesystem.usercodestorage.vcs.Ver
 import org.finos.legend.pure.m3.serialization.runtime.Source;
 import org.finos.legend.pure.m3.tools.JavaTools;
 import org.finos.legend.pure.m4.coreinstance.CoreInstance;
+import org.finos.legend.pure.m4.coreinstance.SourceInformation;
 import org.finos.legend.pure.m4.exception.PureCompilationException;
 import org.finos.legend.pure.m4.exception.PureException;
 import org.finos.legend.pure.runtime.java.compiled.compiler.StringJavaSource;
@@ -52,6 +54,7 @@ import org.finos.legend.pure.runtime.java.compiled.extension.CompiledExtensionLo
 import org.finos.legend.pure.runtime.java.compiled.generation.processors.ClassJsonFactoryProcessor;
 import org.finos.legend.pure.runtime.java.compiled.generation.processors.FunctionProcessor;
 import org.finos.legend.pure.runtime.java.compiled.generation.processors.IdBuilder;
+import org.finos.legend.pure.runtime.java.compiled.generation.processors.support.CodeCoverageProbes;
 import org.finos.legend.pure.runtime.java.compiled.generation.processors.type.EnumProcessor;
 import org.finos.legend.pure.runtime.java.compiled.generation.processors.type.ExtendedPrimitiveTypeProcessor;
 import org.finos.legend.pure.runtime.java.compiled.generation.processors.type.TypeProcessor;
@@ -71,6 +74,7 @@ import java.util.Comparator;
 public final class JavaSourceCodeGenerator
 {
     public static final String EXTERNAL_FUNCTIONS_CLASS_NAME = "PureExternal";
+    private static final int MAX_CODE_COVERAGE_RANGE_CHUNK_LENGTH = 32768;
 
     public static final String imports =
             "import org.eclipse.collections.api.LazyIterable;\n" +
@@ -150,6 +154,7 @@ public final class JavaSourceCodeGenerator
     private final String externalAPIPackage;
 
     private final boolean includePureStackTrace;
+    private final boolean includeCodeCoverageProbes;
     private final MutableSet<CoreInstance> processedClasses = Sets.mutable.empty();
     private final MutableSet<CoreInstance> platformEnumerations = Sets.mutable.empty();
     private final MutableSet<CoreInstance> javaSerializedClasses = Sets.mutable.empty();
@@ -157,7 +162,7 @@ public final class JavaSourceCodeGenerator
 
     private final String name;
 
-    public JavaSourceCodeGenerator(ProcessorSupport processorSupport, IdBuilder idBuilder, RepositoryCodeStorage codeStorage, boolean writeFilesToDisk, Path directoryToWriteFilesTo, boolean includePureStackTrace, Iterable<? extends CompiledExtension> providedExtensions, String name, String externalAPIPackage, boolean generateCompilerExtensionCode)
+    public JavaSourceCodeGenerator(ProcessorSupport processorSupport, IdBuilder idBuilder, RepositoryCodeStorage codeStorage, boolean writeFilesToDisk, Path directoryToWriteFilesTo, boolean includePureStackTrace, boolean includeCodeCoverageProbes, Iterable<? extends CompiledExtension> providedExtensions, String name, String externalAPIPackage, boolean generateCompilerExtensionCode)
     {
         this.name = name;
         this.processorSupport = processorSupport;
@@ -166,6 +171,7 @@ public final class JavaSourceCodeGenerator
         this.writeFilesToDisk = writeFilesToDisk;
         this.directoryToWriteFilesTo = directoryToWriteFilesTo;
         this.includePureStackTrace = includePureStackTrace;
+        this.includeCodeCoverageProbes = includeCodeCoverageProbes;
         this.externalAPIPackage = externalAPIPackage;
         this.extensions = new UnifiedSetWithHashingStrategy<>(new HashingStrategy<CompiledExtension>()
         {
@@ -183,6 +189,11 @@ public final class JavaSourceCodeGenerator
         }).withAll(CompiledExtensionLoader.extensions()).withAll(providedExtensions).toList();
     }
 
+    public JavaSourceCodeGenerator(ProcessorSupport processorSupport, IdBuilder idBuilder, RepositoryCodeStorage codeStorage, boolean writeFilesToDisk, Path directoryToWriteFilesTo, boolean includePureStackTrace, Iterable<? extends CompiledExtension> providedExtensions, String name, String externalAPIPackage, boolean generateCompilerExtensionCode)
+    {
+        this(processorSupport, idBuilder, codeStorage, writeFilesToDisk, directoryToWriteFilesTo, includePureStackTrace, false, providedExtensions, name, externalAPIPackage, generateCompilerExtensionCode);
+    }
+
     public JavaSourceCodeGenerator(ProcessorSupport processorSupport, RepositoryCodeStorage codeStorage, boolean writeFilesToDisk, Path directoryToWriteFilesTo, boolean includePureStackTrace, Iterable<? extends CompiledExtension> extensions, String name, String externalAPIPackage, boolean generateCompilerExtensionCode)
     {
         this(processorSupport, null, codeStorage, writeFilesToDisk, directoryToWriteFilesTo, includePureStackTrace, extensions, name, externalAPIPackage, generateCompilerExtensionCode);
@@ -196,7 +207,7 @@ public final class JavaSourceCodeGenerator
 
     public ProcessorContext getProcessorContext()
     {
-        return new ProcessorContext(this.processorSupport, this.extensions, this.idBuilder, this.includePureStackTrace);
+        return new ProcessorContext(this.processorSupport, this.extensions, this.idBuilder, this.includePureStackTrace, this.includeCodeCoverageProbes);
     }
 
     ListIterable<StringJavaSource> generateCode(Source source, CodeRepository codeRepository)
@@ -241,7 +252,7 @@ public final class JavaSourceCodeGenerator
     {
         CoreInstance root = this.processorSupport.package_getByUserPath("::");
 
-        ProcessorContext processorContext = new ProcessorContext(this.processorSupport, this.extensions, this.idBuilder, this.includePureStackTrace);
+        ProcessorContext processorContext = new ProcessorContext(this.processorSupport, this.extensions, this.idBuilder, this.includePureStackTrace, this.includeCodeCoverageProbes);
 
 
         toJava(this.processorSupport.repository_getTopLevel(M3Paths.Package), null, allTypes, processorContext);
@@ -348,7 +359,7 @@ public final class JavaSourceCodeGenerator
     {
         MutableList<String> externalizableFunctionCode = Lists.mutable.empty();
         CoreInstance functionClass = this.processorSupport.package_getByUserPath(M3Paths.Function);
-        ProcessorContext processorContext = new ProcessorContext(this.processorSupport, this.extensions, this.idBuilder, this.includePureStackTrace);
+        ProcessorContext processorContext = new ProcessorContext(this.processorSupport, this.extensions, this.idBuilder, this.includePureStackTrace, this.includeCodeCoverageProbes);
         AccessLevel.EXTERNALIZABLE.getStereotype(this.processorSupport).getValueForMetaPropertyToMany(M3Properties.modelElements).forEach(element ->
         {
             if (Instance.instanceOf(element, functionClass, this.processorSupport))
@@ -389,7 +400,7 @@ public final class JavaSourceCodeGenerator
         {
             processedSources.add(sourceId);
             javaClasses.add(StringJavaSource.newStringJavaSource(this.getFunctionPackageName(sourceId), sourceId, functionImports +
-                    this.buildFunctionClass(sourceId, processorContext.getFunctionDefinitionsForSource(sourceId), processorContext.getLambdaFunctionsForSource(sourceId), processorContext.getNativeLambdaFunctionsForSource(sourceId))));
+                    this.buildFunctionClass(sourceId, processorContext.getFunctionDefinitionsForSource(sourceId), processorContext.getLambdaFunctionsForSource(sourceId), processorContext.getNativeLambdaFunctionsForSource(sourceId), processorContext.getCodeCoverageProbesForSource(sourceId))));
         }
 
         for (String sourceId : processorContext.getSourcesWithLambdaFunctions())
@@ -397,7 +408,7 @@ public final class JavaSourceCodeGenerator
             if (processedSources.add(sourceId))
             {
                 javaClasses.add(StringJavaSource.newStringJavaSource(this.getFunctionPackageName(sourceId), sourceId, functionImports +
-                        this.buildFunctionClass(sourceId, null, processorContext.getLambdaFunctionsForSource(sourceId), processorContext.getNativeLambdaFunctionsForSource(sourceId))));
+                        this.buildFunctionClass(sourceId, null, processorContext.getLambdaFunctionsForSource(sourceId), processorContext.getNativeLambdaFunctionsForSource(sourceId), processorContext.getCodeCoverageProbesForSource(sourceId))));
             }
         }
 
@@ -406,7 +417,17 @@ public final class JavaSourceCodeGenerator
             if (processedSources.add(sourceId))
             {
                 javaClasses.add(StringJavaSource.newStringJavaSource(this.getFunctionPackageName(sourceId), sourceId, functionImports +
-                        this.buildFunctionClass(sourceId, null, null, processorContext.getNativeLambdaFunctionsForSource(sourceId))));
+                        this.buildFunctionClass(sourceId, null, null, processorContext.getNativeLambdaFunctionsForSource(sourceId), processorContext.getCodeCoverageProbesForSource(sourceId))));
+            }
+        }
+
+        // sources with probes for qualified properties only
+        for (String sourceId : processorContext.getSourcesWithCodeCoverageProbes())
+        {
+            if (processedSources.add(sourceId))
+            {
+                javaClasses.add(StringJavaSource.newStringJavaSource(this.getFunctionPackageName(sourceId), sourceId, functionImports +
+                        this.buildFunctionClass(sourceId, null, null, null, processorContext.getCodeCoverageProbesForSource(sourceId))));
             }
         }
 
@@ -484,7 +505,7 @@ public final class JavaSourceCodeGenerator
         }
     }
 
-    private String buildFunctionClass(String name, RichIterable<String> functionDefinitions, MapIterable<String, String> lambdaFunctions, MapIterable<String, String> nativeFunctions)
+    private String buildFunctionClass(String name, RichIterable<String> functionDefinitions, MapIterable<String, String> lambdaFunctions, MapIterable<String, String> nativeFunctions, ListIterable<SourceInformation> codeCoverageProbes)
     {
         StringBuilder staticBlockContent = new StringBuilder();
         StringBuilder helperMethodsContent = new StringBuilder();
@@ -540,11 +561,35 @@ public final class JavaSourceCodeGenerator
                 "public class " + name + "\n" +
                         "{\n" +
                         staticBlockContent.toString() +
+                        ((codeCoverageProbes == null) ? "" : buildCodeCoverageClass(codeCoverageProbes)) +
                         (functionDefinitions == null || functionDefinitions.isEmpty() ? "" : functionDefinitions.makeString("\n", "\n\n", "\n")) +
                         helperMethodsContent.toString() +
                         "}";
     }
 
+    private static String buildCodeCoverageClass(ListIterable<SourceInformation> codeCoverageProbes)
+    {
+        // the probe ranges are passed in chunks, to keep each string constant within the class file limit
+        MutableList<String> rangeChunks = Lists.mutable.empty();
+        StringBuilder rangeChunk = new StringBuilder();
+        codeCoverageProbes.forEach(sourceInfo ->
+        {
+            if (rangeChunk.length() > MAX_CODE_COVERAGE_RANGE_CHUNK_LENGTH)
+            {
+                rangeChunks.add(rangeChunk.toString());
+                rangeChunk.setLength(0);
+            }
+            CodeCoverageProbes.appendRange(rangeChunk, sourceInfo);
+        });
+        rangeChunks.add(rangeChunk.toString());
+
+        return "\n" +
+                "    public static final class " + ProcessorContext.CODE_COVERAGE_CLASS_NAME + "\n" +
+                "    {\n" +
+                "        public static final int[] probes = " + CodeCoverageProbes.class.getName() + ".register(\"" + StringEscapeUtils.escapeJava(codeCoverageProbes.getFirst().getSourceId()) + "\"" + rangeChunks.collect(c -> ", \"" + c + "\"").makeString("") + ");\n" +
+                "    }\n";
+    }
+
     private String buildExternalizableFunctionClass(RichIterable<String> functionDefinitions)
     {
         PartitionIterable<CodeRepository> sortedRepos = this.codeStorage.getAllRepositories().partition(p -> this.codeStorage.getOriginalCodeStorage(p) instanceof VersionControlledCodeStorage);
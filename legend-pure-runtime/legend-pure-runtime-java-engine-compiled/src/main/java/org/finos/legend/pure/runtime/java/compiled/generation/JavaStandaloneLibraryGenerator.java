@@ -35,6 +35,7 @@ import org.finos.legend.pure.runtime.java.compiled.compiler.StringJavaSource;
 import org.finos.legend.pure.runtime.java.compiled.extension.CompiledExtension;
 import org.finos.legend.pure.runtime.java.compiled.generation.orchestrator.Log;
 import org.finos.legend.pure.runtime.java.compiled.generation.processors.IdBuilder;
+import org.finos.legend.pure.runtime.java.compiled.generation.processors.support.CodeCoverageProbes;
 import org.finos.legend.pure.runtime.java.compiled.serialization.binary.DistributedBinaryGraphSerializer;
 import org.finos.legend.pure.runtime.java.compiled.statelistener.VoidJavaCompilerEventObserver;
 
@@ -44,6 +45,7 @@ import java.util.Set;
 import java.util.SortedMap;
 import java.util.TreeMap;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.jar.JarOutputStream;
 
 
@@ -55,8 +57,9 @@ public class JavaStandaloneLibraryGenerator
     private final String externalAPIPackage;
     private final Log log;
     private final boolean generatePureTests;
+    private final boolean includeCodeCoverageProbes;
 
-    private JavaStandaloneLibraryGenerator(PureRuntime runtime, Iterable<? extends CompiledExtension> extensions, boolean addExternalAPI, String externalAPIPackage, boolean generatePureTests, Log log)
+    private JavaStandaloneLibraryGenerator(PureRuntime runtime, Iterable<? extends CompiledExtension> extensions, boolean addExternalAPI, String externalAPIPackage, boolean generatePureTests, boolean includeCodeCoverageProbes, Log log)
     {
         this.runtime = runtime;
         this.extensions = extensions;
@@ -64,6 +67,7 @@ public class JavaStandaloneLibraryGenerator
         this.externalAPIPackage = externalAPIPackage;
         this.log = log;
         this.generatePureTests = generatePureTests;
+        this.includeCodeCoverageProbes = includeCodeCoverageProbes;
     }
 
     public PureJavaCompiler compile(String repo, boolean writeJavaSourcesToDisk, Path pathToWriteTo) throws PureJavaCompileException
@@ -126,6 +130,28 @@ public class JavaStandaloneLibraryGenerator
         return generateOnly(getSourcesToCompile(), modularMetadataIds, writeJavaSourcesToDisk, pathToWriteTo);
     }
 
+    /**
+     * Generate and compile Java code for all repositories, overlapping generation with compilation and writing the
+     * compiled classes to a directory as they are compiled. See {@link PipelinedGenerateAndCompile}.
+     *
+     * @param modularMetadataIds     whether to use modular metadata ids
+     * @param writeJavaSourcesToDisk whether to write the Java sources
+     * @param pathToWriteTo          directory to write the Java sources to
+     * @param classesDirectory       directory to write compiled classes to (may be null)
+     * @param maxGroupsInFlight      maximum number of generated groups waiting to be compiled
+     * @param afterGeneration        action to run once Java code generation is complete (may be null)
+     * @return Java compiler with the compiled classes
+     */
+    public PureJavaCompiler generateAndCompilePipelined(boolean modularMetadataIds, boolean writeJavaSourcesToDisk, Path pathToWriteTo, Path classesDirectory, int maxGroupsInFlight, Runnable afterGeneration) throws PureJavaCompileException
+    {
+        return generateAndCompilePipelined(getSourcesToCompile(), modularMetadataIds, writeJavaSourcesToDisk, pathToWriteTo, classesDirectory, maxGroupsInFlight, afterGeneration);
+    }
+
+    public PureJavaCompiler generateAndCompilePipelined(Iterable<String> repos, boolean modularMetadataIds, boolean writeJavaSourcesToDisk, Path pathToWriteTo, Path classesDirectory, int maxGroupsInFlight, Runnable afterGeneration) throws PureJavaCompileException
+    {
+        return generateAndCompilePipelined(getSourcesToCompile(repos), modularMetadataIds, writeJavaSourcesToDisk, pathToWriteTo, classesDirectory, maxGroupsInFlight, afterGeneration);
+    }
+
     public PureJavaCompiler compile() throws PureJavaCompileException
     {
         return compile(false, null);
@@ -253,10 +279,54 @@ public class JavaStandaloneLibraryGenerator
         return generate;
     }
 
+    private PureJavaCompiler generateAndCompilePipelined(SortedMap<String, MutableList<Source>> sourcesToCompile, boolean modularMetadataIds, boolean writeJavaSourcesToDisk, Path pathToWriteTo, Path classesDirectory, int maxGroupsInFlight, Runnable afterGeneration) throws PureJavaCompileException
+    {
+        PipelinedGenerateAndCompile pipeline = new PipelinedGenerateAndCompile(new Message("")
+        {
+            @Override
+            public void setMessage(String message)
+            {
+                if (!message.startsWith("Generating Java sources"))
+                {
+                    log.debug("  " + message);
+                }
+            }
+        }, maxGroupsInFlight, this.log);
+
+        if (!this.addExternalAPI)
+        {
+            log.debug("    Skipping External API generation");
+        }
+        if (modularMetadataIds)
+        {
+            // as in generateOnly, Pure tests are always generated with modular metadata ids
+            pipeline.generateAndCompile(sourcesToCompile, group -> getSourceCodeGenerator(group, writeJavaSourcesToDisk, pathToWriteTo), true,
+                    this.addExternalAPI ? () -> getSourceCodeGenerator(null, writeJavaSourcesToDisk, pathToWriteTo) : null, this.externalAPIPackage,
+                    afterGeneration, classesDirectory);
+        }
+        else
+        {
+            // the shared source code generator is created lazily, so that it is created on the generation thread
+            MutableList<JavaSourceCodeGenerator> javaSourceCodeGenerator = Lists.mutable.empty();
+            Supplier<JavaSourceCodeGenerator> generatorSupplier = () ->
+            {
+                if (javaSourceCodeGenerator.isEmpty())
+                {
+                    javaSourceCodeGenerator.add(getSourceCodeGenerator(null, writeJavaSourcesToDisk, pathToWriteTo));
+                }
+                return javaSourceCodeGenerator.get(0);
+            };
+            pipeline.generateAndCompile(sourcesToCompile, group -> generatorSupplier.get(), this.generatePureTests,
+                    this.addExternalAPI ? generatorSupplier : null, this.externalAPIPackage,
+                    afterGeneration, classesDirectory);
+        }
+        return pipeline.getPureJavaCompiler();
+    }
+
     private JavaSourceCodeGenerator getSourceCodeGenerator(String compileGroup, boolean writeJavaSourcesToDisk, Path pathToWriteTo)
     {
         IdBuilder idBuilder = DistributedBinaryGraphSerializer.newIdBuilder(compileGroup, this.runtime.getProcessorSupport());
-        JavaSourceCodeGenerator javaSourceCodeGenerator = new JavaSourceCodeGenerator(this.runtime.getProcessorSupport(), idBuilder, this.runtime.getCodeStorage(), writeJavaSourcesToDisk, pathToWriteTo, false, this.extensions, "UserCode", this.externalAPIPackage, false);
+        JavaSourceCodeGenerator javaSourceCodeGenerator = new JavaSourceCodeGenerator(this.runtime.getProcessorSupport(), idBuilder, this.runtime.getCodeStorage(), writeJavaSourcesToDisk, pathToWriteTo, false, this.includeCodeCoverageProbes, this.extensions, "UserCode", this.externalAPIPackage, false);
         javaSourceCodeGenerator.collectClassesToSerialize();
         return javaSourceCodeGenerator;
     }
@@ -316,12 +386,21 @@ public class JavaStandaloneLibraryGenerator
 
     public static JavaStandaloneLibraryGenerator newGenerator(PureRuntime runtime, Iterable<? extends CompiledExtension> extensions, boolean addExternalAPI, String externalAPIPackage, Log log)
     {
-        return new JavaStandaloneLibraryGenerator(runtime, extensions, addExternalAPI, externalAPIPackage, true, log);
+        return new JavaStandaloneLibraryGenerator(runtime, extensions, addExternalAPI, externalAPIPackage, true, false, log);
     }
 
     public static JavaStandaloneLibraryGenerator newGenerator(PureRuntime runtime, Iterable<? extends CompiledExtension> extensions, boolean addExternalAPI, String externalAPIPackage, boolean generatePureTests, Log log)
     {
-        return new JavaStandaloneLibraryGenerator(runtime, extensions, addExternalAPI, externalAPIPackage, generatePureTests, log);
+        return newGenerator(runtime, extensions, addExternalAPI, externalAPIPackage, generatePureTests, false, log);
+    }
+
+    /**
+     * Create a new generator. If code coverage probes are included, the generated code records which Pure functions
+     * are executed (see {@link CodeCoverageProbes}).
+     */
+    public static JavaStandaloneLibraryGenerator newGenerator(PureRuntime runtime, Iterable<? extends CompiledExtension> extensions, boolean addExternalAPI, String externalAPIPackage, boolean generatePureTests, boolean includeCodeCoverageProbes, Log log)
+    {
+        return new JavaStandaloneLibraryGenerator(runtime, extensions, addExternalAPI, externalAPIPackage, generatePureTests, includeCodeCoverageProbes, log);
     }
 
     public static PureJavaCompiler compileOnly(MapIterable<? extends String, ? extends Iterable<? extends StringJavaSource>> javaSources, ListIterable<? extends StringJavaSource> externalizableSources, boolean addExternalAPI, Log log) throws PureJavaCompileException
@@ -0,0 +1,353 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.runtime.java.compiled.generation;
+
+import org.eclipse.collections.api.RichIterable;
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.factory.Maps;
+import org.eclipse.collections.api.list.ListIterable;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.api.tuple.Pair;
+import org.eclipse.collections.impl.Counter;
+import org.eclipse.collections.impl.tuple.Tuples;
+import org.finos.legend.pure.m3.serialization.runtime.Message;
+import org.finos.legend.pure.m3.serialization.runtime.Source;
+import org.finos.legend.pure.runtime.java.compiled.compiler.ClassJavaSource;
+import org.finos.legend.pure.runtime.java.compiled.compiler.Compile;
+import org.finos.legend.pure.runtime.java.compiled.compiler.MemoryFileManager;
+import org.finos.legend.pure.runtime.java.compiled.compiler.PureJavaCompileException;
+import org.finos.legend.pure.runtime.java.compiled.compiler.PureJavaCompiler;
+import org.finos.legend.pure.runtime.java.compiled.compiler.StringJavaSource;
+import org.finos.legend.pure.runtime.java.compiled.generation.orchestrator.Log;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * <p>Generates and compiles Java code group by group, with the generation of later groups overlapping the compilation
+ * of earlier ones. Java sources are generated on a single background thread, which is the only thread to access the
+ * Pure graph while the pipeline runs. Groups are compiled in order on the calling thread, as each group may depend on
+ * the classes of the groups before it. Compiled classes are written on another background thread.</p>
+ *
+ * <p>At most {@code maxGroupsInFlight} groups are held in memory waiting to be compiled; once that many are waiting,
+ * generation blocks until compilation catches up. Java sources are discarded once compiled.</p>
+ */
+public class PipelinedGenerateAndCompile
+{
+    private final Generate generate;
+    private final Compile compile;
+    private final int maxGroupsInFlight;
+    private final Log log;
+
+    public PipelinedGenerateAndCompile(Message message, int maxGroupsInFlight, Log log)
+    {
+        if (maxGroupsInFlight < 1)
+        {
+            throw new IllegalArgumentException("Max groups in flight must be at least 1, got: " + maxGroupsInFlight);
+        }
+        this.generate = new Generate(message);
+        this.compile = new Compile(new PureJavaCompiler(message));
+        this.maxGroupsInFlight = maxGroupsInFlight;
+        this.log = log;
+    }
+
+    public PureJavaCompiler getPureJavaCompiler()
+    {
+        return this.compile.getPureJavaCompiler();
+    }
+
+    /**
+     * Generate and compile Java code for the sources of each group, in order, and write the compiled classes to the
+     * classes directory (if one is given). If external API generation is requested, this is done after all the groups.
+     * Once all Java code has been generated, {@code afterGeneration} is run on the generation thread; this allows other
+     * work needing the Pure graph (such as writing metadata) to overlap with the remaining compilation.
+     *
+     * @param sourcesByGroup            Pure sources by compile group
+     * @param sourceCodeGeneratorFn     source code generator for each group (called on the generation thread)
+     * @param generatePureTests         whether to generate Java code for Pure tests
+     * @param externalAPIGenerator      source code generator for the external API, or null for no external API
+     * @param externalAPIPackage        external API package
+     * @param afterGeneration           action to run on the generation thread after generation (may be null)
+     * @param classesDirectory          directory to write classes to (may be null)
+     */
+    void generateAndCompile(SortedMap<String, ? extends RichIterable<? extends Source>> sourcesByGroup,
+                            Function<? super String, ? extends JavaSourceCodeGenerator> sourceCodeGeneratorFn,
+                            boolean generatePureTests,
+                            Supplier<? extends JavaSourceCodeGenerator> externalAPIGenerator,
+                            String externalAPIPackage,
+                            Runnable afterGeneration,
+                            Path classesDirectory) throws PureJavaCompileException
+    {
+        BlockingQueue<GeneratedGroup> queue = new ArrayBlockingQueue<>(this.maxGroupsInFlight);
+        ExecutorService generationExecutor = Executors.newSingleThreadExecutor(r -> newDaemonThread(r, "pure-java-generation"));
+        ExecutorService writeExecutor = (classesDirectory == null) ? null : Executors.newSingleThreadExecutor(r -> newDaemonThread(r, "pure-java-class-writer"));
+        MutableList<Future<Integer>> writes = Lists.mutable.empty();
+        boolean succeeded = false;
+        try
+        {
+            Future<?> generation = generationExecutor.submit(() ->
+            {
+                generateAll(sourcesByGroup, sourceCodeGeneratorFn, generatePureTests, externalAPIGenerator, externalAPIPackage, queue);
+                if (afterGeneration != null)
+                {
+                    afterGeneration.run();
+                }
+                return null;
+            });
+
+            MutableMap<String, byte[]> writtenClasses = Maps.mutable.empty();
+            for (GeneratedGroup group = takeNext(queue, generation); group != null; group = takeNext(queue, generation))
+            {
+                if (group.isExternalAPI())
+                {
+                    this.log.debug("    Compiling external API");
+                    this.compile.compileExternalizableAPI(group.getJavaSources());
+                }
+                else
+                {
+                    this.log.debug("    Compiling group " + group.getCompileGroup());
+                    this.compile.compile(group.getCompileGroup(), group.getJavaSources(), this.log);
+                }
+                if (writeExecutor != null)
+                {
+                    ListIterable<Pair<String, byte[]>> classes = collectClassesToWrite(getPureJavaCompiler().getFileManager(), writtenClasses);
+                    writes.add(writeExecutor.submit(() -> writeClasses(classesDirectory, classes)));
+                }
+            }
+            waitFor(generation);
+
+            if (writeExecutor != null)
+            {
+                ListIterable<Pair<String, byte[]>> coreClasses = collectClassesToWrite(getPureJavaCompiler().getCoreFileManager(), Maps.mutable.empty());
+                writes.add(writeExecutor.submit(() -> writeClasses(classesDirectory, coreClasses)));
+                int written = 0;
+                for (Future<Integer> write : writes)
+                {
+                    written += waitFor(write);
+                }
+                this.log.info("  Saved " + written + " classes to " + classesDirectory);
+            }
+            succeeded = true;
+        }
+        finally
+        {
+            if (!succeeded)
+            {
+                writes.forEach(w -> w.cancel(true));
+            }
+            shutdown(generationExecutor, !succeeded);
+            if (writeExecutor != null)
+            {
+                shutdown(writeExecutor, !succeeded);
+            }
+        }
+    }
+
+    private void generateAll(SortedMap<String, ? extends RichIterable<? extends Source>> sourcesByGroup,
+                             Function<? super String, ? extends JavaSourceCodeGenerator> sourceCodeGeneratorFn,
+                             boolean generatePureTests,
+                             Supplier<? extends JavaSourceCodeGenerator> externalAPIGenerator,
+                             String externalAPIPackage,
+                             BlockingQueue<GeneratedGroup> queue) throws InterruptedException
+    {
+        Counter sourceCounter = new Counter();
+        sourcesByGroup.forEach((compileGroup, sources) -> sourceCounter.add(sources.size()));
+        int totalSourceCount = sourceCounter.getCount();
+        sourceCounter.reset();
+        for (Map.Entry<String, ? extends RichIterable<? extends Source>> entry : sourcesByGroup.entrySet())
+        {
+            String compileGroup = entry.getKey();
+            RichIterable<? extends Source> sources = entry.getValue();
+            this.log.debug("    Generating Java sources for group: " + compileGroup);
+            if (sources.notEmpty())
+            {
+                long start = System.currentTimeMillis();
+                ListIterable<StringJavaSource> javaSources = this.generate.generate(compileGroup, sources, sourceCodeGeneratorFn.apply(compileGroup), sourceCounter, totalSourceCount, generatePureTests);
+                this.log.debug("      generated " + javaSources.size() + " sources in " + ((float) (System.currentTimeMillis() - start) / 1000) + "s");
+                queue.put(new GeneratedGroup(compileGroup, javaSources, false));
+            }
+            else
+            {
+                this.log.debug("      generated 0 sources (input sources is empty).");
+            }
+        }
+        if (externalAPIGenerator != null)
+        {
+            this.generate.generateExternalizableAPI(externalAPIGenerator.get(), externalAPIPackage);
+            queue.put(new GeneratedGroup(null, this.generate.getExternalizableSources(), true));
+        }
+        queue.put(GeneratedGroup.END);
+    }
+
+    private static GeneratedGroup takeNext(BlockingQueue<GeneratedGroup> queue, Future<?> generation)
+    {
+        try
+        {
+            while (true)
+            {
+                GeneratedGroup group = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (group != null)
+                {
+                    return (group == GeneratedGroup.END) ? null : group;
+                }
+                if (generation.isDone() && queue.isEmpty())
+                {
+                    // generation failed before completing: this rethrows the failure
+                    waitFor(generation);
+                    throw new IllegalStateException("Java source generation finished unexpectedly");
+                }
+            }
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted waiting for Java source generation", e);
+        }
+    }
+
+    private static ListIterable<Pair<String, byte[]>> collectClassesToWrite(MemoryFileManager fileManager, MutableMap<String, byte[]> writtenClasses)
+    {
+        // class bytes are replaced rather than modified when a class is recompiled, so the current bytes can safely be
+        // written while later groups are compiled
+        MutableList<Pair<String, byte[]>> classes = Lists.mutable.empty();
+        fileManager.getAllClassJavaSources(false).forEach((ClassJavaSource source) ->
+        {
+            byte[] bytes = source.getBytes();
+            if (writtenClasses.put(source.getName(), bytes) != bytes)
+            {
+                classes.add(Tuples.pair(source.getName(), bytes));
+            }
+        });
+        return classes;
+    }
+
+    private static int writeClasses(Path directory, ListIterable<Pair<String, byte[]>> classes)
+    {
+        classes.forEach(c ->
+        {
+            Path path = directory.resolve(c.getOne().substring(1));
+            try
+            {
+                Files.createDirectories(path.getParent());
+                Files.write(path, c.getTwo());
+            }
+            catch (IOException e)
+            {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return classes.size();
+    }
+
+    private static <T> T waitFor(Future<T> future)
+    {
+        try
+        {
+            return future.get();
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+        catch (ExecutionException e)
+        {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException)
+            {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error)
+            {
+                throw (Error) cause;
+            }
+            throw new RuntimeException(cause);
+        }
+    }
+
+    private static void shutdown(ExecutorService executor, boolean interrupt)
+    {
+        if (interrupt)
+        {
+            executor.shutdownNow();
+        }
+        else
+        {
+            executor.shutdown();
+        }
+        try
+        {
+            // wait so that no background work is still using the Pure graph or the output directory
+            executor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static Thread newDaemonThread(Runnable runnable, String name)
+    {
+        Thread thread = new Thread(runnable, name);
+        thread.setDaemon(true);
+        thread.setContextClassLoader(Thread.currentThread().getContextClassLoader());
+        return thread;
+    }
+
+    private static class GeneratedGroup
+    {
+        private static final GeneratedGroup END = new GeneratedGroup(null, Lists.immutable.empty(), false);
+
+        private final String compileGroup;
+        private final ListIterable<StringJavaSource> javaSources;
+        private final boolean externalAPI;
+
+        private GeneratedGroup(String compileGroup, ListIterable<StringJavaSource> javaSources, boolean externalAPI)
+        {
+            this.compileGroup = compileGroup;
+            this.javaSources = javaSources;
+            this.externalAPI = externalAPI;
+        }
+
+        String getCompileGroup()
+        {
+            return this.compileGroup;
+        }
+
+        ListIterable<StringJavaSource> getJavaSources()
+        {
+            return this.javaSources;
+        }
+
+        boolean isExternalAPI()
+        {
+            return this.externalAPI;
+        }
+    }
+}
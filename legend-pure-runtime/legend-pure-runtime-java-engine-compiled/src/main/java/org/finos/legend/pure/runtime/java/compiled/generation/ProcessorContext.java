@@ -25,14 +25,17 @@ import org.eclipse.collections.api.map.MapIterable;
 import org.eclipse.collections.api.map.MutableMap;
 import org.eclipse.collections.api.map.primitive.IntObjectMap;
 import org.eclipse.collections.api.map.primitive.MutableIntObjectMap;
+import org.eclipse.collections.api.map.primitive.MutableObjectIntMap;
 import org.eclipse.collections.api.multimap.list.MutableListMultimap;
 import org.eclipse.collections.api.set.MutableSet;
 import org.eclipse.collections.impl.factory.Multimaps;
 import org.eclipse.collections.impl.factory.primitive.IntObjectMaps;
+import org.eclipse.collections.impl.factory.primitive.ObjectIntMaps;
 import org.finos.legend.pure.m3.bootstrap.generator.M3ToJavaGenerator;
 import org.finos.legend.pure.m3.generator.bootstrap.M3CoreInstanceGenerator;
 import org.finos.legend.pure.m3.navigation.ProcessorSupport;
 import org.finos.legend.pure.m4.coreinstance.CoreInstance;
+import org.finos.legend.pure.m4.coreinstance.SourceInformation;
 import org.finos.legend.pure.runtime.java.compiled.compiler.StringJavaSource;
 import org.finos.legend.pure.runtime.java.compiled.extension.CompiledExtension;
 import org.finos.legend.pure.runtime.java.compiled.extension.CompiledExtensionLoader;
@@ -44,18 +47,22 @@ import java.util.Objects;
 
 public class ProcessorContext
 {
+    public static final String CODE_COVERAGE_CLASS_NAME = "__CodeCoverage";
+
     private final MutableMap<String, MutableMap<String, String>> lambdaFunctionsByIdBySource = Maps.mutable.empty();
     private final MutableList<StringJavaSource> classes = Lists.mutable.empty();
     private final MutableMap<Class<?>, MutableSet<CoreInstance>> processedClasses = Maps.mutable.empty();
     private final MutableListMultimap<String, String> functionDefinitionsBySource = Multimaps.mutable.list.empty();
     private final MutableMap<String, MutableMap<String, String>> nativeLambdaFunctionsByNameBySource = Maps.mutable.empty();
     private final MutableIntObjectMap<CoreInstance> localLambdas = IntObjectMaps.mutable.empty();
+    private final MutableMap<String, MutableObjectIntMap<SourceInformation>> codeCoverageProbesBySource = Maps.mutable.empty();
     private final ProcessorSupport support;
     private final NativeFunctionProcessor nativeFunctionProcessor;
 
     private final ListIterable<Function3<CoreInstance, CoreInstance, ProcessorContext, String>> extraFunctionGenerator;
     private boolean inLineAllLambda = false;
     private final boolean includePureStackTrace;
+    private final boolean includeCodeCoverageProbes;
     private String classImplSuffix;
     private final M3ToJavaGenerator generator;
     private final IdBuilder idBuilder;
@@ -63,16 +70,22 @@ public class ProcessorContext
     private int id = 0;
     private final MutableMap<String, Object> objects = Maps.mutable.empty();
 
-    public ProcessorContext(ProcessorSupport support, ListIterable<? extends CompiledExtension> compiledExtensions, IdBuilder idBuilder, boolean includePureStackTrace)
+    public ProcessorContext(ProcessorSupport support, ListIterable<? extends CompiledExtension> compiledExtensions, IdBuilder idBuilder, boolean includePureStackTrace, boolean includeCodeCoverageProbes)
     {
         this.support = support;
         this.nativeFunctionProcessor = NativeFunctionProcessor.newWithCompiledExtensions(compiledExtensions);
         this.extraFunctionGenerator = compiledExtensions.collect(CompiledExtension::getExtraFunctionGeneration).select(Objects::nonNull);
         this.includePureStackTrace = includePureStackTrace;
+        this.includeCodeCoverageProbes = includeCodeCoverageProbes;
         this.generator = M3CoreInstanceGenerator.generator(null, null, null);
         this.idBuilder = (idBuilder == null) ? IdBuilder.newIdBuilder(this.support) : idBuilder;
     }
 
+    public ProcessorContext(ProcessorSupport support, ListIterable<? extends CompiledExtension> compiledExtensions, IdBuilder idBuilder, boolean includePureStackTrace)
+    {
+        this(support, compiledExtensions, idBuilder, includePureStackTrace, false);
+    }
+
     @Deprecated
     public ProcessorContext(ProcessorSupport support, ListIterable<? extends CompiledExtension> compiledExtensions, boolean includePureStackTrace)
     {
@@ -224,6 +237,56 @@ public class ProcessorContext
         return this.includePureStackTrace;
     }
 
+    public boolean includeCodeCoverageProbes()
+    {
+        return this.includeCodeCoverageProbes;
+    }
+
+    /**
+     * Get the Java statement which increments the code coverage probe for a function definition (including lambdas
+     * and qualified properties), registering the probe if necessary. The probe belongs to the function class for the
+     * function's source. If code coverage probes are not included, or the function has no source information, this is
+     * the empty string.
+     *
+     * @param function function definition
+     * @return probe increment statement
+     */
+    public String getCodeCoverageProbe(CoreInstance function)
+    {
+        SourceInformation sourceInfo = function.getSourceInformation();
+        if (!this.includeCodeCoverageProbes || (sourceInfo == null))
+        {
+            return "";
+        }
+        String sourceId = IdBuilder.sourceToId(sourceInfo);
+        MutableObjectIntMap<SourceInformation> probes = this.codeCoverageProbesBySource.getIfAbsentPut(sourceId, ObjectIntMaps.mutable::empty);
+        int probe = probes.getIfAbsentPut(sourceInfo, probes.size());
+        return sourceId + "." + CODE_COVERAGE_CLASS_NAME + ".probes[" + probe + "]++;\n";
+    }
+
+    public RichIterable<String> getSourcesWithCodeCoverageProbes()
+    {
+        return this.codeCoverageProbesBySource.keysView();
+    }
+
+    /**
+     * Get the source information for each of the code coverage probes for a source, in probe order.
+     *
+     * @param sourceId Java id of the source
+     * @return source information for each probe, or null if there are none
+     */
+    public ListIterable<SourceInformation> getCodeCoverageProbesForSource(String sourceId)
+    {
+        MutableObjectIntMap<SourceInformation> probes = this.codeCoverageProbesBySource.get(sourceId);
+        if (probes == null)
+        {
+            return null;
+        }
+        SourceInformation[] result = new SourceInformation[probes.size()];
+        probes.forEachKeyValue((sourceInfo, probe) -> result[probe] = sourceInfo);
+        return Lists.immutable.with(result);
+    }
+
     public void setClassImplSuffix(String classImplSuffix)
     {
         this.classImplSuffix = classImplSuffix;
@@ -143,6 +143,61 @@ public class JavaCodeGeneration
                             File targetDirectory,
                             boolean generatePureTests,
                             Log log)
+    {
+        doIt(repositories, excludedRepositories, extraRepositories, generationType, skip, addExternalAPI, externalAPIPackage, generateMetadata, useSingleDir, generateSources, generateTest, preventJavaCompilation, classesDirectory, targetDirectory, generatePureTests, 0, log);
+    }
+
+    public static void doIt(Set<String> repositories,
+                            Set<String> excludedRepositories,
+                            Set<String> extraRepositories,
+                            JavaCodeGeneration.GenerationType generationType,
+                            boolean skip,
+                            boolean addExternalAPI,
+                            String externalAPIPackage,
+                            boolean generateMetadata,
+                            boolean useSingleDir,
+                            boolean generateSources,
+                            boolean generateTest,
+                            boolean preventJavaCompilation,
+                            File classesDirectory,
+                            File targetDirectory,
+                            boolean generatePureTests,
+                            int pipelineWindow,
+                            Log log)
+    {
+        doIt(repositories, excludedRepositories, extraRepositories, generationType, skip, addExternalAPI, externalAPIPackage, generateMetadata, useSingleDir, generateSources, generateTest, preventJavaCompilation, classesDirectory, targetDirectory, generatePureTests, pipelineWindow, false, log);
+    }
+
+    /**
+     * Generate (and possibly compile) Java code for Pure repositories, along with distributed metadata.
+     * <p>
+     * If {@code pipelineWindow} is positive and Java compilation is not prevented, generation is pipelined: Java
+     * sources for later groups are generated while earlier groups are compiled, compiled classes are written as each
+     * group is compiled, and metadata is written once generation is complete while compilation continues. At most
+     * {@code pipelineWindow} generated groups wait for compilation at any time, which bounds the memory used for
+     * generated sources. Otherwise, each phase is completed before the next begins.
+     * <p>
+     * If {@code codeCoverage} is true, the generated code includes probes which record which Pure functions are
+     * executed, so that code coverage can be collected when running in compiled mode.
+     */
+    public static void doIt(Set<String> repositories,
+                            Set<String> excludedRepositories,
+                            Set<String> extraRepositories,
+                            JavaCodeGeneration.GenerationType generationType,
+                            boolean skip,
+                            boolean addExternalAPI,
+                            String externalAPIPackage,
+                            boolean generateMetadata,
+                            boolean useSingleDir,
+                            boolean generateSources,
+                            boolean generateTest,
+                            boolean preventJavaCompilation,
+                            File classesDirectory,
+                            File targetDirectory,
+                            boolean generatePureTests,
+                            int pipelineWindow,
+                            boolean codeCoverage,
+                            Log log)
     {
         // DO NOT DELETE - Needed to avoid circular calls later during static initialization
         SetIterable<String> res = JavaPackageAndImportBuilder.M3_CLASSES;
@@ -161,6 +216,7 @@ public class JavaCodeGeneration
         log.debug("  Extra repositories: " + extraRepositories);
         log.debug("  Generation type: " + generationType);
         log.debug("  Generate External API: '" + addExternalAPI + "' in package '" + externalAPIPackage + "'");
+        log.debug("  Code coverage: " + codeCoverage);
 
         try
         {
@@ -201,8 +257,16 @@ public class JavaCodeGeneration
                 codegenDirectory = null;
             }
 
+            if ((pipelineWindow > 0) && !preventJavaCompilation)
+            {
+                log.info("  Pipelined generation and compilation (window: " + pipelineWindow + " groups)");
+                generateAndCompilePipelined(System.nanoTime(), allRepositories, selectedRepositories, distributedMetadataDirectory, codegenDirectory, classesDirectory, generateMetadata, addExternalAPI, externalAPIPackage, generationType, generateSources, generatePureTests, codeCoverage, pipelineWindow, log);
+                log.info(String.format("  Finished building Pure compiled mode jar (%.9fs)", durationSinceInSeconds(start)));
+                return;
+            }
+
             // Generate metadata and Java sources
-            Generate generate = generate(System.nanoTime(), allRepositories, selectedRepositories, distributedMetadataDirectory, codegenDirectory, generateMetadata, addExternalAPI, externalAPIPackage, generationType, generateSources, generatePureTests, log);
+            Generate generate = generate(System.nanoTime(), allRepositories, selectedRepositories, distributedMetadataDirectory, codegenDirectory, generateMetadata, addExternalAPI, externalAPIPackage, generationType, generateSources, generatePureTests, codeCoverage, log);
 
             // Compile Java sources
             if (!preventJavaCompilation)
@@ -301,7 +365,7 @@ public class JavaCodeGeneration
         return selected;
     }
 
-    private static Generate generate(long start, CodeRepositorySet allRepositories, SetIterable<String> selectedRepositories, Path distributedMetadataDirectory, Path codegenDirectory, boolean generateMetadata, boolean addExternalAPI, String externalAPIPackage, GenerationType generationType, boolean generateSources, boolean generatePureTests, Log log)
+    private static Generate generate(long start, CodeRepositorySet allRepositories, SetIterable<String> selectedRepositories, Path distributedMetadataDirectory, Path codegenDirectory, boolean generateMetadata, boolean addExternalAPI, String externalAPIPackage, GenerationType generationType, boolean generateSources, boolean generatePureTests, boolean codeCoverage, Log log)
     {
         // Initialize runtime
         PureRuntime runtime = initializeRuntime(start, allRepositories, selectedRepositories, log);
@@ -309,30 +373,14 @@ public class JavaCodeGeneration
         // Possibly write distributed metadata
         if (generateMetadata)
         {
-            switch (generationType)
-            {
-                case monolithic:
-                {
-                    generateMetadata(start, runtime, distributedMetadataDirectory, log);
-                    break;
-                }
-                case modular:
-                {
-                    generateModularMetadata(start, runtime, selectedRepositories, distributedMetadataDirectory, log);
-                    break;
-                }
-                default:
-                {
-                    throw new RuntimeException("Unhandled generation type: " + generationType);
-                }
-            }
+            generateMetadata(start, runtime, generationType, selectedRepositories, distributedMetadataDirectory, log);
         }
 
         // Generate Java sources
         String generateStep = "Pure compiled mode Java code generation";
         long generateStart = startStep(generateStep, log);
         Generate generate;
-        JavaStandaloneLibraryGenerator generator = JavaStandaloneLibraryGenerator.newGenerator(runtime, CompiledExtensionLoader.extensions(), addExternalAPI, externalAPIPackage, generatePureTests, log);
+        JavaStandaloneLibraryGenerator generator = JavaStandaloneLibraryGenerator.newGenerator(runtime, CompiledExtensionLoader.extensions(), addExternalAPI, externalAPIPackage, generatePureTests, codeCoverage, log);
         switch (generationType)
         {
             case monolithic:
@@ -354,6 +402,43 @@ public class JavaCodeGeneration
         return generate;
     }
 
+    private static void generateAndCompilePipelined(long start, CodeRepositorySet allRepositories, SetIterable<String> selectedRepositories, Path distributedMetadataDirectory, Path codegenDirectory, File classesDirectory, boolean generateMetadata, boolean addExternalAPI, String externalAPIPackage, GenerationType generationType, boolean generateSources, boolean generatePureTests, boolean codeCoverage, int pipelineWindow, Log log)
+    {
+        // Initialize runtime
+        PureRuntime runtime = initializeRuntime(start, allRepositories, selectedRepositories, log);
+
+        // Generate, compile, and write Java classes, writing metadata once generation is done
+        String step = "Pure compiled mode Java code generation and compilation";
+        long stepStart = startStep(step, log);
+        Runnable afterGeneration = generateMetadata ? () -> generateMetadata(start, runtime, generationType, selectedRepositories, distributedMetadataDirectory, log) : null;
+        JavaStandaloneLibraryGenerator generator = JavaStandaloneLibraryGenerator.newGenerator(runtime, CompiledExtensionLoader.extensions(), addExternalAPI, externalAPIPackage, generatePureTests, codeCoverage, log);
+        try
+        {
+            switch (generationType)
+            {
+                case monolithic:
+                {
+                    generator.generateAndCompilePipelined(false, generateSources, codegenDirectory, classesDirectory.toPath(), pipelineWindow, afterGeneration);
+                    break;
+                }
+                case modular:
+                {
+                    generator.generateAndCompilePipelined(selectedRepositories, true, generateSources, codegenDirectory, classesDirectory.toPath(), pipelineWindow, afterGeneration);
+                    break;
+                }
+                default:
+                {
+                    throw new RuntimeException("Unhandled generation type: " + generationType);
+                }
+            }
+        }
+        catch (PureJavaCompileException e)
+        {
+            throw new RuntimeException(e);
+        }
+        completeStep(step, stepStart, log);
+    }
+
     private static PureRuntime initializeRuntime(long start, CodeRepositorySet allRepositories, Iterable<String> selectedRepositories, Log log)
     {
         try
@@ -400,6 +485,27 @@ public class JavaCodeGeneration
         }
     }
 
+    private static void generateMetadata(long start, PureRuntime runtime, GenerationType generationType, SetIterable<String> selectedRepositories, Path distributedMetadataDirectory, Log log)
+    {
+        switch (generationType)
+        {
+            case monolithic:
+            {
+                generateMetadata(start, runtime, distributedMetadataDirectory, log);
+                break;
+            }
+            case modular:
+            {
+                generateModularMetadata(start, runtime, selectedRepositories, distributedMetadataDirectory, log);
+                break;
+            }
+            default:
+            {
+                throw new RuntimeException("Unhandled generation type: " + generationType);
+            }
+        }
+    }
+
     private static void generateMetadata(long start, PureRuntime runtime, Path distributedMetadataDirectory, Log log)
     {
         String writeMetadataStep = "writing distributed Pure metadata";
@@ -14,6 +14,9 @@
 
 package org.finos.legend.pure.runtime.java.compiled.generation.processors;
 
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.ListIterable;
+import org.eclipse.collections.api.multimap.list.ListMultimap;
 import org.eclipse.collections.api.set.MutableSet;
 import org.finos.legend.pure.m3.compiler.postprocessing.processor.milestoning.MilestoningFunctions;
 import org.finos.legend.pure.m3.coreinstance.helper.PropertyTypeHelper;
@@ -29,6 +32,7 @@ import org.finos.legend.pure.runtime.java.compiled.compiler.StringJavaSource;
 import org.finos.legend.pure.runtime.java.compiled.generation.JavaPackageAndImportBuilder;
 import org.finos.legend.pure.runtime.java.compiled.generation.ProcessorContext;
 import org.finos.legend.pure.runtime.java.compiled.generation.processors.type.TypeProcessor;
+import org.finos.legend.pure.runtime.java.compiled.generation.processors.type._class.ClassProcessor;
 
 public class ClassJsonFactoryProcessor
 {
@@ -39,7 +43,6 @@ public class ClassJsonFactoryProcessor
             "import org.eclipse.collections.impl.list.mutable.FastList;\n" +
             "import org.finos.legend.pure.runtime.java.compiled.execution.sourceInformation.PureCompiledExecutionException;\n" +
             "import org.finos.legend.pure.runtime.java.compiled.metadata.MetadataAccessor;\n" +
-            "import org.finos.legend.pure.runtime.java.extension.external.json.compiled.natives.JsonParserHelper;\n" +
             "import org.finos.legend.pure.m4.exception.PureException;\n" +
             "import org.finos.legend.pure.runtime.java.compiled.generation.processors.support.*;\n" +
             "import org.finos.legend.pure.runtime.java.compiled.generation.processors.support.function.defended.*;\n" +
@@ -51,17 +54,18 @@ public class ClassJsonFactoryProcessor
             "import org.finos.legend.pure.runtime.java.compiled.generation.processors.support.coreinstance.*;\n" +
             "import org.finos.legend.pure.m3.exception.PureExecutionException;\n\n";
 
+    // JsonParserHelper is provided by the JSON extension, and is only used by the tree factories
+    private static final String treeFactoryImports = "import org.finos.legend.pure.runtime.java.extension.external.json.compiled.natives.JsonParserHelper;\n";
+
     /**
      * Generates code for checking the multiplicity of properties extracted from JSON
      *
      * @param getPropertyCode The code for extracting the property from the JSON, e.g. json.get(...)
-     * @param property        The property of the Pure class to be compared against
+     * @param multiplicity    The multiplicity of the property of the Pure class to be compared against
      * @return Java code for running the multiplicity check within the JSON factory
      */
-    private static String multiplicityCheckCode(String getPropertyCode, CoreInstance property, ProcessorSupport processorSupport)
+    private static String multiplicityCheckCode(String getPropertyCode, CoreInstance multiplicity)
     {
-        CoreInstance multiplicity = Instance.getValueForMetaPropertyToOneResolved(property, M3Properties.multiplicity, processorSupport);
-
         return
                 "   int lowerBound = " + Multiplicity.multiplicityLowerBoundToInt(multiplicity) + ";\n" +
                         "   int upperBound = " + Multiplicity.multiplicityUpperBoundToInt(multiplicity) + ";\n" +
@@ -93,133 +97,347 @@ public class ClassJsonFactoryProcessor
             String className = TypeProcessor.javaInterfaceForType(_class, processorSupport);
             String userDefinedClassName = PackageableElement.getUserPathForPackageableElement(_class);
             String typeParams = typeParameters(_class);
-            // Factory to create objects from Json
-            if (shouldGenerate(className))
+            // Factories to create objects from Json
+            if (!ClassProcessor.isPlatformClass(_class))
             {
-                processorContext.addJavaSource(StringJavaSource.newStringJavaSource(JavaPackageAndImportBuilder.buildPackageForPackageableElement(_class), className + "_JsonFactory", imports +
-                        "public class " + className + "_JsonFactory" + (typeParams.isEmpty() ? "" : "<" + typeParams + ">\n") +
-                        "{\n" +
-                        (
-                                "\n\n    public static " + className + " fromJson(final org.json.simple.JSONObject json, final MetadataAccessor md, final ClassLoader classLoader, SourceInformation si, final String typeKey, final boolean failOnUnknownProperties, final org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.type.ConstraintsOverride constraintsOverride, final ExecutionSupport es, final String parentClass) {\n" +
-                                        "         final " + className + "_Impl result = new " + className + "_Impl(\"Anonymous_NoCounter\");\n" +
-                                        "         final String pureClassName=\"" + userDefinedClassName + "\";\n" +
-                                        "         MutableSet<String> notFound = UnifiedSet.newSet(json.keySet());\n" +
-                                        "         notFound.remove(typeKey);\n"
-                        ) +
-                        processorSupport.class_getSimpleProperties(_class)
-                                .collectIf(
-                                        property ->
+                ListIterable<JsonProperty> properties = processorSupport.class_getSimpleProperties(_class)
+                        .collectIf(
+                                property ->
+                                {
+                                    switch (PrimitiveUtilities.getStringValue(property.getValueForMetaPropertyToOne(M3Properties.name)))
+                                    {
+                                        case M3Properties.classifierGenericType:
+                                        case M3Properties.constraintsManager:
+                                        case M3Properties.elementOverride:
+                                        case M3Properties.getterOverrideToMany:
+                                        case M3Properties.getterOverrideToOne:
+                                        case M3Properties.hiddenPayload:
                                         {
-                                            switch (PrimitiveUtilities.getStringValue(property.getValueForMetaPropertyToOne(M3Properties.name)))
-                                            {
-                                                case M3Properties.classifierGenericType:
-                                                case M3Properties.constraintsManager:
-                                                case M3Properties.elementOverride:
-                                                case M3Properties.getterOverrideToMany:
-                                                case M3Properties.getterOverrideToOne:
-                                                case M3Properties.hiddenPayload:
-                                                {
-                                                    return false;
-                                                }
-                                                default:
-                                                {
-                                                    return true;
-                                                }
-                                            }
-                                        },
-                                        property ->
+                                            return false;
+                                        }
+                                        default:
                                         {
-                                            CoreInstance resolved = Instance.getValueForMetaPropertyToOneResolved(property, M3Properties.name, processorSupport);
-                                            String name = resolved.getName();
-
-                                            CoreInstance multiplicity = Instance.getValueForMetaPropertyToOneResolved(property, M3Properties.multiplicity, processorSupport);
-
-                                            CoreInstance returnType = getPropertyResolvedReturnType(classGenericType, property, processorSupport);
-                                            String typeObject = TypeProcessor.typeToJavaObjectSingle(returnType, false, processorSupport);
-
-                                            CoreInstance rawType = Instance.getValueForMetaPropertyToOneResolved(returnType, M3Properties.rawType, processorSupport);
-                                            String classFullName = rawType == null ? null : PackageableElement.getSystemPathForPackageableElement(rawType, "::");
-                                            String classFullUserPath = rawType == null ? null : PackageableElement.getUserPathForPackageableElement(rawType);
-                                            String classFullName2 = rawType == null ? null : TypeProcessor.javaInterfaceNameForType(rawType, processorSupport);
-
-                                            boolean isToOne = Multiplicity.isToOne(multiplicity, false);
-
-                                            String assignment =
-                                                    "if (res != null)\n" +
-                                                            "{\n" +
-                                                            "result._" + name + (isToOne ? "" : "Add") + "((" + typeObject + ")res);\n" +
-                                                            "}\n";
-
-                                            return "\n" +
-                                                    "           notFound.remove(\"" + name + "\");\n" +
-                                                    "           if (" + associationCycleConditionCode(classFullName2, "parentClass", processorSupport, property) + ")\n" +
-                                                    "           {\n" +
-                                                    "               try\n" +
-                                                    "               {\n" +
-                                                    "                   Object propertyValue = json.get(\"" + MilestoningFunctions.getSourceEdgePointPropertyName(resolved.getName()) + "\");\n" +
-                                                    "                   Class __" + name + "Type = " + typeObject + ".class;\n" +
-                                                    "                   if (propertyValue instanceof org.json.simple.JSONArray )\n" +
-                                                    "                   {\n" +
-                                                    "                       org.json.simple.JSONArray jsonArray = (org.json.simple.JSONArray) propertyValue;\n" +
-                                                    (shouldPerformMultiplicityChecks(className) ? multiplicityCheckCode("jsonArray", property, processorSupport) : "") +
-                                                    "                       for (Object jsonElement : jsonArray)\n" +
-                                                    "                       {\n" +
-                                                    (shouldGenerate(typeObject) ?
-                                                            "                           if (jsonElement instanceof org.json.simple.JSONObject)\n" +
-                                                                    "                           {\n" +
-                                                                    "                               org.json.simple.JSONObject jsonObject = (org.json.simple.JSONObject) jsonElement;\n" +
-                                                                    "                               __" + name + "Type = Pure.fromJsonResolveType(jsonObject, \"" + classFullName + "\", " + typeObject + ".class, typeKey, es);\n" +
-                                                                    "                               Object res = JsonParserHelper.fromJson(jsonElement, __" + name + "Type, \"" + classFullName2 + "\", \"" + classFullUserPath + "\", md, classLoader, si, typeKey, failOnUnknownProperties, constraintsOverride, es, \"" + className + "\");\n" +
-                                                                    "                               " + assignment +
-                                                                    "                           }\n" +
-                                                                    "                           else\n" +
-                                                                    "                           {\n"
-                                                            :
-                                                            "                           {\n"
-                                                    ) +
-                                                    "                               Object res = JsonParserHelper.fromJson(jsonElement, __" + name + "Type, \"" + classFullName2 + "\", \"" + classFullUserPath + "\", md, classLoader, si, typeKey, failOnUnknownProperties, constraintsOverride, es, \"" + className + "\");\n" +
-                                                    "                               " + assignment +
-                                                    "                           }\n" +
-                                                    "                       }\n" +
-                                                    "                   }\n" +
-                                                    "                   else\n" +
-                                                    "                   {\n" +
-                                                    (shouldPerformMultiplicityChecks(className) ? multiplicityCheckCode("propertyValue", property, processorSupport) : "") +
-                                                    (shouldGenerate(typeObject) ?
-                                                            "                       if (propertyValue instanceof org.json.simple.JSONObject)\n" +
-                                                                    "                       {\n" +
-                                                                    "                           org.json.simple.JSONObject jsonObject = (org.json.simple.JSONObject) propertyValue;\n" +
-                                                                    "                           __" + name + "Type = Pure.fromJsonResolveType(jsonObject , \"" + classFullName + "\", " + typeObject + ".class, typeKey, es);\n" +
-                                                                    "                       }\n" : ""
-                                                    ) +
-                                                    "                       Object res = JsonParserHelper.fromJson(propertyValue, __" + name + "Type, \"" + classFullName2 + "\", \"" + classFullUserPath + "\", md, classLoader, si, typeKey, failOnUnknownProperties, constraintsOverride, es, \"" + className + "\");\n" +
-                                                    "                       " + assignment +
-                                                    "                   }\n" +
-                                                    "               }\n" +
-                                                    "               catch (PureException e)\n" +
-                                                    "               {\n" +
-                                                    "                   throw new PureCompiledExecutionException(si, \"Error populating property '" + name + "' on class '" + userDefinedClassName + "': \" + e.getInfo());\n" +
-                                                    "               } \n" +
-                                                    "               catch (Exception e)\n" +
-                                                    "               {\n" +
-                                                    "                   e.printStackTrace();\n" +
-                                                    "                   throw new PureCompiledExecutionException(si, \"Error populating property '" + name + "' on class '" + userDefinedClassName + "'\", e);\n" +
-                                                    "               }\n" +
-                                                    "           }\n";
-                                        }).makeString("")
-                        + "\n          if(failOnUnknownProperties && !notFound.isEmpty())\n" +
-                        "          {\n" +
-                        "              String errMsg = (notFound.size() == 1 ? \"Property \" : \"Properties \") + notFound.makeString(\"'\", \"', '\" , \"'\") + \" can't be found in class \" + pureClassName;\n" +
-                        "              throw new PureCompiledExecutionException(si, errMsg, null);\n" +
-                        "          }\n" +
-                        "          result._elementOverride(constraintsOverride);\n" +
-                        "          return result;\n" +
-                        "    }\n" +
+                                            return true;
+                                        }
+                                    }
+                                },
+                                property -> new JsonProperty(classGenericType, property, className, userDefinedClassName, processorSupport),
+                                Lists.mutable.empty());
+
+                // The tree factory relies on the JSON extension, so it is only generated where that is available
+                boolean treeFactory = shouldGenerate(className);
+                processorContext.addJavaSource(StringJavaSource.newStringJavaSource(JavaPackageAndImportBuilder.buildPackageForPackageableElement(_class), className + "_JsonFactory", imports + (treeFactory ? treeFactoryImports : "") +
+                        "public class " + className + "_JsonFactory" + (typeParams.isEmpty() ? "" : "<" + typeParams + ">\n") +
+                        "{\n" +
+                        properties.collect(p -> "\"" + p.name + "\"").makeString("    private static final org.eclipse.collections.api.set.ImmutableSet<String> PROPERTY_NAMES = Sets.immutable.with(", ", ", ");\n") +
+                        (treeFactory ? treeFactoryCode(className, userDefinedClassName, properties) : "") +
+                        streamingFactoryCode(className, userDefinedClassName, properties) +
                         "} "));
             }
         }
     }
 
+    private static String treeFactoryCode(String className, String userDefinedClassName, ListIterable<JsonProperty> properties)
+    {
+        return "\n\n    public static " + className + " fromJson(final org.json.simple.JSONObject json, final MetadataAccessor md, final ClassLoader classLoader, SourceInformation si, final String typeKey, final boolean failOnUnknownProperties, final org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.type.ConstraintsOverride constraintsOverride, final ExecutionSupport es, final String parentClass) {\n" +
+                "         final " + className + "_Impl result = new " + className + "_Impl(\"Anonymous_NoCounter\");\n" +
+                "         final String pureClassName=\"" + userDefinedClassName + "\";\n" +
+                "         MutableSet<String> notFound = UnifiedSet.newSet(json.keySet());\n" +
+                "         notFound.remove(typeKey);\n" +
+                properties.collect(p -> "\n" +
+                        "           notFound.remove(\"" + p.name + "\");\n" +
+                        p.propertyCode("json.get(\"" + p.jsonKey + "\")")).makeString("") +
+                unknownPropertiesAndReturnCode() +
+                "    }\n";
+    }
+
+    /**
+     * Generates a factory which reads the fields of a JSON object from a pull parser, rather than from a JSON tree.
+     * Each value is converted to the type of its property as it is read, by JsonStreamingSupport, so nothing
+     * beyond the instances being built is kept in memory. Properties which do not appear in the JSON are checked
+     * afterwards as if they were empty.
+     */
+    private static String streamingFactoryCode(String className, String userDefinedClassName, ListIterable<JsonProperty> properties)
+    {
+        ListMultimap<String, JsonProperty> propertiesByJsonKey = properties.groupBy(p -> p.jsonKey);
+        return "\n\n    public static " + className + " fromJson(final com.fasterxml.jackson.core.JsonParser parser, final MetadataAccessor md, final ClassLoader classLoader, SourceInformation si, final String typeKey, final boolean failOnUnknownProperties, final org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.type.ConstraintsOverride constraintsOverride, final ExecutionSupport es, final String parentClass) throws java.io.IOException {\n" +
+                "         final " + className + "_Impl result = new " + className + "_Impl(\"Anonymous_NoCounter\");\n" +
+                "         final String pureClassName=\"" + userDefinedClassName + "\";\n" +
+                "         MutableSet<String> notFound = UnifiedSet.newSet();\n" +
+                "         MutableSet<String> found = UnifiedSet.newSet();\n" +
+                "         for (String field = JsonStreamingSupport.nextFieldName(parser); field != null; field = JsonStreamingSupport.nextFieldName(parser))\n" +
+                "         {\n" +
+                "           found.add(field);\n" +
+                "           switch (field)\n" +
+                "           {\n" +
+                properties.collect(p -> p.jsonKey).distinct().collect(jsonKey ->
+                {
+                    ListIterable<JsonProperty> keyProperties = propertiesByJsonKey.get(jsonKey);
+                    StringBuilder builder = new StringBuilder("             case \"").append(jsonKey).append("\":\n             {\n");
+                    if (properties.noneSatisfy(p -> jsonKey.equals(p.name)))
+                    {
+                        builder.append("               if (!field.equals(typeKey))\n               {\n                   notFound.add(field);\n               }\n");
+                    }
+                    if (keyProperties.size() == 1)
+                    {
+                        builder.append(keyProperties.getOnly().streamingPropertyCode("parser"));
+                    }
+                    else
+                    {
+                        // the value is buffered as tokens, and replayed for each property
+                        builder.append("               final com.fasterxml.jackson.databind.util.TokenBuffer fieldValue = JsonStreamingSupport.bufferValue(parser);\n");
+                        keyProperties.forEach(p -> builder.append("               {\n")
+                                .append("               final com.fasterxml.jackson.core.JsonParser fieldParser = JsonStreamingSupport.replay(fieldValue);\n")
+                                .append(p.streamingPropertyCode("fieldParser"))
+                                .append("               }\n"));
+                    }
+                    return builder.append("               break;\n             }\n").toString();
+                }).makeString("") +
+                "             default:\n" +
+                "             {\n" +
+                "               if (!field.equals(typeKey) && !PROPERTY_NAMES.contains(field))\n" +
+                "               {\n" +
+                "                   notFound.add(field);\n" +
+                "               }\n" +
+                "               parser.skipChildren();\n" +
+                "             }\n" +
+                "           }\n" +
+                "         }\n" +
+                properties.collect(JsonProperty::missingPropertyCode).makeString("") +
+                unknownPropertiesAndReturnCode() +
+                "    }\n";
+    }
+
+    private static String unknownPropertiesAndReturnCode()
+    {
+        return "\n          if(failOnUnknownProperties && !notFound.isEmpty())\n" +
+                "          {\n" +
+                "              String errMsg = (notFound.size() == 1 ? \"Property \" : \"Properties \") + notFound.makeString(\"'\", \"', '\" , \"'\") + \" can't be found in class \" + pureClassName;\n" +
+                "              throw new PureCompiledExecutionException(si, errMsg, null);\n" +
+                "          }\n" +
+                "          result._elementOverride(constraintsOverride);\n" +
+                "          return result;\n";
+    }
+
+    private static class JsonProperty
+    {
+        private final String name;
+        private final String jsonKey;
+        private final String className;
+        private final String userDefinedClassName;
+        private final String typeObject;
+        private final String classFullName;
+        private final String classFullUserPath;
+        private final String classFullName2;
+        private final CoreInstance multiplicity;
+        private final boolean isToOne;
+        private final String associationCycleCondition;
+        private final String streamingReadMethod;
+        private final String streamingReadArguments;
+
+        private JsonProperty(CoreInstance classGenericType, CoreInstance property, String className, String userDefinedClassName, ProcessorSupport processorSupport)
+        {
+            this.className = className;
+            this.userDefinedClassName = userDefinedClassName;
+
+            CoreInstance resolved = Instance.getValueForMetaPropertyToOneResolved(property, M3Properties.name, processorSupport);
+            this.name = resolved.getName();
+            this.jsonKey = MilestoningFunctions.getSourceEdgePointPropertyName(resolved.getName());
+
+            this.multiplicity = Instance.getValueForMetaPropertyToOneResolved(property, M3Properties.multiplicity, processorSupport);
+
+            CoreInstance returnType = getPropertyResolvedReturnType(classGenericType, property, processorSupport);
+            this.typeObject = TypeProcessor.typeToJavaObjectSingle(returnType, false, processorSupport);
+
+            CoreInstance rawType = Instance.getValueForMetaPropertyToOneResolved(returnType, M3Properties.rawType, processorSupport);
+            this.classFullName = rawType == null ? null : PackageableElement.getSystemPathForPackageableElement(rawType, "::");
+            this.classFullUserPath = rawType == null ? null : PackageableElement.getUserPathForPackageableElement(rawType);
+            this.classFullName2 = rawType == null ? null : TypeProcessor.javaInterfaceNameForType(rawType, processorSupport);
+
+            this.isToOne = Multiplicity.isToOne(this.multiplicity, false);
+            this.associationCycleCondition = associationCycleConditionCode(this.classFullName2, "parentClass", processorSupport, property);
+
+            if (rawType == null)
+            {
+                this.streamingReadMethod = "readPrimitive";
+                this.streamingReadArguments = "\"" + M3Paths.Any + "\", si";
+            }
+            else if (processorSupport.instance_instanceOf(rawType, M3Paths.PrimitiveType))
+            {
+                this.streamingReadMethod = "readPrimitive";
+                this.streamingReadArguments = "\"" + this.classFullUserPath + "\", si";
+            }
+            else if (processorSupport.instance_instanceOf(rawType, M3Paths.Enumeration))
+            {
+                this.streamingReadMethod = "readEnum";
+                this.streamingReadArguments = "\"" + this.classFullName + "\", md, si";
+            }
+            else if (processorSupport.instance_instanceOf(rawType, M3Paths.Class) && !processorSupport.instance_instanceOf(rawType, M3Paths.DataType))
+            {
+                this.streamingReadMethod = "fromJson";
+                this.streamingReadArguments = this.typeObject + ".class, \"" + this.classFullName + "\", md, classLoader, si, typeKey, failOnUnknownProperties, constraintsOverride, es, \"" + this.className + "\"";
+            }
+            else
+            {
+                // unsupported types are reported when a value is read for the property
+                this.streamingReadMethod = "readPrimitive";
+                this.streamingReadArguments = "\"" + this.classFullUserPath + "\", si";
+            }
+        }
+
+        /**
+         * Code to populate the property from a JSON value.
+         *
+         * @param valueCode code for the JSON value of the property
+         */
+        private String propertyCode(String valueCode)
+        {
+            return wrapPropertyCode(
+                    "                   Object propertyValue = " + valueCode + ";\n" +
+                            "                   Class __" + this.name + "Type = " + this.typeObject + ".class;\n" +
+                            "                   if (propertyValue instanceof org.json.simple.JSONArray )\n" +
+                            "                   {\n" +
+                            "                       org.json.simple.JSONArray jsonArray = (org.json.simple.JSONArray) propertyValue;\n" +
+                            (shouldPerformMultiplicityChecks(this.className) ? multiplicityCheckCode("jsonArray", this.multiplicity) : "") +
+                            "                       for (Object jsonElement : jsonArray)\n" +
+                            "                       {\n" +
+                            elementCode(assignmentCode()) +
+                            "                       }\n" +
+                            "                   }\n" +
+                            "                   else\n" +
+                            "                   {\n" +
+                            singleValueCode() +
+                            "                   }\n",
+                    "");
+        }
+
+        /**
+         * Code to populate the property from the JSON value a parser is positioned on. Arrays are read one element at
+         * a time, with each element converted and assigned before the next is read.
+         *
+         * @param parser name of the parser variable
+         */
+        private String streamingPropertyCode(String parser)
+        {
+            String readCode = "JsonStreamingSupport." + this.streamingReadMethod + "(" + parser + ", " + this.streamingReadArguments + ")";
+            return wrapPropertyCode(
+                    "                   int count = 0;\n" +
+                            "                   if (" + parser + ".currentToken() == com.fasterxml.jackson.core.JsonToken.START_ARRAY)\n" +
+                            "                   {\n" +
+                            "                       while (" + parser + ".nextToken() != com.fasterxml.jackson.core.JsonToken.END_ARRAY)\n" +
+                            "                       {\n" +
+                            "                           count++;\n" +
+                            "                           Object res = " + readCode + ";\n" +
+                            "                           " + assignmentCode() +
+                            "                       }\n" +
+                            "                   }\n" +
+                            "                   else\n" +
+                            "                   {\n" +
+                            "                       Object res = " + readCode + ";\n" +
+                            "                       if (res != null)\n" +
+                            "                       {\n" +
+                            "                           count++;\n" +
+                            "                       }\n" +
+                            "                       " + assignmentCode() +
+                            "                   }\n" +
+                            (shouldPerformMultiplicityChecks(this.className) ? streamingMultiplicityCheckCode("count") : ""),
+                    "           else\n" +
+                            "           {\n" +
+                            "               " + parser + ".skipChildren();\n" +
+                            "           }\n");
+        }
+
+        /**
+         * Code to check the multiplicity of the property if it does not appear in the JSON, in which case it has no
+         * values.
+         */
+        private String missingPropertyCode()
+        {
+            if (!shouldPerformMultiplicityChecks(this.className) || (Multiplicity.multiplicityLowerBoundToInt(this.multiplicity) <= 0))
+            {
+                return "";
+            }
+            return "\n         if (!found.contains(\"" + this.jsonKey + "\"))\n" +
+                    "         {\n" +
+                    wrapPropertyCode(streamingMultiplicityCheckCode("0"), "") +
+                    "         }\n";
+        }
+
+        private String streamingMultiplicityCheckCode(String countCode)
+        {
+            return "                   JsonStreamingSupport.checkMultiplicity(" + countCode + ", " + Multiplicity.multiplicityLowerBoundToInt(this.multiplicity) + ", " + Multiplicity.multiplicityUpperBoundToInt(this.multiplicity) + ", \"" + Multiplicity.print(this.multiplicity) + "\", si);\n";
+        }
+
+        private String wrapPropertyCode(String body, String otherwise)
+        {
+            return "           if (" + this.associationCycleCondition + ")\n" +
+                    "           {\n" +
+                    "               try\n" +
+                    "               {\n" +
+                    body +
+                    "               }\n" +
+                    "               catch (PureException e)\n" +
+                    "               {\n" +
+                    "                   throw new PureCompiledExecutionException(si, \"Error populating property '" + this.name + "' on class '" + this.userDefinedClassName + "': \" + e.getInfo());\n" +
+                    "               } \n" +
+                    "               catch (Exception e)\n" +
+                    "               {\n" +
+                    "                   e.printStackTrace();\n" +
+                    "                   throw new PureCompiledExecutionException(si, \"Error populating property '" + this.name + "' on class '" + this.userDefinedClassName + "'\", e);\n" +
+                    "               }\n" +
+                    "           }\n" +
+                    otherwise;
+        }
+
+        // Converts jsonElement to res, and then runs resultCode
+        private String elementCode(String resultCode)
+        {
+            return (shouldGenerate(this.typeObject) ?
+                    "                           if (jsonElement instanceof org.json.simple.JSONObject)\n" +
+                            "                           {\n" +
+                            "                               org.json.simple.JSONObject jsonObject = (org.json.simple.JSONObject) jsonElement;\n" +
+                            "                               __" + this.name + "Type = Pure.fromJsonResolveType(jsonObject, \"" + this.classFullName + "\", " + this.typeObject + ".class, typeKey, es);\n" +
+                            "                               " + fromJsonCode("jsonElement") +
+                            "                               " + resultCode +
+                            "                           }\n" +
+                            "                           else\n" +
+                            "                           {\n"
+                    :
+                    "                           {\n"
+            ) +
+                    "                               " + fromJsonCode("jsonElement") +
+                    "                               " + resultCode +
+                    "                           }\n";
+        }
+
+        // Converts and assigns propertyValue, which is not an array
+        private String singleValueCode()
+        {
+            return (shouldPerformMultiplicityChecks(this.className) ? multiplicityCheckCode("propertyValue", this.multiplicity) : "") +
+                    (shouldGenerate(this.typeObject) ?
+                            "                       if (propertyValue instanceof org.json.simple.JSONObject)\n" +
+                                    "                       {\n" +
+                                    "                           org.json.simple.JSONObject jsonObject = (org.json.simple.JSONObject) propertyValue;\n" +
+                                    "                           __" + this.name + "Type = Pure.fromJsonResolveType(jsonObject , \"" + this.classFullName + "\", " + this.typeObject + ".class, typeKey, es);\n" +
+                                    "                       }\n" : ""
+                    ) +
+                    "                       " + fromJsonCode("propertyValue") +
+                    "                       " + assignmentCode();
+        }
+
+        private String fromJsonCode(String jsonValue)
+        {
+            return "Object res = JsonParserHelper.fromJson(" + jsonValue + ", __" + this.name + "Type, \"" + this.classFullName2 + "\", \"" + this.classFullUserPath + "\", md, classLoader, si, typeKey, failOnUnknownProperties, constraintsOverride, es, \"" + this.className + "\");\n";
+        }
+
+        private String assignmentCode()
+        {
+            return "if (res != null)\n" +
+                    "{\n" +
+                    "result._" + this.name + (this.isToOne ? "" : "Add") + "((" + this.typeObject + ")res);\n" +
+                    "}\n";
+        }
+    }
 
     private static CoreInstance getPropertyResolvedReturnType(CoreInstance classGenericType, CoreInstance property, ProcessorSupport processorSupport)
     {
@@ -255,6 +255,8 @@ public class FunctionProcessor
         if (returnValue)
         {
             body += (body.isEmpty() ? "" : ";\n") + "return " + transformed.getLast() + ";";
+            // No probe without a return value, as the body is then an expression
+            body = processorContext.getCodeCoverageProbe(functionDefinition) + body;
         }
         else
         {
@@ -30,6 +30,7 @@ import org.finos.legend.pure.runtime.java.compiled.generation.processors.NativeF
 import org.finos.legend.pure.runtime.java.compiled.generation.processors.type.TypeProcessor;
 
 import java.lang.reflect.Method;
+import java.util.function.IntFunction;
 
 public abstract class AbstractNativeFunctionGeneric extends AbstractNative
 {
@@ -128,6 +129,29 @@ public abstract class AbstractNativeFunctionGeneric extends AbstractNative
             paramCount -= 1;
         }
 
+        // natives of one or two parameters can be executed without allocating an argument list
+        String executeWith = ((paramCount == 1) || (paramCount == 2)) ?
+                "\n" +
+                "   @Override\n" +
+                "   public Object executeWith(" + ((paramCount == 1) ? "Object var0" : "Object var0, Object var1") + ", final ExecutionSupport es)\n" +
+                "   {\n" +
+                "       return " + this.methodName + "(" + buildParameterAccessStrings(paramCount, index -> "var" + index).makeString(", ") + ");\n" +
+                "   }\n" :
+                "";
+
+        return "new SharedPureFunction<Object>()\n" +
+                "{\n" +
+                "   @Override\n" +
+                "   public Object execute(ListIterable<?> vars, final ExecutionSupport es)\n" +
+                "   {\n" +
+                "       return " + this.methodName + "(" + buildParameterAccessStrings(paramCount, index -> "vars.get(" + index + ")").makeString(", ") + ");\n" +
+                "   }\n" +
+                executeWith +
+                "\n}";
+    }
+
+    private MutableList<String> buildParameterAccessStrings(int paramCount, IntFunction<String> parameterValue)
+    {
         MutableList<String> parameterAccessStrings = Lists.mutable.ofInitialCapacity(this.parameterTypes.size());
         if (paramCount > 0)
         {
@@ -135,7 +159,7 @@ public abstract class AbstractNativeFunctionGeneric extends AbstractNative
             {
                 String typeName = getClassName(type);
                 String parameterType = type instanceof Class && ((Class<?>) type).isArray() ? "ListIterable<" + typeName + ">" : typeName;
-                parameterAccessStrings.add("(" + parameterType + ")vars.get(" + index + ")");
+                parameterAccessStrings.add("(" + parameterType + ")" + parameterValue.apply(index));
             });
         }
 
@@ -148,15 +172,7 @@ public abstract class AbstractNativeFunctionGeneric extends AbstractNative
         {
             parameterAccessStrings.add("es");
         }
-
-        return "new SharedPureFunction<Object>()\n" +
-                "{\n" +
-                "   @Override\n" +
-                "   public Object execute(ListIterable<?> vars, final ExecutionSupport es)\n" +
-                "   {\n" +
-                "       return " + this.methodName + "(" + parameterAccessStrings.makeString(", ") + ");\n" +
-                "   }\n" +
-                "\n}";
+        return parameterAccessStrings;
     }
 
 
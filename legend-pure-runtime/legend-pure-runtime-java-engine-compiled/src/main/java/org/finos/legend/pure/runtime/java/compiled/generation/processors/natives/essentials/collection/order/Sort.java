@@ -15,6 +15,11 @@
 package org.finos.legend.pure.runtime.java.compiled.generation.processors.natives.essentials.collection.order;
 
 import org.eclipse.collections.api.list.ListIterable;
+import org.finos.legend.pure.m3.navigation.Instance;
+import org.finos.legend.pure.m3.navigation.M3Properties;
+import org.finos.legend.pure.m3.navigation.ProcessorSupport;
+import org.finos.legend.pure.m3.navigation.function.Function;
+import org.finos.legend.pure.m3.navigation.valuespecification.ValueSpecification;
 import org.finos.legend.pure.m4.coreinstance.CoreInstance;
 import org.finos.legend.pure.runtime.java.compiled.generation.ProcessorContext;
 import org.finos.legend.pure.runtime.java.compiled.generation.processors.natives.AbstractNativeFunctionGeneric;
@@ -30,10 +35,46 @@ public class Sort extends AbstractNativeFunctionGeneric
     @Override
     public String build(CoreInstance topLevelElement, CoreInstance functionExpression, ListIterable<String> transformedParams, ProcessorContext processorContext)
     {
+        ProcessorSupport processorSupport = processorContext.getSupport();
+        CoreInstance comparator = Instance.getValueForMetaPropertyToManyResolved(functionExpression, M3Properties.parametersValues, processorSupport).get(2);
+        int direction = getStandardComparatorDirection(comparator, processorSupport);
+        if (direction != 0)
+        {
+            return "CompiledSupport.toSortedByStandardComparator("
+                    + transformedParams.get(0) + ", " +
+                    "PureCompiledLambda.getPureFunction(" + transformedParams.get(1) + ",es), " +
+                    (direction < 0) + ", " +
+                    "es)";
+        }
         return "CompiledSupport.toSorted("
                 + transformedParams.get(0) + ", " +
                 "PureCompiledLambda.getPureFunction(" + transformedParams.get(1) + ",es), " +
                 "PureCompiledLambda.getPureFunction(" + transformedParams.get(2) + ",es)," +
                 "es)";
     }
+
+    private static int getStandardComparatorDirection(CoreInstance comparator, ProcessorSupport processorSupport)
+    {
+        if (!ValueSpecification.isInstanceValue(comparator, processorSupport))
+        {
+            return 0;
+        }
+        ListIterable<? extends CoreInstance> values = Instance.getValueForMetaPropertyToManyResolved(comparator, M3Properties.values, processorSupport);
+        switch (values.size())
+        {
+            case 0:
+            {
+                // no comparator: sort with compare
+                return 1;
+            }
+            case 1:
+            {
+                return Function.getStandardComparatorDirection(values.get(0), processorSupport);
+            }
+            default:
+            {
+                return 0;
+            }
+        }
+    }
 }
@@ -0,0 +1,165 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.runtime.java.compiled.generation.processors.support;
+
+import org.finos.legend.pure.m4.coreinstance.SourceInformation;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Code coverage probes for Java code generated with code coverage enabled.
+ * <p>
+ * The generated code for each Pure source has a preallocated array of probes, registered when it is first used, with
+ * one probe for each function definition (including lambdas and qualified properties) in the source. A probe is
+ * incremented each time its function is executed. Increments are not synchronized, so counts may be lost under
+ * contention; but a probe which has been hit never reads as zero, which is all coverage requires.
+ * <p>
+ * Coverage is written in the same format as interpreted code coverage (see
+ * {@code FunctionExecutionInterpretedWithCodeCoverage}), so the same reports can be generated from it. If the
+ * {@value #COVERAGE_DIRECTORY_PROPERTY} system property is set, coverage is written to a new file in that directory
+ * when the JVM exits.
+ */
+public final class CodeCoverageProbes
+{
+    public static final String COVERAGE_DIRECTORY_PROPERTY = "functionExecutionCompiledCoverageDirectory";
+    public static final String COVERAGE_FILE_EXTENSION = ".purecov";
+
+    private static final char RANGE_SEPARATOR = ';';
+    // keyed by source id, so that when the code for a source is regenerated its new probes replace the old ones
+    private static final ConcurrentMap<String, SourceProbes> PROBES = new ConcurrentHashMap<>();
+
+    static
+    {
+        String coverageDirectory = System.getProperty(COVERAGE_DIRECTORY_PROPERTY);
+        if (coverageDirectory != null)
+        {
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> writeToDirectory(Paths.get(coverageDirectory)), "pure-code-coverage"));
+        }
+    }
+
+    private CodeCoverageProbes()
+    {
+    }
+
+    /**
+     * Register the probes for the functions of a source. This is called by generated code. If probes are already
+     * registered for the source (e.g., because its code has been regenerated and reloaded), they are replaced.
+     *
+     * @param sourceId Pure source id
+     * @param ranges   source ranges of the functions, as produced by {@link #appendRange}; for large sources, these may
+     *                 be split into several strings
+     * @return probes, one for each range
+     */
+    public static int[] register(String sourceId, String... ranges)
+    {
+        String[] splitRanges = String.join("", ranges).split(String.valueOf(RANGE_SEPARATOR));
+        SourceProbes sourceProbes = new SourceProbes(sourceId, splitRanges);
+        PROBES.put(sourceId, sourceProbes);
+        return sourceProbes.probes;
+    }
+
+    /**
+     * Append the source range of a function, terminated by a separator, to a range string to be passed to
+     * {@link #register}. This is the range of the function in the format in which coverage is written.
+     *
+     * @param builder           range string builder
+     * @param sourceInformation source information of the function
+     * @return the builder
+     */
+    public static StringBuilder appendRange(StringBuilder builder, SourceInformation sourceInformation)
+    {
+        return builder.append(sourceInformation.getStartLine() - 1).append(' ')
+                .append(sourceInformation.getStartColumn() - 1).append(' ')
+                .append(sourceInformation.getEndLine() - 1).append(' ')
+                .append(sourceInformation.getEndColumn()).append(RANGE_SEPARATOR);
+    }
+
+    /**
+     * Write the source ranges of all the functions which have been executed, one per line.
+     *
+     * @param writer writer
+     */
+    public static void write(PrintWriter writer)
+    {
+        PROBES.values().forEach(sourceProbes ->
+        {
+            int[] probes = sourceProbes.probes;
+            for (int i = 0; i < probes.length; i++)
+            {
+                if (probes[i] != 0)
+                {
+                    writer.append(sourceProbes.sourceId).append(' ').append(sourceProbes.ranges[i]).println();
+                }
+            }
+        });
+        writer.flush();
+    }
+
+    /**
+     * Write coverage to a new file in the given directory.
+     *
+     * @param coverageDirectory coverage directory
+     * @return coverage file
+     */
+    public static Path writeToDirectory(Path coverageDirectory)
+    {
+        try
+        {
+            Files.createDirectories(coverageDirectory);
+            Path file = coverageDirectory.resolve(UUID.randomUUID() + COVERAGE_FILE_EXTENSION);
+            try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(file, StandardOpenOption.CREATE_NEW)))
+            {
+                write(writer);
+            }
+            return file;
+        }
+        catch (IOException e)
+        {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Reset all probes, so that only functions executed from now on are covered.
+     */
+    public static void reset()
+    {
+        PROBES.values().forEach(sourceProbes -> Arrays.fill(sourceProbes.probes, 0));
+    }
+
+    private static class SourceProbes
+    {
+        private final String sourceId;
+        private final String[] ranges;
+        private final int[] probes;
+
+        private SourceProbes(String sourceId, String[] ranges)
+        {
+            this.sourceId = sourceId;
+            this.ranges = ranges;
+            this.probes = new int[ranges.length];
+        }
+    }
+}
@@ -53,6 +53,9 @@ import org.finos.legend.pure.m3.navigation.M3Paths;
 import org.finos.legend.pure.m3.navigation.M3Properties;
 import org.finos.legend.pure.m3.navigation.PackageableElement.PackageableElement;
 import org.finos.legend.pure.m3.navigation.ProcessorSupport;
+import org.finos.legend.pure.m3.statelistener.ExecutionSpan;
+import org.finos.legend.pure.m3.statelistener.ExecutionTracing;
+import org.finos.legend.pure.m3.tools.SortTools;
 import org.finos.legend.pure.m4.ModelRepository;
 import org.finos.legend.pure.m4.coreinstance.AbstractCoreInstance;
 import org.finos.legend.pure.m4.coreinstance.CoreInstance;
@@ -75,6 +78,7 @@ import org.finos.legend.pure.runtime.java.compiled.generation.JavaSourceCodeGene
 import org.finos.legend.pure.runtime.java.compiled.generation.ProcessorContext;
 import org.finos.legend.pure.runtime.java.compiled.generation.processors.FunctionProcessor;
 import org.finos.legend.pure.runtime.java.compiled.generation.processors.IdBuilder;
+import org.finos.legend.pure.runtime.java.compiled.generation.processors.support.collection.PersistentList;
 import org.finos.legend.pure.runtime.java.compiled.generation.processors.support.coreinstance.JavaCompiledCoreInstance;
 import org.finos.legend.pure.runtime.java.compiled.generation.processors.support.coreinstance.QuantityCoreInstance;
 import org.finos.legend.pure.runtime.java.compiled.generation.processors.support.coreinstance.ReflectiveCoreInstance;
@@ -635,9 +639,8 @@ public class CompiledSupport
         {
             return (RichIterable<T>) list;
         }
-        MutableList<T> newList = (list == null) ? Lists.mutable.empty() : Lists.mutable.withAll(list);
-        newList.add((element instanceof Iterable) ? Iterate.getFirst((Iterable<T>) element) : element);
-        return newList;
+        PersistentList<T> newList = (list == null) ? PersistentList.empty() : PersistentList.ofAll(list);
+        return newList.newWith((element instanceof Iterable) ? Iterate.getFirst((Iterable<T>) element) : element);
     }
 
     @SuppressWarnings("unchecked")
@@ -647,9 +650,8 @@ public class CompiledSupport
         {
             return (RichIterable<T>) list;
         }
-        MutableList<T> newList = (list == null) ? Lists.mutable.empty() : Lists.mutable.withAll(list);
-        newList.add((int) index, (element instanceof Iterable) ? Iterate.getFirst((Iterable<T>) element) : element);
-        return newList;
+        PersistentList<T> newList = (list == null) ? PersistentList.empty() : PersistentList.ofAll(list);
+        return newList.newWith((int) index, (element instanceof Iterable) ? Iterate.getFirst((Iterable<T>) element) : element);
     }
 
     @SuppressWarnings("rawtypes")
@@ -675,24 +677,9 @@ public class CompiledSupport
             return LazyIterate.concatenate(it1, it2);
         }
 
-        MutableList<Object> result = Lists.mutable.empty();
-        if (list1 instanceof Iterable)
-        {
-            result.addAllIterable((Iterable<?>) list1);
-        }
-        else
-        {
-            result.add(list1);
-        }
-        if (list2 instanceof Iterable)
-        {
-            result.addAllIterable((Iterable<?>) list2);
-        }
-        else
-        {
-            result.add(list2);
-        }
-        return result;
+        // persistent lists share structure, so repeatedly concatenating onto a result is not quadratic
+        PersistentList<Object> result = (list1 instanceof Iterable) ? PersistentList.ofAll((Iterable<?>) list1) : PersistentList.empty().newWith(list1);
+        return (list2 instanceof Iterable) ? result.newWithAll((Iterable<?>) list2) : result.newWith(list2);
     }
 
     public static RichIterable<Long> range(long start, long stop, long step, SourceInformation sourceInformation)
@@ -899,12 +886,14 @@ public class CompiledSupport
             return Lists.immutable.empty();
         }
 
+        if (comp == null)
+        {
+            return toSortedByStandardComparator(collection, keyFn, false, es);
+        }
+
         if (keyFn == null)
         {
-            Comparator<T> comparator = (comp == null) ?
-                    CompiledSupport::compareInt :
-                    (left, right) -> comp.execute(Lists.immutable.with(left, right), es).intValue();
-            return collection.toSortedList(comparator);
+            return collection.toSortedList((left, right) -> comp.executeWith(left, right, es).intValue());
         }
 
         class ElementWithKey
@@ -922,7 +911,7 @@ public class CompiledSupport
             {
                 if (!this.keyComputed)
                 {
-                    this.key = keyFn.execute(Lists.immutable.with(this.value), es);
+                    this.key = keyFn.executeWith(this.value, es);
                     this.keyComputed = true;
                 }
                 return this.key;
@@ -936,12 +925,98 @@ public class CompiledSupport
 
         Comparator<ElementWithKey> comparator = (comp == null) ?
                 (left, right) -> compareInt(left.getKey(), right.getKey()) :
-                (left, right) -> comp.execute(Lists.immutable.with(left.getKey(), right.getKey()), es).intValue();
+                (left, right) -> comp.executeWith(left.getKey(), right.getKey(), es).intValue();
         return collection.collect(ElementWithKey::new, Lists.mutable.empty())
                 .sortThis(comparator)
                 .collect(ElementWithKey::getValue);
     }
 
+    /**
+     * Sort a collection as with a standard ascending or descending comparator (i.e., one which orders values as the
+     * compare function does), but without calling a Pure comparator. Keys are computed once each, and keys of a single
+     * primitive type are compared unboxed.
+     *
+     * @param collection collection to sort
+     * @param keyFn      key function (may be null)
+     * @param descending whether to sort in descending order
+     * @param es         execution support
+     * @param <T>        element type
+     * @return sorted list
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> RichIterable<T> toSortedByStandardComparator(RichIterable<T> collection, SharedPureFunction<?> keyFn, boolean descending, ExecutionSupport es)
+    {
+        if (collection == null)
+        {
+            return Lists.immutable.empty();
+        }
+
+        Object[] values = collection.toArray();
+        if (values.length < 2)
+        {
+            return Lists.mutable.with((T[]) values);
+        }
+
+        Object[] keys;
+        if (keyFn == null)
+        {
+            keys = values;
+        }
+        else
+        {
+            keys = new Object[values.length];
+            for (int i = 0; i < values.length; i++)
+            {
+                keys[i] = keyFn.executeWith(values[i], es);
+            }
+        }
+
+        int[] order;
+        Class<?> keyClass = getCommonClass(keys);
+        if (keyClass == Long.class)
+        {
+            long[] longKeys = new long[keys.length];
+            for (int i = 0; i < keys.length; i++)
+            {
+                longKeys[i] = (Long) keys[i];
+            }
+            order = SortTools.sortIndices(longKeys, descending);
+        }
+        else if (keyClass == Double.class)
+        {
+            double[] doubleKeys = new double[keys.length];
+            for (int i = 0; i < keys.length; i++)
+            {
+                doubleKeys[i] = (Double) keys[i];
+            }
+            order = SortTools.sortIndices(doubleKeys, descending);
+        }
+        else if (keyClass == String.class)
+        {
+            String[] stringKeys = new String[keys.length];
+            System.arraycopy(keys, 0, stringKeys, 0, keys.length);
+            order = SortTools.sortIndices(stringKeys, Comparator.naturalOrder(), descending);
+        }
+        else
+        {
+            order = SortTools.sortIndices(keys, DEFAULT_COMPARATOR, descending);
+        }
+        return Lists.mutable.with((T[]) SortTools.reorder(values, order));
+    }
+
+    private static Class<?> getCommonClass(Object[] objects)
+    {
+        Class<?> commonClass = (objects[0] == null) ? null : objects[0].getClass();
+        for (int i = 1; (commonClass != null) && (i < objects.length); i++)
+        {
+            if ((objects[i] == null) || (objects[i].getClass() != commonClass))
+            {
+                return null;
+            }
+        }
+        return commonClass;
+    }
+
 
     /**
      * Implementation of the Pure "eq" function.  This returns
@@ -1655,7 +1730,7 @@ public class CompiledSupport
         JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
         MemoryFileManager manager = new MemoryFileManager(compiler, fileManager, null);
 
-        try
+        try (ExecutionSpan ignore = ExecutionTracing.startSpan("reactivate", "compileLambda"))
         {
             PureJavaCompiler.compile(compiler, javaClasses, manager);
         }
@@ -1741,7 +1816,7 @@ public class CompiledSupport
         JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
         MemoryFileManager manager = new MemoryFileManager(compiler, fileManager, null);
 
-        try
+        try (ExecutionSpan ignore = ExecutionTracing.startSpan("reactivate", "compileValueSpecification"))
         {
             PureJavaCompiler.compile(compiler, javaClasses, manager);
         }
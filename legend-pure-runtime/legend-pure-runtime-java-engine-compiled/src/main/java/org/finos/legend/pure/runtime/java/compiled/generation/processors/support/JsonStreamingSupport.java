@@ -0,0 +1,508 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.runtime.java.compiled.generation.processors.support;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.util.JsonParserSequence;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import org.eclipse.collections.api.factory.Stacks;
+import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.type.ConstraintsOverride;
+import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.type.Enumeration;
+import org.finos.legend.pure.m3.exception.PureExecutionException;
+import org.finos.legend.pure.m3.execution.ExecutionSupport;
+import org.finos.legend.pure.m3.navigation.M3Paths;
+import org.finos.legend.pure.m4.coreinstance.SourceInformation;
+import org.finos.legend.pure.m4.coreinstance.primitive.date.DateFunctions;
+import org.finos.legend.pure.m4.coreinstance.primitive.date.PureDate;
+import org.finos.legend.pure.m4.coreinstance.primitive.strictTime.StrictTimeFunctions;
+import org.finos.legend.pure.m4.exception.PureException;
+import org.finos.legend.pure.runtime.java.compiled.execution.CompiledExecutionSupport;
+import org.finos.legend.pure.runtime.java.compiled.metadata.MetadataAccessor;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+/**
+ * Support for the streaming JSON factories generated by ClassJsonFactoryProcessor. A streaming factory reads the
+ * fields of a JSON object from a pull parser, converting each value to the type of its property as it is read, so
+ * that no intermediate representation of the JSON is built.
+ */
+public class JsonStreamingSupport
+{
+    private static final String FACTORY_SUFFIX = "_JsonFactory";
+    private static final String FACTORY_METHOD = "fromJson";
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private static final ClassValue<Method> FACTORIES = new ClassValue<Method>()
+    {
+        @Override
+        protected Method computeValue(Class<?> type)
+        {
+            return findFactoryMethod(type);
+        }
+    };
+
+    private JsonStreamingSupport()
+    {
+    }
+
+    /**
+     * Deserialize an instance of a class from a JSON string, which must consist of a single JSON object.
+     *
+     * @see #fromJson(JsonParser, Class, String, MetadataAccessor, ClassLoader, SourceInformation, String, boolean, ConstraintsOverride, ExecutionSupport, String)
+     */
+    public static Object fromJson(String json, Class<?> type, String pureType, MetadataAccessor md, ClassLoader classLoader, SourceInformation si, String typeKey, boolean failOnUnknownProperties, ConstraintsOverride constraintsOverride, ExecutionSupport es)
+    {
+        try (JsonParser parser = JSON_FACTORY.createParser(json))
+        {
+            return fromJsonDocument(parser, type, pureType, md, classLoader, si, typeKey, failOnUnknownProperties, constraintsOverride, es);
+        }
+        catch (IOException e)
+        {
+            throw new PureExecutionException(si, "Error reading JSON: " + e.getMessage(), e, Stacks.mutable.empty());
+        }
+    }
+
+    /**
+     * Deserialize an instance of a class from a reader, whose content must consist of a single JSON object. The
+     * reader is read incrementally and is closed on return.
+     *
+     * @see #fromJson(JsonParser, Class, String, MetadataAccessor, ClassLoader, SourceInformation, String, boolean, ConstraintsOverride, ExecutionSupport, String)
+     */
+    public static Object fromJson(Reader reader, Class<?> type, String pureType, MetadataAccessor md, ClassLoader classLoader, SourceInformation si, String typeKey, boolean failOnUnknownProperties, ConstraintsOverride constraintsOverride, ExecutionSupport es)
+    {
+        try (JsonParser parser = JSON_FACTORY.createParser(reader))
+        {
+            return fromJsonDocument(parser, type, pureType, md, classLoader, si, typeKey, failOnUnknownProperties, constraintsOverride, es);
+        }
+        catch (IOException e)
+        {
+            throw new PureExecutionException(si, "Error reading JSON: " + e.getMessage(), e, Stacks.mutable.empty());
+        }
+    }
+
+    private static Object fromJsonDocument(JsonParser parser, Class<?> type, String pureType, MetadataAccessor md, ClassLoader classLoader, SourceInformation si, String typeKey, boolean failOnUnknownProperties, ConstraintsOverride constraintsOverride, ExecutionSupport es) throws IOException
+    {
+        if (parser.nextToken() != JsonToken.START_OBJECT)
+        {
+            throw new PureExecutionException(si, "Expected a JSON object, found: " + parser.currentToken(), Stacks.mutable.empty());
+        }
+        Object result = fromJson(parser, type, pureType, md, classLoader, si, typeKey, failOnUnknownProperties, constraintsOverride, es, null);
+        JsonToken token = parser.nextToken();
+        if (token != null)
+        {
+            throw new PureExecutionException(si, "Unexpected JSON content after object: " + token, Stacks.mutable.empty());
+        }
+        return result;
+    }
+
+    /**
+     * Deserialize an instance of a class from a JSON object read from a parser. The parser must be positioned on the
+     * start of the object, or on a null value in which case null is returned. On return, the parser is positioned on
+     * the end of the object.
+     * <p>
+     * If the class has specializations, the object is deserialized as the type named by its type key field. If that
+     * is the first field, the object is streamed into that type. Otherwise, the object is buffered as tokens until
+     * the type key is found, and then replayed, since the type must be known before any properties can be read.
+     *
+     * @param parser                  JSON parser
+     * @param type                    Java interface for the class
+     * @param pureType                system path of the class
+     * @param md                      metadata accessor
+     * @param classLoader             class loader
+     * @param si                      source information
+     * @param typeKey                 name of the type key field
+     * @param failOnUnknownProperties whether to fail if the object has fields which are not properties of the class
+     * @param constraintsOverride     constraints override
+     * @param es                      execution support
+     * @param parentClass             Java interface name of the class of the instance being deserialized into (may be null)
+     * @return deserialized instance
+     * @throws IOException if there is an error reading
+     */
+    public static Object fromJson(JsonParser parser, Class<?> type, String pureType, MetadataAccessor md, ClassLoader classLoader, SourceInformation si, String typeKey, boolean failOnUnknownProperties, ConstraintsOverride constraintsOverride, ExecutionSupport es, String parentClass) throws IOException
+    {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NULL)
+        {
+            return null;
+        }
+        if (token != JsonToken.START_OBJECT)
+        {
+            throw new PureExecutionException(si, "Expected a JSON object, found: " + token, Stacks.mutable.empty());
+        }
+
+        CompiledExecutionSupport compiledExecutionSupport = (CompiledExecutionSupport) es;
+        if ((typeKey == null) || md.getClass(pureType)._specializations().isEmpty())
+        {
+            return invokeFactory(FACTORIES.get(type), parser, md, classLoader, si, typeKey, failOnUnknownProperties, constraintsOverride, es, parentClass);
+        }
+
+        token = parser.nextToken();
+        if ((token == JsonToken.FIELD_NAME) && typeKey.equals(parser.getCurrentName()))
+        {
+            parser.nextToken();
+            Class<?> resolvedType = Pure.fromJsonResolveType(readTypeName(parser), pureType, type, compiledExecutionSupport);
+            return invokeFactory(FACTORIES.get(resolvedType), parser, md, classLoader, si, typeKey, failOnUnknownProperties, constraintsOverride, es, parentClass);
+        }
+
+        // buffer the fields before the type key, then replay them followed by the rest of the object
+        TokenBuffer buffer = new TokenBuffer(parser);
+        buffer.writeStartObject();
+        String typeName = null;
+        for (; token == JsonToken.FIELD_NAME; token = parser.nextToken())
+        {
+            String name = parser.getCurrentName();
+            parser.nextToken();
+            if (typeKey.equals(name))
+            {
+                typeName = readTypeName(parser);
+                break;
+            }
+            buffer.writeFieldName(name);
+            buffer.copyCurrentStructure(parser);
+        }
+        JsonParser bufferedParser;
+        if (token == JsonToken.END_OBJECT)
+        {
+            buffer.writeEndObject();
+            bufferedParser = replay(buffer);
+        }
+        else if (token == JsonToken.FIELD_NAME)
+        {
+            bufferedParser = JsonParserSequence.createFlattened(false, replay(buffer), parser);
+        }
+        else
+        {
+            throw new PureExecutionException(si, "Expected a field name, found: " + token, Stacks.mutable.empty());
+        }
+        Class<?> resolvedType = Pure.fromJsonResolveType(typeName, pureType, type, compiledExecutionSupport);
+        return invokeFactory(FACTORIES.get(resolvedType), bufferedParser, md, classLoader, si, typeKey, failOnUnknownProperties, constraintsOverride, es, parentClass);
+    }
+
+    /**
+     * Move to the next field of the object being read. If there is one, the parser is left on its value and its name
+     * is returned. Otherwise, the parser is left on the end of the object and null is returned.
+     *
+     * @param parser JSON parser
+     * @return next field name, or null at the end of the object
+     * @throws IOException if there is an error reading
+     */
+    public static String nextFieldName(JsonParser parser) throws IOException
+    {
+        JsonToken token = parser.nextToken();
+        if (token == JsonToken.END_OBJECT)
+        {
+            return null;
+        }
+        if (token != JsonToken.FIELD_NAME)
+        {
+            throw new IOException("Expected a field name, found: " + token);
+        }
+        String name = parser.getCurrentName();
+        parser.nextToken();
+        return name;
+    }
+
+    /**
+     * Read the primitive value the parser is positioned on, as an instance of the given primitive type. Integers are
+     * accepted for Float and Decimal, and dates are read from strings. Any accepts any scalar value.
+     *
+     * @param parser JSON parser
+     * @param type   name of the primitive type
+     * @param si     source information
+     * @return value, or null for a JSON null
+     * @throws IOException if there is an error reading
+     */
+    public static Object readPrimitive(JsonParser parser, String type, SourceInformation si) throws IOException
+    {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NULL)
+        {
+            return null;
+        }
+        switch (type)
+        {
+            case M3Paths.String:
+            {
+                if (token == JsonToken.VALUE_STRING)
+                {
+                    return parser.getText();
+                }
+                break;
+            }
+            case M3Paths.Boolean:
+            {
+                if (token.isBoolean())
+                {
+                    return parser.getBooleanValue();
+                }
+                break;
+            }
+            case M3Paths.Integer:
+            {
+                if (token == JsonToken.VALUE_NUMBER_INT)
+                {
+                    return parser.getLongValue();
+                }
+                break;
+            }
+            case M3Paths.Float:
+            {
+                if (token.isNumeric())
+                {
+                    return parser.getDoubleValue();
+                }
+                break;
+            }
+            case M3Paths.Decimal:
+            {
+                if (token.isNumeric())
+                {
+                    return parser.getDecimalValue();
+                }
+                break;
+            }
+            case M3Paths.Number:
+            {
+                if (token == JsonToken.VALUE_NUMBER_INT)
+                {
+                    return parser.getLongValue();
+                }
+                if (token == JsonToken.VALUE_NUMBER_FLOAT)
+                {
+                    return parser.getDoubleValue();
+                }
+                break;
+            }
+            case M3Paths.Date:
+            case M3Paths.StrictDate:
+            case M3Paths.DateTime:
+            {
+                if (token == JsonToken.VALUE_STRING)
+                {
+                    return readDate(parser.getText(), type, si);
+                }
+                break;
+            }
+            case M3Paths.StrictTime:
+            {
+                if (token == JsonToken.VALUE_STRING)
+                {
+                    return StrictTimeFunctions.parsePureStrictTime(parser.getText());
+                }
+                break;
+            }
+            case M3Paths.Any:
+            {
+                switch (token)
+                {
+                    case VALUE_STRING:
+                    {
+                        return parser.getText();
+                    }
+                    case VALUE_NUMBER_INT:
+                    {
+                        return parser.getLongValue();
+                    }
+                    case VALUE_NUMBER_FLOAT:
+                    {
+                        return parser.getDoubleValue();
+                    }
+                    case VALUE_TRUE:
+                    case VALUE_FALSE:
+                    {
+                        return parser.getBooleanValue();
+                    }
+                    default:
+                    {
+                        break;
+                    }
+                }
+                break;
+            }
+            default:
+            {
+                throw new PureExecutionException(si, "Deserialization of JSON to type " + type + " is not supported", Stacks.mutable.empty());
+            }
+        }
+        throw new PureExecutionException(si, "Expected " + type + ", found " + describe(parser), Stacks.mutable.empty());
+    }
+
+    /**
+     * Read the enum named by the string value the parser is positioned on.
+     *
+     * @param parser      JSON parser
+     * @param enumeration system path of the enumeration
+     * @param md          metadata accessor
+     * @param si          source information
+     * @return enum, or null for a JSON null
+     * @throws IOException if there is an error reading
+     */
+    public static Object readEnum(JsonParser parser, String enumeration, MetadataAccessor md, SourceInformation si) throws IOException
+    {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NULL)
+        {
+            return null;
+        }
+        Enumeration<?> enumerationInstance = md.getEnumeration(enumeration);
+        if (token != JsonToken.VALUE_STRING)
+        {
+            throw new PureExecutionException(si, "Expected " + enumerationInstance._name() + ", found " + describe(parser), Stacks.mutable.empty());
+        }
+        String name = parser.getText();
+        Object value = Pure.getEnumByName(enumerationInstance, name);
+        if (value == null)
+        {
+            throw new PureExecutionException(si, "Unknown enum: " + enumerationInstance._name() + "." + name, Stacks.mutable.empty());
+        }
+        return value;
+    }
+
+    /**
+     * Check that the number of values read for a property is within its multiplicity.
+     *
+     * @param count        number of values
+     * @param lowerBound   lower bound of the multiplicity
+     * @param upperBound   upper bound of the multiplicity, or a negative number if it is unbounded
+     * @param multiplicity multiplicity, for the error message
+     * @param si           source information
+     */
+    public static void checkMultiplicity(int count, int lowerBound, int upperBound, String multiplicity, SourceInformation si)
+    {
+        if ((count < lowerBound) || ((upperBound >= 0) && (count > upperBound)))
+        {
+            throw new PureExecutionException(si, "Expected value(s) of multiplicity " + multiplicity + ", found " + count + " value(s).", Stacks.mutable.empty());
+        }
+    }
+
+    /**
+     * Buffer the value the parser is positioned on, so that it can be read more than once. On return, the parser is
+     * positioned on the last token of the value.
+     *
+     * @param parser JSON parser
+     * @return buffered value
+     * @throws IOException if there is an error reading
+     * @see #replay(TokenBuffer)
+     */
+    public static TokenBuffer bufferValue(JsonParser parser) throws IOException
+    {
+        TokenBuffer buffer = new TokenBuffer(parser);
+        buffer.copyCurrentStructure(parser);
+        return buffer;
+    }
+
+    /**
+     * Get a parser for a buffered value, positioned on its first token.
+     *
+     * @param buffer buffered value
+     * @return JSON parser
+     * @throws IOException if there is an error reading
+     */
+    public static JsonParser replay(TokenBuffer buffer) throws IOException
+    {
+        JsonParser parser = buffer.asParser();
+        parser.nextToken();
+        return parser;
+    }
+
+    private static String readTypeName(JsonParser parser) throws IOException
+    {
+        JsonToken token = parser.currentToken();
+        if (token.isScalarValue())
+        {
+            return (token == JsonToken.VALUE_NULL) ? null : parser.getText();
+        }
+        parser.skipChildren();
+        return null;
+    }
+
+    private static PureDate readDate(String text, String type, SourceInformation si)
+    {
+        PureDate date = DateFunctions.parsePureDate(text);
+        if ((M3Paths.StrictDate.equals(type) && date.hasHour()) || (M3Paths.DateTime.equals(type) && !date.hasHour()))
+        {
+            throw new PureExecutionException(si, "Expected " + type + ", found '" + text + "'", Stacks.mutable.empty());
+        }
+        return date;
+    }
+
+    private static String describe(JsonParser parser) throws IOException
+    {
+        JsonToken token = parser.currentToken();
+        switch (token)
+        {
+            case START_OBJECT:
+            {
+                return "a JSON object";
+            }
+            case START_ARRAY:
+            {
+                return "a JSON array";
+            }
+            case VALUE_STRING:
+            {
+                return "'" + parser.getText() + "'";
+            }
+            default:
+            {
+                return parser.getText();
+            }
+        }
+    }
+
+    private static Object invokeFactory(Method factory, JsonParser parser, MetadataAccessor md, ClassLoader classLoader, SourceInformation si, String typeKey, boolean failOnUnknownProperties, ConstraintsOverride constraintsOverride, ExecutionSupport es, String parentClass)
+    {
+        try
+        {
+            return factory.invoke(null, parser, md, classLoader, si, typeKey, failOnUnknownProperties, constraintsOverride, es, parentClass);
+        }
+        catch (InvocationTargetException e)
+        {
+            Throwable cause = e.getCause();
+            if (cause instanceof PureException)
+            {
+                throw (PureException) cause;
+            }
+            if (cause instanceof Error)
+            {
+                throw (Error) cause;
+            }
+            throw new PureExecutionException(si, "Error deserializing JSON", cause, Stacks.mutable.empty());
+        }
+        catch (IllegalAccessException e)
+        {
+            throw new PureExecutionException(si, "Error deserializing JSON", e, Stacks.mutable.empty());
+        }
+    }
+
+    private static Method findFactoryMethod(Class<?> type)
+    {
+        try
+        {
+            Class<?> factoryClass = Class.forName(type.getName() + FACTORY_SUFFIX, true, type.getClassLoader());
+            return factoryClass.getMethod(FACTORY_METHOD, JsonParser.class, MetadataAccessor.class, ClassLoader.class, SourceInformation.class, String.class, boolean.class, ConstraintsOverride.class, ExecutionSupport.class, String.class);
+        }
+        catch (ClassNotFoundException | NoSuchMethodException e)
+        {
+            throw new PureExecutionException("No JSON factory for " + type.getName(), e, Stacks.mutable.empty());
+        }
+    }
+}
@@ -57,6 +57,8 @@ import org.finos.legend.pure.m3.navigation.Instance;
 import org.finos.legend.pure.m3.navigation.M3Paths;
 import org.finos.legend.pure.m3.navigation.ProcessorSupport;
 import org.finos.legend.pure.m3.navigation.generictype.GenericType;
+import org.finos.legend.pure.m3.statelistener.ExecutionSpan;
+import org.finos.legend.pure.m3.statelistener.ExecutionTracing;
 import org.finos.legend.pure.m4.coreinstance.CoreInstance;
 import org.finos.legend.pure.m4.coreinstance.SourceInformation;
 import org.finos.legend.pure.m4.coreinstance.primitive.date.DateFunctions;
@@ -491,13 +493,32 @@ public class Pure
                 }
                 return p.execute(paramInstances, es);
             }
-            else
+            return execute(pureFunc, instances, es);
+        }
+        return execute(getSharedPureFunction(func, bridge, es), instances, es);
+    }
+
+    private static Object execute(SharedPureFunction<?> function, Object[] instances, ExecutionSupport es)
+    {
+        if (instances == null)
+        {
+            return function.execute(Lists.mutable.empty(), es);
+        }
+        switch (instances.length)
+        {
+            case 1:
+            {
+                return function.executeWith(instances[0], es);
+            }
+            case 2:
+            {
+                return function.executeWith(instances[0], instances[1], es);
+            }
+            default:
             {
-                pureFunc.execute(Lists.fixedSize.with(instances), es);
+                return function.execute(Lists.mutable.with(instances), es);
             }
         }
-        SharedPureFunction<?> reflectiveNative = getSharedPureFunction(func, bridge, es);
-        return reflectiveNative.execute(instances == null ? Lists.mutable.empty() : Lists.mutable.with(instances), es);
     }
 
     public static Object _evaluateToMany(ExecutionSupport es, Bridge bridge, org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.function.Function<?> func, ListIterable<?> paramInputs)
@@ -534,7 +555,7 @@ public class Pure
         if (func instanceof Column)
         {
             Object instance = getInstanceForPropertyEvaluate(paramInputs, func.getName(), func.getSourceInformation());
-            return Pure.findSharedPureFunction(func, bridge, es).execute(Lists.mutable.with(instance), es);
+            return Pure.findSharedPureFunction(func, bridge, es).executeWith(instance, es);
         }
         RichIterable<? extends VariableExpression> params = ((FunctionType) func._classifierGenericType()._typeArguments().getAny()._rawType())._parameters();
         Class<?>[] paramClasses = new Class<?>[params.size()];
@@ -572,7 +593,7 @@ public class Pure
                     builder.append(" id: '").append(func.getName()).append("' yet");
                     throw new PureExecutionException(func.getSourceInformation(), builder.toString(), Stacks.mutable.empty());
                 }
-                return foundFunc.execute(Lists.mutable.with(paramInstances), es);
+                return execute(foundFunc, paramInstances, es);
             }
             throw new PureExecutionException(func.getSourceInformation(), "Unknown function type:" + func.getClass().getName(), Stacks.mutable.empty());
         }
@@ -1077,21 +1098,26 @@ public class Pure
         //expression, so that we only call the Java compiler once - otherwise it may be called several times as it
         //encounters each sub expression that cannot be evaluated
 
-        if (Reactivator.canReactivateWithoutJavaCompilation(valueSpecification, es, lambdaOpenVariablesMap, bridge))
+        try (ExecutionSpan span = ExecutionTracing.startSpan("reactivate", "reactivate"))
         {
-            try
+            if (Reactivator.canReactivateWithoutJavaCompilation(valueSpecification, es, lambdaOpenVariablesMap, bridge))
             {
-                return Reactivator.reactivateWithoutJavaCompilation(bridge, valueSpecification, lambdaOpenVariablesMap, es);
+                span.withAttribute("javaCompilation", false);
+                try
+                {
+                    return Reactivator.reactivateWithoutJavaCompilation(bridge, valueSpecification, lambdaOpenVariablesMap, es);
+                }
+                catch (PureDynamicReactivateException e)
+                {
+                    throw new RuntimeException("Out of sync state between can reactivate and actual reactive without Java source code", e);
+                }
             }
-            catch (PureDynamicReactivateException e)
+            else
             {
-                throw new RuntimeException("Out of sync state between can reactivate and actual reactive without Java source code", e);
+                span.withAttribute("javaCompilation", true);
+                return CompiledSupport.dynamicallyEvaluateValueSpecification(valueSpecification, lambdaOpenVariablesMap, es);
             }
         }
-        else
-        {
-            return CompiledSupport.dynamicallyEvaluateValueSpecification(valueSpecification, lambdaOpenVariablesMap, es);
-        }
     }
 
     public static boolean canReactivateWithoutJavaCompilation(ValueSpecification valueSpecification, ExecutionSupport es, Bridge bridge)
@@ -1133,7 +1159,11 @@ public class Pure
 
     public static Class<?> fromJsonResolveType(JSONObject jsonObject, String pureType, Class<?> typeFromClassMetaData, String typeKey, CompiledExecutionSupport execSupport)
     {
-        String targetTypeName = (String) jsonObject.get(typeKey);
+        return fromJsonResolveType((String) jsonObject.get(typeKey), pureType, typeFromClassMetaData, execSupport);
+    }
+
+    public static Class<?> fromJsonResolveType(String targetTypeName, String pureType, Class<?> typeFromClassMetaData, CompiledExecutionSupport execSupport)
+    {
         if (targetTypeName != null)
         {
             org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.type.Class<?> cls = execSupport.getMetadataAccessor().getClass(pureType);
@@ -0,0 +1,748 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.runtime.java.compiled.generation.processors.support.collection;
+
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.api.block.procedure.primitive.ObjectIntProcedure;
+import org.eclipse.collections.impl.list.mutable.AbstractMutableList;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+
+/**
+ * A list backed by a persistent, height balanced tree of small arrays. Persistent operations ({@link #newWith},
+ * {@link #newWithAll}, {@link #slice}, etc.) return a new list sharing structure with this one, and cost O(log n)
+ * rather than the O(n) of copying. Indexed access is also O(log n), while iteration is linear.
+ * <p>
+ * Appended elements are buffered in a tail array of up to one leaf, which is only pushed into the tree when full, so
+ * appending one element at a time costs amortized O(1) and fills the leaves. Concatenation also merges small leaves at
+ * the join point, so the tree does not degrade into a tree of tiny leaves.
+ * <p>
+ * The list can also be modified in place, with the usual {@link java.util.List} semantics. Modifications only replace
+ * the tree held by this list, so they are never visible through other lists sharing structure with it.
+ *
+ * @param <T> element type
+ */
+public class PersistentList<T> extends AbstractMutableList<T> implements RandomAccess
+{
+    private static final int MAX_LEAF_SIZE = 32;
+    private static final Object[] EMPTY_TAIL = new Object[0];
+
+    // elements are those of the tree followed by those of the tail, which is never modified in place
+    private Node root;
+    private Object[] tail;
+
+    private PersistentList(Node root, Object[] tail)
+    {
+        this.root = root;
+        this.tail = tail;
+    }
+
+    private PersistentList(Node root)
+    {
+        this(root, EMPTY_TAIL);
+    }
+
+    // Persistent operations
+
+    /**
+     * Return a new list with the element appended. This list is not modified.
+     *
+     * @param element element to append
+     * @return new list
+     */
+    public PersistentList<T> newWith(T element)
+    {
+        if (this.tail.length < MAX_LEAF_SIZE)
+        {
+            return new PersistentList<>(this.root, appendToTail(this.tail, element));
+        }
+        return new PersistentList<>(join(this.root, new Leaf(this.tail)), new Object[]{element});
+    }
+
+    /**
+     * Return a new list with the element inserted at the given index. This list is not modified.
+     *
+     * @param index   index to insert at
+     * @param element element to insert
+     * @return new list
+     */
+    public PersistentList<T> newWith(int index, T element)
+    {
+        checkPositionIndex(index);
+        return new PersistentList<>(insert(tree(), index, element));
+    }
+
+    /**
+     * Return a new list with the given elements appended. This list is not modified. If elements is itself a
+     * persistent list, this is O(log n); otherwise, it is linear in the number of new elements.
+     *
+     * @param elements elements to append
+     * @return new list
+     */
+    public PersistentList<T> newWithAll(Iterable<? extends T> elements)
+    {
+        if (elements instanceof PersistentList)
+        {
+            PersistentList<?> other = (PersistentList<?>) elements;
+            return new PersistentList<>(join(tree(), other.root), other.tail);
+        }
+        return new PersistentList<>(join(tree(), toNode(elements)));
+    }
+
+    /**
+     * Return a new list with the elements from fromIndex (inclusive) to toIndex (exclusive). This list is not
+     * modified. Unlike {@link #subList}, the result is independent of this list.
+     *
+     * @param fromIndex start index (inclusive)
+     * @param toIndex   end index (exclusive)
+     * @return new list
+     */
+    public PersistentList<T> slice(int fromIndex, int toIndex)
+    {
+        int size = size();
+        if ((fromIndex < 0) || (toIndex > size) || (fromIndex > toIndex))
+        {
+            throw new IndexOutOfBoundsException("fromIndex: " + fromIndex + ", toIndex: " + toIndex + ", size: " + size);
+        }
+        return new PersistentList<>(drop(take(tree(), toIndex), fromIndex));
+    }
+
+    // List
+
+    @Override
+    public int size()
+    {
+        return size(this.root) + this.tail.length;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int index)
+    {
+        checkElementIndex(index);
+        int treeSize = size(this.root);
+        if (index >= treeSize)
+        {
+            return (T) this.tail[index - treeSize];
+        }
+        Node node = this.root;
+        while (node instanceof Branch)
+        {
+            Branch branch = (Branch) node;
+            int leftSize = branch.left.size();
+            if (index < leftSize)
+            {
+                node = branch.left;
+            }
+            else
+            {
+                node = branch.right;
+                index -= leftSize;
+            }
+        }
+        return (T) ((Leaf) node).items[index];
+    }
+
+    @Override
+    public boolean add(T element)
+    {
+        if (this.tail.length < MAX_LEAF_SIZE)
+        {
+            this.tail = appendToTail(this.tail, element);
+        }
+        else
+        {
+            this.root = join(this.root, new Leaf(this.tail));
+            this.tail = new Object[]{element};
+        }
+        return true;
+    }
+
+    @Override
+    public void add(int index, T element)
+    {
+        checkPositionIndex(index);
+        setTree(insert(tree(), index, element));
+    }
+
+    @Override
+    public boolean addAllIterable(Iterable<? extends T> iterable)
+    {
+        Node node = toNode(iterable);
+        if (node == null)
+        {
+            return false;
+        }
+        setTree(join(tree(), node));
+        return true;
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends T> collection)
+    {
+        return addAllIterable(collection);
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<? extends T> collection)
+    {
+        checkPositionIndex(index);
+        Node node = toNode(collection);
+        if (node == null)
+        {
+            return false;
+        }
+        Node tree = tree();
+        setTree(join(join(take(tree, index), node), drop(tree, index)));
+        return true;
+    }
+
+    @Override
+    public T set(int index, T element)
+    {
+        T previous = get(index);
+        int treeSize = size(this.root);
+        if (index >= treeSize)
+        {
+            Object[] newTail = this.tail.clone();
+            newTail[index - treeSize] = element;
+            this.tail = newTail;
+        }
+        else
+        {
+            this.root = set(this.root, index, element);
+        }
+        return previous;
+    }
+
+    @Override
+    public T remove(int index)
+    {
+        T previous = get(index);
+        Node tree = tree();
+        setTree(join(take(tree, index), drop(tree, index + 1)));
+        return previous;
+    }
+
+    @Override
+    public void clear()
+    {
+        setTree(null);
+    }
+
+    @Override
+    public PersistentList<T> clone()
+    {
+        return new PersistentList<>(this.root, this.tail);
+    }
+
+    @Override
+    public Iterator<T> iterator()
+    {
+        return new LeafIterator();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void each(Procedure<? super T> procedure)
+    {
+        if (this.root != null)
+        {
+            forEach(this.root, procedure);
+        }
+        for (Object item : this.tail)
+        {
+            procedure.value((T) item);
+        }
+    }
+
+    @Override
+    public void forEachWithIndex(ObjectIntProcedure<? super T> procedure)
+    {
+        int[] index = {0};
+        each(item -> procedure.value(item, index[0]++));
+    }
+
+    /**
+     * Get the number of leaves holding the elements of the list, counting a non-empty tail as a leaf. This is intended
+     * for testing.
+     *
+     * @return number of leaves
+     */
+    int getLeafCount()
+    {
+        return countLeaves(this.root) + ((this.tail.length == 0) ? 0 : 1);
+    }
+
+    /**
+     * Get the whole list as a tree, including the tail.
+     */
+    private Node tree()
+    {
+        return (this.tail.length == 0) ? this.root : join(this.root, new Leaf(this.tail));
+    }
+
+    private void setTree(Node tree)
+    {
+        this.root = tree;
+        this.tail = EMPTY_TAIL;
+    }
+
+    private void checkElementIndex(int index)
+    {
+        if ((index < 0) || (index >= size()))
+        {
+            throw new IndexOutOfBoundsException("Index: " + index + " Size: " + size());
+        }
+    }
+
+    private void checkPositionIndex(int index)
+    {
+        if ((index < 0) || (index > size()))
+        {
+            throw new IndexOutOfBoundsException("Index: " + index + " Size: " + size());
+        }
+    }
+
+    // Factory methods
+
+    public static <T> PersistentList<T> empty()
+    {
+        return new PersistentList<>(null);
+    }
+
+    /**
+     * Get a persistent list with the given elements. If elements is already a persistent list, the result shares its
+     * structure and creation is O(1).
+     *
+     * @param elements elements
+     * @param <T>      element type
+     * @return persistent list
+     */
+    public static <T> PersistentList<T> ofAll(Iterable<? extends T> elements)
+    {
+        return new PersistentList<>(toNode(elements));
+    }
+
+    // Tree operations
+
+    private static Node toNode(Iterable<?> elements)
+    {
+        if (elements instanceof PersistentList)
+        {
+            return ((PersistentList<?>) elements).tree();
+        }
+
+        Object[] array = (elements instanceof Collection) ? ((Collection<?>) elements).toArray() : toArray(elements);
+        return build(array, 0, array.length);
+    }
+
+    private static Object[] appendToTail(Object[] tail, Object element)
+    {
+        Object[] newTail = Arrays.copyOf(tail, tail.length + 1);
+        newTail[tail.length] = element;
+        return newTail;
+    }
+
+    private static Object[] toArray(Iterable<?> elements)
+    {
+        Object[] array = new Object[MAX_LEAF_SIZE];
+        int size = 0;
+        for (Object element : elements)
+        {
+            if (size == array.length)
+            {
+                array = Arrays.copyOf(array, size * 2);
+            }
+            array[size++] = element;
+        }
+        return Arrays.copyOf(array, size);
+    }
+
+    private static Node build(Object[] array, int start, int end)
+    {
+        int length = end - start;
+        if (length == 0)
+        {
+            return null;
+        }
+        if (length <= MAX_LEAF_SIZE)
+        {
+            return new Leaf(Arrays.copyOfRange(array, start, end));
+        }
+        // split on a leaf boundary so that all leaves but the last are full
+        int leafCount = (length + MAX_LEAF_SIZE - 1) / MAX_LEAF_SIZE;
+        int mid = start + ((leafCount / 2) * MAX_LEAF_SIZE);
+        return join(build(array, start, mid), build(array, mid, end));
+    }
+
+    private static int size(Node node)
+    {
+        return (node == null) ? 0 : node.size();
+    }
+
+    private static int height(Node node)
+    {
+        return (node == null) ? -1 : node.height();
+    }
+
+    /**
+     * Concatenate two trees. The cost is proportional to the difference in their heights, plus the height of the tree
+     * when a leaf is merged into the other tree's last or first leaf.
+     */
+    private static Node join(Node left, Node right)
+    {
+        if (left == null)
+        {
+            return right;
+        }
+        if (right == null)
+        {
+            return left;
+        }
+        if (right instanceof Leaf)
+        {
+            Node merged = appendToLastLeaf(left, (Leaf) right);
+            if (merged != null)
+            {
+                return merged;
+            }
+        }
+        else if (left instanceof Leaf)
+        {
+            Node merged = prependToFirstLeaf((Leaf) left, right);
+            if (merged != null)
+            {
+                return merged;
+            }
+        }
+
+        int leftHeight = left.height();
+        int rightHeight = right.height();
+        if (leftHeight > rightHeight + 1)
+        {
+            Branch branch = (Branch) left;
+            return balance(branch.left, join(branch.right, right));
+        }
+        if (rightHeight > leftHeight + 1)
+        {
+            Branch branch = (Branch) right;
+            return balance(join(left, branch.left), branch.right);
+        }
+        return new Branch(left, right);
+    }
+
+    /**
+     * Merge a leaf into the last leaf of a tree, if they fit in one leaf. This does not change the height of the tree.
+     * Returns null if they do not fit.
+     */
+    private static Node appendToLastLeaf(Node node, Leaf leaf)
+    {
+        if (node instanceof Leaf)
+        {
+            return ((node.size() + leaf.size()) <= MAX_LEAF_SIZE) ? mergeLeaves((Leaf) node, leaf) : null;
+        }
+        Branch branch = (Branch) node;
+        Node right = appendToLastLeaf(branch.right, leaf);
+        return (right == null) ? null : new Branch(branch.left, right);
+    }
+
+    /**
+     * Merge a leaf into the first leaf of a tree, if they fit in one leaf. This does not change the height of the
+     * tree. Returns null if they do not fit.
+     */
+    private static Node prependToFirstLeaf(Leaf leaf, Node node)
+    {
+        if (node instanceof Leaf)
+        {
+            return ((leaf.size() + node.size()) <= MAX_LEAF_SIZE) ? mergeLeaves(leaf, (Leaf) node) : null;
+        }
+        Branch branch = (Branch) node;
+        Node left = prependToFirstLeaf(leaf, branch.left);
+        return (left == null) ? null : new Branch(left, branch.right);
+    }
+
+    private static Leaf mergeLeaves(Leaf left, Leaf right)
+    {
+        Object[] items = Arrays.copyOf(left.items, left.items.length + right.items.length);
+        System.arraycopy(right.items, 0, items, left.items.length, right.items.length);
+        return new Leaf(items);
+    }
+
+    /**
+     * Create a branch from two subtrees whose heights differ by at most 2, rotating if necessary.
+     */
+    private static Node balance(Node left, Node right)
+    {
+        int leftHeight = height(left);
+        int rightHeight = height(right);
+        if (leftHeight > rightHeight + 1)
+        {
+            Branch branch = (Branch) left;
+            if (height(branch.left) >= height(branch.right))
+            {
+                return new Branch(branch.left, new Branch(branch.right, right));
+            }
+            Branch inner = (Branch) branch.right;
+            return new Branch(new Branch(branch.left, inner.left), new Branch(inner.right, right));
+        }
+        if (rightHeight > leftHeight + 1)
+        {
+            Branch branch = (Branch) right;
+            if (height(branch.right) >= height(branch.left))
+            {
+                return new Branch(new Branch(left, branch.left), branch.right);
+            }
+            Branch inner = (Branch) branch.left;
+            return new Branch(new Branch(left, inner.left), new Branch(inner.right, branch.right));
+        }
+        return new Branch(left, right);
+    }
+
+    /**
+     * Get a tree with the first count elements of the given tree.
+     */
+    private static Node take(Node node, int count)
+    {
+        if (count <= 0)
+        {
+            return null;
+        }
+        if (count >= size(node))
+        {
+            return node;
+        }
+        if (node instanceof Leaf)
+        {
+            return new Leaf(Arrays.copyOf(((Leaf) node).items, count));
+        }
+        Branch branch = (Branch) node;
+        int leftSize = branch.left.size();
+        return (count <= leftSize) ? take(branch.left, count) : join(branch.left, take(branch.right, count - leftSize));
+    }
+
+    /**
+     * Get a tree without the first count elements of the given tree.
+     */
+    private static Node drop(Node node, int count)
+    {
+        if (count <= 0)
+        {
+            return node;
+        }
+        if (count >= size(node))
+        {
+            return null;
+        }
+        if (node instanceof Leaf)
+        {
+            Object[] items = ((Leaf) node).items;
+            return new Leaf(Arrays.copyOfRange(items, count, items.length));
+        }
+        Branch branch = (Branch) node;
+        int leftSize = branch.left.size();
+        return (count >= leftSize) ? drop(branch.right, count - leftSize) : join(drop(branch.left, count), branch.right);
+    }
+
+    private static Node insert(Node node, int index, Object element)
+    {
+        return join(join(take(node, index), new Leaf(new Object[]{element})), drop(node, index));
+    }
+
+    private static Node set(Node node, int index, Object element)
+    {
+        if (node instanceof Leaf)
+        {
+            Object[] items = ((Leaf) node).items.clone();
+            items[index] = element;
+            return new Leaf(items);
+        }
+        Branch branch = (Branch) node;
+        int leftSize = branch.left.size();
+        return (index < leftSize) ?
+               new Branch(set(branch.left, index, element), branch.right) :
+               new Branch(branch.left, set(branch.right, index - leftSize, element));
+    }
+
+    private static int countLeaves(Node node)
+    {
+        if (node == null)
+        {
+            return 0;
+        }
+        if (node instanceof Leaf)
+        {
+            return 1;
+        }
+        Branch branch = (Branch) node;
+        return countLeaves(branch.left) + countLeaves(branch.right);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> void forEach(Node node, Procedure<? super T> procedure)
+    {
+        if (node instanceof Leaf)
+        {
+            for (Object item : ((Leaf) node).items)
+            {
+                procedure.value((T) item);
+            }
+        }
+        else
+        {
+            Branch branch = (Branch) node;
+            forEach(branch.left, procedure);
+            forEach(branch.right, procedure);
+        }
+    }
+
+    private abstract static class Node
+    {
+        abstract int size();
+
+        abstract int height();
+    }
+
+    private static class Leaf extends Node
+    {
+        private final Object[] items;
+
+        private Leaf(Object[] items)
+        {
+            this.items = items;
+        }
+
+        @Override
+        int size()
+        {
+            return this.items.length;
+        }
+
+        @Override
+        int height()
+        {
+            return 0;
+        }
+    }
+
+    private static class Branch extends Node
+    {
+        private final Node left;
+        private final Node right;
+        private final int size;
+        private final int height;
+
+        private Branch(Node left, Node right)
+        {
+            this.left = left;
+            this.right = right;
+            this.size = left.size() + right.size();
+            this.height = Math.max(left.height(), right.height()) + 1;
+        }
+
+        @Override
+        int size()
+        {
+            return this.size;
+        }
+
+        @Override
+        int height()
+        {
+            return this.height;
+        }
+    }
+
+    private class LeafIterator implements Iterator<T>
+    {
+        // the root and tail being iterated, the current leaf, and the position of that leaf in the list
+        private Node iterationRoot = PersistentList.this.root;
+        private Object[] iterationTail = PersistentList.this.tail;
+        private Object[] leaf;
+        private int leafStart;
+        private int index = 0;
+        private int lastReturned = -1;
+
+        @Override
+        public boolean hasNext()
+        {
+            return this.index < size(this.iterationRoot) + this.iterationTail.length;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T next()
+        {
+            if (!hasNext())
+            {
+                throw new NoSuchElementException();
+            }
+            if ((this.leaf == null) || (this.index >= this.leafStart + this.leaf.length))
+            {
+                seek();
+            }
+            this.lastReturned = this.index;
+            return (T) this.leaf[this.index++ - this.leafStart];
+        }
+
+        @Override
+        public void remove()
+        {
+            if (this.lastReturned == -1)
+            {
+                throw new IllegalStateException();
+            }
+            PersistentList.this.remove(this.lastReturned);
+            this.iterationRoot = PersistentList.this.root;
+            this.iterationTail = PersistentList.this.tail;
+            this.index = this.lastReturned;
+            this.lastReturned = -1;
+            this.leaf = null;
+        }
+
+        private void seek()
+        {
+            int treeSize = size(this.iterationRoot);
+            if (this.index >= treeSize)
+            {
+                this.leaf = this.iterationTail;
+                this.leafStart = treeSize;
+                return;
+            }
+            Node node = this.iterationRoot;
+            int start = 0;
+            while (node instanceof Branch)
+            {
+                Branch branch = (Branch) node;
+                int leftSize = branch.left.size();
+                if (this.index < start + leftSize)
+                {
+                    node = branch.left;
+                }
+                else
+                {
+                    node = branch.right;
+                    start += leftSize;
+                }
+            }
+            this.leaf = ((Leaf) node).items;
+            this.leafStart = start;
+        }
+    }
+}
@@ -26,4 +26,11 @@ public interface PureFunction1<T, V> extends SharedPureFunction<V>, Function2<T,
     {
         return value((T) vars.get(0), es);
     }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    default V executeWith(Object var, ExecutionSupport es)
+    {
+        return value((T) var, es);
+    }
 }
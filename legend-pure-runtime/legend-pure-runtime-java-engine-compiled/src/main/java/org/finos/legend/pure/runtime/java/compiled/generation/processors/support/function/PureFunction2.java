@@ -26,4 +26,11 @@ public interface PureFunction2<T1, T2, R> extends SharedPureFunction<R>, Functio
     {
         return value((T1) vars.get(0), (T2) vars.get(1), es);
     }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    default R executeWith(Object var1, Object var2, ExecutionSupport es)
+    {
+        return value((T1) var1, (T2) var2, es);
+    }
 }
@@ -14,10 +14,38 @@
 
 package org.finos.legend.pure.runtime.java.compiled.generation.processors.support.function;
 
+import org.eclipse.collections.api.factory.Lists;
 import org.eclipse.collections.api.list.ListIterable;
 import org.finos.legend.pure.m3.execution.ExecutionSupport;
 
 public interface SharedPureFunction<R>
 {
     R execute(ListIterable<?> vars, ExecutionSupport es);
+
+    /**
+     * Execute with a single argument. This is equivalent to {@link #execute} with a one element list, but
+     * implementations which know their arity can avoid allocating the list.
+     *
+     * @param var argument
+     * @param es  execution support
+     * @return result
+     */
+    default R executeWith(Object var, ExecutionSupport es)
+    {
+        return execute(Lists.immutable.with(var), es);
+    }
+
+    /**
+     * Execute with two arguments. This is equivalent to {@link #execute} with a two element list, but
+     * implementations which know their arity can avoid allocating the list.
+     *
+     * @param var1 first argument
+     * @param var2 second argument
+     * @param es   execution support
+     * @return result
+     */
+    default R executeWith(Object var1, Object var2, ExecutionSupport es)
+    {
+        return execute(Lists.immutable.with(var1, var2), es);
+    }
 }
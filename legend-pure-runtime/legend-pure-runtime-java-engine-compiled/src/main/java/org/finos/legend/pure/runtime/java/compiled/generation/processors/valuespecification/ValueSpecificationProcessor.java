@@ -302,6 +302,13 @@ public class ValueSpecificationProcessor
         return pureFunctionString;
     }
 
+    private static String buildLambdaArgument(CoreInstance param, String value, ProcessorContext processorContext)
+    {
+        String type = TypeProcessor.typeToJavaObjectWithMul(param.getValueForMetaPropertyToOne(M3Properties.genericType), param.getValueForMetaPropertyToOne(M3Properties.multiplicity), processorContext.getSupport());
+        boolean isToMany = !Multiplicity.isToZeroOrOne(param.getValueForMetaPropertyToOne(M3Properties.multiplicity));
+        return "(" + type + ")" + (isToMany ? "(Object)CompiledSupport.toPureCollection(" : "CompiledSupport.makeOne(") + value + ")";
+    }
+
     private static String createLambdaBody(final CoreInstance topLevelElement, CoreInstance function, final ProcessorContext processorContext, boolean notOpenVariables, CoreInstance functionType, ListIterable<? extends CoreInstance> params)
     {
         int paramCount = params.size();
@@ -357,20 +364,24 @@ public class ValueSpecificationProcessor
             }
         }
 
+        // lambdas of one or two parameters can be executed without allocating an argument list
+        String executeWith = ((paramCount == 1) || (paramCount == 2)) ?
+                "     public " + typesParams.get(typesParams.size() - 1) + " executeWith(" + ((paramCount == 1) ? "Object var0" : "Object var0, Object var1") + ", ExecutionSupport es)\n" +
+                "     {\n" +
+                "         return value(" + params.zipWithIndex().collect(coreInstance -> buildLambdaArgument(coreInstance.getOne(), "var" + coreInstance.getTwo(), processorContext)).makeString(",") + ", es);\n" +
+                "     }\n" +
+                "\n" :
+                "";
+
         return "new " + type + typeParamsStr + "()\n" +
                 "{\n" +
                 openVarsInitializer +
                 "     public " + typesParams.get(typesParams.size() - 1) + " execute(ListIterable<?> vars, ExecutionSupport es)\n" +
                 "     {\n" +
-                "         return value" + (params.isEmpty() ? "Of(" : "(") + params.zipWithIndex().collect(coreInstance ->
-        {
-            String ntype = TypeProcessor.typeToJavaObjectWithMul(coreInstance.getOne().getValueForMetaPropertyToOne(M3Properties.genericType), coreInstance.getOne().getValueForMetaPropertyToOne(M3Properties.multiplicity), processorContext.getSupport());
-            boolean isToMany = !Multiplicity.isToZeroOrOne(coreInstance.getOne().getValueForMetaPropertyToOne(M3Properties.multiplicity));
-            return "(" + ntype + ")" + (isToMany ? "(Object)CompiledSupport.toPureCollection(" : "CompiledSupport.makeOne(") + "vars.get(" + coreInstance.getTwo() + "))";
-
-        }).makeString(",") + (params.isEmpty() ? "" : ", ") + "es);\n" +
+                "         return value" + (params.isEmpty() ? "Of(" : "(") + params.zipWithIndex().collect(coreInstance -> buildLambdaArgument(coreInstance.getOne(), "vars.get(" + coreInstance.getTwo() + ")", processorContext)).makeString(",") + (params.isEmpty() ? "" : ", ") + "es);\n" +
                 "     }\n" +
                 "\n" +
+                executeWith +
                 "     public " + typesParams.get(typesParams.size() - 1) + " value" + (params.isEmpty() ? "Of(" : "(") + funcSignature + (params.isEmpty() ? "" : ", ") + "final ExecutionSupport es)\n" +
                 "     {\n" +
                 FunctionProcessor.processFunctionDefinitionContent(topLevelElement, function, true, processorContext, processorContext.getSupport()) + "\n" +
@@ -16,6 +16,8 @@ package org.finos.legend.pure.runtime.java.compiled.metadata;
 
 import org.eclipse.collections.api.factory.Stacks;
 import org.eclipse.collections.api.list.ListIterable;
+import org.eclipse.collections.impl.list.fixed.ArrayAdapter;
+import org.eclipse.collections.impl.utility.ArrayIterate;
 import org.finos.legend.pure.m3.exception.PureExecutionException;
 import org.finos.legend.pure.m3.execution.ExecutionSupport;
 import org.finos.legend.pure.m4.coreinstance.SourceInformation;
@@ -47,20 +49,37 @@ public final class JavaMethodWithParamsSharedPureFunction<R> implements SharedPu
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     public R execute(ListIterable<?> vars, ExecutionSupport es)
+    {
+        return invoke(getMethodArgs(vars, es));
+    }
+
+    @Override
+    public R executeWith(Object var, ExecutionSupport es)
+    {
+        return invoke(this.appendExecutionSupportParameter ? new Object[]{var, es} : new Object[]{var});
+    }
+
+    @Override
+    public R executeWith(Object var1, Object var2, ExecutionSupport es)
+    {
+        return invoke(this.appendExecutionSupportParameter ? new Object[]{var1, var2, es} : new Object[]{var1, var2});
+    }
+
+    @SuppressWarnings("unchecked")
+    private R invoke(Object[] args)
     {
         try
         {
-            return (R) this.method.invoke(null, getMethodArgs(vars, es));
+            return (R) this.method.invoke(null, args);
         }
         catch (IllegalArgumentException e)
         {
-            vars.forEachWithIndex((var, i) ->
+            ArrayIterate.forEachWithIndex(args, (arg, i) ->
             {
-                if (!this.paramClasses[i].isInstance(var))
+                if ((i < this.paramClasses.length) && !this.paramClasses[i].isInstance(arg))
                 {
-                    String argumentType = CompiledSupport.getPureClassName(var);
+                    String argumentType = CompiledSupport.getPureClassName(arg);
                     String paramType = CompiledSupport.getPureClassName(this.paramClasses[i]);
                     throw new PureExecutionException(this.sourceInformation, "Error during dynamic function evaluation. The type " + argumentType + " is not compatible with the type " + paramType, e, Stacks.mutable.empty());
                 }
@@ -79,9 +98,9 @@ public final class JavaMethodWithParamsSharedPureFunction<R> implements SharedPu
                 throw pureException;
             }
             StringBuilder builder = new StringBuilder("Unexpected error executing function");
-            if (vars.notEmpty() && vars.anySatisfy(v -> !(v instanceof ExecutionSupport)))
+            if (ArrayIterate.anySatisfy(args, v -> !(v instanceof ExecutionSupport)))
             {
-                vars.asLazy().reject(v -> v instanceof ExecutionSupport).appendString(builder, " with params [", ", ", "]");
+                ArrayAdapter.adapt(args).asLazy().reject(v -> v instanceof ExecutionSupport).appendString(builder, " with params [", ", ", "]");
             }
             throw new PureExecutionException(this.sourceInformation, builder.toString(), (e instanceof InvocationTargetException) ? e.getCause() : e, Stacks.mutable.empty());
         }
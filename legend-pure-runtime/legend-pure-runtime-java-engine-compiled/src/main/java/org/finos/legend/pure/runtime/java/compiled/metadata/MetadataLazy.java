@@ -26,6 +26,8 @@ import org.eclipse.collections.api.map.MutableMap;
 import org.eclipse.collections.api.set.MutableSet;
 import org.eclipse.collections.impl.Counter;
 import org.eclipse.collections.impl.map.mutable.ConcurrentHashMap;
+import org.finos.legend.pure.m3.statelistener.ExecutionSpan;
+import org.finos.legend.pure.m3.statelistener.ExecutionTracing;
 import org.finos.legend.pure.m4.coreinstance.CoreInstance;
 import org.finos.legend.pure.runtime.java.compiled.generation.JavaPackageAndImportBuilder;
 import org.finos.legend.pure.runtime.java.compiled.generation.processors.type.EnumProcessor;
@@ -254,12 +256,20 @@ public class MetadataLazy implements Metadata
 
     private Obj getInstance(String classifier, String id)
     {
-        return this.deserializer.getInstance(classifier, id);
+        try (ExecutionSpan ignore = ExecutionTracing.startSpan("metadata", "loadInstance").withAttribute("classifier", classifier).withAttribute("id", id))
+        {
+            return this.deserializer.getInstance(classifier, id);
+        }
     }
 
     private ListIterable<Obj> getInstances(String classifier, Iterable<String> instanceIds)
     {
-        return this.deserializer.getInstances(classifier, instanceIds);
+        try (ExecutionSpan span = ExecutionTracing.startSpan("metadata", "loadInstances").withAttribute("classifier", classifier))
+        {
+            ListIterable<Obj> instances = this.deserializer.getInstances(classifier, instanceIds);
+            span.withAttribute("count", instances.size());
+            return instances;
+        }
     }
 
     private ConcurrentMutableMap<String, CoreInstance> loadAllClassifierInstances(String classifier)
@@ -76,7 +76,7 @@ abstract class AbstractBinaryObjDeserializer implements BinaryObjDeserializer
 
     protected ListIterable<PropertyValue> readPropertyValues(Reader reader)
     {
-        int propertiesSize = reader.readInt();
+        int propertiesSize = readCount(reader);
         switch (propertiesSize)
         {
             case 0:
@@ -114,9 +114,9 @@ abstract class AbstractBinaryObjDeserializer implements BinaryObjDeserializer
         return isMany ? new PropertyValueMany(propertyName, readManyRValues(reader)) : new PropertyValueOne(propertyName, readRValue(reader));
     }
 
-    private ListIterable<RValue> readManyRValues(Reader reader)
+    protected ListIterable<RValue> readManyRValues(Reader reader)
     {
-        int valueCount = reader.readInt();
+        int valueCount = readCount(reader);
         switch (valueCount)
         {
             case 0:
@@ -170,7 +170,7 @@ abstract class AbstractBinaryObjDeserializer implements BinaryObjDeserializer
             }
             case BinaryGraphSerializationTypes.PRIMITIVE_LONG:
             {
-                return new Primitive(reader.readLong());
+                return new Primitive(readLong(reader));
             }
             case BinaryGraphSerializationTypes.PRIMITIVE_STRING:
             {
@@ -193,5 +193,15 @@ abstract class AbstractBinaryObjDeserializer implements BinaryObjDeserializer
         }
     }
 
+    protected int readCount(Reader reader)
+    {
+        return reader.readInt();
+    }
+
+    protected long readLong(Reader reader)
+    {
+        return reader.readLong();
+    }
+
     protected abstract String readString(Reader reader);
 }
@@ -77,7 +77,7 @@ abstract class AbstractBinaryObjSerializer implements BinaryObjSerializer
     protected void writePropertyValues(Writer writer, Obj obj)
     {
         ListIterable<PropertyValue> propertyValues = obj.getPropertyValues();
-        writer.writeInt(propertyValues.size());
+        writeCount(writer, propertyValues.size());
         for (PropertyValue propertyValue : propertyValues)
         {
             writePropertyValue(writer, propertyValue);
@@ -92,7 +92,7 @@ abstract class AbstractBinaryObjSerializer implements BinaryObjSerializer
             writer.writeBoolean(true);
             writeString(writer, many.getProperty());
             ListIterable<RValue> values = many.getValues();
-            writer.writeInt(values.size());
+            writeCount(writer, values.size());
             for (RValue rValue : values)
             {
                 writeRValue(writer, rValue);
@@ -140,7 +140,7 @@ abstract class AbstractBinaryObjSerializer implements BinaryObjSerializer
             else if (value instanceof Long)
             {
                 writer.writeByte(BinaryGraphSerializationTypes.PRIMITIVE_LONG);
-                writer.writeLong((Long)value);
+                writeLong(writer, (Long)value);
             }
             else if (value instanceof String)
             {
@@ -168,5 +168,15 @@ abstract class AbstractBinaryObjSerializer implements BinaryObjSerializer
         }
     }
 
+    protected void writeCount(Writer writer, int count)
+    {
+        writer.writeInt(count);
+    }
+
+    protected void writeLong(Writer writer, long value)
+    {
+        writer.writeLong(value);
+    }
+
     protected abstract void writeString(Writer writer, String string);
 }
@@ -18,7 +18,7 @@ import org.finos.legend.pure.m4.serialization.Reader;
 
 class BinaryObjDeserializerWithStringIndex extends AbstractBinaryObjDeserializer
 {
-    private final StringIndex stringIndex;
+    protected final StringIndex stringIndex;
 
     BinaryObjDeserializerWithStringIndex(StringIndex stringIndex)
     {
@@ -18,7 +18,7 @@ import org.finos.legend.pure.m4.serialization.Writer;
 
 class BinaryObjSerializerWithStringCache extends AbstractBinaryObjSerializer
 {
-    private final StringCache stringCache;
+    protected final StringCache stringCache;
 
     BinaryObjSerializerWithStringCache(StringCache stringCache)
     {
@@ -0,0 +1,74 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.runtime.java.compiled.serialization.binary;
+
+import org.finos.legend.pure.m4.coreinstance.SourceInformation;
+import org.finos.legend.pure.m4.serialization.Reader;
+import org.finos.legend.pure.runtime.java.compiled.serialization.model.PropertyValue;
+import org.finos.legend.pure.runtime.java.compiled.serialization.model.PropertyValueMany;
+import org.finos.legend.pure.runtime.java.compiled.serialization.model.PropertyValueOne;
+
+/**
+ * Deserializer for the compact distributed format written by {@link CompactBinaryObjSerializer}.
+ */
+class CompactBinaryObjDeserializer extends BinaryObjDeserializerWithStringIndexAndImplicitIdentifiers
+{
+    private final PropertySchema propertySchema;
+
+    CompactBinaryObjDeserializer(StringIndex stringIndex, String identifier, String classifierId, PropertySchema propertySchema)
+    {
+        super(stringIndex, identifier, classifierId);
+        this.propertySchema = propertySchema;
+    }
+
+    @Override
+    protected String readString(Reader reader)
+    {
+        return this.stringIndex.getString(VarInts.readSignedInt(reader));
+    }
+
+    @Override
+    protected SourceInformation readSourceInformation(Reader reader)
+    {
+        String sourceId = readString(reader);
+        int startLine = VarInts.readUnsignedInt(reader);
+        int startColumn = VarInts.readUnsignedInt(reader);
+        int line = startLine + VarInts.readSignedInt(reader);
+        int column = startColumn + VarInts.readSignedInt(reader);
+        int endLine = line + VarInts.readSignedInt(reader);
+        int endColumn = column + VarInts.readSignedInt(reader);
+        return new SourceInformation(sourceId, startLine, startColumn, line, column, endLine, endColumn);
+    }
+
+    @Override
+    protected PropertyValue readPropertyValue(Reader reader)
+    {
+        int header = VarInts.readUnsignedInt(reader);
+        String propertyName = this.propertySchema.getProperty(header >>> 1);
+        return ((header & 1) == 1) ? new PropertyValueMany(propertyName, readManyRValues(reader)) : new PropertyValueOne(propertyName, readRValue(reader));
+    }
+
+    @Override
+    protected int readCount(Reader reader)
+    {
+        return VarInts.readUnsignedInt(reader);
+    }
+
+    @Override
+    protected long readLong(Reader reader)
+    {
+        return VarInts.readSignedLong(reader);
+    }
+}
@@ -0,0 +1,91 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.runtime.java.compiled.serialization.binary;
+
+import org.eclipse.collections.api.list.ListIterable;
+import org.finos.legend.pure.m4.coreinstance.SourceInformation;
+import org.finos.legend.pure.m4.serialization.Writer;
+import org.finos.legend.pure.runtime.java.compiled.serialization.model.PropertyValue;
+import org.finos.legend.pure.runtime.java.compiled.serialization.model.PropertyValueMany;
+import org.finos.legend.pure.runtime.java.compiled.serialization.model.PropertyValueOne;
+import org.finos.legend.pure.runtime.java.compiled.serialization.model.RValue;
+
+/**
+ * Serializer for the compact distributed format. String ids, counts, and longs are written as variable length
+ * integers; properties are written as their index in the classifier's {@link PropertySchema}, combined with whether
+ * the value is a to-many value; and source information coordinates after the first are written relative to the
+ * preceding ones.
+ */
+class CompactBinaryObjSerializer extends BinaryObjSerializerWithStringCacheAndImplicitIdentifiers
+{
+    private final PropertySchema propertySchema;
+
+    CompactBinaryObjSerializer(StringCache stringCache, PropertySchema propertySchema)
+    {
+        super(stringCache);
+        this.propertySchema = propertySchema;
+    }
+
+    @Override
+    protected void writeString(Writer writer, String string)
+    {
+        VarInts.writeSignedInt(writer, this.stringCache.getStringId(string));
+    }
+
+    @Override
+    protected void writeSourceInformation(Writer writer, SourceInformation sourceInformation)
+    {
+        writeString(writer, sourceInformation.getSourceId());
+        VarInts.writeUnsignedInt(writer, sourceInformation.getStartLine());
+        VarInts.writeUnsignedInt(writer, sourceInformation.getStartColumn());
+        VarInts.writeSignedInt(writer, sourceInformation.getLine() - sourceInformation.getStartLine());
+        VarInts.writeSignedInt(writer, sourceInformation.getColumn() - sourceInformation.getStartColumn());
+        VarInts.writeSignedInt(writer, sourceInformation.getEndLine() - sourceInformation.getLine());
+        VarInts.writeSignedInt(writer, sourceInformation.getEndColumn() - sourceInformation.getColumn());
+    }
+
+    @Override
+    protected void writePropertyValue(Writer writer, PropertyValue propertyValue)
+    {
+        int propertyIndex = this.propertySchema.getIndex(propertyValue.getProperty());
+        if (propertyValue instanceof PropertyValueMany)
+        {
+            VarInts.writeUnsignedInt(writer, (propertyIndex << 1) | 1);
+            ListIterable<RValue> values = ((PropertyValueMany) propertyValue).getValues();
+            writeCount(writer, values.size());
+            for (RValue rValue : values)
+            {
+                writeRValue(writer, rValue);
+            }
+        }
+        else
+        {
+            VarInts.writeUnsignedInt(writer, propertyIndex << 1);
+            writeRValue(writer, ((PropertyValueOne) propertyValue).getValue());
+        }
+    }
+
+    @Override
+    protected void writeCount(Writer writer, int count)
+    {
+        VarInts.writeUnsignedInt(writer, count);
+    }
+
+    @Override
+    protected void writeLong(Writer writer, long value)
+    {
+        VarInts.writeSignedLong(writer, value);
+    }
+}
@@ -201,6 +201,7 @@ public abstract class DistributedBinaryGraphDeserializer
     {
         private final FileReader fileReader;
         private boolean validateObjs = true;
+        private boolean offHeapStrings = false;
         private MutableSet<String> metadataNames = null;
 
         private Builder(FileReader fileReader)
@@ -224,6 +225,24 @@ public abstract class DistributedBinaryGraphDeserializer
             return withObjValidation(false);
         }
 
+        /**
+         * Whether to keep string partitions off heap (memory-mapped where possible), decoding strings only on access.
+         * This reduces the heap footprint of large metadata at the cost of some decoding on access.
+         *
+         * @param offHeapStrings whether to keep strings off heap
+         * @return this builder
+         */
+        public Builder withOffHeapStrings(boolean offHeapStrings)
+        {
+            this.offHeapStrings = offHeapStrings;
+            return this;
+        }
+
+        public Builder withOffHeapStrings()
+        {
+            return withOffHeapStrings(true);
+        }
+
         public Builder withNoMetadataName()
         {
             this.metadataNames = null;
@@ -273,7 +292,7 @@ public abstract class DistributedBinaryGraphDeserializer
         {
             if (this.metadataNames == null)
             {
-                return new Single(this.fileReader, null, this.validateObjs);
+                return new Single(this.fileReader, null, this.validateObjs, this.offHeapStrings);
             }
             switch (this.metadataNames.size())
             {
@@ -283,11 +302,11 @@ public abstract class DistributedBinaryGraphDeserializer
                 }
                 case 1:
                 {
-                    return new Single(this.fileReader, this.metadataNames.getAny(), this.validateObjs);
+                    return new Single(this.fileReader, this.metadataNames.getAny(), this.validateObjs, this.offHeapStrings);
                 }
                 default:
                 {
-                    return new Many(this.fileReader, this.metadataNames, this.validateObjs);
+                    return new Many(this.fileReader, this.metadataNames, this.validateObjs, this.offHeapStrings);
                 }
             }
         }
@@ -299,13 +318,15 @@ public abstract class DistributedBinaryGraphDeserializer
         private final String filePath;
         private final int offset;
         private final int length;
+        private final PropertySchema propertySchema;
 
-        private SourceCoordinates(String identifier, String filePath, int offset, int length)
+        private SourceCoordinates(String identifier, String filePath, int offset, int length, PropertySchema propertySchema)
         {
             this.identifier = identifier;
             this.filePath = filePath;
             this.offset = offset;
             this.length = length;
+            this.propertySchema = propertySchema;
         }
 
         private String getFilePath()
@@ -333,7 +354,9 @@ public abstract class DistributedBinaryGraphDeserializer
 
         private BinaryObjDeserializer getDeserializer(StringIndex stringIndex, String classifierId)
         {
-            return new BinaryObjDeserializerWithStringIndexAndImplicitIdentifiers(stringIndex, this.identifier, classifierId);
+            return (this.propertySchema == null) ?
+                    new BinaryObjDeserializerWithStringIndexAndImplicitIdentifiers(stringIndex, this.identifier, classifierId) :
+                    new CompactBinaryObjDeserializer(stringIndex, this.identifier, classifierId, this.propertySchema);
         }
 
         private byte[] getBytes(FileReader fileReader)
@@ -421,11 +444,11 @@ public abstract class DistributedBinaryGraphDeserializer
         private final ImmutableMap<String, ClassifierIndex> classifierIndexes;
         private final boolean validateObjs;
 
-        private Single(FileReader fileReader, String metadataName, boolean validateObjs)
+        private Single(FileReader fileReader, String metadataName, boolean validateObjs, boolean offHeapStrings)
         {
             this.metadataName = DistributedMetadataHelper.validateMetadataNameIfPresent(metadataName);
             this.fileReader = fileReader;
-            this.stringIndex = LazyStringIndex.fromFileReader(this.metadataName, fileReader);
+            this.stringIndex = offHeapStrings ? LazyStringIndex.fromFileReaderOffHeap(this.metadataName, fileReader) : LazyStringIndex.fromFileReader(this.metadataName, fileReader);
             RichIterable<String> classifierIds = this.stringIndex.getClassifierIds();
             this.classifierIndexes = classifierIds.toMap(id -> id, ClassifierIndex::new, Maps.mutable.withInitialCapacity(classifierIds.size())).toImmutable();
             this.validateObjs = validateObjs;
@@ -433,7 +456,7 @@ public abstract class DistributedBinaryGraphDeserializer
 
         private Single(FileReader fileReader, boolean validateObjs)
         {
-            this(fileReader, null, validateObjs);
+            this(fileReader, null, validateObjs, false);
         }
 
         @Override
@@ -547,22 +570,35 @@ public abstract class DistributedBinaryGraphDeserializer
             String indexFilePath = DistributedMetadataHelper.getMetadataClassifierIndexFilePath(this.metadataName, classifier);
             try (Reader reader = this.fileReader.getReader(indexFilePath))
             {
-                int instanceCount = reader.readInt();
+                // Legacy indexes start with the (non-negative) instance count; later formats start with the negated format version
+                int first = reader.readInt();
+                boolean compact = first < 0;
+                PropertySchema propertySchema = null;
+                if (compact)
+                {
+                    int formatVersion = -first;
+                    if (formatVersion != DistributedBinaryGraphSerializer.COMPACT_FORMAT_VERSION)
+                    {
+                        throw new DeserializationException("Unsupported metadata format version " + formatVersion + " in " + indexFilePath);
+                    }
+                    propertySchema = PropertySchema.read(reader, this.stringIndex);
+                }
+                int instanceCount = compact ? readIndexInt(reader, true) : first;
                 MutableMap<String, SourceCoordinates> index = sourceCoordinateMapProvider.getMap(instanceCount, classifier);
 
-                int instancePartition = reader.readInt();
-                int offset = reader.readInt();
+                int instancePartition = readIndexInt(reader, compact);
+                int offset = readIndexInt(reader, compact);
                 String filePath = DistributedMetadataHelper.getMetadataPartitionBinFilePath(this.metadataName, instancePartition);
 
                 int instancesRead = 0;
                 while (instancesRead < instanceCount)
                 {
-                    int partitionInstanceCount = reader.readInt();
+                    int partitionInstanceCount = readIndexInt(reader, compact);
                     for (int i = 0; i < partitionInstanceCount; i++)
                     {
-                        String identifier = this.stringIndex.getString(reader.readInt());
-                        int length = reader.readInt();
-                        index.put(identifier, new SourceCoordinates(identifier, filePath, offset, length));
+                        String identifier = this.stringIndex.getString(readIndexInt(reader, compact));
+                        int length = readIndexInt(reader, compact);
+                        index.put(identifier, new SourceCoordinates(identifier, filePath, offset, length, propertySchema));
                         offset += length;
                     }
                     instancesRead += partitionInstanceCount;
@@ -575,6 +611,11 @@ public abstract class DistributedBinaryGraphDeserializer
             }
         }
 
+        private int readIndexInt(Reader reader, boolean compact)
+        {
+            return compact ? VarInts.readUnsignedInt(reader) : reader.readInt();
+        }
+
         private Obj possiblyValidate(Obj obj)
         {
             if (this.validateObjs)
@@ -638,9 +679,9 @@ public abstract class DistributedBinaryGraphDeserializer
         private final ListIterable<Single> deserializers;
         private final boolean validateObjs;
 
-        private Many(FileReader fileReader, Set<String> metadataNames, boolean validateObjs)
+        private Many(FileReader fileReader, Set<String> metadataNames, boolean validateObjs, boolean offHeapStrings)
         {
-            this.deserializers = Iterate.collect(metadataNames, n -> new Single(fileReader, n, false), Lists.mutable.ofInitialCapacity(metadataNames.size()));
+            this.deserializers = Iterate.collect(metadataNames, n -> new Single(fileReader, n, false, offHeapStrings), Lists.mutable.ofInitialCapacity(metadataNames.size()));
             this.validateObjs = validateObjs;
         }
 
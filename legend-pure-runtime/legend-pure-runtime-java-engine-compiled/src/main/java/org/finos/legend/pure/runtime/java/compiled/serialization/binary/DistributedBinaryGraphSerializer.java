@@ -41,6 +41,19 @@ import java.util.jar.JarOutputStream;
 
 public abstract class DistributedBinaryGraphSerializer
 {
+    /**
+     * The original format: string ids, counts, and source information are written as fixed size ints, and each
+     * property value is written with its property name.
+     */
+    public static final int LEGACY_FORMAT_VERSION = 1;
+
+    /**
+     * The compact format: each classifier index starts with a format version marker and the classifier's property
+     * schema, after which string ids, counts, and source information are written as variable length integers, and
+     * property values refer to properties by their index in the schema.
+     */
+    public static final int COMPACT_FORMAT_VERSION = 2;
+
     private static final int MAX_BIN_FILE_BYTES = 512 * 1024;
 
     private final DistributedMetadataSpecification metadataSpecification;
@@ -75,6 +88,13 @@ public abstract class DistributedBinaryGraphSerializer
 
     public void serialize(FileWriter fileWriter)
     {
+        serialize(fileWriter, COMPACT_FORMAT_VERSION);
+    }
+
+    public void serialize(FileWriter fileWriter, int formatVersion)
+    {
+        boolean compact = isCompactFormat(formatVersion);
+
         // Possibly write metadata specification
         if (this.metadataSpecification != null)
         {
@@ -87,7 +107,7 @@ public abstract class DistributedBinaryGraphSerializer
 
         // Build string cache
         DistributedStringCache stringCache = buildStringCache(serializationCollector);
-        BinaryObjSerializer serializer = new BinaryObjSerializerWithStringCacheAndImplicitIdentifiers(stringCache);
+        BinaryObjSerializer legacySerializer = compact ? null : new BinaryObjSerializerWithStringCacheAndImplicitIdentifiers(stringCache);
 
         // Write string cache
         stringCache.write(getMetadataName(), fileWriter);
@@ -105,10 +125,24 @@ public abstract class DistributedBinaryGraphSerializer
                 {
                     ListIterable<Obj> classifierObjs = getClassifierObjs(serializationCollector.instancesForSerialization.remove(classifierId), serializationCollector.objUpdates.remove(classifierId));
 
+                    BinaryObjSerializer serializer;
+                    if (compact)
+                    {
+                        // Format version marker (negative, so that it cannot be mistaken for a legacy obj count) and property schema
+                        PropertySchema propertySchema = PropertySchema.fromObjs(classifierObjs);
+                        indexWriter.writeInt(-COMPACT_FORMAT_VERSION);
+                        propertySchema.write(indexWriter, stringCache);
+                        serializer = new CompactBinaryObjSerializer(stringCache, propertySchema);
+                    }
+                    else
+                    {
+                        serializer = legacySerializer;
+                    }
+
                     // Initial index information
-                    indexWriter.writeInt(classifierObjs.size()); // total obj count
-                    indexWriter.writeInt(partition); // initial partition
-                    indexWriter.writeInt(partitionTotalBytes); // initial byte offset in partition
+                    writeIndexInt(indexWriter, classifierObjs.size(), compact); // total obj count
+                    writeIndexInt(indexWriter, partition, compact); // initial partition
+                    writeIndexInt(indexWriter, partitionTotalBytes, compact); // initial byte offset in partition
 
                     MutableList<ObjIndexInfo> partitionObjIndexInfos = Lists.mutable.empty();
                     WriterBufferOutputStream objByteStream = new WriterBufferOutputStream();
@@ -128,8 +162,8 @@ public abstract class DistributedBinaryGraphSerializer
                                 }
 
                                 // Write partition portion of classifier index
-                                indexWriter.writeInt(partitionObjIndexInfos.size());
-                                partitionObjIndexInfos.forEach(info -> info.write(indexWriter, stringCache));
+                                writeIndexInt(indexWriter, partitionObjIndexInfos.size(), compact);
+                                partitionObjIndexInfos.forEach(info -> info.write(indexWriter, stringCache, compact));
 
                                 // New partition
                                 partition++;
@@ -149,8 +183,8 @@ public abstract class DistributedBinaryGraphSerializer
                     // Write final partition portion of classifier index
                     if (partitionObjIndexInfos.notEmpty())
                     {
-                        indexWriter.writeInt(partitionObjIndexInfos.size());
-                        partitionObjIndexInfos.forEach(info -> info.write(indexWriter, stringCache));
+                        writeIndexInt(indexWriter, partitionObjIndexInfos.size(), compact);
+                        partitionObjIndexInfos.forEach(info -> info.write(indexWriter, stringCache, compact));
                     }
 
                     // Write classifier index
@@ -172,6 +206,37 @@ public abstract class DistributedBinaryGraphSerializer
         }
     }
 
+    private static boolean isCompactFormat(int formatVersion)
+    {
+        switch (formatVersion)
+        {
+            case LEGACY_FORMAT_VERSION:
+            {
+                return false;
+            }
+            case COMPACT_FORMAT_VERSION:
+            {
+                return true;
+            }
+            default:
+            {
+                throw new IllegalArgumentException("Unknown metadata format version: " + formatVersion);
+            }
+        }
+    }
+
+    private static void writeIndexInt(Writer writer, int value, boolean compact)
+    {
+        if (compact)
+        {
+            VarInts.writeUnsignedInt(writer, value);
+        }
+        else
+        {
+            writer.writeInt(value);
+        }
+    }
+
     protected String getMetadataName()
     {
         return (this.metadataSpecification == null) ? null : this.metadataSpecification.getName();
@@ -325,10 +390,10 @@ public abstract class DistributedBinaryGraphSerializer
             this.size = size;
         }
 
-        private void write(Writer writer, StringCache stringCache)
+        private void write(Writer writer, StringCache stringCache, boolean compact)
         {
-            writer.writeInt(stringCache.getStringId(this.identifier));
-            writer.writeInt(this.size);
+            writeIndexInt(writer, stringCache.getStringId(this.identifier), compact);
+            writeIndexInt(writer, this.size, compact);
         }
     }
 
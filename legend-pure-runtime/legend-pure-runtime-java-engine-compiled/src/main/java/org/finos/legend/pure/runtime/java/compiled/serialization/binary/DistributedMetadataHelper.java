@@ -33,6 +33,7 @@ public class DistributedMetadataHelper
 
     private static final String BIN_FILE_EXTENSION = ".bin";
     private static final String INDEX_FILE_EXTENSION = ".idx";
+    private static final String OFFSETS_FILE_EXTENSION = ".off";
     private static final String METADATA_SPEC_FILE_EXTENSION = ".json";
 
     // Metadata name
@@ -182,6 +183,13 @@ public class DistributedMetadataHelper
                 (STRINGS_DIRNAME + metadataName + "/other-" + partitionId + INDEX_FILE_EXTENSION);
     }
 
+    public static String getOtherStringsIndexPartitionOffsetsFilePath(String metadataName, int partitionId)
+    {
+        return (metadataName == null) ?
+                (STRINGS_DIRNAME + "other-" + partitionId + OFFSETS_FILE_EXTENSION) :
+                (STRINGS_DIRNAME + metadataName + "/other-" + partitionId + OFFSETS_FILE_EXTENSION);
+    }
+
     // Id hashing
 
     public static String possiblyHashId(String id)
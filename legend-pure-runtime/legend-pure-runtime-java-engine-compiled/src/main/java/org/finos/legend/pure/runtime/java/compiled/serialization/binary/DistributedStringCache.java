@@ -23,12 +23,14 @@ import org.eclipse.collections.api.set.MutableSet;
 import org.eclipse.collections.impl.factory.Multimaps;
 import org.finos.legend.pure.m4.serialization.Writer;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Objects;
 
 public class DistributedStringCache extends StringCache
 {
     private static final int PARTITION_SIZE = 32 * 1024; // must be a power of 2
     private static final int PARTITION_MASK = PARTITION_SIZE - 1;
+    private static final int PARTITION_SHIFT = Integer.numberOfTrailingZeros(PARTITION_SIZE);
 
     private DistributedStringCache(ListIterable<String> classifierIds, ListIterable<String> otherStrings)
     {
@@ -51,18 +53,29 @@ public class DistributedStringCache extends StringCache
             writer.writeInt(otherStringsCount);
         }
 
-        // Write other strings partitions
+        // Write other strings partitions, along with the offset of each string within its partition
         for (int partitionStart = 0; partitionStart < otherStringsCount; partitionStart += PARTITION_SIZE)
         {
+            int partitionEnd = Math.min(partitionStart + PARTITION_SIZE, otherStringsCount);
+            int partitionLength = partitionEnd - partitionStart;
+            int[] offsets = new int[partitionLength];
             try (Writer writer = fileWriter.getWriter(DistributedMetadataHelper.getOtherStringsIndexPartitionFilePath(metadataName, partitionStart)))
             {
-                int partitionEnd = Math.min(partitionStart + PARTITION_SIZE, otherStringsCount);
-                writer.writeInt(partitionEnd - partitionStart);
-                for (int i = partitionStart; i < partitionEnd; i++)
+                writer.writeInt(partitionLength);
+                int offset = Integer.BYTES;
+                for (int i = 0; i < partitionLength; i++)
                 {
-                    writer.writeString(otherStrings[i]);
+                    // equivalent to writeString, but we need the encoded length for the offset
+                    byte[] bytes = otherStrings[partitionStart + i].getBytes(StandardCharsets.UTF_8);
+                    writer.writeByteArray(bytes);
+                    offsets[i] = offset;
+                    offset += Integer.BYTES + bytes.length;
                 }
             }
+            try (Writer writer = fileWriter.getWriter(DistributedMetadataHelper.getOtherStringsIndexPartitionOffsetsFilePath(metadataName, partitionStart)))
+            {
+                writer.writeIntArray(offsets);
+            }
         }
     }
 
@@ -76,6 +89,16 @@ public class DistributedStringCache extends StringCache
         return index - (index & PARTITION_MASK);
     }
 
+    static int getIndexInPartition(int index)
+    {
+        return index & PARTITION_MASK;
+    }
+
+    static int getPartitionNumber(int index)
+    {
+        return index >>> PARTITION_SHIFT;
+    }
+
     private static class DistributedStringCacheBuilder extends Builder<DistributedStringCache>
     {
         private final MutableSet<String> classifierIds = Sets.mutable.empty();
@@ -16,7 +16,34 @@ package org.finos.legend.pure.runtime.java.compiled.serialization.binary;
 
 import org.finos.legend.pure.m4.serialization.Reader;
 
+import java.nio.ByteBuffer;
+
 public interface FileReader
 {
     Reader getReader(String path);
+
+    /**
+     * Whether there is a file at the given path. This is used to check for optional files, which may be absent from
+     * metadata written by earlier versions. File readers which cannot tell assume that the file exists.
+     *
+     * @param path file path
+     * @return whether the file exists
+     */
+    default boolean exists(String path)
+    {
+        return true;
+    }
+
+    /**
+     * Get the content of the file at the given path as a read-only byte buffer, positioned at the start of the file.
+     * Where possible, the file is mapped into memory rather than read onto the heap. Returns null if this file reader
+     * does not support random access to file content.
+     *
+     * @param path file path
+     * @return file content or null
+     */
+    default ByteBuffer getByteBuffer(String path)
+    {
+        return null;
+    }
 }
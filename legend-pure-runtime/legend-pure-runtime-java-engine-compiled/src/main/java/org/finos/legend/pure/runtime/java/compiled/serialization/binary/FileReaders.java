@@ -25,10 +25,12 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
 import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.channels.SeekableByteChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 import java.util.Collections;
 import java.util.Map;
 import java.util.function.Function;
@@ -54,17 +56,17 @@ public class FileReaders
 
     public static FileReader fromInMemoryByteArrays(Map<String, ? extends byte[]> fileBytes)
     {
-        return new InMemoryBytesFileReader<>(fileBytes, BinaryReaders::newBinaryReader);
+        return new InMemoryBytesFileReader<>(fileBytes, BinaryReaders::newBinaryReader, bytes -> ByteBuffer.wrap(bytes).asReadOnlyBuffer());
     }
 
     public static FileReader fromInMemoryByteLists(Map<String, ? extends ByteList> fileBytes)
     {
-        return new InMemoryBytesFileReader<>(fileBytes, BinaryReaders::newBinaryReader);
+        return new InMemoryBytesFileReader<>(fileBytes, BinaryReaders::newBinaryReader, bytes -> ByteBuffer.wrap(bytes.toArray()).asReadOnlyBuffer());
     }
 
     public static FileReader fromInMemoryByteBuffers(Map<String, ? extends ByteBuffer> fileBytes)
     {
-        return new InMemoryBytesFileReader<>(fileBytes, BinaryReaders::newBinaryReader);
+        return new InMemoryBytesFileReader<>(fileBytes, BinaryReaders::newBinaryReader, bytes -> bytes.asReadOnlyBuffer().slice());
     }
 
     public static FileReader fromZipFile(ZipFile zipFile)
@@ -115,6 +117,41 @@ public class FileReaders
             return BinaryReaders.newBinaryReader(stream);
         }
 
+        @Override
+        public boolean exists(String path)
+        {
+            return this.urlCache.containsKey(path) || (this.classLoader.getResource(path) != null);
+        }
+
+        @Override
+        public ByteBuffer getByteBuffer(String path)
+        {
+            URL url = findResourceURL(path);
+
+            // Optimized handling for files
+            if ("file".equalsIgnoreCase(url.getProtocol()))
+            {
+                try
+                {
+                    return mapFile(Paths.get(url.toURI()));
+                }
+                catch (Exception ignore)
+                {
+                    // ignore failure here and fall back to the general case
+                }
+            }
+
+            // Fall back to general case
+            try (InputStream stream = url.openStream())
+            {
+                return readFully(stream);
+            }
+            catch (IOException e)
+            {
+                throw new RuntimeException("Error accessing resource file '" + path + "'", e);
+            }
+        }
+
         private URL findResourceURL(String path)
         {
             // Check the cache
@@ -159,28 +196,66 @@ public class FileReaders
                 throw new RuntimeException("Error accessing file '" + path + "'", e);
             }
         }
+
+        @Override
+        public boolean exists(String path)
+        {
+            return Files.exists(this.root.resolve(path));
+        }
+
+        @Override
+        public ByteBuffer getByteBuffer(String path)
+        {
+            try
+            {
+                return mapFile(this.root.resolve(path));
+            }
+            catch (IOException e)
+            {
+                throw new RuntimeException("Error accessing file '" + path + "'", e);
+            }
+        }
     }
 
     private static class InMemoryBytesFileReader<T> implements FileReader
     {
         private final Map<String, ? extends T> bytesByPath;
         private final Function<? super T, ? extends Reader> readerFn;
+        private final Function<? super T, ? extends ByteBuffer> byteBufferFn;
 
-        private InMemoryBytesFileReader(Map<String, ? extends T> bytesByPath, Function<? super T, ? extends Reader> readerFn)
+        private InMemoryBytesFileReader(Map<String, ? extends T> bytesByPath, Function<? super T, ? extends Reader> readerFn, Function<? super T, ? extends ByteBuffer> byteBufferFn)
         {
             this.bytesByPath = bytesByPath;
             this.readerFn = readerFn;
+            this.byteBufferFn = byteBufferFn;
         }
 
         @Override
         public Reader getReader(String path)
+        {
+            return this.readerFn.apply(getBytes(path));
+        }
+
+        @Override
+        public boolean exists(String path)
+        {
+            return this.bytesByPath.containsKey(path);
+        }
+
+        @Override
+        public ByteBuffer getByteBuffer(String path)
+        {
+            return this.byteBufferFn.apply(getBytes(path));
+        }
+
+        private T getBytes(String path)
         {
             T bytes = this.bytesByPath.get(path);
             if (bytes == null)
             {
                 throw new RuntimeException("Cannot find file '" + path + "'");
             }
-            return this.readerFn.apply(bytes);
+            return bytes;
         }
     }
 
@@ -206,5 +281,55 @@ public class FileReaders
                 throw new RuntimeException("Error accessing file '" + path + "'", e);
             }
         }
+
+        @Override
+        public boolean exists(String path)
+        {
+            return this.zipFile.getEntry(path) != null;
+        }
+
+        @Override
+        public ByteBuffer getByteBuffer(String path)
+        {
+            ZipEntry entry = this.zipFile.getEntry(path);
+            try (InputStream stream = this.zipFile.getInputStream(entry))
+            {
+                return readFully(stream);
+            }
+            catch (IOException e)
+            {
+                throw new RuntimeException("Error accessing file '" + path + "'", e);
+            }
+        }
+    }
+
+    private static ByteBuffer mapFile(Path path) throws IOException
+    {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ))
+        {
+            // the mapping remains valid after the channel is closed
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+
+    private static ByteBuffer readFully(InputStream stream) throws IOException
+    {
+        // copy into a direct buffer so that the content is held off heap
+        ByteBuffer buffer = ByteBuffer.allocateDirect(Math.max(stream.available(), 1024));
+        byte[] chunk = new byte[8192];
+        int read;
+        while ((read = stream.read(chunk)) != -1)
+        {
+            if (buffer.remaining() < read)
+            {
+                ByteBuffer newBuffer = ByteBuffer.allocateDirect(Math.max(buffer.capacity() * 2, buffer.position() + read));
+                buffer.flip();
+                newBuffer.put(buffer);
+                buffer = newBuffer;
+            }
+            buffer.put(chunk, 0, read);
+        }
+        buffer.flip();
+        return buffer.asReadOnlyBuffer();
     }
 }
@@ -16,60 +16,56 @@ package org.finos.legend.pure.runtime.java.compiled.serialization.binary;
 
 import org.finos.legend.pure.m4.serialization.Reader;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.concurrent.atomic.AtomicReferenceArray;
 
-public class LazyStringIndex extends StringIndex
+public abstract class LazyStringIndex extends StringIndex
 {
-    private final String metadataName;
-    private final FileReader fileReader;
-    private final AtomicReferenceArray<String> otherStrings;
+    public static final int DEFAULT_HOT_STRING_CACHE_SIZE = 4096;
 
-    private LazyStringIndex(String[] classifierStrings, String metadataName, FileReader fileReader, int otherStringCount)
+    protected final String metadataName;
+    protected final FileReader fileReader;
+
+    private LazyStringIndex(String[] classifierStrings, String metadataName, FileReader fileReader)
     {
         super(classifierStrings);
         this.metadataName = metadataName;
         this.fileReader = fileReader;
-        this.otherStrings = new AtomicReferenceArray<>(otherStringCount);
     }
 
-    @Override
-    protected String getOtherString(int index)
+    public static LazyStringIndex fromFileReader(String metadataName, FileReader fileReader)
     {
-        String string = this.otherStrings.get(index);
-        if (string != null)
-        {
-            return string;
-        }
-        loadPartition(index);
-        return this.otherStrings.get(index);
+        String[] classifierIds = readClassifierIds(metadataName, fileReader);
+        int otherStringCount = readOtherStringCount(metadataName, fileReader);
+        return new OnHeap(classifierIds, metadataName, fileReader, otherStringCount);
     }
 
-    private void loadPartition(int index)
+    /**
+     * Build a string index which keeps the other strings partitions off heap, as memory-mapped files where possible.
+     * Strings are only decoded when accessed, and a bounded number of recently accessed strings are cached. If the
+     * file reader does not support random access to file content, this falls back to an on heap index.
+     *
+     * @param metadataName         metadata name
+     * @param fileReader           file reader
+     * @param hotStringCacheSize   maximum number of decoded strings to cache (rounded up to a power of 2)
+     * @return lazy string index
+     */
+    public static LazyStringIndex fromFileReaderOffHeap(String metadataName, FileReader fileReader, int hotStringCacheSize)
     {
-        int partitionStart = DistributedStringCache.getStartOfPartition(index);
-        String filePath = DistributedMetadataHelper.getOtherStringsIndexPartitionFilePath(this.metadataName, partitionStart);
-        try (Reader reader = this.fileReader.getReader(filePath))
+        ByteBuffer otherStringsIndex = fileReader.getByteBuffer(DistributedMetadataHelper.getOtherStringsIndexFilePath(metadataName));
+        if (otherStringsIndex == null)
         {
-            int partitionLength = reader.readInt();
-            for (int i = partitionStart, end = partitionStart + partitionLength; i < end; i++)
-            {
-                String string = reader.readString();
-                if (!this.otherStrings.compareAndSet(i, null, string) && ((i >= index) || (this.otherStrings.get(index) != null)))
-                {
-                    // If the compareAndSet fails, it means one or more other threads are already loading this partition.
-                    // If the index we want has already been loaded, we can stop and leave the loading of the rest of the
-                    // partition to the other threads.
-                    return;
-                }
-            }
+            return fromFileReader(metadataName, fileReader);
         }
+        String[] classifierIds = readClassifierIds(metadataName, fileReader);
+        int otherStringCount = otherStringsIndex.getInt(0);
+        return new OffHeap(classifierIds, metadataName, fileReader, otherStringCount, hotStringCacheSize);
     }
 
-    public static LazyStringIndex fromFileReader(String metadataName, FileReader fileReader)
+    public static LazyStringIndex fromFileReaderOffHeap(String metadataName, FileReader fileReader)
     {
-        String[] classifierIds = readClassifierIds(metadataName, fileReader);
-        int otherStringCount = readOtherStringCount(metadataName, fileReader);
-        return new LazyStringIndex(classifierIds, metadataName, fileReader, otherStringCount);
+        return fromFileReaderOffHeap(metadataName, fileReader, DEFAULT_HOT_STRING_CACHE_SIZE);
     }
 
     private static String[] readClassifierIds(String metadataName, FileReader fileReader)
@@ -87,4 +83,153 @@ public class LazyStringIndex extends StringIndex
             return reader.readInt();
         }
     }
+
+    private static class OnHeap extends LazyStringIndex
+    {
+        private final AtomicReferenceArray<String> otherStrings;
+
+        private OnHeap(String[] classifierStrings, String metadataName, FileReader fileReader, int otherStringCount)
+        {
+            super(classifierStrings, metadataName, fileReader);
+            this.otherStrings = new AtomicReferenceArray<>(otherStringCount);
+        }
+
+        @Override
+        protected String getOtherString(int index)
+        {
+            String string = this.otherStrings.get(index);
+            if (string != null)
+            {
+                return string;
+            }
+            loadPartition(index);
+            return this.otherStrings.get(index);
+        }
+
+        private void loadPartition(int index)
+        {
+            int partitionStart = DistributedStringCache.getStartOfPartition(index);
+            String filePath = DistributedMetadataHelper.getOtherStringsIndexPartitionFilePath(this.metadataName, partitionStart);
+            try (Reader reader = this.fileReader.getReader(filePath))
+            {
+                int partitionLength = reader.readInt();
+                for (int i = partitionStart, end = partitionStart + partitionLength; i < end; i++)
+                {
+                    String string = reader.readString();
+                    if (!this.otherStrings.compareAndSet(i, null, string) && ((i >= index) || (this.otherStrings.get(index) != null)))
+                    {
+                        // If the compareAndSet fails, it means one or more other threads are already loading this partition.
+                        // If the index we want has already been loaded, we can stop and leave the loading of the rest of the
+                        // partition to the other threads.
+                        return;
+                    }
+                }
+            }
+        }
+    }
+
+    private static class OffHeap extends LazyStringIndex
+    {
+        private final AtomicReferenceArray<Partition> partitions;
+        private final AtomicReferenceArray<HotString> hotStrings;
+        private final int hotStringMask;
+
+        private OffHeap(String[] classifierStrings, String metadataName, FileReader fileReader, int otherStringCount, int hotStringCacheSize)
+        {
+            super(classifierStrings, metadataName, fileReader);
+            this.partitions = new AtomicReferenceArray<>((otherStringCount == 0) ? 0 : (DistributedStringCache.getPartitionNumber(otherStringCount - 1) + 1));
+            int cacheSize = (hotStringCacheSize <= 1) ? 1 : Integer.highestOneBit(hotStringCacheSize - 1) << 1;
+            this.hotStrings = new AtomicReferenceArray<>(cacheSize);
+            this.hotStringMask = cacheSize - 1;
+        }
+
+        @Override
+        protected String getOtherString(int index)
+        {
+            // the hot string cache is direct mapped: each index has exactly one slot, which it may share with others
+            int slot = index & this.hotStringMask;
+            HotString hotString = this.hotStrings.get(slot);
+            if ((hotString != null) && (hotString.index == index))
+            {
+                return hotString.string;
+            }
+            String string = getPartition(index).getString(DistributedStringCache.getIndexInPartition(index));
+            this.hotStrings.set(slot, new HotString(index, string));
+            return string;
+        }
+
+        private Partition getPartition(int index)
+        {
+            int partitionNumber = DistributedStringCache.getPartitionNumber(index);
+            Partition partition = this.partitions.get(partitionNumber);
+            if (partition == null)
+            {
+                Partition newPartition = loadPartition(DistributedStringCache.getStartOfPartition(index));
+                partition = this.partitions.compareAndSet(partitionNumber, null, newPartition) ? newPartition : this.partitions.get(partitionNumber);
+            }
+            return partition;
+        }
+
+        private Partition loadPartition(int partitionStart)
+        {
+            ByteBuffer strings = this.fileReader.getByteBuffer(DistributedMetadataHelper.getOtherStringsIndexPartitionFilePath(this.metadataName, partitionStart));
+            String offsetsFilePath = DistributedMetadataHelper.getOtherStringsIndexPartitionOffsetsFilePath(this.metadataName, partitionStart);
+            // metadata written before offsets were recorded has no offsets file: compute them from the string lengths
+            ByteBuffer offsets = this.fileReader.exists(offsetsFilePath) ? this.fileReader.getByteBuffer(offsetsFilePath) : computeOffsets(strings);
+            return new Partition(strings, offsets);
+        }
+
+        private static ByteBuffer computeOffsets(ByteBuffer strings)
+        {
+            int count = strings.getInt(0);
+            ByteBuffer offsets = ByteBuffer.allocateDirect(Integer.BYTES * (count + 1));
+            offsets.putInt(count);
+            int offset = Integer.BYTES;
+            for (int i = 0; i < count; i++)
+            {
+                offsets.putInt(offset);
+                offset += Integer.BYTES + strings.getInt(offset);
+            }
+            offsets.flip();
+            return offsets.asReadOnlyBuffer();
+        }
+    }
+
+    private static class Partition
+    {
+        // length-prefixed UTF-8 strings, preceded by the count
+        private final ByteBuffer strings;
+        // offset of each string in strings, preceded by the count
+        private final ByteBuffer offsets;
+
+        private Partition(ByteBuffer strings, ByteBuffer offsets)
+        {
+            this.strings = strings;
+            this.offsets = offsets;
+        }
+
+        String getString(int indexInPartition)
+        {
+            int offset = this.offsets.getInt(Integer.BYTES * (indexInPartition + 1));
+            int length = this.strings.getInt(offset);
+            byte[] bytes = new byte[length];
+            // duplicate so that concurrent reads do not interfere with each other's position
+            ByteBuffer buffer = this.strings.duplicate();
+            buffer.position(offset + Integer.BYTES);
+            buffer.get(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    }
+
+    private static class HotString
+    {
+        private final int index;
+        private final String string;
+
+        private HotString(int index, String string)
+        {
+            this.index = index;
+            this.string = string;
+        }
+    }
 }
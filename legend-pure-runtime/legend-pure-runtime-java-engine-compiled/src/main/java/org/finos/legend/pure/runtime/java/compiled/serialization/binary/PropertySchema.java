@@ -0,0 +1,103 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.runtime.java.compiled.serialization.binary;
+
+import org.eclipse.collections.api.factory.Sets;
+import org.eclipse.collections.api.map.primitive.MutableObjectIntMap;
+import org.eclipse.collections.api.set.MutableSet;
+import org.eclipse.collections.impl.factory.primitive.ObjectIntMaps;
+import org.finos.legend.pure.m4.serialization.Reader;
+import org.finos.legend.pure.m4.serialization.Writer;
+import org.finos.legend.pure.runtime.java.compiled.serialization.model.Obj;
+
+import java.io.Serializable;
+
+/**
+ * The names of the properties which instances of a classifier have values for. In the compact format, the schema is
+ * written once in the classifier's index, and each property value refers to its property by its index in the schema
+ * rather than by name.
+ */
+class PropertySchema implements Serializable
+{
+    private static final long serialVersionUID = 1L;
+
+    private final String[] properties;
+    private transient MutableObjectIntMap<String> indexes;
+
+    private PropertySchema(String[] properties)
+    {
+        this.properties = properties;
+    }
+
+    int size()
+    {
+        return this.properties.length;
+    }
+
+    String getProperty(int index)
+    {
+        if ((index < 0) || (index >= this.properties.length))
+        {
+            throw new RuntimeException("Unknown property index: " + index + " (schema size: " + this.properties.length + ")");
+        }
+        return this.properties[index];
+    }
+
+    int getIndex(String property)
+    {
+        MutableObjectIntMap<String> localIndexes = this.indexes;
+        if (localIndexes == null)
+        {
+            localIndexes = ObjectIntMaps.mutable.ofInitialCapacity(this.properties.length);
+            for (int i = 0; i < this.properties.length; i++)
+            {
+                localIndexes.put(this.properties[i], i);
+            }
+            this.indexes = localIndexes;
+        }
+        int index = localIndexes.getIfAbsent(property, -1);
+        if (index < 0)
+        {
+            throw new IllegalArgumentException("Property not in schema: " + property);
+        }
+        return index;
+    }
+
+    void write(Writer writer, StringCache stringCache)
+    {
+        VarInts.writeUnsignedInt(writer, this.properties.length);
+        for (String property : this.properties)
+        {
+            VarInts.writeSignedInt(writer, stringCache.getStringId(property));
+        }
+    }
+
+    static PropertySchema read(Reader reader, StringIndex stringIndex)
+    {
+        String[] properties = new String[VarInts.readUnsignedInt(reader)];
+        for (int i = 0; i < properties.length; i++)
+        {
+            properties[i] = stringIndex.getString(VarInts.readSignedInt(reader));
+        }
+        return new PropertySchema(properties);
+    }
+
+    static PropertySchema fromObjs(Iterable<? extends Obj> objs)
+    {
+        MutableSet<String> properties = Sets.mutable.empty();
+        objs.forEach(obj -> obj.getPropertyValues().forEach(pv -> properties.add(pv.getProperty())));
+        return new PropertySchema(properties.toSortedList().toArray(new String[properties.size()]));
+    }
+}
@@ -0,0 +1,92 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.runtime.java.compiled.serialization.binary;
+
+import org.finos.legend.pure.m4.serialization.Reader;
+import org.finos.legend.pure.m4.serialization.Writer;
+
+/**
+ * Variable length integer encoding: seven bits per byte, least significant group first, with the high bit of each
+ * byte set if more bytes follow. Unsigned values are encoded as is; signed values are zig-zag encoded first, so that
+ * values of small magnitude take few bytes whatever their sign.
+ */
+class VarInts
+{
+    private VarInts()
+    {
+    }
+
+    static void writeUnsignedInt(Writer writer, int value)
+    {
+        while ((value & ~0x7F) != 0)
+        {
+            writer.writeByte((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        writer.writeByte((byte) value);
+    }
+
+    static int readUnsignedInt(Reader reader)
+    {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7)
+        {
+            byte b = reader.readByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0)
+            {
+                return value;
+            }
+        }
+        throw new IllegalStateException("Malformed variable length int");
+    }
+
+    static void writeSignedInt(Writer writer, int value)
+    {
+        writeUnsignedInt(writer, (value << 1) ^ (value >> 31));
+    }
+
+    static int readSignedInt(Reader reader)
+    {
+        int value = readUnsignedInt(reader);
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    static void writeSignedLong(Writer writer, long value)
+    {
+        long zigZag = (value << 1) ^ (value >> 63);
+        while ((zigZag & ~0x7FL) != 0L)
+        {
+            writer.writeByte((byte) ((zigZag & 0x7F) | 0x80));
+            zigZag >>>= 7;
+        }
+        writer.writeByte((byte) zigZag);
+    }
+
+    static long readSignedLong(Reader reader)
+    {
+        long zigZag = 0L;
+        for (int shift = 0; shift < 64; shift += 7)
+        {
+            byte b = reader.readByte();
+            zigZag |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0)
+            {
+                return (zigZag >>> 1) ^ -(zigZag & 1L);
+            }
+        }
+        throw new IllegalStateException("Malformed variable length long");
+    }
+}
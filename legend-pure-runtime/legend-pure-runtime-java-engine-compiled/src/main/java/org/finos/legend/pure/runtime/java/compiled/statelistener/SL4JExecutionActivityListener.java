@@ -15,6 +15,8 @@
 package org.finos.legend.pure.runtime.java.compiled.statelistener;
 
 import org.finos.legend.pure.m3.statelistener.ExecutionActivityListener;
+import org.finos.legend.pure.m3.statelistener.ExecutionSpan;
+import org.json.simple.JSONObject;
 import org.json.simple.JSONValue;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -22,6 +24,7 @@ import org.slf4j.LoggerFactory;
 public class SL4JExecutionActivityListener implements ExecutionActivityListener
 {
     private final Logger logger = LoggerFactory.getLogger("Pure_SQL_logger");
+    private final Logger spanLogger = LoggerFactory.getLogger("Pure_span_logger");
 
     @Override
     public void relationalActivityCompleted(String dbHost, Integer dbPort, String dbName, String dbType, String sql, String planInfo, Long executionTime, Long sqlGenerationTime, Long connectionAcquisitionTime)
@@ -41,4 +44,25 @@ public class SL4JExecutionActivityListener implements ExecutionActivityListener
     public void routingActivityCompleted(Long routingTimeInNanoSeconds)
     {
     }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void spanCompleted(ExecutionSpan span)
+    {
+        if (this.spanLogger.isDebugEnabled())
+        {
+            JSONObject attributes = new JSONObject();
+            span.getAttributes().forEachKeyValue((key, value) -> attributes.put(key, String.valueOf(value)));
+            this.spanLogger.debug("{\"threadId\":{},\"spanId\":{},\"parentId\":{},\"rootId\":{},\"category\":\"{}\",\"name\":\"{}\",\"startTime\":{},\"durationInMicros\":{},\"attributes\":{}}",
+                    Thread.currentThread().getId(),
+                    span.getId(),
+                    span.getParentId(),
+                    span.getRootId(),
+                    JSONValue.escape(span.getCategory()),
+                    JSONValue.escape(span.getName()),
+                    span.getStartTimeMillis(),
+                    span.getDurationNanos() / 1000,
+                    attributes.toJSONString());
+        }
+    }
 }
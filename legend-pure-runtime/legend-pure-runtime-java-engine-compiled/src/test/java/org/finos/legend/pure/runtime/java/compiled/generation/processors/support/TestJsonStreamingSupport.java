@@ -0,0 +1,194 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.runtime.java.compiled.generation.processors.support;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.function.Function;
+import org.finos.legend.pure.m3.tests.AbstractPureTestWithCoreCompiled;
+import org.finos.legend.pure.m4.exception.PureException;
+import org.finos.legend.pure.runtime.java.compiled.execution.CompiledExecutionSupport;
+import org.finos.legend.pure.runtime.java.compiled.execution.FunctionExecutionCompiled;
+import org.finos.legend.pure.runtime.java.compiled.execution.FunctionExecutionCompiledBuilder;
+import org.finos.legend.pure.runtime.java.compiled.factory.JavaModelFactoryRegistryLoader;
+import org.finos.legend.pure.runtime.java.compiled.generation.processors.support.function.SharedPureFunction;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.StringReader;
+
+public class TestJsonStreamingSupport extends AbstractPureTestWithCoreCompiled
+{
+    private static final String PERSON_JSON = "{" +
+            "\"name\": \"Alice\", " +
+            "\"age\": 42, " +
+            "\"height\": 1.5, " +
+            "\"balance\": 10.0, " +
+            "\"birthday\": \"1980-02-29\", " +
+            "\"lastSeen\": \"2020-01-01T12:30:00+0000\", " +
+            "\"nicknames\": [\"Al\", \"Ali\"], " +
+            "\"favouriteColor\": \"GREEN\", " +
+            "\"address\": {\"street\": \"Main Street\"}, " +
+            "\"pets\": [" +
+            "{\"@type\": \"Dog\", \"name\": \"Rex\", \"breed\": \"Collie\"}, " +
+            "{\"name\": \"Fido\", \"breed\": \"Beagle\", \"@type\": \"Dog\", \"good\": true}, " +
+            "{\"name\": \"Tom\"}" +
+            "], " +
+            "\"active\": true" +
+            "}";
+
+    @BeforeClass
+    public static void setUp()
+    {
+        setUpRuntime(new FunctionExecutionCompiledBuilder().build(), JavaModelFactoryRegistryLoader.loader());
+        compileTestSource("fromString.pure",
+                "Enum test::Color\n" +
+                        "{\n" +
+                        "  RED, GREEN\n" +
+                        "}\n" +
+                        "\n" +
+                        "Class test::Address\n" +
+                        "{\n" +
+                        "  street:String[1];\n" +
+                        "}\n" +
+                        "\n" +
+                        "Class test::Pet\n" +
+                        "{\n" +
+                        "  name:String[1];\n" +
+                        "}\n" +
+                        "\n" +
+                        "Class test::Dog extends test::Pet\n" +
+                        "{\n" +
+                        "  breed:String[1];\n" +
+                        "  good:Boolean[0..1];\n" +
+                        "}\n" +
+                        "\n" +
+                        "Class test::Person\n" +
+                        "{\n" +
+                        "  name:String[1];\n" +
+                        "  age:Integer[0..1];\n" +
+                        "  height:Float[0..1];\n" +
+                        "  balance:Decimal[0..1];\n" +
+                        "  birthday:StrictDate[0..1];\n" +
+                        "  lastSeen:DateTime[0..1];\n" +
+                        "  nicknames:String[*];\n" +
+                        "  favouriteColor:test::Color[0..1];\n" +
+                        "  address:test::Address[0..1];\n" +
+                        "  pets:test::Pet[*];\n" +
+                        "  active:Boolean[1];\n" +
+                        "}\n" +
+                        "\n" +
+                        "function test::expected():test::Person[1]\n" +
+                        "{\n" +
+                        "  ^test::Person(name='Alice', age=42, height=1.5, balance=10.0D, birthday=%1980-02-29, lastSeen=%2020-01-01T12:30:00+0000,\n" +
+                        "                nicknames=['Al', 'Ali'], favouriteColor=test::Color.GREEN, address=^test::Address(street='Main Street'),\n" +
+                        "                pets=[^test::Dog(name='Rex', breed='Collie'), ^test::Dog(name='Fido', breed='Beagle', good=true), ^test::Pet(name='Tom')], active=true)\n" +
+                        "}\n" +
+                        "\n" +
+                        "function test::describe(p:test::Person[1]):String[1]\n" +
+                        "{\n" +
+                        "  [$p.name, $p.age->map(x | $x->toString())->joinStrings(''), $p.height->map(x | $x->toString())->joinStrings(''),\n" +
+                        "   $p.balance->map(x | $x->toString())->joinStrings(''), $p.birthday->map(x | $x->toString())->joinStrings(''),\n" +
+                        "   $p.lastSeen->map(x | $x->toString())->joinStrings(''), $p.nicknames->joinStrings(','),\n" +
+                        "   $p.favouriteColor->map(x | $x->toString())->joinStrings(''), $p.address.street->joinStrings(''),\n" +
+                        "   $p.pets->map(x | $x->match([d:test::Dog[1] | 'Dog:' + $d.name + ':' + $d.breed + ':' + $d.good->map(g | $g->toString())->joinStrings(''), a:test::Pet[1] | 'Pet:' + $a.name]))->joinStrings(','),\n" +
+                        "   $p.active->toString()]->joinStrings('|')\n" +
+                        "}\n");
+    }
+
+    @Test
+    public void testSameAsInstanceBuiltInPure()
+    {
+        CompiledExecutionSupport es = getExecutionSupport();
+        Object expected = getFunction("test::expected__Person_1_").execute(Lists.immutable.empty(), es);
+        String expectedDescription = describe(expected);
+        Assert.assertEquals("Alice|42|1.5|10.0|1980-02-29|2020-01-01T12:30:00+0000|Al,Ali|GREEN|Main Street|Dog:Rex:Collie:,Dog:Fido:Beagle:true,Pet:Tom|true", expectedDescription);
+
+        Assert.assertEquals(expectedDescription, describe(fromJson(PERSON_JSON, true)));
+        Assert.assertEquals(expectedDescription, describe(JsonStreamingSupport.fromJson(new StringReader(PERSON_JSON), getPersonClass(), "Root::test::Person", es.getMetadataAccessor(), es.getClassLoader(), null, "@type", true, null, es)));
+    }
+
+    @Test
+    public void testMissingOptionalProperties()
+    {
+        Assert.assertEquals("Bob||||||||||false", describe(fromJson("{\"name\": \"Bob\", \"active\": false, \"nicknames\": [], \"address\": null}", true)));
+    }
+
+    @Test
+    public void testMultiplicity()
+    {
+        assertError("Error populating property 'name' on class 'test::Person': Expected value(s) of multiplicity [1], found 0 value(s).", "{\"active\": true}");
+        assertError("Error populating property 'name' on class 'test::Person': Expected value(s) of multiplicity [1], found 0 value(s).", "{\"name\": null, \"active\": true}");
+        assertError("Error populating property 'name' on class 'test::Person': Expected value(s) of multiplicity [1], found 2 value(s).", "{\"name\": [\"a\", \"b\"], \"active\": true}");
+        assertError("Error populating property 'street' on class 'test::Address': Expected value(s) of multiplicity [1], found 0 value(s).", "{\"name\": \"a\", \"active\": true, \"address\": {}}");
+        Assert.assertEquals("a|||||||||Pet:b|true", describe(fromJson("{\"name\": [\"a\"], \"active\": true, \"pets\": {\"name\": \"b\"}}", true)));
+    }
+
+    @Test
+    public void testUnknownProperties()
+    {
+        String json = "{\"name\": \"a\", \"active\": true, \"other\": {\"x\": [1, 2]}, \"address\": {\"street\": \"b\", \"number\": 1}}";
+        Assert.assertEquals("a||||||||b||true", describe(fromJson(json, false)));
+        assertError("Error populating property 'address' on class 'test::Person': Property 'number' can't be found in class test::Address", json);
+    }
+
+    @Test
+    public void testInvalidValues()
+    {
+        assertError("Error populating property 'favouriteColor' on class 'test::Person': Unknown enum: Color.BLUE", "{\"name\": \"a\", \"active\": true, \"favouriteColor\": \"BLUE\"}");
+        assertError("Error populating property 'age' on class 'test::Person': Expected Integer, found 'old'", "{\"name\": \"a\", \"active\": true, \"age\": \"old\"}");
+        assertError("Error populating property 'birthday' on class 'test::Person': Expected StrictDate, found '2020-01-01T00:00:00+0000'", "{\"name\": \"a\", \"active\": true, \"birthday\": \"2020-01-01T00:00:00+0000\"}");
+        assertError("Unexpected JSON content after object: START_OBJECT", "{\"name\": \"a\", \"active\": true} {}");
+    }
+
+    private static Object fromJson(String json, boolean failOnUnknownProperties)
+    {
+        CompiledExecutionSupport es = getExecutionSupport();
+        return JsonStreamingSupport.fromJson(json, getPersonClass(), "Root::test::Person", es.getMetadataAccessor(), es.getClassLoader(), null, "@type", failOnUnknownProperties, null, es);
+    }
+
+    private static void assertError(String expectedMessage, String json)
+    {
+        try
+        {
+            fromJson(json, true);
+            Assert.fail("Expected an error for: " + json);
+        }
+        catch (PureException e)
+        {
+            Assert.assertTrue(e.getInfo(), e.getInfo().contains(expectedMessage));
+        }
+    }
+
+    private static String describe(Object person)
+    {
+        return (String) getFunction("test::describe_Person_1__String_1_").executeWith(person, getExecutionSupport());
+    }
+
+    private static Class<?> getPersonClass()
+    {
+        return getExecutionSupport().getClassCache().getIfAbsentPutInterfaceForType(getExecutionSupport().getMetadataAccessor().getClass("Root::test::Person"));
+    }
+
+    private static SharedPureFunction<?> getFunction(String functionId)
+    {
+        return Pure.findSharedPureFunction((Function<?>) runtime.getFunction(functionId), null, getExecutionSupport());
+    }
+
+    private static CompiledExecutionSupport getExecutionSupport()
+    {
+        return ((FunctionExecutionCompiled) functionExecution).getExecutionSupport();
+    }
+}
@@ -0,0 +1,113 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.runtime.java.compiled.generation.processors.support.collection;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.ListIterable;
+import org.eclipse.collections.api.list.MutableList;
+
+import java.util.function.IntFunction;
+
+/**
+ * A simple benchmark comparing {@link PersistentList} with copying a {@link MutableList}, which is what the compiled
+ * collection natives did before, for the access patterns of Pure code: appending in a fold, repeated concatenation,
+ * and indexed access. This is not run as part of the build; run the main method to get timings.
+ */
+public class PersistentListBenchmark
+{
+    private static final int WARM_UP_ITERATIONS = 5;
+    private static final int ITERATIONS = 10;
+
+    public static void main(String[] args)
+    {
+        int size = (args.length > 0) ? Integer.parseInt(args[0]) : 20_000;
+        System.out.printf("Size: %,d%n", size);
+        run("append (copying)", size, PersistentListBenchmark::appendCopying);
+        run("append (persistent)", size, PersistentListBenchmark::appendPersistent);
+        run("concatenate (copying)", size, PersistentListBenchmark::concatenateCopying);
+        run("concatenate (persistent)", size, PersistentListBenchmark::concatenatePersistent);
+        ListIterable<Integer> copied = appendCopying(size);
+        ListIterable<Integer> persistent = appendPersistent(size);
+        run("get (copying)", size, n -> sumByIndex(copied));
+        run("get (persistent)", size, n -> sumByIndex(persistent));
+    }
+
+    private static void run(String name, int size, IntFunction<?> benchmark)
+    {
+        for (int i = 0; i < WARM_UP_ITERATIONS; i++)
+        {
+            benchmark.apply(size);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++)
+        {
+            benchmark.apply(size);
+        }
+        long average = (System.nanoTime() - start) / ITERATIONS;
+        System.out.printf("%-26s %,15dns%n", name, average);
+    }
+
+    private static ListIterable<Integer> appendCopying(int size)
+    {
+        MutableList<Integer> list = Lists.mutable.empty();
+        for (int i = 0; i < size; i++)
+        {
+            list = Lists.mutable.<Integer>withInitialCapacity(list.size() + 1).withAll(list).with(i);
+        }
+        return list;
+    }
+
+    private static ListIterable<Integer> appendPersistent(int size)
+    {
+        PersistentList<Integer> list = PersistentList.empty();
+        for (int i = 0; i < size; i++)
+        {
+            list = list.newWith(i);
+        }
+        return list;
+    }
+
+    private static ListIterable<Integer> concatenateCopying(int size)
+    {
+        MutableList<Integer> chunk = Lists.mutable.with(1, 2, 3, 4, 5);
+        MutableList<Integer> list = Lists.mutable.empty();
+        for (int i = 0; i < size / chunk.size(); i++)
+        {
+            list = Lists.mutable.<Integer>withInitialCapacity(list.size() + chunk.size()).withAll(list).withAll(chunk);
+        }
+        return list;
+    }
+
+    private static ListIterable<Integer> concatenatePersistent(int size)
+    {
+        PersistentList<Integer> chunk = PersistentList.ofAll(Lists.mutable.with(1, 2, 3, 4, 5));
+        PersistentList<Integer> list = PersistentList.empty();
+        for (int i = 0; i < size / chunk.size(); i++)
+        {
+            list = list.newWithAll(chunk);
+        }
+        return list;
+    }
+
+    private static long sumByIndex(ListIterable<Integer> list)
+    {
+        long sum = 0;
+        for (int i = 0; i < list.size(); i++)
+        {
+            sum += list.get(i);
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,199 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.runtime.java.compiled.generation.processors.support.collection;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.Interval;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Iterator;
+import java.util.Random;
+
+public class TestPersistentList
+{
+    @Test
+    public void testEmpty()
+    {
+        PersistentList<String> list = PersistentList.empty();
+        Assert.assertTrue(list.isEmpty());
+        Assert.assertEquals(0, list.size());
+        Assert.assertFalse(list.iterator().hasNext());
+        Assert.assertEquals(Lists.mutable.empty(), list);
+        Assert.assertThrows(IndexOutOfBoundsException.class, () -> list.get(0));
+    }
+
+    @Test
+    public void testNewWithDoesNotModify()
+    {
+        PersistentList<Integer> list = PersistentList.ofAll(Interval.oneTo(100));
+        PersistentList<Integer> list2 = list.newWith(101);
+        PersistentList<Integer> list3 = list.newWith(0, 0);
+        Assert.assertEquals(Interval.oneTo(100), list);
+        Assert.assertEquals(Interval.oneTo(101), list2);
+        Assert.assertEquals(Interval.zeroTo(100), list3);
+    }
+
+    @Test
+    public void testAppendInFold()
+    {
+        PersistentList<Integer> list = Interval.oneTo(10_000).injectInto(PersistentList.empty(), PersistentList::newWith);
+        Assert.assertEquals(Interval.oneTo(10_000), list);
+        Assert.assertEquals(Integer.valueOf(5_000), list.get(4_999));
+        Assert.assertEquals(Interval.oneTo(10_000).toList(), Lists.mutable.withAll(list));
+    }
+
+    @Test
+    public void testAppendsFillLeaves()
+    {
+        PersistentList<Integer> list = Interval.oneTo(10_000).injectInto(PersistentList.empty(), PersistentList::newWith);
+        Assert.assertEquals((10_000 + 31) / 32, list.getLeafCount());
+
+        PersistentList<Integer> mutated = PersistentList.empty();
+        for (int i = 1; i <= 10_000; i++)
+        {
+            mutated.add(i);
+        }
+        Assert.assertEquals(list, mutated);
+        Assert.assertEquals((10_000 + 31) / 32, mutated.getLeafCount());
+
+        // concatenating small lists merges them into the existing leaves
+        PersistentList<Integer> concatenated = PersistentList.empty();
+        for (int i = 0; i < 100; i++)
+        {
+            concatenated = concatenated.newWithAll(PersistentList.ofAll(Interval.fromTo(i * 3, (i * 3) + 2)));
+        }
+        Assert.assertEquals(Interval.zeroTo(299), concatenated);
+        Assert.assertEquals((300 + 31) / 32, concatenated.getLeafCount());
+    }
+
+    @Test
+    public void testConcatenateAndSlice()
+    {
+        PersistentList<Integer> list = PersistentList.empty();
+        for (int i = 0; i < 100; i++)
+        {
+            list = list.newWithAll(Interval.fromTo(i * 100, (i * 100) + 99));
+        }
+        Assert.assertEquals(Interval.zeroTo(9_999), list);
+        Assert.assertEquals(Interval.fromTo(1_234, 5_677), list.slice(1_234, 5_678));
+        Assert.assertEquals(Interval.zeroTo(9_999), list.slice(0, 5_000).newWithAll(list.slice(5_000, 10_000)));
+        Assert.assertTrue(list.slice(10, 10).isEmpty());
+
+        PersistentList<Integer> finalList = list;
+        Assert.assertThrows(IndexOutOfBoundsException.class, () -> finalList.slice(5, 4));
+    }
+
+    @Test
+    public void testModificationsAreNotShared()
+    {
+        PersistentList<Integer> list = PersistentList.ofAll(Interval.oneTo(50));
+        PersistentList<Integer> other = list.newWith(51);
+
+        list.set(0, 100);
+        list.remove(1);
+        list.add(52);
+        Assert.assertEquals(Interval.oneTo(51), other);
+        Assert.assertEquals(Lists.mutable.with(100).withAll(Interval.fromTo(3, 50)).with(52), list);
+    }
+
+    @Test
+    public void testIteratorRemove()
+    {
+        PersistentList<Integer> list = PersistentList.ofAll(Interval.oneTo(100));
+        for (Iterator<Integer> iterator = list.iterator(); iterator.hasNext(); )
+        {
+            if (iterator.next() % 2 == 0)
+            {
+                iterator.remove();
+            }
+        }
+        Assert.assertEquals(Interval.oneTo(100).select(i -> i % 2 != 0).toList(), list);
+    }
+
+    @Test
+    public void testRandomOperationsAgainstFastList()
+    {
+        Random random = new Random(8_675_309L);
+        MutableList<Integer> expected = Lists.mutable.empty();
+        PersistentList<Integer> actual = PersistentList.empty();
+        for (int i = 0; i < 5_000; i++)
+        {
+            int size = expected.size();
+            switch (random.nextInt(6))
+            {
+                case 0:
+                {
+                    expected.add(i);
+                    actual = actual.newWith(i);
+                    break;
+                }
+                case 1:
+                {
+                    int index = random.nextInt(size + 1);
+                    expected.add(index, i);
+                    actual = actual.newWith(index, i);
+                    break;
+                }
+                case 2:
+                {
+                    MutableList<Integer> toAdd = Interval.fromTo(i, i + random.nextInt(40)).toList();
+                    expected.addAll(toAdd);
+                    actual = actual.newWithAll((i % 2 == 0) ? toAdd : PersistentList.ofAll(toAdd));
+                    break;
+                }
+                case 3:
+                {
+                    if (size > 0)
+                    {
+                        int index = random.nextInt(size);
+                        expected.remove(index);
+                        actual.remove(index);
+                    }
+                    break;
+                }
+                case 4:
+                {
+                    if (size > 0)
+                    {
+                        int index = random.nextInt(size);
+                        expected.set(index, -i);
+                        actual.set(index, -i);
+                    }
+                    break;
+                }
+                default:
+                {
+                    int from = random.nextInt(size + 1);
+                    int to = from + random.nextInt((size - from) + 1);
+                    if (random.nextBoolean() && ((to - from) > 10))
+                    {
+                        expected = expected.subList(from, to).toList();
+                        actual = actual.slice(from, to);
+                    }
+                    break;
+                }
+            }
+            Assert.assertEquals(expected.size(), actual.size());
+        }
+        Assert.assertEquals(expected, actual);
+        Assert.assertEquals(expected.hashCode(), actual.hashCode());
+        for (int i = 0; i < expected.size(); i++)
+        {
+            Assert.assertEquals(expected.get(i), actual.get(i));
+        }
+    }
+}
@@ -0,0 +1,73 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.runtime.java.compiled.generation.processors.support.function;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.ListIterable;
+import org.finos.legend.pure.m3.execution.ExecutionSupport;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TestSharedPureFunction
+{
+    @Test
+    public void testDefaultExecuteWith()
+    {
+        SharedPureFunction<ListIterable<?>> function = (vars, es) -> vars;
+        Assert.assertEquals(Lists.immutable.with("a"), function.executeWith("a", null));
+        Assert.assertEquals(Lists.immutable.with("a", "b"), function.executeWith("a", "b", null));
+        Assert.assertEquals(Lists.immutable.with(null, "b"), function.executeWith(null, "b", null));
+    }
+
+    @Test
+    public void testPureFunction1ExecuteWith()
+    {
+        PureFunction1<String, String> function = new PureFunction1<String, String>()
+        {
+            @Override
+            public String value(String s, ExecutionSupport es)
+            {
+                return s + "!";
+            }
+
+            @Override
+            public String execute(ListIterable<?> vars, ExecutionSupport es)
+            {
+                throw new UnsupportedOperationException("executeWith should not build an argument list");
+            }
+        };
+        Assert.assertEquals("a!", function.executeWith("a", null));
+    }
+
+    @Test
+    public void testPureFunction2ExecuteWith()
+    {
+        PureFunction2<String, String, String> function = new PureFunction2<String, String, String>()
+        {
+            @Override
+            public String value(String s, String t, ExecutionSupport es)
+            {
+                return s + t;
+            }
+
+            @Override
+            public String execute(ListIterable<?> vars, ExecutionSupport es)
+            {
+                throw new UnsupportedOperationException("executeWith should not build an argument list");
+            }
+        };
+        Assert.assertEquals("ab", function.executeWith("a", "b", null));
+    }
+}
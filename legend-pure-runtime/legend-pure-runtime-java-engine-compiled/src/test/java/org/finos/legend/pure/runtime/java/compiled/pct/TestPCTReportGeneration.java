@@ -0,0 +1,60 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.runtime.java.compiled.pct;
+
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.MutableList;
+import org.finos.legend.pure.m3.navigation.ProcessorSupport;
+import org.finos.legend.pure.m3.pct.reports.generation.ReportGeneration;
+import org.finos.legend.pure.m3.pct.reports.model.AdapterReport;
+import org.finos.legend.pure.runtime.java.compiled.pct.functions.Test_Compiled_EssentialFunctions_PCT;
+import org.finos.legend.pure.runtime.java.compiled.pct.functions.Test_Compiled_GrammarFunctions_PCT;
+import org.finos.legend.pure.runtime.java.compiled.testHelper.PureTestBuilderCompiled;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+public class TestPCTReportGeneration
+{
+    @Test
+    public void testParallelReportGeneration() throws Exception
+    {
+        MutableList<String> testSuites = Lists.mutable.with(Test_Compiled_GrammarFunctions_PCT.class.getName(), Test_Compiled_EssentialFunctions_PCT.class.getName());
+        ProcessorSupport processorSupport = PureTestBuilderCompiled.getClassLoaderExecutionSupport(Thread.currentThread().getContextClassLoader()).getProcessorSupport();
+
+        MutableList<AdapterReport> expected = ReportGeneration.generateReport(testSuites, processorSupport);
+        MutableList<AdapterReport> actual;
+        ForkJoinPool forkJoinPool = new ForkJoinPool(4);
+        try
+        {
+            actual = ReportGeneration.generateReport(testSuites, processorSupport, forkJoinPool);
+        }
+        finally
+        {
+            forkJoinPool.shutdown();
+        }
+
+        ObjectWriter writer = JsonMapper.builder().build().writerWithDefaultPrettyPrinter();
+        Assert.assertEquals(2, actual.size());
+        for (int i = 0; i < expected.size(); i++)
+        {
+            Assert.assertEquals(ReportGeneration.getReportName(expected.get(i)), ReportGeneration.getReportName(actual.get(i)));
+            Assert.assertEquals(writer.writeValueAsString(expected.get(i)), writer.writeValueAsString(actual.get(i)));
+        }
+    }
+}
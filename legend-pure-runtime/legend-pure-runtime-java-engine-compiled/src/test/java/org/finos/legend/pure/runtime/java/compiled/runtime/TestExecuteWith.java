@@ -0,0 +1,168 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.runtime.java.compiled.runtime;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.function.Function;
+import org.finos.legend.pure.m3.execution.ExecutionSupport;
+import org.finos.legend.pure.m3.navigation.M3Properties;
+import org.finos.legend.pure.m3.tests.AbstractPureTestWithCoreCompiled;
+import org.finos.legend.pure.runtime.java.compiled.execution.FunctionExecutionCompiled;
+import org.finos.legend.pure.runtime.java.compiled.execution.FunctionExecutionCompiledBuilder;
+import org.finos.legend.pure.runtime.java.compiled.factory.JavaModelFactoryRegistryLoader;
+import org.finos.legend.pure.runtime.java.compiled.generation.processors.support.LambdaCompiledExtended;
+import org.finos.legend.pure.runtime.java.compiled.generation.processors.support.Pure;
+import org.finos.legend.pure.runtime.java.compiled.generation.processors.support.function.SharedPureFunction;
+import org.finos.legend.pure.runtime.java.compiled.metadata.JavaMethodWithParamsSharedPureFunction;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class TestExecuteWith extends AbstractPureTestWithCoreCompiled
+{
+    @BeforeClass
+    public static void setUp()
+    {
+        setUpRuntime(new FunctionExecutionCompiledBuilder().build(), JavaModelFactoryRegistryLoader.loader());
+    }
+
+    @After
+    public void cleanRuntime()
+    {
+        runtime.delete("fromString.pure");
+        runtime.compile();
+    }
+
+    @Test
+    public void testGeneratedLambdas()
+    {
+        compileTestSource("fromString.pure",
+                "function test::toOne():Any[*]\n" +
+                        "{\n" +
+                        "  {s:String[1] | $s + '!'}\n" +
+                        "}\n" +
+                        "\n" +
+                        "function test::toMany():Any[*]\n" +
+                        "{\n" +
+                        "  {s:String[*] | $s->joinStrings(',')}\n" +
+                        "}\n" +
+                        "\n" +
+                        "function test::twoParams():Any[*]\n" +
+                        "{\n" +
+                        "  {a:Integer[1], b:Integer[*] | $a + $b->size()}\n" +
+                        "}\n");
+        ExecutionSupport es = getExecutionSupport();
+
+        SharedPureFunction<?> toOne = getLambdaFunction("test::toOne():Any[*]");
+        assertDeclaresExecuteWith(toOne, 1);
+        Assert.assertEquals("a!", toOne.executeWith("a", es));
+        Assert.assertEquals("a!", toOne.executeWith(Lists.immutable.with("a"), es));
+        Assert.assertEquals(toOne.execute(Lists.immutable.with("a"), es), toOne.executeWith("a", es));
+
+        // to-many parameters are converted to collections, as with execute
+        SharedPureFunction<?> toMany = getLambdaFunction("test::toMany():Any[*]");
+        assertDeclaresExecuteWith(toMany, 1);
+        Assert.assertEquals("a", toMany.executeWith("a", es));
+        Assert.assertEquals("a,b", toMany.executeWith(Lists.immutable.with("a", "b"), es));
+        Assert.assertEquals("", toMany.executeWith(null, es));
+        Assert.assertEquals(toMany.execute(Lists.immutable.with(Lists.immutable.with("a", "b")), es), toMany.executeWith(Lists.immutable.with("a", "b"), es));
+
+        SharedPureFunction<?> twoParams = getLambdaFunction("test::twoParams():Any[*]");
+        assertDeclaresExecuteWith(twoParams, 2);
+        Assert.assertEquals(3L, twoParams.executeWith(1L, Lists.immutable.with("x", "y"), es));
+        Assert.assertEquals(2L, twoParams.executeWith(1L, "x", es));
+        Assert.assertEquals(twoParams.execute(Lists.immutable.with(1L, Lists.immutable.with("x", "y")), es), twoParams.executeWith(1L, Lists.immutable.with("x", "y"), es));
+    }
+
+    @Test
+    public void testGeneratedNativeFunctions()
+    {
+        ExecutionSupport es = getExecutionSupport();
+
+        SharedPureFunction<?> size = getSharedPureFunction("meta::pure::functions::collection::size_Any_MANY__Integer_1_");
+        assertDeclaresExecuteWith(size, 1);
+        Assert.assertEquals(2L, size.executeWith(Lists.immutable.with("a", "b"), es));
+        Assert.assertEquals(size.execute(Lists.immutable.with(Lists.immutable.with("a", "b")), es), size.executeWith(Lists.immutable.with("a", "b"), es));
+
+        SharedPureFunction<?> compare = getSharedPureFunction("meta::pure::functions::lang::compare_T_1__T_1__Integer_1_");
+        assertDeclaresExecuteWith(compare, 2);
+        Assert.assertTrue(((Number) compare.executeWith(1L, 2L, es)).intValue() < 0);
+        Assert.assertEquals(compare.execute(Lists.immutable.with("b", "a"), es), compare.executeWith("b", "a", es));
+    }
+
+    @Test
+    public void testConcreteFunctions()
+    {
+        compileTestSource("fromString.pure",
+                "function test::exclaim(s:String[1]):String[1]\n" +
+                        "{\n" +
+                        "  $s + '!'\n" +
+                        "}\n" +
+                        "\n" +
+                        "function test::join(s:String[1], t:String[1]):String[1]\n" +
+                        "{\n" +
+                        "  $s + $t\n" +
+                        "}\n");
+        ExecutionSupport es = getExecutionSupport();
+
+        SharedPureFunction<?> exclaim = getSharedPureFunction("test::exclaim_String_1__String_1_");
+        Assert.assertTrue(exclaim instanceof JavaMethodWithParamsSharedPureFunction);
+        Assert.assertEquals("a!", exclaim.executeWith("a", es));
+        Assert.assertEquals(exclaim.execute(Lists.immutable.with("a"), es), exclaim.executeWith("a", es));
+
+        SharedPureFunction<?> join = getSharedPureFunction("test::join_String_1__String_1__String_1_");
+        Assert.assertTrue(join instanceof JavaMethodWithParamsSharedPureFunction);
+        Assert.assertEquals("ab", join.executeWith("a", "b", es));
+        Assert.assertEquals(join.execute(Lists.immutable.with("a", "b"), es), join.executeWith("a", "b", es));
+    }
+
+    private SharedPureFunction<?> getLambdaFunction(String functionDescriptor)
+    {
+        Object lambda = execute(functionDescriptor).getValueForMetaPropertyToOne(M3Properties.values);
+        Assert.assertTrue(String.valueOf(lambda), lambda instanceof LambdaCompiledExtended);
+        return ((LambdaCompiledExtended<?>) lambda).pureFunction();
+    }
+
+    private static SharedPureFunction<?> getSharedPureFunction(String functionId)
+    {
+        Function<?> function = (Function<?>) runtime.getFunction(functionId);
+        Assert.assertNotNull(functionId, function);
+        SharedPureFunction<?> sharedPureFunction = Pure.findSharedPureFunction(function, null, getExecutionSupport());
+        Assert.assertNotNull(functionId, sharedPureFunction);
+        return sharedPureFunction;
+    }
+
+    private static ExecutionSupport getExecutionSupport()
+    {
+        return ((FunctionExecutionCompiled) functionExecution).getExecutionSupport();
+    }
+
+    private static void assertDeclaresExecuteWith(SharedPureFunction<?> function, int paramCount)
+    {
+        Class<?>[] paramTypes = (paramCount == 1) ?
+                new Class<?>[]{Object.class, ExecutionSupport.class} :
+                new Class<?>[]{Object.class, Object.class, ExecutionSupport.class};
+        try
+        {
+            // declared by the generated class itself, rather than inherited from a default implementation
+            function.getClass().getDeclaredMethod("executeWith", paramTypes);
+        }
+        catch (NoSuchMethodException e)
+        {
+            Assert.fail(function.getClass().getName() + " does not override executeWith for " + paramCount + " parameter(s)");
+        }
+    }
+}
@@ -0,0 +1,139 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.runtime.java.compiled.runtime;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.MutableList;
+import org.finos.legend.pure.m3.execution.FunctionExecution;
+import org.finos.legend.pure.m3.serialization.filesystem.usercodestorage.MutableRepositoryCodeStorage;
+import org.finos.legend.pure.m3.serialization.filesystem.usercodestorage.classpath.ClassLoaderCodeStorage;
+import org.finos.legend.pure.m3.serialization.filesystem.usercodestorage.composite.CompositeCodeStorage;
+import org.finos.legend.pure.m3.tests.AbstractPureTestWithCoreCompiled;
+import org.finos.legend.pure.runtime.java.compiled.execution.FunctionExecutionCompiledBuilder;
+import org.finos.legend.pure.runtime.java.compiled.factory.JavaModelFactoryRegistryLoader;
+import org.finos.legend.pure.runtime.java.compiled.generation.processors.support.CodeCoverageProbes;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+
+public class TestGenerationWithCodeCoverageProbes extends AbstractPureTestWithCoreCompiled
+{
+    @BeforeClass
+    public static void setUp()
+    {
+        setUpRuntime(getFunctionExecution(), getCodeStorage(), JavaModelFactoryRegistryLoader.loader());
+    }
+
+    @After
+    public void cleanRuntime()
+    {
+        runtime.delete("fromString.pure");
+        runtime.compile();
+    }
+
+    @Test
+    public void testExecutedFunctionsAreCovered()
+    {
+        compileTestSource("fromString.pure",
+                "Class test::A\n" +
+                        "{\n" +
+                        "  name: String[1];\n" +
+                        "  greeting() { 'Hello ' + $this.name }: String[1];\n" +
+                        "}\n" +
+                        "\n" +
+                        "function test::used(s:String[*]):String[*]\n" +
+                        "{\n" +
+                        "  $s->map(x | $x + '!')\n" +
+                        "}\n" +
+                        "\n" +
+                        "function test::unused():String[1]\n" +
+                        "{\n" +
+                        "  'unused'\n" +
+                        "}\n" +
+                        "\n" +
+                        "function test::test():Any[*]\n" +
+                        "{\n" +
+                        "  test::used(^test::A(name='world').greeting())\n" +
+                        "}\n");
+
+        CodeCoverageProbes.reset();
+        execute("test::test():Any[*]");
+        Assert.assertEquals(
+                Lists.mutable.with(
+                        "fromString.pure 16 0 19 1",
+                        "fromString.pure 3 2 3 50",
+                        "fromString.pure 6 0 9 1",
+                        "fromString.pure 8 10 8 20"),
+                getCoverage("fromString.pure"));
+    }
+
+    @Test
+    public void testRecompiledSourceReplacesProbes()
+    {
+        compileTestSource("fromString.pure",
+                "function test::test():Any[*]\n" +
+                        "{\n" +
+                        "  'first'\n" +
+                        "}\n");
+        execute("test::test():Any[*]");
+        Assert.assertEquals(Lists.mutable.with("fromString.pure 0 0 3 1"), getCoverage("fromString.pure"));
+
+        runtime.delete("fromString.pure");
+        compileTestSource("fromString.pure",
+                "\n" +
+                        "function test::test():Any[*]\n" +
+                        "{\n" +
+                        "  'second'\n" +
+                        "}\n");
+        execute("test::test():Any[*]");
+        Assert.assertEquals(Lists.mutable.with("fromString.pure 1 0 4 1"), getCoverage("fromString.pure"));
+    }
+
+    @Test
+    public void testReRegistrationReplacesProbes()
+    {
+        int[] oldProbes = CodeCoverageProbes.register("reregistered.pure", "0 0 1 1;");
+        oldProbes[0]++;
+        Assert.assertEquals(Lists.mutable.with("reregistered.pure 0 0 1 1"), getCoverage("reregistered.pure"));
+
+        int[] newProbes = CodeCoverageProbes.register("reregistered.pure", "2 0 3 1;", "4 0 5 1;");
+        Assert.assertEquals(2, newProbes.length);
+        Assert.assertEquals(Lists.mutable.empty(), getCoverage("reregistered.pure"));
+
+        newProbes[1]++;
+        Assert.assertEquals(Lists.mutable.with("reregistered.pure 4 0 5 1"), getCoverage("reregistered.pure"));
+    }
+
+    private static MutableList<String> getCoverage(String sourceId)
+    {
+        StringWriter writer = new StringWriter();
+        CodeCoverageProbes.write(new PrintWriter(writer));
+        return Lists.mutable.with(writer.toString().split("\\R")).select(line -> line.startsWith(sourceId + " ")).sortThis();
+    }
+
+    protected static FunctionExecution getFunctionExecution()
+    {
+        return new FunctionExecutionCompiledBuilder().shouldIncludeCodeCoverageProbes().build();
+    }
+
+    protected static MutableRepositoryCodeStorage getCodeStorage()
+    {
+        return new CompositeCodeStorage(new ClassLoaderCodeStorage(getCodeRepositories()));
+    }
+}
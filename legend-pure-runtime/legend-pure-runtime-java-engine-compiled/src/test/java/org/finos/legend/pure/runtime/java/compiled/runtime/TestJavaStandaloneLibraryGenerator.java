@@ -44,6 +44,8 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.lang.reflect.Method;
 import java.net.URL;
 import java.net.URLClassLoader;
@@ -53,6 +55,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public class TestJavaStandaloneLibraryGenerator extends AbstractPureTestWithCoreCompiled
 {
@@ -166,6 +169,61 @@ public class TestJavaStandaloneLibraryGenerator extends AbstractPureTestWithCore
         }
     }
 
+    @Test
+    public void testGenerateAndCompilePipelined() throws Exception
+    {
+        JavaStandaloneLibraryGenerator generator = JavaStandaloneLibraryGenerator.newGenerator(runtime, CompiledExtensionLoader.extensions(), false, null, new VoidLog());
+        Path classesDir = this.temporaryFolder.newFolder("classes").toPath();
+        generator.generateAndCompilePipelined(false, false, null, classesDir, 1, () ->
+        {
+            try
+            {
+                generator.serializeAndWriteDistributedMetadata(classesDir);
+            }
+            catch (IOException e)
+            {
+                throw new UncheckedIOException(e);
+            }
+        });
+
+        // the same classes are written as when each phase is run in turn
+        Path sequentialClassesDir = this.temporaryFolder.newFolder("sequentialClasses").toPath();
+        generator.compileAndWriteClasses(sequentialClassesDir, new VoidLog());
+        Assert.assertEquals(listClassFiles(sequentialClassesDir), listClassFiles(classesDir));
+
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[] {classesDir.toUri().toURL()}, Thread.currentThread().getContextClassLoader()))
+        {
+            MetadataLazy metadataLazy = MetadataLazy.fromClassLoader(classLoader);
+            CompiledExecutionSupport executionSupport = new CompiledExecutionSupport(
+                    new JavaCompilerState(null, classLoader),
+                    new CompiledProcessorSupport(classLoader, metadataLazy, null),
+                    null,
+                    runtime.getCodeStorage(),
+                    null,
+                    VoidExecutionActivityListener.VOID_EXECUTION_ACTIVITY_LISTENER,
+                    new ConsoleCompiled(),
+                    null,
+                    null,
+                    CompiledExtensionLoader.extensions()
+            );
+
+            Class<?> testClass = classLoader.loadClass(JavaPackageAndImportBuilder.getRootPackage() + ".test_standalone_tests");
+            Method testWithReflection = testClass.getMethod("Root_test_standalone_testWithReflection_String_1__String_1_", String.class, ExecutionSupport.class);
+            Assert.assertEquals("_*_testWithReflection", testWithReflection.invoke(null, "_*_", executionSupport));
+        }
+    }
+
+    @Test
+    public void testGenerateAndCompilePipelined_failure()
+    {
+        JavaStandaloneLibraryGenerator generator = JavaStandaloneLibraryGenerator.newGenerator(runtime, CompiledExtensionLoader.extensions(), false, null, new VoidLog());
+        RuntimeException e = Assert.assertThrows(RuntimeException.class, () -> generator.generateAndCompilePipelined(false, false, null, null, 1, () ->
+        {
+            throw new RuntimeException("after generation failure");
+        }));
+        Assert.assertEquals("after generation failure", e.getMessage());
+    }
+
     @Test
     public void testGenerateOnly_allRepos() throws Exception
     {
@@ -213,4 +271,12 @@ public class TestJavaStandaloneLibraryGenerator extends AbstractPureTestWithCore
        Assert.assertTrue(generate.getJavaSourcesByGroup().get("test").stream().filter(s -> s.toUri().getPath().equals("/org/finos/legend/pure/generated/test_standalone_tests.java")).collect(Collectors.toList()).get(0).getCode().contains("Root_test_standalone_simplePureTestWithApplication__Boolean_1_"));
 
     }
+
+    private static List<String> listClassFiles(Path directory) throws IOException
+    {
+        try (Stream<Path> files = Files.walk(directory))
+        {
+            return files.filter(f -> f.toString().endsWith(".class")).map(f -> Iterate.makeString(directory.relativize(f), "/")).sorted().collect(Collectors.toList());
+        }
+    }
 }
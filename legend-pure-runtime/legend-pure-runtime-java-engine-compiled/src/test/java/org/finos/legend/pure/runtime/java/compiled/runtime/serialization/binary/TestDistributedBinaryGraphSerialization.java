@@ -52,7 +52,21 @@ public abstract class TestDistributedBinaryGraphSerialization extends AbstractPu
     public void testFromRuntime() throws IOException
     {
         ListIterable<Obj> expectedObjs = getExpectedObjsFromRuntime();
-        testSerialization(DistributedBinaryGraphSerializer.newSerializer(runtime), expectedObjs);
+        testSerialization(DistributedBinaryGraphSerializer.newSerializer(runtime), DistributedBinaryGraphSerializer.COMPACT_FORMAT_VERSION, expectedObjs);
+    }
+
+    @Test
+    public void testFromRuntimeLegacyFormat() throws IOException
+    {
+        ListIterable<Obj> expectedObjs = getExpectedObjsFromRuntime();
+        testSerialization(DistributedBinaryGraphSerializer.newSerializer(runtime), DistributedBinaryGraphSerializer.LEGACY_FORMAT_VERSION, expectedObjs);
+    }
+
+    @Test
+    public void testFromRuntimeOffHeapStrings() throws IOException
+    {
+        ListIterable<Obj> expectedObjs = getExpectedObjsFromRuntime();
+        testSerialization(DistributedBinaryGraphSerializer.newSerializer(runtime), DistributedBinaryGraphSerializer.COMPACT_FORMAT_VERSION, true, expectedObjs);
     }
 
     private ListIterable<Obj> getExpectedObjsFromRuntime()
@@ -66,13 +80,18 @@ public abstract class TestDistributedBinaryGraphSerialization extends AbstractPu
                 .collect(i -> GraphSerializer.buildObj(i, idBuilder, classifierCaches, processorSupport), Lists.mutable.empty());
     }
 
-    private void testSerialization(DistributedBinaryGraphSerializer serializer, ListIterable<Obj> expectedObjs, String... metadataNames) throws IOException
+    private void testSerialization(DistributedBinaryGraphSerializer serializer, int formatVersion, ListIterable<Obj> expectedObjs, String... metadataNames) throws IOException
+    {
+        testSerialization(serializer, formatVersion, false, expectedObjs, metadataNames);
+    }
+
+    private void testSerialization(DistributedBinaryGraphSerializer serializer, int formatVersion, boolean offHeapStrings, ListIterable<Obj> expectedObjs, String... metadataNames) throws IOException
     {
         // Serialize
-        serializer.serialize(getFileWriter());
+        serializer.serialize(getFileWriter(), formatVersion);
 
         // Deserialize
-        DistributedBinaryGraphDeserializer.Builder deserializerBuilder = DistributedBinaryGraphDeserializer.newBuilder(getFileReader());
+        DistributedBinaryGraphDeserializer.Builder deserializerBuilder = DistributedBinaryGraphDeserializer.newBuilder(getFileReader()).withOffHeapStrings(offHeapStrings);
         if ((metadataNames == null) || (metadataNames.length == 0))
         {
             deserializerBuilder.withNoMetadataName();
@@ -147,6 +147,11 @@ public class TestDistributedMetadataHelper
         Assert.assertEquals("metadata/strings/_ABC_/other-65536.idx", DistributedMetadataHelper.getOtherStringsIndexPartitionFilePath("_ABC_", 65536));
         Assert.assertEquals("metadata/strings/null/other-131072.idx", DistributedMetadataHelper.getOtherStringsIndexPartitionFilePath("null", 131072));
         Assert.assertEquals("metadata/strings/_-_/other-1638400.idx", DistributedMetadataHelper.getOtherStringsIndexPartitionFilePath("_-_", 1638400));
+
+        Assert.assertEquals("metadata/strings/other-0.off", DistributedMetadataHelper.getOtherStringsIndexPartitionOffsetsFilePath(null, 0));
+        Assert.assertEquals("metadata/strings/other-32768.off", DistributedMetadataHelper.getOtherStringsIndexPartitionOffsetsFilePath(null, 32768));
+        Assert.assertEquals("metadata/strings/core/other-0.off", DistributedMetadataHelper.getOtherStringsIndexPartitionOffsetsFilePath("core", 0));
+        Assert.assertEquals("metadata/strings/platform/other-32768.off", DistributedMetadataHelper.getOtherStringsIndexPartitionOffsetsFilePath("platform", 32768));
     }
 
     @Test
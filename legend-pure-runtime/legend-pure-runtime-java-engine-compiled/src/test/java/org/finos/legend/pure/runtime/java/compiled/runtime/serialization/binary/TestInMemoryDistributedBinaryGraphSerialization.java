@@ -16,15 +16,32 @@ package org.finos.legend.pure.runtime.java.compiled.runtime.serialization.binary
 
 import org.eclipse.collections.api.factory.Maps;
 import org.eclipse.collections.api.map.MutableMap;
+import org.finos.legend.pure.runtime.java.compiled.serialization.binary.DistributedBinaryGraphSerializer;
 import org.finos.legend.pure.runtime.java.compiled.serialization.binary.FileReader;
 import org.finos.legend.pure.runtime.java.compiled.serialization.binary.FileReaders;
 import org.finos.legend.pure.runtime.java.compiled.serialization.binary.FileWriter;
 import org.finos.legend.pure.runtime.java.compiled.serialization.binary.FileWriters;
+import org.junit.Assert;
+import org.junit.Test;
 
 public class TestInMemoryDistributedBinaryGraphSerialization extends TestDistributedBinaryGraphSerialization
 {
     private final MutableMap<String, byte[]> filesBytes = Maps.mutable.empty();
 
+    @Test
+    public void testCompactFormatIsSmaller()
+    {
+        MutableMap<String, byte[]> legacyBytes = Maps.mutable.empty();
+        DistributedBinaryGraphSerializer.newSerializer(runtime).serialize(FileWriters.fromInMemoryByteArrayMap(legacyBytes), DistributedBinaryGraphSerializer.LEGACY_FORMAT_VERSION);
+        MutableMap<String, byte[]> compactBytes = Maps.mutable.empty();
+        DistributedBinaryGraphSerializer.newSerializer(runtime).serialize(FileWriters.fromInMemoryByteArrayMap(compactBytes), DistributedBinaryGraphSerializer.COMPACT_FORMAT_VERSION);
+
+        Assert.assertEquals(legacyBytes.keysView().toSortedList().select(f -> !f.startsWith("metadata/bin/")), compactBytes.keysView().toSortedList().select(f -> !f.startsWith("metadata/bin/")));
+        long legacyBinBytes = legacyBytes.keyValuesView().select(p -> p.getOne().startsWith("metadata/bin/")).sumOfInt(p -> p.getTwo().length);
+        long compactBinBytes = compactBytes.keyValuesView().select(p -> p.getOne().startsWith("metadata/bin/")).sumOfInt(p -> p.getTwo().length);
+        Assert.assertTrue("compact: " + compactBinBytes + ", legacy: " + legacyBinBytes, (2 * compactBinBytes) < legacyBinBytes);
+    }
+
     @Override
     protected FileWriter getFileWriter()
     {
@@ -0,0 +1,131 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.runtime.java.compiled.runtime.serialization.binary;
+
+import org.eclipse.collections.api.factory.Maps;
+import org.eclipse.collections.api.map.MutableMap;
+import org.finos.legend.pure.m4.serialization.Reader;
+import org.finos.legend.pure.m4.tools.GraphNodeIterable;
+import org.finos.legend.pure.runtime.java.compiled.generation.processors.IdBuilder;
+import org.finos.legend.pure.runtime.java.compiled.serialization.GraphSerializer;
+import org.finos.legend.pure.runtime.java.compiled.serialization.binary.DistributedStringCache;
+import org.finos.legend.pure.runtime.java.compiled.serialization.binary.FileReader;
+import org.finos.legend.pure.runtime.java.compiled.serialization.binary.FileReaders;
+import org.finos.legend.pure.runtime.java.compiled.serialization.binary.FileWriter;
+import org.finos.legend.pure.runtime.java.compiled.serialization.binary.FileWriters;
+import org.finos.legend.pure.runtime.java.compiled.serialization.binary.LazyStringIndex;
+import org.finos.legend.pure.runtime.java.compiled.serialization.binary.StringCache;
+import org.finos.legend.pure.runtime.java.compiled.serialization.binary.StringCacheOrIndex;
+import org.finos.legend.pure.runtime.java.compiled.serialization.binary.StringIndex;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+
+public class TestOffHeapDistributedStringCaching extends TestStringCaching<DistributedStringCache>
+{
+    private static final String METADATA_NAME = "platform";
+
+    @Rule
+    public final TemporaryFolder tmpFolder = new TemporaryFolder();
+
+    @Override
+    protected StringCache.Builder<DistributedStringCache> newBuilder()
+    {
+        return DistributedStringCache.newBuilder();
+    }
+
+    @Override
+    protected void serialize(DistributedStringCache cache, FileWriter fileWriter)
+    {
+        cache.write(METADATA_NAME, fileWriter);
+    }
+
+    @Override
+    protected StringIndex buildIndex(FileReader fileReader)
+    {
+        // use a small cache so that entries are evicted
+        return LazyStringIndex.fromFileReaderOffHeap(METADATA_NAME, fileReader, 16);
+    }
+
+    @Test
+    public void testMemoryMappedStringCaching() throws IOException
+    {
+        GraphSerializer.ClassifierCaches classifierCaches = new GraphSerializer.ClassifierCaches(processorSupport);
+        IdBuilder idBuilder = IdBuilder.newIdBuilder(processorSupport);
+        DistributedStringCache cache = newBuilder().withObjs(GraphNodeIterable.allInstancesFromRepository(repository).collect(node -> GraphSerializer.buildObj(node, idBuilder, classifierCaches, processorSupport))).build();
+        String[] expectedOtherStrings = cache.getOtherStringsArray();
+
+        Path directory = this.tmpFolder.newFolder().toPath();
+        serialize(cache, FileWriters.fromDirectory(directory));
+        StringIndex index = buildIndex(FileReaders.fromDirectory(directory));
+
+        // read in reverse order and then again, to exercise both loaded partitions and the hot string cache
+        for (int i = expectedOtherStrings.length - 1; i >= 0; i--)
+        {
+            Assert.assertEquals(expectedOtherStrings[i], index.getString(StringCacheOrIndex.otherStringIndexToId(i)));
+        }
+        for (int i = 0; i < expectedOtherStrings.length; i++)
+        {
+            Assert.assertEquals(expectedOtherStrings[i], index.getString(StringCacheOrIndex.otherStringIndexToId(i)));
+            Assert.assertEquals(expectedOtherStrings[i], index.getString(StringCacheOrIndex.otherStringIndexToId(i)));
+        }
+        Assert.assertThrows(RuntimeException.class, () -> index.getString(StringCacheOrIndex.otherStringIndexToId(expectedOtherStrings.length)));
+    }
+
+    @Test
+    public void testOffsetsReadFailureIsNotMasked()
+    {
+        GraphSerializer.ClassifierCaches classifierCaches = new GraphSerializer.ClassifierCaches(processorSupport);
+        IdBuilder idBuilder = IdBuilder.newIdBuilder(processorSupport);
+        DistributedStringCache cache = newBuilder().withObjs(GraphNodeIterable.allInstancesFromRepository(repository).collect(node -> GraphSerializer.buildObj(node, idBuilder, classifierCaches, processorSupport))).build();
+
+        MutableMap<String, byte[]> serialization = Maps.mutable.empty();
+        serialize(cache, FileWriters.fromInMemoryByteArrayMap(serialization));
+        FileReader fileReader = FileReaders.fromInMemoryByteArrays(serialization);
+        StringIndex index = buildIndex(new FileReader()
+        {
+            @Override
+            public Reader getReader(String path)
+            {
+                return fileReader.getReader(path);
+            }
+
+            @Override
+            public boolean exists(String path)
+            {
+                return fileReader.exists(path);
+            }
+
+            @Override
+            public ByteBuffer getByteBuffer(String path)
+            {
+                if (path.endsWith(".off"))
+                {
+                    throw new RuntimeException("Error accessing file '" + path + "'");
+                }
+                return fileReader.getByteBuffer(path);
+            }
+        });
+
+        // an offsets file which exists but cannot be read is an error, rather than a reason to compute the offsets
+        RuntimeException e = Assert.assertThrows(RuntimeException.class, () -> index.getString(StringCacheOrIndex.otherStringIndexToId(0)));
+        Assert.assertEquals("Error accessing file 'metadata/strings/platform/other-0.off'", e.getMessage());
+    }
+}
@@ -0,0 +1,51 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.runtime.java.compiled.runtime.serialization.binary;
+
+import org.eclipse.collections.api.factory.Maps;
+import org.finos.legend.pure.runtime.java.compiled.serialization.binary.DistributedStringCache;
+import org.finos.legend.pure.runtime.java.compiled.serialization.binary.FileReader;
+import org.finos.legend.pure.runtime.java.compiled.serialization.binary.FileWriter;
+import org.finos.legend.pure.runtime.java.compiled.serialization.binary.FileWriters;
+import org.finos.legend.pure.runtime.java.compiled.serialization.binary.LazyStringIndex;
+import org.finos.legend.pure.runtime.java.compiled.serialization.binary.StringCache;
+import org.finos.legend.pure.runtime.java.compiled.serialization.binary.StringIndex;
+
+/**
+ * Metadata written before string offsets were recorded must still be readable off heap.
+ */
+public class TestOffHeapDistributedStringCachingWithoutOffsets extends TestStringCaching<DistributedStringCache>
+{
+    private static final String METADATA_NAME = "platform";
+
+    @Override
+    protected StringCache.Builder<DistributedStringCache> newBuilder()
+    {
+        return DistributedStringCache.newBuilder();
+    }
+
+    @Override
+    protected void serialize(DistributedStringCache cache, FileWriter fileWriter)
+    {
+        FileWriter discardWriter = FileWriters.fromInMemoryByteArrayMap(Maps.mutable.empty());
+        cache.write(METADATA_NAME, path -> (path.endsWith(".off") ? discardWriter : fileWriter).getWriter(path));
+    }
+
+    @Override
+    protected StringIndex buildIndex(FileReader fileReader)
+    {
+        return LazyStringIndex.fromFileReaderOffHeap(METADATA_NAME, fileReader, 16);
+    }
+}
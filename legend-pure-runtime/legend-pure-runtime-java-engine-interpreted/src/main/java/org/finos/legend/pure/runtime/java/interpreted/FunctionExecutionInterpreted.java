@@ -52,6 +52,8 @@ import org.finos.legend.pure.m3.serialization.filesystem.usercodestorage.Reposit
 import org.finos.legend.pure.m3.serialization.runtime.Message;
 import org.finos.legend.pure.m3.serialization.runtime.PureRuntime;
 import org.finos.legend.pure.m3.statelistener.ExecutionActivityListener;
+import org.finos.legend.pure.m3.statelistener.ExecutionSpan;
+import org.finos.legend.pure.m3.statelistener.ExecutionTracing;
 import org.finos.legend.pure.m3.statelistener.VoidExecutionActivityListener;
 import org.finos.legend.pure.m4.ModelRepository;
 import org.finos.legend.pure.m4.coreinstance.CoreInstance;
@@ -228,6 +230,7 @@ import java.io.UncheckedIOException;
 import java.util.List;
 import java.util.Objects;
 import java.util.Stack;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 @ExecutionPlatform(name = "Interpreted")
@@ -235,6 +238,9 @@ public class FunctionExecutionInterpreted implements FunctionExecution
 {
     private static final int DEFAULT_MAX_SQL_ROWS = 200;
 
+    // Native invocations shorter than this are not reported as spans
+    private static final long NATIVE_SPAN_THRESHOLD_NANOS = TimeUnit.MILLISECONDS.toNanos(Long.getLong("pure.tracing.nativeThresholdMillis", 10L));
+
     private final AtomicBoolean cancelExecution = new AtomicBoolean(false);
     private final ExecutionActivityListener executionActivityListener;
     private PureRuntime runtime;
@@ -773,7 +779,10 @@ public class FunctionExecutionInterpreted implements FunctionExecution
                 {
                     throw new PureExecutionException(functionExpressionCallStack.peek().getSourceInformation(), "The function '" + function1.getName() + "' is not supported by this execution platform", functionExpressionCallStack);
                 }
-                result = nativeFunction.execute(params, resolvedTypeParameters, resolvedMultiplicityParameters, variableContext, functionExpressionCallStack, profiler, instantiationContext, executionSupport, this.runtime.getContext(), this.runtime.getProcessorSupport());
+                try (ExecutionSpan ignore = ExecutionTracing.startSpan("native", function1.getName()).withThreshold(NATIVE_SPAN_THRESHOLD_NANOS))
+                {
+                    result = nativeFunction.execute(params, resolvedTypeParameters, resolvedMultiplicityParameters, variableContext, functionExpressionCallStack, profiler, instantiationContext, executionSupport, this.runtime.getContext(), this.runtime.getProcessorSupport());
+                }
             }
             else if (org.finos.legend.pure.m3.navigation.property.Property.isProperty(function, processorSupport))
             {
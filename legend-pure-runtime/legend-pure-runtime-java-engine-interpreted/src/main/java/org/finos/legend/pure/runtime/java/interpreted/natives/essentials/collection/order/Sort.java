@@ -21,6 +21,7 @@ import org.eclipse.collections.api.map.MutableMap;
 import org.eclipse.collections.api.stack.MutableStack;
 import org.eclipse.collections.api.tuple.Pair;
 import org.eclipse.collections.impl.tuple.Tuples;
+import org.eclipse.collections.impl.utility.ArrayIterate;
 import org.finos.legend.pure.m3.compiler.Context;
 import org.finos.legend.pure.m3.exception.PureExecutionException;
 import org.finos.legend.pure.m3.navigation.Instance;
@@ -28,8 +29,12 @@ import org.finos.legend.pure.m3.navigation.M3Properties;
 import org.finos.legend.pure.m3.navigation.PrimitiveUtilities;
 import org.finos.legend.pure.m3.navigation.ProcessorSupport;
 import org.finos.legend.pure.m3.navigation.ValueSpecificationBootstrap;
+import org.finos.legend.pure.m3.navigation.function.Function;
 import org.finos.legend.pure.m3.navigation.valuespecification.ValueSpecification;
+import org.finos.legend.pure.m3.tools.SortTools;
 import org.finos.legend.pure.m4.coreinstance.CoreInstance;
+import org.finos.legend.pure.m4.coreinstance.primitive.IntegerCoreInstance;
+import org.finos.legend.pure.m4.coreinstance.primitive.StringCoreInstance;
 import org.finos.legend.pure.runtime.java.interpreted.ExecutionSupport;
 import org.finos.legend.pure.runtime.java.interpreted.FunctionExecutionInterpreted;
 import org.finos.legend.pure.runtime.java.interpreted.VariableContext;
@@ -63,6 +68,12 @@ public class Sort extends NativeFunction
 
     private <T extends CoreInstance> MutableList<T> sort(ListIterable<T> collection, CoreInstance key, CoreInstance comparison, Stack<MutableMap<String, CoreInstance>> resolvedTypeParameters, Stack<MutableMap<String, CoreInstance>> resolvedMultiplicityParameters, VariableContext variableContext, MutableStack<CoreInstance> functionExpressionCallStack, Profiler profiler, ProcessorSupport processorSupport, InstantiationContext instantiationContext, ExecutionSupport executionSupport)
     {
+        int direction = (comparison == null) ? 1 : Function.getStandardComparatorDirection(comparison, processorSupport);
+        if (direction != 0)
+        {
+            return sortByStandardComparator(collection, key, direction < 0, resolvedTypeParameters, resolvedMultiplicityParameters, getParentOrEmptyVariableContext(variableContext), functionExpressionCallStack, profiler, processorSupport, instantiationContext, executionSupport);
+        }
+
         Comparator<CoreInstance> comparator = (comparison == null) ?
                 (left, right) -> Compare.compare(left, right, processorSupport) :
                 (left, right) ->
@@ -85,6 +96,61 @@ public class Sort extends NativeFunction
                 .collect(Pair::getTwo);
     }
 
+    // Sort as the compare function would, without executing a Pure comparator; keys are computed once each
+    @SuppressWarnings("unchecked")
+    private <T extends CoreInstance> MutableList<T> sortByStandardComparator(ListIterable<T> collection, CoreInstance key, boolean descending, Stack<MutableMap<String, CoreInstance>> resolvedTypeParameters, Stack<MutableMap<String, CoreInstance>> resolvedMultiplicityParameters, VariableContext variableContext, MutableStack<CoreInstance> functionExpressionCallStack, Profiler profiler, ProcessorSupport processorSupport, InstantiationContext instantiationContext, ExecutionSupport executionSupport)
+    {
+        CoreInstance[] values = collection.toArray(new CoreInstance[collection.size()]);
+        if (values.length < 2)
+        {
+            return Lists.mutable.with((T[]) values);
+        }
+
+        CoreInstance[] keys;
+        if (key == null)
+        {
+            keys = values;
+        }
+        else
+        {
+            keys = new CoreInstance[values.length];
+            for (int i = 0; i < values.length; i++)
+            {
+                keys[i] = executeKey(key, values[i], resolvedTypeParameters, resolvedMultiplicityParameters, variableContext, functionExpressionCallStack, profiler, processorSupport, instantiationContext, executionSupport);
+            }
+        }
+
+        int[] order;
+        if (ArrayIterate.allSatisfy(keys, k -> (k instanceof IntegerCoreInstance) && isLong(((IntegerCoreInstance) k).getValue())))
+        {
+            long[] longKeys = new long[keys.length];
+            for (int i = 0; i < keys.length; i++)
+            {
+                longKeys[i] = ((IntegerCoreInstance) keys[i]).getValue().longValue();
+            }
+            order = SortTools.sortIndices(longKeys, descending);
+        }
+        else if (ArrayIterate.allSatisfy(keys, k -> k instanceof StringCoreInstance))
+        {
+            String[] stringKeys = new String[keys.length];
+            for (int i = 0; i < keys.length; i++)
+            {
+                stringKeys[i] = ((StringCoreInstance) keys[i]).getValue();
+            }
+            order = SortTools.sortIndices(stringKeys, Comparator.naturalOrder(), descending);
+        }
+        else
+        {
+            order = SortTools.sortIndices(keys, (left, right) -> Compare.compare(left, right, processorSupport), descending);
+        }
+        return Lists.mutable.with((T[]) SortTools.reorder(values, order));
+    }
+
+    private static boolean isLong(Number number)
+    {
+        return (number instanceof Long) || (number instanceof Integer);
+    }
+
     private CoreInstance executeKey(CoreInstance key, CoreInstance instance, Stack<MutableMap<String, CoreInstance>> resolvedTypeParameters, Stack<MutableMap<String, CoreInstance>> resolvedMultiplicityParameters, VariableContext variableContext, MutableStack<CoreInstance> functionExpressionCallStack, Profiler profiler, ProcessorSupport processorSupport, InstantiationContext instantiationContext, ExecutionSupport executionSupport)
     {
         return Instance.getValueForMetaPropertyToOneResolved(this.functionExecution.executeLambdaFromNative(key, Lists.immutable.with(ValueSpecificationBootstrap.wrapValueSpecification(instance, true, processorSupport)), resolvedTypeParameters, resolvedMultiplicityParameters, variableContext, functionExpressionCallStack, profiler, instantiationContext, executionSupport), M3Properties.values, processorSupport);
@@ -16,10 +16,12 @@ package org.finos.legend.pure.runtime.java.interpreted.testHelper;
 
 import org.eclipse.collections.api.list.MutableList;
 import org.eclipse.collections.impl.factory.Lists;
+import org.finos.legend.pure.m3.navigation.ProcessorSupport;
 import org.finos.legend.pure.m3.pct.reports.generation.ReportGeneration;
 import org.finos.legend.pure.m3.pct.reports.model.AdapterReport;
 
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 public class PCTReportGenerator
 {
@@ -30,7 +32,29 @@ public class PCTReportGenerator
 
     public static void generateInterpreted(String targetDir, List<String> testSuites)
     {
-        MutableList<AdapterReport> result = ReportGeneration.generateReport(testSuites, PureTestBuilderInterpreted.getFunctionExecutionInterpreted().getProcessorSupport());
+        generateInterpreted(targetDir, testSuites, 1);
+    }
+
+    public static void generateInterpreted(String targetDir, List<String> testSuites, int parallelism)
+    {
+        ProcessorSupport processorSupport = PureTestBuilderInterpreted.getFunctionExecutionInterpreted().getProcessorSupport();
+        MutableList<AdapterReport> result;
+        if (parallelism <= 1)
+        {
+            result = ReportGeneration.generateReport(testSuites, processorSupport);
+        }
+        else
+        {
+            ForkJoinPool forkJoinPool = new ForkJoinPool(parallelism);
+            try
+            {
+                result = ReportGeneration.generateReport(testSuites, processorSupport, forkJoinPool);
+            }
+            finally
+            {
+                forkJoinPool.shutdown();
+            }
+        }
         ReportGeneration.writeToTarget(targetDir, result);
     }
 }
@@ -15,6 +15,7 @@
 package org.finos.legend.pure.runtime.java.interpreted.runtime.runner;
 
 import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.factory.Maps;
 import org.eclipse.collections.api.factory.Sets;
 import org.eclipse.collections.api.list.MutableList;
 import org.eclipse.collections.api.set.MutableSet;
@@ -24,19 +25,28 @@ import org.finos.legend.pure.m3.execution.test.AssertFailTestStatus;
 import org.finos.legend.pure.m3.execution.test.ErrorTestStatus;
 import org.finos.legend.pure.m3.execution.test.SuccessTestStatus;
 import org.finos.legend.pure.m3.execution.test.TestCallBack;
+import org.finos.legend.pure.m3.execution.test.TestDependencyCollector;
 import org.finos.legend.pure.m3.execution.test.TestRunner;
 import org.finos.legend.pure.m3.execution.test.TestStatus;
 import org.finos.legend.pure.m3.navigation.PackageableElement.PackageableElement;
+import org.finos.legend.pure.m3.serialization.runtime.ExecutedTestTracker;
 import org.finos.legend.pure.m3.tests.AbstractPureTestWithCoreCompiled;
 import org.finos.legend.pure.m4.coreinstance.CoreInstance;
 import org.finos.legend.pure.runtime.java.interpreted.FunctionExecutionInterpreted;
 import org.junit.After;
 import org.junit.Assert;
 import org.junit.BeforeClass;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.nio.file.Path;
 
 public class TestTestRunner extends AbstractPureTestWithCoreCompiled
 {
+    @Rule
+    public final TemporaryFolder tmpFolder = new TemporaryFolder();
+
     @BeforeClass
     public static void setUp()
     {
@@ -182,6 +192,55 @@ public class TestTestRunner extends AbstractPureTestWithCoreCompiled
         Verify.assertInstanceOf(SuccessTestStatus.class, group.getStatus());
     }
 
+    @Test
+    public void testDependenciesAndImpactedTests() throws Exception
+    {
+        compileTestSource("fromString.pure", "Class x::y::Person\n" +
+                "{\n" +
+                "   name : String[1];\n" +
+                "}\n" +
+                "function x::y::greet(p:x::y::Person[1]):String[1]\n" +
+                "{\n" +
+                "   'Hello ' + $p.name\n" +
+                "}\n" +
+                "function x::y::other():Integer[1]\n" +
+                "{\n" +
+                "   1\n" +
+                "}\n" +
+                "function <<test.Test>> x::y::testGreet():Boolean[1]\n" +
+                "{\n" +
+                "   assert('Hello Joe' == x::y::greet(^x::y::Person(name='Joe')), |'');\n" +
+                "}\n" +
+                "function <<test.Test>> x::y::testOther():Boolean[1]\n" +
+                "{\n" +
+                "   assert(1 == x::y::other(), |'');\n" +
+                "}\n");
+        UnitTestTestCallBack callback = new UnitTestTestCallBack();
+        TestRunner testRunner = new TestRunner("x::y", runtime, functionExecution, callback, false);
+        testRunner.setDependencyCollector(TestDependencyCollector.fromRuntime(runtime));
+        testRunner.run();
+
+        Assert.assertEquals(
+                Maps.mutable.with(
+                        "x::y::testGreet__Boolean_1_", Sets.mutable.with("x::y::testGreet__Boolean_1_", "x::y::greet_Person_1__String_1_", "x::y::Person"),
+                        "x::y::testOther__Boolean_1_", Sets.mutable.with("x::y::testOther__Boolean_1_", "x::y::other__Integer_1_")),
+                testRunner.getTestDependencies());
+
+        Path trackerFile = this.tmpFolder.newFolder().toPath().resolve("tests.json");
+        ExecutedTestTracker tracker = new ExecutedTestTracker(trackerFile, "test");
+        tracker.notePassingTests(Sets.mutable.with("x::y::testGreet__Boolean_1_", "x::y::testOther__Boolean_1_"));
+        testRunner.getTestDependencies().forEachKeyValue(tracker::noteTestDependencies);
+        Assert.assertEquals(Sets.mutable.with("x::y::testGreet__Boolean_1_"), tracker.getImpactedTests(Sets.mutable.with("x::y::Person")));
+        Assert.assertEquals(Sets.mutable.with("x::y::testOther__Boolean_1_"), tracker.getImpactedTests(Sets.mutable.with("x::y::other__Integer_1_")));
+        Assert.assertEquals(Sets.mutable.empty(), tracker.getImpactedTests(Sets.mutable.with("x::y::unused__Integer_1_")));
+
+        UnitTestTestCallBack impactedCallback = new UnitTestTestCallBack();
+        TestRunner impactedTestRunner = new TestRunner("x::y", runtime, functionExecution, impactedCallback, false, tracker.getImpactedTests(Sets.mutable.with("x::y::greet_Person_1__String_1_")));
+        impactedTestRunner.run();
+        Assert.assertEquals(Sets.fixedSize.with("x::y::testGreet__Boolean_1_"), impactedCallback.getTests().collect(PackageableElement::getUserPathForPackageableElement));
+        Verify.assertInstanceOf(SuccessTestStatus.class, impactedCallback.getGroups().getOnly().getStatus());
+    }
+
     protected static FunctionExecution getFunctionExecution()
     {
         return new FunctionExecutionInterpreted();
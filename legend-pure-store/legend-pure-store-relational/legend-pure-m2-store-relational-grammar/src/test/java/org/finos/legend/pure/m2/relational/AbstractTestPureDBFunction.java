@@ -145,6 +145,40 @@ public abstract class AbstractTestPureDBFunction extends AbstractPureTestWithCor
         compileAndExecute("test():Any[0..1]");
     }
 
+    @Test
+    public void testExecuteInDbWithParameters_H2()
+    {
+        compileTestSource(
+                TEST_SOURCE_ID,
+                "import meta::external::store::relational::runtime::*;\n" +
+                        "import meta::relational::metamodel::*;\n" +
+                        "import meta::relational::metamodel::execute::*;\n" +
+                        "import meta::relational::functions::toDDL::*;\n" +
+                        "function test():Any[0..1]\n" +
+                        "{\n" +
+                        "   let dbConnection = ^TestDatabaseConnection(type = meta::relational::runtime::DatabaseType.H2);\n" +
+                        "   executeInDb('drop table myParamTable IF EXISTS;', $dbConnection, 0, 1000);\n" +
+                        "   executeInDb('create table myParamTable(id INT, name VARCHAR(20), score FLOAT, created DATE)', $dbConnection, 0, 1000);\n" +
+                        "   executeInDb('insert into myParamTable(id, name, score, created) values (?, ?, ?, ?)', [1, 'a', 0.5, %2020-01-01], $dbConnection, 0, 1000);\n" +
+                        "   executeInDb('insert into myParamTable(id, name, score, created) values (?, ?, ?, ?)', [2, 'b', 1.5, ^SQLNull()], $dbConnection, 0, 1000);\n" +
+                        "   assertEquals('b', executeInDb('select name from myParamTable where id = ?', 2, $dbConnection, 0, 1000).rows.values);\n" +
+                        "   assertEquals('a', executeInDb('select name from myParamTable where id = ?', 1, $dbConnection, 0, 1000).rows.values);\n" +
+                        "   assertEquals(1, executeInDb('select id from myParamTable where created = ?', %2020-01-01, $dbConnection, 0, 1000).rows.values);\n" +
+                        "   assertEquals([], executeInDb('select id from myParamTable where name = ? and score > ?', ['b', 2.0], $dbConnection, 0, 1000).rows.values);\n" +
+                        "   executeInDb('insert into myParamTable(id, name) values (?, ?)', [3, test::Letter.C], $dbConnection, 0, 1000);\n" +
+                        "   assertEquals(3, executeInDb('select id from myParamTable where name = ?', test::Letter.C, $dbConnection, 0, 1000).rows.values);\n" +
+                        "   executeInDb('drop table myParamTable', $dbConnection, 0, 1000);\n" +
+                        "}\n" +
+                        "Enum test::Letter\n" +
+                        "{\n" +
+                        "   A, B, C\n" +
+                        "}\n" +
+                        "###Relational\n" +
+                        "Database mydb()\n"
+        );
+        compileAndExecute("test():Any[0..1]");
+    }
+
     @Test
     public void testExecuteInb_DuckDB()
     {
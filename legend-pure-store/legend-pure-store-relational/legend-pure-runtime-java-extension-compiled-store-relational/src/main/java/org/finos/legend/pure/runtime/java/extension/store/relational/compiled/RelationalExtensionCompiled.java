@@ -38,7 +38,7 @@ public class RelationalExtensionCompiled extends AbstractCompiledExtension
     @Override
     public List<Native> getExtraNatives()
     {
-        return Lists.fixedSize.with(new CreateTempTable(), new CreateTempTableWithFinally(), new DropTempTable(), new ExecuteInDb(), new FetchDbColumnsMetaData(),
+        return Lists.fixedSize.with(new CreateTempTable(), new CreateTempTableWithFinally(), new DropTempTable(), new ExecuteInDb(), new ExecuteInDbWithParameters(), new FetchDbColumnsMetaData(),
                 new FetchDbImportedKeysMetaData(), new FetchDbPrimaryKeysMetaData(), new FetchDbSchemasMetaData(), new FetchDbTablesMetaData(), new LoadCsvToDbTable(),
                 new LoadValuesToDbTable(), new LoadValuesToDbTableNew(), new LogActivities());
     }
@@ -21,6 +21,8 @@ import org.eclipse.collections.api.list.ListIterable;
 import org.eclipse.collections.api.list.MutableList;
 import org.finos.legend.pure.m3.exception.PureExecutionException;
 import org.finos.legend.pure.m3.statelistener.ExecutionActivityListener;
+import org.finos.legend.pure.m3.statelistener.ExecutionSpan;
+import org.finos.legend.pure.m3.statelistener.ExecutionTracing;
 import org.finos.legend.pure.m3.tools.MetricsRecorder;
 import org.finos.legend.pure.m4.coreinstance.CoreInstance;
 import org.finos.legend.pure.m4.coreinstance.SourceInformation;
@@ -29,11 +31,14 @@ import org.finos.legend.pure.runtime.java.compiled.generation.processors.natives
 import org.finos.legend.pure.runtime.java.extension.store.relational.compiled.RelationalNativeImplementation;
 import org.finos.legend.pure.runtime.java.extension.store.relational.shared.ConnectionWithDataSourceInfo;
 import org.finos.legend.pure.runtime.java.extension.store.relational.shared.IConnectionManagerHandler;
+import org.finos.legend.pure.runtime.java.extension.store.relational.shared.PreparedStatementCache;
 import org.finos.legend.pure.runtime.java.extension.store.relational.shared.PureConnectionUtils;
 import org.finos.legend.pure.runtime.java.extension.store.relational.shared.SQLExceptionHandler;
+import org.finos.legend.pure.runtime.java.extension.store.relational.shared.SQLParameters;
 import org.finos.legend.pure.runtime.java.shared.canstreamstate.CanStreamState;
 
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
@@ -48,6 +53,7 @@ import java.util.function.Function;
 public class ResultSetRowIterableProvider
 {
     private static final IConnectionManagerHandler connectionManagerHandler = IConnectionManagerHandler.CONNECTION_MANAGER_HANDLER;
+    private static final PreparedStatementCache STATEMENT_CACHE = PreparedStatementCache.getInstance();
 
     private ResultSetRowIterableProvider()
     {
@@ -57,16 +63,31 @@ public class ResultSetRowIterableProvider
                                                                      int queryTimeoutInSeconds, int fetchSize,
                                                                      Function<RichIterable<Object>, ? extends CoreInstance> processRowFunction, CoreInstance sqlNull,
                                                                      String tz, SourceInformation sourceInformation, CompiledExecutionSupport executionSupport, ConnectionWithDataSourceInfo dataSourceInfo)
+    {
+        return createResultSetIterator(pureConnection, connection, sql, null, maxRows, shouldThrowIfMaxRowsExceeded, queryTimeoutInSeconds, fetchSize, processRowFunction, sqlNull, tz, sourceInformation, executionSupport, dataSourceInfo);
+    }
+
+    /**
+     * Run a query, binding the parameters (if non-null) to a prepared statement. When the results are not streamed,
+     * prepared statements are taken from and returned to the {@link PreparedStatementCache} for the connection.
+     */
+    public static ResultSetIterableContainer createResultSetIterator(CoreInstance pureConnection, Connection connection, String sql, Iterable<?> parameters, int maxRows, boolean shouldThrowIfMaxRowsExceeded,
+                                                                     int queryTimeoutInSeconds, int fetchSize,
+                                                                     Function<RichIterable<Object>, ? extends CoreInstance> processRowFunction, CoreInstance sqlNull,
+                                                                     String tz, SourceInformation sourceInformation, CompiledExecutionSupport executionSupport, ConnectionWithDataSourceInfo dataSourceInfo)
     {
         ExecutionActivityListener listener = executionSupport.getExecutionActivityListener();
         String hostname = "";
         Integer port = -1;
         String databaseName = "";
         Statement statement = null;
+        boolean prepared = parameters != null;
+        // a streamed result set closes its statement when it is exhausted, so it cannot return it to the cache
+        boolean cached = prepared && !CanStreamState.canStream();
         try
         {
             long startTimeInNanos = System.nanoTime();
-            statement = connection.createStatement();
+            statement = !prepared ? connection.createStatement() : cached ? STATEMENT_CACHE.acquire(connection, sql) : connection.prepareStatement(sql);
             if (!CanStreamState.canStream() && maxRows > 0)
             {
                 statement.setMaxRows(maxRows + 1);
@@ -86,7 +107,20 @@ public class ResultSetRowIterableProvider
             try
             {
                 MetricsRecorder.incrementRelationalExecutionCounters();
-                if (statement.execute(sql))
+                boolean hasResultSet;
+                try (ExecutionSpan ignore = ExecutionTracing.startSpan("db", "execute"))
+                {
+                    if (prepared)
+                    {
+                        SQLParameters.bind((PreparedStatement) statement, parameters, new GregorianCalendar(TimeZone.getTimeZone(tz)));
+                        hasResultSet = ((PreparedStatement) statement).execute();
+                    }
+                    else
+                    {
+                        hasResultSet = statement.execute(sql);
+                    }
+                }
+                if (hasResultSet)
                 {
                     ResultSet rs = statement.getResultSet();
                     ResultSetMetaData metaData = rs.getMetaData();
@@ -110,8 +144,9 @@ public class ResultSetRowIterableProvider
                     {
                         MutableList<CoreInstance> results = Lists.mutable.of();
                         int rowCount = 0;
+                        boolean fetched = false;
 
-                        try
+                        try (ExecutionSpan fetchSpan = ExecutionTracing.startSpan("db", "fetch"))
                         {
                             GregorianCalendar calendar = new GregorianCalendar(TimeZone.getTimeZone(tz));
                             boolean showCheckMaxRows = shouldThrowIfMaxRowsExceeded && maxRows > 0;
@@ -126,10 +161,13 @@ public class ResultSetRowIterableProvider
                                     throw new PureExecutionException("Too many rows returned. PURE currently supports results with up to " + maxRows + " rows. Please add a filter or use the take or limit function to limit the rows returned", Stacks.mutable.empty());
                                 }
                             }
+                            fetchSpan.withAttribute("rows", rowCount);
+                            fetched = true;
                         }
                         finally
                         {
-                            SQLExceptionHandler.closeAndCleanUp(rs, statement, connection);
+                            // a statement which failed may be in an unknown state, so it is not returned to the cache
+                            closeAndCleanUp(rs, statement, connection, sql, cached && fetched);
                         }
                         theResults = results;
                     }
@@ -140,7 +178,7 @@ public class ResultSetRowIterableProvider
                 {
 
                     //There are no results, but we should close the statement and release the connection
-                    SQLExceptionHandler.closeAndCleanUp(null, statement, connection);
+                    closeAndCleanUp(null, statement, connection, sql, cached);
 
                     return new ResultSetIterableContainer(startTimeInNanos);
                 }
@@ -197,6 +235,21 @@ public class ResultSetRowIterableProvider
         }
     }
 
+    private static void closeAndCleanUp(ResultSet resultSet, Statement statement, Connection connection, String sql, boolean cached)
+    {
+        if (cached)
+        {
+            // return the statement to the cache before the connection is released
+            SQLExceptionHandler.closeAndCleanUp(resultSet, null, null);
+            connectionManagerHandler.unregisterStatement(statement);
+            STATEMENT_CACHE.release(connection, sql, (PreparedStatement) statement);
+            SQLExceptionHandler.closeAndCleanUp(null, null, connection);
+        }
+        else
+        {
+            SQLExceptionHandler.closeAndCleanUp(resultSet, statement, connection);
+        }
+    }
 
     public static class ResultSetIterableContainer
     {
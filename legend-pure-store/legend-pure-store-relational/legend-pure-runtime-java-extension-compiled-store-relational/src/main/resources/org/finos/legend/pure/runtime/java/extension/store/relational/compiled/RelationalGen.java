@@ -30,6 +30,8 @@ import org.finos.legend.pure.m3.coreinstance.meta.relational.metamodel.relation.
 import org.finos.legend.pure.m3.exception.PureExecutionException;
 import org.finos.legend.pure.m3.execution.ExecutionSupport;
 import org.finos.legend.pure.m3.navigation.ProcessorSupport;
+import org.finos.legend.pure.m3.statelistener.ExecutionSpan;
+import org.finos.legend.pure.m3.statelistener.ExecutionTracing;
 import org.finos.legend.pure.m4.coreinstance.CoreInstance;
 import org.finos.legend.pure.m4.coreinstance.SourceInformation;
 import org.finos.legend.pure.runtime.java.compiled.execution.CompiledExecutionSupport;
@@ -46,6 +48,7 @@ import org.finos.legend.pure.runtime.java.extension.store.relational.shared.ICon
 import org.finos.legend.pure.runtime.java.extension.store.relational.shared.LoadToDbTableHelper;
 import org.finos.legend.pure.runtime.java.extension.store.relational.shared.PureConnectionUtils;
 import org.finos.legend.pure.runtime.java.extension.store.relational.shared.SQLExceptionHandler;
+import org.finos.legend.pure.runtime.java.extension.store.relational.shared.SQLParameters;
 import org.finos.legend.pure.runtime.java.shared.listeners.ExecutionEndListenerState;
 import org.finos.legend.pure.runtime.java.shared.listeners.IdentifiableExecutionEndListener;
 
@@ -205,20 +208,28 @@ public class RelationalGen
     }
 
     public static Root_meta_relational_metamodel_execute_ResultSet executeInDb(String sql, Root_meta_external_store_relational_runtime_DatabaseConnection pureConnection, long queryTimeoutInSeconds, long fetchSize, SourceInformation si, ExecutionSupport es)
+    {
+        return executeInDb(sql, null, pureConnection, queryTimeoutInSeconds, fetchSize, si, es);
+    }
+
+    public static Root_meta_relational_metamodel_execute_ResultSet executeInDb(String sql, RichIterable<?> parameters, Root_meta_external_store_relational_runtime_DatabaseConnection pureConnection, long queryTimeoutInSeconds, long fetchSize, SourceInformation si, ExecutionSupport es)
     {
         Root_meta_relational_metamodel_execute_ResultSet pureResult = new Root_meta_relational_metamodel_execute_ResultSet_Impl("OK");
 
         Connection connection = null;
         ConnectionWithDataSourceInfo connectionWithDataSourceInfo = null;
-        try
+        try (ExecutionSpan ignore = ExecutionTracing.startSpan("db", "executeInDb"))
         {
 
             long startRequestConnection = System.nanoTime();
-            connectionWithDataSourceInfo = connectionManagerHandler.getConnectionWithDataSourceInfo(pureConnection, ((CompiledExecutionSupport) es).getProcessorSupport());
-            connection = connectionWithDataSourceInfo.getConnection();
-            if (!PureConnectionUtils.isPureConnectionType(pureConnection, "Hive"))
+            try (ExecutionSpan ignoreAcquire = ExecutionTracing.startSpan("db", "acquireConnection"))
             {
-                connection.setAutoCommit(true);
+                connectionWithDataSourceInfo = connectionManagerHandler.getConnectionWithDataSourceInfo(pureConnection, ((CompiledExecutionSupport) es).getProcessorSupport());
+                connection = connectionWithDataSourceInfo.getConnection();
+                if (!PureConnectionUtils.isPureConnectionType(pureConnection, "Hive"))
+                {
+                    connection.setAutoCommit(true);
+                }
             }
             pureResult._connectionAcquisitionTimeInNanoSecond(System.nanoTime() - startRequestConnection);
 
@@ -231,7 +242,7 @@ public class RelationalGen
                 pureResult = pureResult._executionPlanInformation(URL);
             }
 
-            ResultSetRowIterableProvider.ResultSetIterableContainer resultContainer = ResultSetRowIterableProvider.createResultSetIterator(pureConnection, connection, sql, RelationalExecutionProperties.getMaxRows(), RelationalExecutionProperties.shouldThrowIfMaxRowsExceeded(), (int) queryTimeoutInSeconds, (int) fetchSize, new CreateRowFunction(pureResult), sqlNull, tz, si, (CompiledExecutionSupport) es, connectionWithDataSourceInfo);
+            ResultSetRowIterableProvider.ResultSetIterableContainer resultContainer = ResultSetRowIterableProvider.createResultSetIterator(pureConnection, connection, sql, (parameters == null) ? null : parameters.collect(p -> SQLParameters.toSQLParameter(p, ((CompiledExecutionSupport) es).getProcessorSupport()), Lists.mutable.empty()), RelationalExecutionProperties.getMaxRows(), RelationalExecutionProperties.shouldThrowIfMaxRowsExceeded(), (int) queryTimeoutInSeconds, (int) fetchSize, new CreateRowFunction(pureResult), sqlNull, tz, si, (CompiledExecutionSupport) es, connectionWithDataSourceInfo);
             pureResult._columnNamesAddAll(resultContainer.columnNames);
             pureResult._executionTimeInNanoSecond(resultContainer.queryTimeInNanos);
             pureResult._rows(resultContainer.rowIterable);
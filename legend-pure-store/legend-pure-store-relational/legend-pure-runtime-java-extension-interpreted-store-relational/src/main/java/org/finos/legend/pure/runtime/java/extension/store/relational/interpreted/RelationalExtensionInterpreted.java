@@ -41,6 +41,7 @@ public class RelationalExtensionInterpreted extends BaseInterpretedExtension
                 Tuples.pair("createTempTable_String_1__Column_MANY__Function_1__Boolean_1__DatabaseConnection_1__Nil_0_", (e, r) -> new CreateTempTable(r, e, e.getMessage())),
                 Tuples.pair("dropTempTable_String_1__DatabaseConnection_1__Nil_0_", (e, r) -> new DropTempTable(r, e.getMessage())),
                 Tuples.pair("executeInDb_String_1__DatabaseConnection_1__Integer_1__Integer_1__ResultSet_1_", (e, r) -> new ExecuteInDb(r, e.getMessage(), e.getMaxSQLRows())),
+                Tuples.pair("executeInDb_String_1__Any_MANY__DatabaseConnection_1__Integer_1__Integer_1__ResultSet_1_", (e, r) -> new ExecuteInDb(r, e.getMessage(), e.getMaxSQLRows())),
                 Tuples.pair("fetchDbTablesMetaData_DatabaseConnection_1__String_$0_1$__String_$0_1$__ResultSet_1_", (e, r) -> new FetchDbTablesMetadata(r, e.getMessage(), e.getMaxSQLRows())),
                 Tuples.pair("fetchDbColumnsMetaData_DatabaseConnection_1__String_$0_1$__String_$0_1$__String_$0_1$__ResultSet_1_", (e, r) -> new FetchDbColumnsMetadata(r, e.getMessage(), e.getMaxSQLRows())),
                 Tuples.pair("fetchDbSchemasMetaData_DatabaseConnection_1__String_$0_1$__ResultSet_1_", (e, r) -> new FetchDbSchemasMetadata(r, e.getMessage(), e.getMaxSQLRows())),
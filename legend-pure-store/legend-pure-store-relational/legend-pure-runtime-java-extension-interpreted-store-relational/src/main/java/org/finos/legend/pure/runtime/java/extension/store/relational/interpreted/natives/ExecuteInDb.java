@@ -103,6 +103,7 @@ public class ExecuteInDb extends NativeFunction
     }
 
     private static final IConnectionManagerHandler connectionManagerHandler = IConnectionManagerHandler.CONNECTION_MANAGER_HANDLER;
+    private static final PreparedStatementCache STATEMENT_CACHE = PreparedStatementCache.getInstance();
 
     private final ModelRepository repository;
     private final Message message;
@@ -120,16 +121,28 @@ public class ExecuteInDb extends NativeFunction
     {
 
         String sql = Instance.getValueForMetaPropertyToOneResolved(params.get(0), M3Properties.values, processorSupport).getName();
-        CoreInstance connectionInformation = Instance.getValueForMetaPropertyToOneResolved(params.get(1), M3Properties.values, processorSupport);
+        // the parameterised form has the SQL parameters as its second argument
+        int offset = (params.size() == 5) ? 1 : 0;
+        ListIterable<Object> parameters = (offset == 0) ? null : Instance.getValueForMetaPropertyToManyResolved(params.get(1), M3Properties.values, processorSupport).collect(p -> SQLParameters.toSQLParameter(p, processorSupport));
+        CoreInstance connectionInformation = Instance.getValueForMetaPropertyToOneResolved(params.get(1 + offset), M3Properties.values, processorSupport);
 
-        Number timeOutInSeconds = PrimitiveUtilities.getIntegerValue(Instance.getValueForMetaPropertyToOneResolved(params.get(2), M3Properties.values, processorSupport));
-        Number fetchSize = PrimitiveUtilities.getIntegerValue(Instance.getValueForMetaPropertyToOneResolved(params.get(3), M3Properties.values, processorSupport));
+        Number timeOutInSeconds = PrimitiveUtilities.getIntegerValue(Instance.getValueForMetaPropertyToOneResolved(params.get(2 + offset), M3Properties.values, processorSupport));
+        Number fetchSize = PrimitiveUtilities.getIntegerValue(Instance.getValueForMetaPropertyToOneResolved(params.get(3 + offset), M3Properties.values, processorSupport));
 
-        CoreInstance pureResult = this.executeInDb(connectionInformation, sql, timeOutInSeconds.intValue(), fetchSize.intValue(), functionExpressionCallStack.peek(), functionExpressionCallStack, processorSupport);
+        CoreInstance pureResult = this.executeInDb(connectionInformation, sql, parameters, timeOutInSeconds.intValue(), fetchSize.intValue(), functionExpressionCallStack.peek(), functionExpressionCallStack, processorSupport);
         return ValueSpecificationBootstrap.wrapValueSpecification(pureResult, true, processorSupport);
     }
 
     public CoreInstance executeInDb(CoreInstance connectionInformation, String sql, int timeOutInSeconds, int fetchSize, CoreInstance functionExpression, MutableStack<CoreInstance> functionExpressionCallStack, ProcessorSupport processorSupport)
+    {
+        return executeInDb(connectionInformation, sql, null, timeOutInSeconds, fetchSize, functionExpression, functionExpressionCallStack, processorSupport);
+    }
+
+    /**
+     * Execute SQL, binding the parameters (if non-null) to a prepared statement taken from the
+     * {@link PreparedStatementCache} for the connection.
+     */
+    public CoreInstance executeInDb(CoreInstance connectionInformation, String sql, ListIterable<?> parameters, int timeOutInSeconds, int fetchSize, CoreInstance functionExpression, MutableStack<CoreInstance> functionExpressionCallStack, ProcessorSupport processorSupport)
     {
         CoreInstance resultSetClassifier = processorSupport.package_getByUserPath("meta::relational::metamodel::execute::ResultSet");
         if (resultSetClassifier == null)
@@ -147,6 +160,7 @@ public class ExecuteInDb extends NativeFunction
         Connection connection = null;
         ConnectionWithDataSourceInfo connectionWithDataSourceInfo = null;
         Statement statement = null;
+        boolean succeeded = false;
         try
         {
             try
@@ -168,7 +182,7 @@ public class ExecuteInDb extends NativeFunction
 
                 }
 
-                statement = connection.createStatement();
+                statement = (parameters == null) ? connection.createStatement() : STATEMENT_CACHE.acquire(connection, sql);
                 int actualFetchSize = this.maxRows > 0 ? Math.min(fetchSize, this.maxRows) : fetchSize;
                 connectionManagerHandler.registerStatement(statement, sql, actualFetchSize, timeOutInSeconds);
                 statement.setMaxRows(this.maxRows);
@@ -183,7 +197,17 @@ public class ExecuteInDb extends NativeFunction
                 connectionManagerHandler.addPotentialDebug(connectionInformation, statement);
                 this.message.setMessage("Executing SQL...");
                 long start = System.nanoTime();
-                if (statement.execute(sql))
+                boolean hasResultSet;
+                if (parameters == null)
+                {
+                    hasResultSet = statement.execute(sql);
+                }
+                else
+                {
+                    SQLParameters.bind((PreparedStatement) statement, parameters, new GregorianCalendar(TimeZone.getTimeZone(tz)));
+                    hasResultSet = ((PreparedStatement) statement).execute();
+                }
+                if (hasResultSet)
                 {
                     String URL = connectionManagerHandler.getPotentialDebug(connectionInformation, connection);
                     if (URL != null)
@@ -220,13 +244,22 @@ public class ExecuteInDb extends NativeFunction
                     }
                     Instance.addValueToProperty(pureResult, "dataSource", dataSourceCoreInstance, processorSupport);
                 }
+                succeeded = true;
             }
             finally
             {
                 if (statement != null)
                 {
                     connectionManagerHandler.unregisterStatement(statement);
-                    statement.close();
+                    if ((parameters == null) || !succeeded)
+                    {
+                        // a statement which failed may be in an unknown state, so it is not returned to the cache
+                        statement.close();
+                    }
+                    else
+                    {
+                        STATEMENT_CACHE.release(connection, sql, (PreparedStatement) statement);
+                    }
                 }
                 if (connection != null)
                 {
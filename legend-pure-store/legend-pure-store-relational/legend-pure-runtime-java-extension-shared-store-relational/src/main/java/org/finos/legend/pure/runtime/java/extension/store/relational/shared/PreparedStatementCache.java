@@ -0,0 +1,274 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.runtime.java.extension.store.relational.shared;
+
+import org.apache.tomcat.dbcp.dbcp2.DelegatingConnection;
+import org.finos.legend.pure.m3.tools.MetricsRecorder;
+import org.finos.legend.pure.runtime.java.extension.store.relational.shared.connectionManager.ConnectionWrapper;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * A bounded, least recently used cache of prepared statements for each connection, so that repeated executions of
+ * the same parameterised SQL on a connection are only parsed and planned by the database once.
+ * <p>
+ * Statements are prepared on, and cached for, the underlying physical connection rather than the wrapper handed out
+ * by a pool (see {@link #getUnderlyingConnection}). A pool gives out a new wrapper each time a connection is borrowed,
+ * and closes the statements prepared through it when it is returned, so caching by wrapper would never hit.
+ * <p>
+ * A statement is removed from the cache when it is acquired, and returned to it when it is released, so a statement
+ * is never used by two executions at once. Statements whose connection has been closed are discarded rather than
+ * reused. Connections are weakly referenced, so the cache does not keep connections which are otherwise unused.
+ */
+public class PreparedStatementCache
+{
+    public static final String MAX_STATEMENTS_PROPERTY = "pure.relational.preparedStatementCacheSize";
+    public static final int DEFAULT_MAX_STATEMENTS = 64;
+
+    private static final PreparedStatementCache INSTANCE = new PreparedStatementCache(Integer.getInteger(MAX_STATEMENTS_PROPERTY, DEFAULT_MAX_STATEMENTS));
+
+    private final int maxStatementsPerConnection;
+    private final Map<Connection, StatementLRU> statementsByConnection = new WeakHashMap<>();
+
+    public PreparedStatementCache(int maxStatementsPerConnection)
+    {
+        this.maxStatementsPerConnection = maxStatementsPerConnection;
+    }
+
+    /**
+     * The cache shared by the relational natives. The maximum number of statements cached for each connection can be
+     * set with the {@value #MAX_STATEMENTS_PROPERTY} system property; a value of 0 disables caching.
+     *
+     * @return shared prepared statement cache
+     */
+    public static PreparedStatementCache getInstance()
+    {
+        return INSTANCE;
+    }
+
+    public int getMaxStatementsPerConnection()
+    {
+        return this.maxStatementsPerConnection;
+    }
+
+    /**
+     * Acquire a prepared statement for the SQL on the connection, either from the cache or newly prepared. The
+     * statement should be passed to {@link #release} when the execution is finished with it, or closed if it fails.
+     *
+     * @param connection connection
+     * @param sql        SQL with bind parameters
+     * @return prepared statement
+     * @throws SQLException if the statement cannot be prepared
+     */
+    public PreparedStatement acquire(Connection connection, String sql) throws SQLException
+    {
+        Connection underlying = getUnderlyingConnection(connection);
+        PreparedStatement statement = null;
+        if (this.maxStatementsPerConnection > 0)
+        {
+            synchronized (this.statementsByConnection)
+            {
+                StatementLRU statements = this.statementsByConnection.get(underlying);
+                if (statements != null)
+                {
+                    statement = statements.remove(sql);
+                }
+            }
+        }
+        if ((statement != null) && !statement.isClosed())
+        {
+            MetricsRecorder.recordPreparedStatementCacheHit();
+            return statement;
+        }
+        MetricsRecorder.recordPreparedStatementCacheMiss();
+        return underlying.prepareStatement(sql);
+    }
+
+    /**
+     * Release a statement acquired from {@link #acquire}, returning it to the cache. If it cannot be cached, it is
+     * closed.
+     *
+     * @param connection connection the statement was acquired for
+     * @param sql        SQL the statement was acquired for
+     * @param statement  statement
+     */
+    public void release(Connection connection, String sql, PreparedStatement statement)
+    {
+        Connection underlying = getUnderlyingConnection(connection);
+        try
+        {
+            if ((this.maxStatementsPerConnection <= 0) || statement.isClosed() || underlying.isClosed())
+            {
+                closeQuietly(statement);
+                return;
+            }
+            statement.clearParameters();
+        }
+        catch (SQLException e)
+        {
+            closeQuietly(statement);
+            return;
+        }
+
+        PreparedStatement replaced;
+        synchronized (this.statementsByConnection)
+        {
+            StatementLRU statements = this.statementsByConnection.get(underlying);
+            if (statements == null)
+            {
+                removeClosedConnections();
+                statements = new StatementLRU(this.maxStatementsPerConnection);
+                this.statementsByConnection.put(underlying, statements);
+            }
+            replaced = statements.put(sql, statement);
+        }
+        if ((replaced != null) && (replaced != statement))
+        {
+            // another execution of the same SQL released its statement first
+            closeQuietly(replaced);
+        }
+    }
+
+    /**
+     * The number of statements currently cached for a connection.
+     *
+     * @param connection connection
+     * @return number of cached statements
+     */
+    public int size(Connection connection)
+    {
+        synchronized (this.statementsByConnection)
+        {
+            StatementLRU statements = this.statementsByConnection.get(getUnderlyingConnection(connection));
+            return (statements == null) ? 0 : statements.size();
+        }
+    }
+
+    /**
+     * Close and remove all statements cached for a connection.
+     *
+     * @param connection connection
+     */
+    public void invalidate(Connection connection)
+    {
+        StatementLRU statements;
+        synchronized (this.statementsByConnection)
+        {
+            statements = this.statementsByConnection.remove(getUnderlyingConnection(connection));
+        }
+        if (statements != null)
+        {
+            statements.values().forEach(PreparedStatementCache::closeQuietly);
+        }
+    }
+
+    /**
+     * Get the physical connection underlying a connection, unwrapping the connection manager's wrappers and pooled
+     * connections.
+     *
+     * @param connection connection
+     * @return underlying connection
+     */
+    public static Connection getUnderlyingConnection(Connection connection)
+    {
+        Connection current = connection;
+        while (true)
+        {
+            if (current instanceof ConnectionWrapper)
+            {
+                current = ((ConnectionWrapper) current).getConnection();
+            }
+            else if (current instanceof DelegatingConnection)
+            {
+                Connection innermost = ((DelegatingConnection<?>) current).getInnermostDelegateInternal();
+                if ((innermost == null) || (innermost == current))
+                {
+                    return current;
+                }
+                current = innermost;
+            }
+            else
+            {
+                return current;
+            }
+        }
+    }
+
+    private void removeClosedConnections()
+    {
+        Iterator<Map.Entry<Connection, StatementLRU>> iterator = this.statementsByConnection.entrySet().iterator();
+        while (iterator.hasNext())
+        {
+            Map.Entry<Connection, StatementLRU> entry = iterator.next();
+            if (isClosed(entry.getKey()))
+            {
+                entry.getValue().values().forEach(PreparedStatementCache::closeQuietly);
+                iterator.remove();
+            }
+        }
+    }
+
+    private static boolean isClosed(Connection connection)
+    {
+        try
+        {
+            return connection.isClosed();
+        }
+        catch (SQLException e)
+        {
+            return true;
+        }
+    }
+
+    private static void closeQuietly(PreparedStatement statement)
+    {
+        try
+        {
+            statement.close();
+        }
+        catch (SQLException e)
+        {
+            //Nothing we can do
+        }
+    }
+
+    private static class StatementLRU extends LinkedHashMap<String, PreparedStatement>
+    {
+        private final int maxSize;
+
+        private StatementLRU(int maxSize)
+        {
+            super(16, 0.75f, true);
+            this.maxSize = maxSize;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, PreparedStatement> eldest)
+        {
+            if (size() > this.maxSize)
+            {
+                closeQuietly(eldest.getValue());
+                return true;
+            }
+            return false;
+        }
+    }
+}
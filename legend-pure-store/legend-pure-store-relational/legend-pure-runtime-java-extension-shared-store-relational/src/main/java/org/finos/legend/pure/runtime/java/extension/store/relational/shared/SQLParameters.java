@@ -0,0 +1,156 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.runtime.java.extension.store.relational.shared;
+
+import org.eclipse.collections.api.factory.Stacks;
+import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.type.Enum;
+import org.finos.legend.pure.m3.exception.PureExecutionException;
+import org.finos.legend.pure.m3.navigation.Instance;
+import org.finos.legend.pure.m3.navigation.ProcessorSupport;
+import org.finos.legend.pure.m4.coreinstance.CoreInstance;
+import org.finos.legend.pure.m4.coreinstance.primitive.PrimitiveCoreInstance;
+import org.finos.legend.pure.m4.coreinstance.primitive.date.PureDate;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.Calendar;
+
+public final class SQLParameters
+{
+    private static final String SQL_NULL = "meta::relational::metamodel::SQLNull";
+
+    private SQLParameters()
+    {
+    }
+
+    /**
+     * Convert a Pure value to the value to bind for it (see {@link #bind}). Primitives are unwrapped, enums are bound
+     * by name, and SQLNull is bound as SQL null. This accepts both interpreted values (core instances) and compiled
+     * values (Java objects for primitives).
+     *
+     * @param value            Pure value
+     * @param processorSupport processor support
+     * @return value to bind
+     */
+    public static Object toSQLParameter(Object value, ProcessorSupport processorSupport)
+    {
+        if (value instanceof PrimitiveCoreInstance)
+        {
+            return ((PrimitiveCoreInstance<?>) value).getValue();
+        }
+        if (value instanceof Enum)
+        {
+            return ((Enum) value).getName();
+        }
+        if (value instanceof CoreInstance)
+        {
+            if (Instance.instanceOf((CoreInstance) value, SQL_NULL, processorSupport))
+            {
+                return null;
+            }
+            throw new PureExecutionException("Unsupported SQL parameter: " + value, Stacks.mutable.empty());
+        }
+        return value;
+    }
+
+    /**
+     * Bind values to the parameters of a prepared statement, in order. Values are Java representations of Pure
+     * primitives: null (for SQL null), String, Long, Double, BigDecimal, Boolean, or PureDate. Strict dates are bound
+     * as dates, and other dates as timestamps in the time zone of the calendar.
+     *
+     * @param statement prepared statement
+     * @param values    parameter values
+     * @param calendar  calendar for the database time zone
+     * @throws SQLException if a value cannot be bound
+     */
+    public static void bind(PreparedStatement statement, Iterable<?> values, Calendar calendar) throws SQLException
+    {
+        int i = 1;
+        for (Object value : values)
+        {
+            bind(statement, i++, value, calendar);
+        }
+    }
+
+    private static void bind(PreparedStatement statement, int index, Object value, Calendar calendar) throws SQLException
+    {
+        if (value == null)
+        {
+            statement.setNull(index, Types.NULL);
+        }
+        else if (value instanceof String)
+        {
+            statement.setString(index, (String) value);
+        }
+        else if ((value instanceof Long) || (value instanceof Integer) || (value instanceof Short) || (value instanceof Byte))
+        {
+            statement.setLong(index, ((Number) value).longValue());
+        }
+        else if ((value instanceof Double) || (value instanceof Float))
+        {
+            statement.setDouble(index, ((Number) value).doubleValue());
+        }
+        else if (value instanceof BigDecimal)
+        {
+            statement.setBigDecimal(index, (BigDecimal) value);
+        }
+        else if (value instanceof BigInteger)
+        {
+            statement.setBigDecimal(index, new BigDecimal((BigInteger) value));
+        }
+        else if (value instanceof Boolean)
+        {
+            statement.setBoolean(index, (Boolean) value);
+        }
+        else if (value instanceof PureDate)
+        {
+            PureDate date = (PureDate) value;
+            if (date.hasHour())
+            {
+                statement.setTimestamp(index, toTimestamp(date), calendar);
+            }
+            else if (date.hasDay())
+            {
+                statement.setDate(index, Date.valueOf(String.format("%04d-%02d-%02d", date.getYear(), date.getMonth(), date.getDay())));
+            }
+            else
+            {
+                throw new IllegalArgumentException("Cannot bind a partial date as a SQL parameter: " + date);
+            }
+        }
+        else
+        {
+            statement.setObject(index, value);
+        }
+    }
+
+    private static Timestamp toTimestamp(PureDate date)
+    {
+        // Pure date times are in GMT, which is what the calendar of a date is in
+        Timestamp timestamp = new Timestamp(date.getCalendar().getTimeInMillis());
+        if (date.hasSubsecond())
+        {
+            String subsecond = date.getSubsecond();
+            String nanos = (subsecond.length() >= 9) ? subsecond.substring(0, 9) : (subsecond + "000000000".substring(subsecond.length()));
+            timestamp.setNanos(Integer.parseInt(nanos));
+        }
+        return timestamp;
+    }
+}
@@ -0,0 +1,214 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.runtime.java.extension.store.relational.shared;
+
+import org.apache.tomcat.dbcp.dbcp2.BasicDataSource;
+import org.finos.legend.pure.runtime.java.extension.store.relational.shared.connectionManager.ConnectionWrapper;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+public class TestPreparedStatementCache
+{
+    private Connection connection;
+
+    @Before
+    public void setUp() throws SQLException
+    {
+        this.connection = DriverManager.getConnection("jdbc:h2:mem:");
+    }
+
+    @After
+    public void tearDown() throws SQLException
+    {
+        this.connection.close();
+    }
+
+    @Test
+    public void testHitAndMiss() throws SQLException
+    {
+        PreparedStatementCache cache = new PreparedStatementCache(4);
+        PreparedStatement statement = cache.acquire(this.connection, "select cast(? as bigint)");
+        Assert.assertEquals(0, cache.size(this.connection));
+        Assert.assertEquals(1L, execute(statement, 1L));
+        cache.release(this.connection, "select cast(? as bigint)", statement);
+        Assert.assertEquals(1, cache.size(this.connection));
+
+        // the same statement is reused for the same SQL, and is removed from the cache while in use
+        Assert.assertSame(statement, cache.acquire(this.connection, "select cast(? as bigint)"));
+        Assert.assertEquals(0, cache.size(this.connection));
+        Assert.assertEquals(2L, execute(statement, 2L));
+        cache.release(this.connection, "select cast(? as bigint)", statement);
+
+        PreparedStatement other = cache.acquire(this.connection, "select cast(? as bigint) + 1");
+        Assert.assertNotSame(statement, other);
+        cache.release(this.connection, "select cast(? as bigint) + 1", other);
+        Assert.assertEquals(2, cache.size(this.connection));
+        Assert.assertFalse(statement.isClosed());
+        Assert.assertFalse(other.isClosed());
+
+        cache.invalidate(this.connection);
+        Assert.assertEquals(0, cache.size(this.connection));
+        Assert.assertTrue(statement.isClosed());
+        Assert.assertTrue(other.isClosed());
+    }
+
+    @Test
+    public void testLRUEviction() throws SQLException
+    {
+        PreparedStatementCache cache = new PreparedStatementCache(2);
+        PreparedStatement statement1 = acquireAndRelease(cache, "select 1");
+        PreparedStatement statement2 = acquireAndRelease(cache, "select 2");
+
+        // using statement 1 makes statement 2 the least recently used
+        Assert.assertSame(statement1, acquireAndRelease(cache, "select 1"));
+        PreparedStatement statement3 = acquireAndRelease(cache, "select 3");
+        Assert.assertEquals(2, cache.size(this.connection));
+        Assert.assertTrue(statement2.isClosed());
+        Assert.assertFalse(statement1.isClosed());
+        Assert.assertFalse(statement3.isClosed());
+
+        Assert.assertSame(statement1, acquireAndRelease(cache, "select 1"));
+        Assert.assertSame(statement3, acquireAndRelease(cache, "select 3"));
+        Assert.assertNotSame(statement2, acquireAndRelease(cache, "select 2"));
+        Assert.assertTrue(statement1.isClosed());
+    }
+
+    @Test
+    public void testClosedConnection() throws SQLException
+    {
+        PreparedStatementCache cache = new PreparedStatementCache(4);
+        Connection other = DriverManager.getConnection("jdbc:h2:mem:");
+        PreparedStatement statement = cache.acquire(other, "select 1");
+        PreparedStatement cachedStatement = acquireAndRelease(cache, other, "select 2");
+        other.close();
+
+        // statements are not returned to the cache for a closed connection
+        cache.release(other, "select 1", statement);
+        Assert.assertTrue(statement.isClosed());
+        Assert.assertEquals(1, cache.size(other));
+
+        // closed connections are removed when another connection's statements are cached
+        acquireAndRelease(cache, "select 1");
+        Assert.assertEquals(0, cache.size(other));
+        Assert.assertTrue(cachedStatement.isClosed());
+        Assert.assertEquals(1, cache.size(this.connection));
+    }
+
+    @Test
+    public void testReplacedStatement() throws SQLException
+    {
+        PreparedStatementCache cache = new PreparedStatementCache(4);
+        PreparedStatement statement1 = cache.acquire(this.connection, "select 1");
+        PreparedStatement statement2 = cache.acquire(this.connection, "select 1");
+        Assert.assertNotSame(statement1, statement2);
+
+        cache.release(this.connection, "select 1", statement1);
+        cache.release(this.connection, "select 1", statement2);
+        Assert.assertEquals(1, cache.size(this.connection));
+        Assert.assertTrue(statement1.isClosed());
+        Assert.assertFalse(statement2.isClosed());
+        Assert.assertSame(statement2, cache.acquire(this.connection, "select 1"));
+    }
+
+    @Test
+    public void testClosedStatement() throws SQLException
+    {
+        PreparedStatementCache cache = new PreparedStatementCache(4);
+        PreparedStatement statement = acquireAndRelease(cache, "select 1");
+        statement.close();
+        PreparedStatement newStatement = cache.acquire(this.connection, "select 1");
+        Assert.assertNotSame(statement, newStatement);
+        Assert.assertFalse(newStatement.isClosed());
+    }
+
+    @Test
+    public void testDisabled() throws SQLException
+    {
+        PreparedStatementCache cache = new PreparedStatementCache(0);
+        PreparedStatement statement = acquireAndRelease(cache, "select 1");
+        Assert.assertTrue(statement.isClosed());
+        Assert.assertEquals(0, cache.size(this.connection));
+    }
+
+    @Test
+    public void testUnderlyingConnection() throws SQLException
+    {
+        PreparedStatementCache cache = new PreparedStatementCache(4);
+        ConnectionWrapper wrapper1 = new ConnectionWrapper(this.connection);
+        ConnectionWrapper wrapper2 = new ConnectionWrapper(this.connection);
+        Assert.assertSame(this.connection, PreparedStatementCache.getUnderlyingConnection(wrapper1));
+
+        PreparedStatement statement = acquireAndRelease(cache, wrapper1, "select 1");
+        Assert.assertEquals(1, cache.size(this.connection));
+        Assert.assertEquals(1, cache.size(wrapper2));
+        Assert.assertSame(statement, acquireAndRelease(cache, wrapper2, "select 1"));
+    }
+
+    @Test
+    public void testPooledConnection() throws SQLException
+    {
+        PreparedStatementCache cache = new PreparedStatementCache(4);
+        try (BasicDataSource dataSource = new BasicDataSource())
+        {
+            dataSource.setUrl("jdbc:h2:mem:");
+            dataSource.setMaxTotal(1);
+
+            // each borrowed connection is a different wrapper, which closes its statements when it is returned
+            PreparedStatement statement;
+            try (Connection pooled = dataSource.getConnection())
+            {
+                Assert.assertNotSame(pooled, PreparedStatementCache.getUnderlyingConnection(pooled));
+                statement = acquireAndRelease(cache, pooled, "select 1");
+            }
+            try (Connection pooled = dataSource.getConnection())
+            {
+                Assert.assertEquals(1, cache.size(pooled));
+                Assert.assertSame(statement, acquireAndRelease(cache, pooled, "select 1"));
+                Assert.assertFalse(statement.isClosed());
+            }
+        }
+    }
+
+    private PreparedStatement acquireAndRelease(PreparedStatementCache cache, String sql) throws SQLException
+    {
+        return acquireAndRelease(cache, this.connection, sql);
+    }
+
+    private static PreparedStatement acquireAndRelease(PreparedStatementCache cache, Connection connection, String sql) throws SQLException
+    {
+        PreparedStatement statement = cache.acquire(connection, sql);
+        statement.execute();
+        cache.release(connection, sql, statement);
+        return statement;
+    }
+
+    private static long execute(PreparedStatement statement, long value) throws SQLException
+    {
+        statement.setLong(1, value);
+        try (ResultSet resultSet = statement.executeQuery())
+        {
+            Assert.assertTrue(resultSet.next());
+            return resultSet.getLong(1);
+        }
+    }
+}